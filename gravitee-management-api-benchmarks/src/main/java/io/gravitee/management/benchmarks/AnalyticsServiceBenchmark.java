@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.benchmarks;
+
+import io.gravitee.management.model.ApiEntity;
+import io.gravitee.management.model.analytics.HistogramAnalytics;
+import io.gravitee.management.model.analytics.query.DateHistogramQuery;
+import io.gravitee.management.service.ApiService;
+import io.gravitee.management.service.impl.AnalyticsServiceImpl;
+import io.gravitee.repository.analytics.AnalyticsException;
+import io.gravitee.repository.analytics.api.AnalyticsRepository;
+import io.gravitee.repository.analytics.query.response.histogram.Bucket;
+import io.gravitee.repository.analytics.query.response.histogram.Data;
+import io.gravitee.repository.analytics.query.response.histogram.DateHistogramResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.gravitee.management.benchmarks.Fixtures.inject;
+import static io.gravitee.management.benchmarks.Fixtures.stub;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+/**
+ * Conversion of a date histogram response, as displayed by the analytics dashboards, for a number of APIs.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnalyticsServiceBenchmark {
+
+    private static final long FROM = 1_500_000_000_000L;
+    private static final long INTERVAL = TimeUnit.MINUTES.toMillis(10);
+
+    @Param({"10", "100", "1000"})
+    private int apis;
+
+    @Param({"144"})
+    private int timestamps;
+
+    private AnalyticsServiceImpl analyticsService;
+
+    private DateHistogramQuery query;
+
+    @Setup
+    public void setUp() throws AnalyticsException {
+        DateHistogramResponse response = new DateHistogramResponse();
+        for (int i = 0; i < timestamps; i++) {
+            response.timestamps().add(FROM + i * INTERVAL);
+        }
+        Bucket bucket = new Bucket("by_api", "api");
+        for (int api = 0; api < apis; api++) {
+            List<Data> data = new ArrayList<>(timestamps);
+            for (long timestamp : response.timestamps()) {
+                data.add(new Data(timestamp, api));
+            }
+            bucket.data().put("api-" + api, data);
+        }
+        response.values().add(bucket);
+
+        AnalyticsRepository analyticsRepository = stub(AnalyticsRepository.class);
+        doReturn(response).when(analyticsRepository).query(any());
+
+        ApiEntity api = new ApiEntity();
+        api.setName("API");
+        api.setVersion("1");
+        ApiService apiService = stub(ApiService.class);
+        when(apiService.findById(anyString())).thenReturn(api);
+
+        analyticsService = new AnalyticsServiceImpl();
+        inject(analyticsService, "analyticsRepository", analyticsRepository);
+        inject(analyticsService, "apiService", apiService);
+
+        query = new DateHistogramQuery();
+        query.setFrom(FROM);
+        query.setTo(FROM + timestamps * INTERVAL);
+        query.setInterval(INTERVAL);
+        query.setRootField("api");
+    }
+
+    @Benchmark
+    public HistogramAnalytics execute() {
+        return analyticsService.execute(query);
+    }
+}
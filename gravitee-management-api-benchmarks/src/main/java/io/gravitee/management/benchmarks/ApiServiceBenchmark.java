@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.benchmarks;
+
+import io.gravitee.definition.jackson.datatype.GraviteeMapper;
+import io.gravitee.management.model.ApiEntity;
+import io.gravitee.management.model.UserEntity;
+import io.gravitee.management.model.permissions.SystemRole;
+import io.gravitee.management.service.UserService;
+import io.gravitee.management.service.impl.ApiServiceImpl;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.MembershipRepository;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Membership;
+import io.gravitee.repository.management.model.MembershipReferenceType;
+import io.gravitee.repository.management.model.RoleScope;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static io.gravitee.management.benchmarks.Fixtures.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Listing of all the APIs, and the context path check made on each API creation, both of which read and convert
+ * every API definition.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiServiceBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    private int apis;
+
+    private ApiServiceImpl apiService;
+
+    @Setup
+    public void setUp() throws TechnicalException {
+        Set<Api> allApis = new HashSet<>(apis);
+        Set<Membership> primaryOwners = new HashSet<>(apis);
+        for (int i = 0; i < apis; i++) {
+            Api api = api(i);
+            allApis.add(api);
+
+            Membership membership = new Membership(PRIMARY_OWNER, api.getId(), MembershipReferenceType.API);
+            membership.setRoles(Collections.singletonMap(RoleScope.API.getId(), SystemRole.PRIMARY_OWNER.name()));
+            primaryOwners.add(membership);
+        }
+
+        UserEntity primaryOwner = new UserEntity();
+        primaryOwner.setUsername(PRIMARY_OWNER);
+
+        ApiRepository apiRepository = stub(ApiRepository.class);
+        when(apiRepository.findAll()).thenReturn(allApis);
+
+        MembershipRepository membershipRepository = stub(MembershipRepository.class);
+        when(membershipRepository.findByReferencesAndRole(eq(MembershipReferenceType.API), any(),
+                eq(RoleScope.API), eq(SystemRole.PRIMARY_OWNER.name()))).thenReturn(primaryOwners);
+
+        UserService userService = stub(UserService.class);
+        when(userService.findByNames(anyListOf(String.class), anyBoolean())).thenReturn(Collections.singleton(primaryOwner));
+
+        apiService = new ApiServiceImpl();
+        inject(apiService, "apiRepository", apiRepository);
+        inject(apiService, "membershipRepository", membershipRepository);
+        inject(apiService, "userService", userService);
+        inject(apiService, "objectMapper", new GraviteeMapper());
+    }
+
+    @Benchmark
+    public Set<ApiEntity> findAll() {
+        return apiService.findAll();
+    }
+
+    @Benchmark
+    public void checkContextPath() throws TechnicalException {
+        apiService.checkContextPath("/new-api");
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.benchmarks;
+
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.definition.model.Endpoint;
+import io.gravitee.definition.model.Path;
+import io.gravitee.definition.model.Policy;
+import io.gravitee.definition.model.Proxy;
+import io.gravitee.definition.model.Rule;
+import io.gravitee.definition.model.endpoint.HttpEndpoint;
+import io.gravitee.management.model.ApiEntity;
+import io.gravitee.management.service.processor.ApiSynchronizationProcessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Check made on each API read to know whether the API must be redeployed.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiSynchronizationProcessorBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int paths;
+
+    private final ApiSynchronizationProcessor apiSynchronizationProcessor = new ApiSynchronizationProcessor();
+
+    private ApiEntity deployedApi;
+    private ApiEntity apiToDeploy;
+
+    @Setup
+    public void setUp() {
+        deployedApi = api();
+        apiToDeploy = api();
+    }
+
+    @Benchmark
+    public boolean processCheckSynchronization() {
+        return apiSynchronizationProcessor.processCheckSynchronization(deployedApi, apiToDeploy);
+    }
+
+    private ApiEntity api() {
+        Set<Endpoint> endpoints = new LinkedHashSet<>();
+        for (int i = 0; i < 5; i++) {
+            endpoints.add(new HttpEndpoint("endpoint-" + i, "http://localhost:8080/" + i));
+        }
+        Proxy proxy = new Proxy();
+        proxy.setContextPath("/benchmark");
+        proxy.setEndpoints(endpoints);
+
+        Map<String, Path> apiPaths = new HashMap<>(paths);
+        for (int i = 0; i < paths; i++) {
+            Policy policy = new Policy();
+            policy.setName("rate-limit");
+            policy.setConfiguration("{\"rate\":{\"limit\":" + i + ",\"periodTime\":1,\"periodTimeUnit\":\"SECONDS\"}}");
+            Rule rule = new Rule();
+            rule.setMethods(Arrays.asList(HttpMethod.GET, HttpMethod.POST));
+            rule.setPolicy(policy);
+            Path path = new Path();
+            path.setPath("/path-" + i);
+            path.setRules(Collections.singletonList(rule));
+            apiPaths.put(path.getPath(), path);
+        }
+
+        ApiEntity api = new ApiEntity();
+        api.setId("api-id");
+        api.setName("api");
+        api.setProxy(proxy);
+        api.setPaths(apiPaths);
+        api.setTags(new LinkedHashSet<>(Arrays.asList("internal", "external")));
+        return api;
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jsonpatch.diff.JsonDiff;
+import io.gravitee.definition.jackson.datatype.GraviteeMapper;
+import io.gravitee.management.service.utils.JsonPatchDiff;
+import io.gravitee.repository.management.model.Api;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static io.gravitee.management.benchmarks.Fixtures.api;
+
+/**
+ * Patch computed by the audit service when an API is updated: the old implementation diffs the API rows with their
+ * definition as a string, the new one diffs the content of the definitions.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuditPatchBenchmark {
+
+    @Param({"100", "500"})
+    private int paths;
+
+    private final ObjectMapper mapper = new GraviteeMapper();
+
+    private Api previousApi;
+    private Api updatedApi;
+
+    @Setup
+    public void setUp() {
+        previousApi = api(0);
+        previousApi.setDefinition(definition(-1));
+        updatedApi = new Api(previousApi);
+        updatedApi.setDefinition(definition(paths / 2));
+    }
+
+    @Benchmark
+    public String jsonDiff() {
+        ObjectNode oldNode = mapper.convertValue(previousApi, ObjectNode.class).remove(Arrays.asList("updatedAt", "createdAt"));
+        ObjectNode newNode = mapper.convertValue(updatedApi, ObjectNode.class).remove(Arrays.asList("updatedAt", "createdAt"));
+        return JsonDiff.asJson(oldNode, newNode).toString();
+    }
+
+    @Benchmark
+    public String jsonPatchDiff() throws IOException {
+        return JsonPatchDiff.toString(JsonPatchDiff.diff(toNode(previousApi), toNode(updatedApi)), 1048576);
+    }
+
+    private ObjectNode toNode(Api api) throws IOException {
+        ObjectNode node = mapper.convertValue(api, ObjectNode.class).remove(Arrays.asList("updatedAt", "createdAt"));
+        JsonNode definition = node.get("definition");
+        node.set("definition", mapper.readTree(definition.asText()));
+        return node;
+    }
+
+    /**
+     * Definition with the configured number of paths. The rate limit of the given path is changed.
+     */
+    private String definition(int updatedPath) {
+        StringBuilder definition = new StringBuilder()
+                .append("{\"id\":\"api-0\",\"name\":\"API 0\",\"version\":\"1\",")
+                .append("\"proxy\":{\"context_path\":\"/api-0\",")
+                .append("\"endpoints\":[{\"name\":\"default\",\"target\":\"http://localhost:8080/\",\"weight\":1}],")
+                .append("\"strip_context_path\":false},")
+                .append("\"paths\":{");
+        for (int i = 0; i < paths; i++) {
+            if (i > 0) {
+                definition.append(',');
+            }
+            definition.append("\"/path-").append(i).append("\":[{\"methods\":[\"GET\",\"POST\"],")
+                    .append("\"rate-limit\":{\"rate\":{\"limit\":").append(i == updatedPath ? 1000 : 10)
+                    .append(",\"periodTime\":1,\"periodTimeUnit\":\"SECONDS\"}}}]");
+        }
+        return definition.append("},\"properties\":{\"key\":\"value\"},\"tags\":[\"internal\"]}").toString();
+    }
+}
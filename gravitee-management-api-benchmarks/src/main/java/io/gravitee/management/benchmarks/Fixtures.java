@@ -0,0 +1,89 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.benchmarks;
+
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.LifecycleState;
+import io.gravitee.repository.management.model.Visibility;
+
+import java.lang.reflect.Field;
+import java.util.Date;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Data shared by the benchmarks.
+ *
+ * @author GraviteeSource Team
+ */
+final class Fixtures {
+
+    static final String PRIMARY_OWNER = "admin";
+
+    private Fixtures() {
+    }
+
+    /**
+     * Mocks are stub only: they would otherwise record every invocation made during the measurement.
+     */
+    static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    static void inject(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException roe) {
+            throw new IllegalStateException("Unable to inject " + fieldName + " into " + target.getClass(), roe);
+        }
+    }
+
+    static Api api(int index) {
+        Api api = new Api();
+        api.setId("api-" + index);
+        api.setName("API " + index);
+        api.setVersion("1");
+        api.setDescription("Benchmark API " + index);
+        api.setVisibility(Visibility.PUBLIC);
+        api.setLifecycleState(LifecycleState.STARTED);
+        api.setCreatedAt(new Date(0));
+        api.setUpdatedAt(new Date(0));
+        api.setDeployedAt(new Date(0));
+        api.setDefinition(definition(index));
+        return api;
+    }
+
+    static String definition(int index) {
+        return "{" +
+                "\"id\":\"api-" + index + "\"," +
+                "\"name\":\"API " + index + "\"," +
+                "\"version\":\"1\"," +
+                "\"proxy\":{" +
+                    "\"context_path\":\"/api-" + index + "\"," +
+                    "\"endpoints\":[{\"name\":\"default\",\"target\":\"http://localhost:8080/" + index + "\",\"weight\":1}]," +
+                    "\"strip_context_path\":false" +
+                "}," +
+                "\"paths\":{" +
+                    "\"/\":[{\"methods\":[\"GET\",\"POST\"],\"rate-limit\":{\"rate\":{\"limit\":10,\"periodTime\":1,\"periodTimeUnit\":\"SECONDS\"}}}]" +
+                "}," +
+                "\"properties\":{\"key\":\"value\"}," +
+                "\"tags\":[\"internal\"]" +
+                "}";
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.benchmarks;
+
+import io.gravitee.management.model.ApiEntity;
+import io.gravitee.management.model.RoleEntity;
+import io.gravitee.management.model.UserEntity;
+import io.gravitee.management.model.permissions.ApiPermission;
+import io.gravitee.management.model.permissions.RolePermissionAction;
+import io.gravitee.management.service.RoleService;
+import io.gravitee.management.service.UserService;
+import io.gravitee.management.service.impl.MembershipServiceImpl;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.MembershipRepository;
+import io.gravitee.repository.management.model.Membership;
+import io.gravitee.repository.management.model.MembershipReferenceType;
+import io.gravitee.repository.management.model.RoleScope;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static io.gravitee.management.benchmarks.Fixtures.inject;
+import static io.gravitee.management.benchmarks.Fixtures.stub;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Resolution of the permissions of a user on an API, either as a direct member or through the groups of the API.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MembershipServiceBenchmark {
+
+    private static final String USERNAME = "johndoe";
+    private static final String ROLE = "USER";
+
+    @Param({"1", "10", "50"})
+    private int groups;
+
+    private MembershipServiceImpl membershipService;
+
+    private ApiEntity memberApi;
+    private ApiEntity groupApi;
+
+    @Setup
+    public void setUp() throws TechnicalException {
+        Map<String, Optional<Membership>> memberships = new HashMap<>();
+        memberships.put(key(MembershipReferenceType.API, "member-api"), membership(MembershipReferenceType.API, "member-api"));
+
+        Set<String> apiGroups = new HashSet<>(groups);
+        for (int i = 0; i < groups; i++) {
+            String group = "group-" + i;
+            apiGroups.add(group);
+            memberships.put(key(MembershipReferenceType.GROUP, group), membership(MembershipReferenceType.GROUP, group));
+        }
+
+        MembershipRepository membershipRepository = stub(MembershipRepository.class);
+        when(membershipRepository.findById(anyString(), any(MembershipReferenceType.class), anyString())).thenAnswer(invocation -> {
+            Object[] arguments = invocation.getArguments();
+            return memberships.getOrDefault(key((MembershipReferenceType) arguments[1], (String) arguments[2]), Optional.empty());
+        });
+
+        UserEntity user = new UserEntity();
+        user.setUsername(USERNAME);
+        UserService userService = stub(UserService.class);
+        when(userService.findByName(anyString(), anyBoolean())).thenReturn(user);
+
+        Map<String, char[]> permissions = new HashMap<>();
+        for (ApiPermission permission : ApiPermission.values()) {
+            permissions.put(permission.getName(), new char[]{RolePermissionAction.READ.getId(), RolePermissionAction.UPDATE.getId()});
+        }
+        RoleEntity role = new RoleEntity();
+        role.setName(ROLE);
+        role.setPermissions(permissions);
+        RoleService roleService = stub(RoleService.class);
+        when(roleService.findById(RoleScope.API, ROLE)).thenReturn(role);
+
+        membershipService = new MembershipServiceImpl();
+        inject(membershipService, "membershipRepository", membershipRepository);
+        inject(membershipService, "userService", userService);
+        inject(membershipService, "roleService", roleService);
+
+        memberApi = new ApiEntity();
+        memberApi.setId("member-api");
+        groupApi = new ApiEntity();
+        groupApi.setId("group-api");
+        groupApi.setGroups(apiGroups);
+    }
+
+    @Benchmark
+    public Map<String, char[]> getMemberPermissions() {
+        return membershipService.getMemberPermissions(memberApi, USERNAME);
+    }
+
+    @Benchmark
+    public Map<String, char[]> getGroupMemberPermissions() {
+        return membershipService.getMemberPermissions(groupApi, USERNAME);
+    }
+
+    private static Optional<Membership> membership(MembershipReferenceType referenceType, String referenceId) {
+        Membership membership = new Membership(USERNAME, referenceId, referenceType);
+        membership.setRoles(Collections.singletonMap(RoleScope.API.getId(), ROLE));
+        return Optional.of(membership);
+    }
+
+    private static String key(MembershipReferenceType referenceType, String referenceId) {
+        return referenceType + ":" + referenceId;
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.benchmarks;
+
+import io.gravitee.management.model.permissions.ApiPermission;
+import io.gravitee.management.model.permissions.RolePermissionAction;
+import io.gravitee.management.service.impl.RoleServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Permission check made by the permission filter on each secured resource.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoleServiceBenchmark {
+
+    private static final RolePermissionAction[] ACLS = {RolePermissionAction.UPDATE, RolePermissionAction.DELETE};
+
+    private final RoleServiceImpl roleService = new RoleServiceImpl();
+
+    private Map<String, char[]> permissions;
+
+    @Setup
+    public void setUp() {
+        permissions = new HashMap<>();
+        for (ApiPermission permission : ApiPermission.values()) {
+            permissions.put(permission.getName(), new char[]{
+                    RolePermissionAction.CREATE.getId(),
+                    RolePermissionAction.READ.getId(),
+                    RolePermissionAction.UPDATE.getId()});
+        }
+    }
+
+    @Benchmark
+    public boolean hasPermission() {
+        return roleService.hasPermission(permissions, ApiPermission.DOCUMENTATION, ACLS);
+    }
+
+    @Benchmark
+    public boolean hasNoPermission() {
+        return roleService.hasPermission(permissions, ApiPermission.DOCUMENTATION, new RolePermissionAction[]{RolePermissionAction.DELETE});
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.common.event.EventManager;
+import io.gravitee.definition.jackson.datatype.GraviteeMapper;
+import io.gravitee.management.services.sync.ApiManager;
+import io.gravitee.management.services.sync.SyncManager;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.EventRepository;
+import io.gravitee.repository.management.api.search.EventCriteria;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Event;
+import io.gravitee.repository.management.model.EventType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static io.gravitee.management.benchmarks.Fixtures.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Refresh of the APIs deployed on the management node: one event lookup and payload read per API.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SyncManagerBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    private int apis;
+
+    private SyncManager syncManager;
+
+    @Setup
+    public void setUp() throws TechnicalException, JsonProcessingException {
+        ObjectMapper objectMapper = new GraviteeMapper();
+
+        Set<Api> allApis = new HashSet<>(apis);
+        Map<String, Page<Event>> events = new HashMap<>(apis);
+        for (int i = 0; i < apis; i++) {
+            Api api = api(i);
+            allApis.add(api);
+
+            Event event = new Event();
+            event.setId("event-" + i);
+            event.setType(EventType.PUBLISH_API);
+            event.setPayload(objectMapper.writeValueAsString(api));
+            events.put(api.getId(), new Page<>(Collections.singletonList(event), 0, 1, 1));
+        }
+
+        ApiRepository apiRepository = stub(ApiRepository.class);
+        when(apiRepository.findAll()).thenReturn(allApis);
+
+        EventRepository eventRepository = stub(EventRepository.class);
+        when(eventRepository.search(any(EventCriteria.class), any())).thenAnswer(invocation -> {
+            EventCriteria criteria = (EventCriteria) invocation.getArguments()[0];
+            return events.get(criteria.getProperties().get(Event.EventProperties.API_ID.getValue()));
+        });
+
+        ApiManager apiManager = new ApiManager();
+        apiManager.setEventManager(stub(EventManager.class));
+
+        syncManager = new SyncManager();
+        syncManager.setApiRepository(apiRepository);
+        syncManager.setEventRepository(eventRepository);
+        syncManager.setApiManager(apiManager);
+        inject(syncManager, "objectMapper", objectMapper);
+    }
+
+    @Benchmark
+    public void refresh() {
+        syncManager.refresh();
+    }
+}
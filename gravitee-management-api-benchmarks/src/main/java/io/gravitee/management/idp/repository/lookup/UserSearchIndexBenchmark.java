@@ -0,0 +1,85 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.idp.repository.lookup;
+
+import io.gravitee.management.idp.api.identity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search of the users index backing the repository identity lookup. This benchmark lives in the package of the
+ * index, which is not public.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserSearchIndexBenchmark {
+
+    private static final int LIMIT = 10;
+
+    @Param({"10000", "100000"})
+    private int users;
+
+    private UserSearchIndex index;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        index = new UserSearchIndex();
+        for (int i = 0; i < users; i++) {
+            index.index(user(i));
+        }
+        next = users;
+    }
+
+    @Benchmark
+    public List<User> searchByPrefix() {
+        return index.search("user-12", LIMIT);
+    }
+
+    @Benchmark
+    public List<User> searchByFullName() {
+        return index.search("firstname-42 lastname-42", LIMIT);
+    }
+
+    @Benchmark
+    public List<User> searchWithoutResult() {
+        return index.search("unknown", LIMIT);
+    }
+
+    @Benchmark
+    public int reindex() {
+        // updates an existing user, so that the size of the index stays stable
+        index.index(user(next++ % users));
+        return index.size();
+    }
+
+    private static RepositoryUser user(int index) {
+        RepositoryUser user = new RepositoryUser("user-" + index);
+        user.setFirstname("Firstname-" + index);
+        user.setLastname("Lastname-" + index);
+        user.setEmail("user-" + index + "@gravitee.io");
+        return user;
+    }
+}
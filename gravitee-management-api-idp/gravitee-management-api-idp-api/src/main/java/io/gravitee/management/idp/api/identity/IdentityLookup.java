@@ -15,6 +15,7 @@
  */
 package io.gravitee.management.idp.api.identity;
 
+import java.util.ArrayList;
 import java.util.Collection;
 
 /**
@@ -25,5 +26,22 @@ public interface IdentityLookup<T> {
 
     User retrieve(T id);
 
+    /**
+     * Retrieve several users at once. Unknown identifiers are ignored.
+     *
+     * Identity lookups backed by a remote directory should override this method to fetch all the users with a
+     * single query.
+     */
+    default Collection<User> retrieveAll(Collection<T> ids) {
+        Collection<User> users = new ArrayList<>(ids.size());
+        for (T id : ids) {
+            User user = retrieve(id);
+            if (user != null) {
+                users.add(user);
+            }
+        }
+        return users;
+    }
+
     Collection<User> search(String query);
 }
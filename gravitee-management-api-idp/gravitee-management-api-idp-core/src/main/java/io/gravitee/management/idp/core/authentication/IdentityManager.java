@@ -27,5 +27,7 @@ public interface IdentityManager {
 
     User retrieve(Object id);
 
+    Collection<User> retrieveAll(Collection<?> ids);
+
     Collection<User> search(String query);
 }
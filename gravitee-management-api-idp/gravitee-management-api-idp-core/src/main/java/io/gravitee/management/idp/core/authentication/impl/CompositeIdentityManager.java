@@ -18,25 +18,67 @@ package io.gravitee.management.idp.core.authentication.impl;
 import io.gravitee.management.idp.api.identity.IdentityLookup;
 import io.gravitee.management.idp.api.identity.User;
 import io.gravitee.management.idp.core.authentication.IdentityManager;
+import io.gravitee.management.metrics.CounterSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * Searches are sent to every identity lookup in parallel. Each lookup has its own deadline: when it is reached,
+ * the results already received from the other lookups are returned. The search statistics of each lookup are
+ * listed by the node metrics endpoint.
+ *
  * @author David BRASSELY (david at gravitee.io)
  * @author GraviteeSource Team
  */
-public class CompositeIdentityManager implements IdentityManager {
+public class CompositeIdentityManager implements IdentityManager, CounterSource, InitializingBean, DisposableBean {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(CompositeIdentityManager.class);
+
+    @Value("${security.search.threads:4}")
+    private int threads = 4;
+
+    @Value("${security.search.queueSize:100}")
+    private int queueSize = 100;
+
+    @Value("${security.search.timeout:5000}")
+    private long defaultTimeout = 5000;
+
+    @Value("${security.search.limit:100}")
+    private int limit = 100;
 
-    private Collection<IdentityLookup> identityLookups = new ArrayList<>();
+    private final Collection<RegisteredIdentityLookup> identityLookups = new CopyOnWriteArrayList<>();
+
+    private ExecutorService executorService;
+
+    @Override
+    public void afterPropertiesSet() {
+        AtomicInteger counter = new AtomicInteger();
+        executorService = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "identity-search-" + counter.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public void destroy() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
 
     @Override
     public User retrieve(Object id) {
-        for (IdentityLookup identityLookup : identityLookups) {
-            User user = identityLookup.retrieve(id);
+        for (RegisteredIdentityLookup registeredLookup : identityLookups) {
+            User user = registeredLookup.identityLookup.retrieve(id);
             if (user != null) {
                 return user;
             }
@@ -45,22 +87,122 @@ public class CompositeIdentityManager implements IdentityManager {
         return null;
     }
 
+    /**
+     * Identifiers are matched case-insensitively, as most identity providers (LDAP first) compare them.
+     */
     @Override
-    public Collection<User> search(String query) {
-        Set<User> users = new HashSet<>();
-        for (IdentityLookup identityLookup : identityLookups) {
-            Collection<User> lookupUsers = identityLookup.search(query);
+    public Collection<User> retrieveAll(Collection<?> ids) {
+        Map<String, Object> remainingIds = new LinkedHashMap<>();
+        ids.forEach(id -> remainingIds.putIfAbsent(key(id), id));
+
+        List<User> users = new ArrayList<>(remainingIds.size());
+        for (RegisteredIdentityLookup registeredLookup : identityLookups) {
+            if (remainingIds.isEmpty()) {
+                break;
+            }
+
+            Collection<User> lookupUsers = registeredLookup.identityLookup.retrieveAll(new ArrayList<>(remainingIds.values()));
             if (lookupUsers != null) {
-                users.addAll(lookupUsers.stream().collect(Collectors.toSet()));
+                for (User user : lookupUsers) {
+                    if (user.getUsername() != null && remainingIds.remove(key(user.getUsername())) != null) {
+                        users.add(user);
+                    }
+                }
             }
         }
 
         return users;
     }
 
-    public void addIdentityLookup(IdentityLookup identityLookup) {
+    private static String key(Object id) {
+        return id.toString().toLowerCase(Locale.ENGLISH);
+    }
+
+    @Override
+    public Collection<User> search(String query) {
+        long start = System.currentTimeMillis();
+
+        Map<RegisteredIdentityLookup, Future<Collection<User>>> searches = new LinkedHashMap<>();
+        for (RegisteredIdentityLookup registeredLookup : identityLookups) {
+            try {
+                searches.put(registeredLookup, executorService.submit(() -> search(registeredLookup, query)));
+            } catch (RejectedExecutionException ree) {
+                registeredLookup.metrics.error();
+                LOGGER.warn("Too many concurrent searches, skipping identity provider {}", registeredLookup.provider);
+            }
+        }
+
+        // Users are de-duplicated on their username, the first identity lookup to return a user wins
+        Map<Object, User> users = new LinkedHashMap<>();
+        for (Map.Entry<RegisteredIdentityLookup, Future<Collection<User>>> search : searches.entrySet()) {
+            RegisteredIdentityLookup registeredLookup = search.getKey();
+            long remaining = Math.max(0, start + registeredLookup.timeout - System.currentTimeMillis());
+
+            try {
+                Collection<User> lookupUsers = search.getValue().get(remaining, TimeUnit.MILLISECONDS);
+                if (lookupUsers != null) {
+                    for (User user : lookupUsers) {
+                        if (users.size() >= limit) {
+                            break;
+                        }
+                        users.putIfAbsent(user.getUsername(), user);
+                    }
+                }
+            } catch (TimeoutException te) {
+                search.getValue().cancel(true);
+                registeredLookup.metrics.timeout();
+                LOGGER.warn("Identity provider {} did not answer within {} ms, its results are ignored",
+                        registeredLookup.provider, registeredLookup.timeout);
+            } catch (ExecutionException ee) {
+                LOGGER.error("Unexpected error while searching for users in identity provider {}",
+                        registeredLookup.provider, ee.getCause());
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        return new ArrayList<>(users.values());
+    }
+
+    private Collection<User> search(RegisteredIdentityLookup registeredLookup, String query) {
+        long start = System.currentTimeMillis();
+        try {
+            return registeredLookup.identityLookup.search(query);
+        } catch (RuntimeException re) {
+            registeredLookup.metrics.error();
+            throw re;
+        } finally {
+            registeredLookup.metrics.record(System.currentTimeMillis() - start);
+        }
+    }
+
+    public void addIdentityLookup(String provider, IdentityLookup identityLookup, Long timeout) {
         if (identityLookup != null) {
-            identityLookups.add(identityLookup);
+            identityLookups.add(new RegisteredIdentityLookup(provider, identityLookup,
+                    timeout == null ? defaultTimeout : timeout));
+        }
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        Map<String, Long> counters = new TreeMap<>();
+        identityLookups.forEach(registeredLookup -> registeredLookup.metrics.getCounters().forEach((counter, value) ->
+                counters.put(registeredLookup.provider + '.' + counter, value)));
+        return counters;
+    }
+
+    private static class RegisteredIdentityLookup {
+        private final String provider;
+        private final IdentityLookup identityLookup;
+        private final long timeout;
+        private final IdentityLookupMetrics metrics;
+
+        private RegisteredIdentityLookup(String provider, IdentityLookup identityLookup, long timeout) {
+            this.provider = provider;
+            this.identityLookup = identityLookup;
+            this.timeout = timeout;
+            this.metrics = new IdentityLookupMetrics(provider);
         }
     }
 }
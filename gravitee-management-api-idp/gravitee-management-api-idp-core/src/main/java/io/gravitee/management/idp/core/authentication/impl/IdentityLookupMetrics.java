@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.idp.core.authentication.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Search statistics of a single identity lookup, as recorded by the {@link CompositeIdentityManager}.
+ *
+ * @author GraviteeSource Team
+ */
+public class IdentityLookupMetrics {
+
+    private final String provider;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private final LongAccumulator maxTime = new LongAccumulator(Long::max, 0);
+
+    IdentityLookupMetrics(String provider) {
+        this.provider = provider;
+    }
+
+    void record(long elapsed) {
+        calls.increment();
+        totalTime.add(elapsed);
+        maxTime.accumulate(elapsed);
+    }
+
+    void error() {
+        errors.increment();
+    }
+
+    void timeout() {
+        timeouts.increment();
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    public long getTotalTime() {
+        return totalTime.sum();
+    }
+
+    public long getMaxTime() {
+        return maxTime.get();
+    }
+
+    public long getAverageTime() {
+        long count = calls.sum();
+        return count == 0 ? 0 : totalTime.sum() / count;
+    }
+
+    public Map<String, Long> getCounters() {
+        Map<String, Long> counters = new LinkedHashMap<>();
+        counters.put("calls", getCalls());
+        counters.put("errors", getErrors());
+        counters.put("timeouts", getTimeouts());
+        counters.put("averageTime", getAverageTime());
+        counters.put("maxTime", getMaxTime());
+        return counters;
+    }
+
+    @Override
+    public String toString() {
+        return "IdentityLookupMetrics{" +
+                "provider='" + provider + '\'' +
+                ", calls=" + getCalls() +
+                ", errors=" + getErrors() +
+                ", timeouts=" + getTimeouts() +
+                ", averageTime=" + getAverageTime() +
+                ", maxTime=" + getMaxTime() +
+                '}';
+    }
+}
@@ -73,11 +73,25 @@ public class IdentityProviderManagerImpl implements IdentityProviderManager {
         // By loading an identity provider we are mounting both authentication provider and identity lookup
         AuthenticationProvider authenticationProvider = authenticationProvider(identityProvider, properties);
         IdentityLookup identityLookup = identityLookup(identityProvider, properties);
-        compositeIdentityManager.addIdentityLookup(identityLookup);
+        compositeIdentityManager.addIdentityLookup(identityProvider, identityLookup, searchTimeout(properties));
 
         return authenticationProvider;
     }
 
+    private Long searchTimeout(Map<String, Object> properties) {
+        Object searchTimeout = (properties != null) ? properties.get("search-timeout") : null;
+        if (searchTimeout == null) {
+            return null;
+        }
+
+        try {
+            return Long.valueOf(searchTimeout.toString());
+        } catch (NumberFormatException nfe) {
+            LOGGER.warn("Invalid search-timeout value [{}], the default timeout is used", searchTimeout);
+            return null;
+        }
+    }
+
     private AuthenticationProvider authenticationProvider(String identityProviderType, Map<String, Object> properties) {
         LOGGER.debug("Looking for an authentication provider for [{}]", identityProviderType);
         IdentityProvider identityProvider = identityProviders.get(identityProviderType);
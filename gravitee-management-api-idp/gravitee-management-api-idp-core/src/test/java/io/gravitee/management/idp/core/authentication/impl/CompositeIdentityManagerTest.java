@@ -0,0 +1,140 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.idp.core.authentication.impl;
+
+import io.gravitee.management.idp.api.identity.IdentityLookup;
+import io.gravitee.management.idp.api.identity.User;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class CompositeIdentityManagerTest {
+
+    private CompositeIdentityManager identityManager;
+
+    @Before
+    public void init() {
+        identityManager = new CompositeIdentityManager();
+        identityManager.afterPropertiesSet();
+    }
+
+    @After
+    public void close() {
+        identityManager.destroy();
+    }
+
+    @Test
+    public void shouldMergeAndDeduplicateResults() {
+        User john = user("john");
+        identityManager.addIdentityLookup("memory", lookup(john), null);
+        identityManager.addIdentityLookup("gravitee", lookup(user("john"), user("jane")), null);
+
+        Collection<User> users = identityManager.search("j");
+
+        assertEquals(2, users.size());
+        Iterator<User> iterator = users.iterator();
+        assertEquals(john, iterator.next());
+        assertEquals("jane", iterator.next().getUsername());
+    }
+
+    @Test
+    public void shouldReturnPartialResultsOnTimeout() {
+        IdentityLookup slowLookup = mock(IdentityLookup.class);
+        when(slowLookup.search("j")).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return Collections.singletonList(user("slow"));
+        });
+        identityManager.addIdentityLookup("ldap", slowLookup, 100L);
+        identityManager.addIdentityLookup("gravitee", lookup(user("john")), null);
+
+        long start = System.currentTimeMillis();
+        Collection<User> users = identityManager.search("j");
+
+        assertEquals(1, users.size());
+        assertEquals("john", users.iterator().next().getUsername());
+        assertEquals(true, System.currentTimeMillis() - start < 2000);
+
+        assertEquals(Long.valueOf(1), identityManager.getCounters().get("ldap.timeouts"));
+        assertEquals(Long.valueOf(0), identityManager.getCounters().get("gravitee.timeouts"));
+    }
+
+    @Test
+    public void shouldIgnoreFailingLookup() {
+        IdentityLookup failingLookup = mock(IdentityLookup.class);
+        when(failingLookup.search("j")).thenThrow(new IllegalStateException());
+        identityManager.addIdentityLookup("ldap", failingLookup, null);
+        identityManager.addIdentityLookup("gravitee", lookup(user("john")), null);
+
+        assertEquals(1, identityManager.search("j").size());
+        assertEquals(Long.valueOf(1), identityManager.getCounters().get("ldap.errors"));
+    }
+
+    @Test
+    public void shouldRetrieveAllFromSuccessiveLookups() {
+        User admin = user("admin");
+        User jdoe = user("jdoe");
+        IdentityLookup memory = mock(IdentityLookup.class);
+        when(memory.retrieveAll(Arrays.asList("admin", "JDoe", "unknown"))).thenReturn(Collections.singletonList(admin));
+        IdentityLookup ldap = mock(IdentityLookup.class);
+        // usernames are matched case-insensitively, as LDAP does
+        when(ldap.retrieveAll(Arrays.asList("JDoe", "unknown"))).thenReturn(Collections.singletonList(jdoe));
+        identityManager.addIdentityLookup("memory", memory, null);
+        identityManager.addIdentityLookup("ldap", ldap, null);
+
+        Collection<User> users = identityManager.retrieveAll(Arrays.asList("admin", "JDoe", "jdoe", "unknown"));
+
+        assertEquals(2, users.size());
+        Iterator<User> iterator = users.iterator();
+        assertEquals("admin", iterator.next().getUsername());
+        assertEquals("jdoe", iterator.next().getUsername());
+    }
+
+    @Test
+    public void shouldNotQueryNextLookupsOnceAllUsersAreRetrieved() {
+        User admin = user("Admin");
+        IdentityLookup memory = mock(IdentityLookup.class);
+        when(memory.retrieveAll(Collections.singletonList("admin"))).thenReturn(Collections.singletonList(admin));
+        IdentityLookup ldap = mock(IdentityLookup.class);
+        identityManager.addIdentityLookup("memory", memory, null);
+        identityManager.addIdentityLookup("ldap", ldap, null);
+
+        assertEquals(1, identityManager.retrieveAll(Collections.singletonList("admin")).size());
+        verifyZeroInteractions(ldap);
+    }
+
+    private static IdentityLookup lookup(User... users) {
+        IdentityLookup identityLookup = mock(IdentityLookup.class);
+        when(identityLookup.search(anyString())).thenReturn(Arrays.asList(users));
+        return identityLookup;
+    }
+
+    private static User user(String username) {
+        User user = mock(User.class);
+        when(user.getUsername()).thenReturn(username);
+        return user;
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.idp.ldap;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.env.Environment;
+import org.springframework.ldap.NamingException;
+import org.springframework.ldap.core.DistinguishedName;
+import org.springframework.ldap.core.support.BaseLdapPathContextSource;
+import org.springframework.ldap.pool2.factory.PoolConfig;
+import org.springframework.ldap.pool2.factory.PooledContextSource;
+import org.springframework.ldap.pool2.validation.DefaultDirContextValidator;
+
+import javax.naming.directory.DirContext;
+import javax.naming.ldap.LdapName;
+
+/**
+ * Keeps a pool of the connections opened with the manager credentials (user searches, group searches, identity
+ * lookups). Contexts opened with the credentials of a user being authenticated are never pooled.
+ *
+ * @author GraviteeSource Team
+ */
+public class PooledLdapContextSource implements BaseLdapPathContextSource, DisposableBean {
+
+    private final BaseLdapPathContextSource contextSource;
+    private final PooledContextSource pooledContextSource;
+
+    public PooledLdapContextSource(BaseLdapPathContextSource contextSource, PoolConfig poolConfig) {
+        this.contextSource = contextSource;
+        this.pooledContextSource = new PooledContextSource(poolConfig);
+        this.pooledContextSource.setContextSource(contextSource);
+        this.pooledContextSource.setDirContextValidator(new DefaultDirContextValidator());
+    }
+
+    /**
+     * @return <code>true</code> if the manager connections must be pooled (default).
+     */
+    public static boolean isEnabled(Environment environment) {
+        return environment.getProperty("pool-enabled", Boolean.class, true);
+    }
+
+    public static PoolConfig poolConfig(Environment environment) {
+        PoolConfig poolConfig = new PoolConfig();
+        poolConfig.setMinIdlePerKey(environment.getProperty("pool-min-idle", Integer.class, 0));
+        poolConfig.setMaxIdlePerKey(environment.getProperty("pool-max-idle", Integer.class, 8));
+        poolConfig.setMaxTotalPerKey(environment.getProperty("pool-max-total", Integer.class, 20));
+        poolConfig.setMaxWaitMillis(environment.getProperty("pool-max-wait", Long.class, 5000L));
+
+        // Check the pooled connections so that the ones closed by the server (or a firewall) are not handed out
+        boolean validation = environment.getProperty("pool-validation", Boolean.class, true);
+        poolConfig.setTestOnBorrow(validation);
+        poolConfig.setTestWhileIdle(validation);
+        poolConfig.setTimeBetweenEvictionRunsMillis(environment.getProperty("pool-eviction-interval", Long.class, 60000L));
+        poolConfig.setMinEvictableIdleTimeMillis(environment.getProperty("pool-idle-timeout", Long.class, 300000L));
+        return poolConfig;
+    }
+
+    @Override
+    public DirContext getReadOnlyContext() throws NamingException {
+        return pooledContextSource.getReadOnlyContext();
+    }
+
+    @Override
+    public DirContext getReadWriteContext() throws NamingException {
+        return pooledContextSource.getReadWriteContext();
+    }
+
+    @Override
+    public DirContext getContext(String principal, String credentials) throws NamingException {
+        return contextSource.getContext(principal, credentials);
+    }
+
+    @Override
+    public DistinguishedName getBaseLdapPath() {
+        return contextSource.getBaseLdapPath();
+    }
+
+    @Override
+    public LdapName getBaseLdapName() {
+        return contextSource.getBaseLdapName();
+    }
+
+    @Override
+    public String getBaseLdapPathAsString() {
+        return contextSource.getBaseLdapPathAsString();
+    }
+
+    public int getNumActive() {
+        return pooledContextSource.getNumActive();
+    }
+
+    public int getNumIdle() {
+        return pooledContextSource.getNumIdle();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        pooledContextSource.destroy();
+    }
+}
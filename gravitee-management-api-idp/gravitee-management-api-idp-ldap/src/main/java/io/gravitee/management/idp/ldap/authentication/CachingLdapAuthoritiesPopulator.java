@@ -0,0 +1,69 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.idp.ldap.authentication;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.ldap.core.DirContextOperations;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.ldap.userdetails.LdapAuthoritiesPopulator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the authorities resolved for a user DN for a short time so that consecutive logins of the same user do
+ * not run the group search again.
+ *
+ * @author GraviteeSource Team
+ */
+public class CachingLdapAuthoritiesPopulator implements LdapAuthoritiesPopulator {
+
+    private final LdapAuthoritiesPopulator populator;
+    private final Cache<String, Collection<? extends GrantedAuthority>> authorities;
+
+    /**
+     * @param populator the populator searching for the groups of the user.
+     * @param size the maximum number of users to keep the authorities of.
+     * @param ttl the time (in seconds) the authorities of a user are kept.
+     */
+    public CachingLdapAuthoritiesPopulator(LdapAuthoritiesPopulator populator, long size, long ttl) {
+        this.populator = populator;
+        this.authorities = CacheBuilder.newBuilder()
+                .maximumSize(size)
+                .expireAfterWrite(ttl, TimeUnit.SECONDS)
+                .build();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getGrantedAuthorities(DirContextOperations userData, String username) {
+        String userDn = userData.getNameInNamespace().toLowerCase();
+
+        Collection<? extends GrantedAuthority> userAuthorities = authorities.getIfPresent(userDn);
+        if (userAuthorities == null) {
+            userAuthorities = Collections.unmodifiableList(
+                    new ArrayList<>(populator.getGrantedAuthorities(userData, username)));
+            authorities.put(userDn, userAuthorities);
+        }
+        return userAuthorities;
+    }
+
+    public void invalidateAll() {
+        authorities.invalidateAll();
+    }
+}
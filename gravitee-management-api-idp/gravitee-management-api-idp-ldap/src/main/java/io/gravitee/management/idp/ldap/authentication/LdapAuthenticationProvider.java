@@ -16,14 +16,21 @@
 package io.gravitee.management.idp.ldap.authentication;
 
 import io.gravitee.management.idp.api.authentication.AuthenticationProvider;
+import io.gravitee.management.idp.ldap.PooledLdapContextSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
 import org.springframework.core.env.Environment;
+import org.springframework.ldap.core.support.BaseLdapPathContextSource;
 import org.springframework.security.config.annotation.SecurityConfigurer;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.ldap.DefaultSpringSecurityContextSource;
 import org.springframework.security.ldap.userdetails.DefaultLdapAuthoritiesPopulator;
+import org.springframework.security.ldap.userdetails.LdapAuthoritiesPopulator;
 
 /**
  * @author David BRASSELY (david at gravitee.io)
@@ -35,6 +42,9 @@ public class LdapAuthenticationProvider implements AuthenticationProvider<Securi
 
     @Autowired
     private Environment environment;
+
+    @Autowired
+    private ApplicationContext applicationContext;
     
     @Override
     public SecurityConfigurer configure() throws Exception {
@@ -49,8 +59,22 @@ public class LdapAuthenticationProvider implements AuthenticationProvider<Securi
         contextSource.setBase(environment.getProperty("context-source-base"));
         contextSource.setUserDn(environment.getProperty("context-source-username"));
         contextSource.setPassword(environment.getProperty("context-source-password"));
+
+        boolean pooled = PooledLdapContextSource.isEnabled(environment);
+        if (pooled) {
+            // Manager connections are pooled by our own pool rather than by the JNDI one
+            contextSource.setPooled(false);
+        }
         contextSource.afterPropertiesSet();
 
+        BaseLdapPathContextSource managerContextSource = contextSource;
+        if (pooled) {
+            PooledLdapContextSource pooledContextSource = new PooledLdapContextSource(contextSource,
+                    PooledLdapContextSource.poolConfig(environment));
+            destroyOnClose(pooledContextSource);
+            managerContextSource = pooledContextSource;
+        }
+
         String userDNPattern = environment.getProperty("user-dn-pattern");
         if (userDNPattern == null || userDNPattern.isEmpty()) {
             ldapAuthenticationProviderConfigurer
@@ -66,11 +90,18 @@ public class LdapAuthenticationProvider implements AuthenticationProvider<Securi
                 .groupRoleAttribute(environment.getProperty("group-role-attribute", "cn"))
                 .rolePrefix("");
 
-        DefaultLdapAuthoritiesPopulator populator = new DefaultLdapAuthoritiesPopulator(contextSource,
+        DefaultLdapAuthoritiesPopulator populator = new DefaultLdapAuthoritiesPopulator(managerContextSource,
                 environment.getProperty("group-search-base", ""));
         populator.setRolePrefix("");
 
-        ldapAuthenticationProviderConfigurer.ldapAuthoritiesPopulator(populator).contextSource(contextSource);
+        LdapAuthoritiesPopulator authoritiesPopulator = populator;
+        long authoritiesCacheTtl = environment.getProperty("authorities-cache-ttl", Long.class, 60L);
+        if (authoritiesCacheTtl > 0) {
+            authoritiesPopulator = new CachingLdapAuthoritiesPopulator(populator,
+                    environment.getProperty("authorities-cache-size", Long.class, 10000L), authoritiesCacheTtl);
+        }
+
+        ldapAuthenticationProviderConfigurer.ldapAuthoritiesPopulator(authoritiesPopulator).contextSource(managerContextSource);
 
         // set up LDAP mapper
         UserDetailsContextPropertiesMapper userDetailsContextPropertiesMapper = new UserDetailsContextPropertiesMapper();
@@ -79,4 +110,25 @@ public class LdapAuthenticationProvider implements AuthenticationProvider<Securi
 
         return ldapAuthenticationProviderConfigurer;
     }
+
+    /**
+     * Closes the pooled connections along with the context of the identity provider.
+     */
+    private void destroyOnClose(PooledLdapContextSource pooledContextSource) {
+        if (applicationContext instanceof ConfigurableApplicationContext) {
+            ((ConfigurableApplicationContext) applicationContext).addApplicationListener(
+                    new ApplicationListener<ContextClosedEvent>() {
+                        @Override
+                        public void onApplicationEvent(ContextClosedEvent event) {
+                            if (event.getApplicationContext() == applicationContext) {
+                                try {
+                                    pooledContextSource.destroy();
+                                } catch (Exception ex) {
+                                    LOGGER.error("Unable to close the LDAP connection pool", ex);
+                                }
+                            }
+                        }
+                    });
+        }
+    }
 }
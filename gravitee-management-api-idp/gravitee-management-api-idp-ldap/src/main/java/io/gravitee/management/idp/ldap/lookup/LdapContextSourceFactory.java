@@ -15,6 +15,7 @@
  */
 package io.gravitee.management.idp.ldap.lookup;
 
+import io.gravitee.management.idp.ldap.PooledLdapContextSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.AbstractFactoryBean;
 import org.springframework.core.env.Environment;
@@ -30,21 +31,22 @@ import java.net.ServerSocket;
  * @author David BRASSELY (david at gravitee.io)
  * @author GraviteeSource Team
  */
-public class LdapContextSourceFactory extends AbstractFactoryBean<LdapContextSource> {
+public class LdapContextSourceFactory extends AbstractFactoryBean<BaseLdapPathContextSource> {
 
     @Autowired
     private Environment environment;
 
     private LdapContextSource ldapContextSource;
+    private PooledLdapContextSource pooledContextSource;
     private ApacheDSContainer apacheDsContainer;
 
     @Override
     public Class<?> getObjectType() {
-        return LdapContextSource.class;
+        return BaseLdapPathContextSource.class;
     }
 
     @Override
-    protected LdapContextSource createInstance() throws Exception {
+    protected BaseLdapPathContextSource createInstance() throws Exception {
         ContextSourceBuilder contextSourceBuilder = new ContextSourceBuilder();
 
         contextSourceBuilder
@@ -61,6 +63,15 @@ public class LdapContextSourceFactory extends AbstractFactoryBean<LdapContextSou
         }
 
         ldapContextSource = contextSourceBuilder.build();
+
+        if (PooledLdapContextSource.isEnabled(environment)) {
+            // Manager connections are pooled by our own pool rather than by the JNDI one
+            ldapContextSource.setPooled(false);
+            pooledContextSource = new PooledLdapContextSource(ldapContextSource,
+                    PooledLdapContextSource.poolConfig(environment));
+            return pooledContextSource;
+        }
+
         return ldapContextSource;
     }
 
@@ -234,6 +245,10 @@ public class LdapContextSourceFactory extends AbstractFactoryBean<LdapContextSou
     public void destroy() throws Exception {
         super.destroy();
 
+        if (pooledContextSource != null) {
+            pooledContextSource.destroy();
+        }
+
         if (apacheDsContainer != null) {
             apacheDsContainer.destroy();
         }
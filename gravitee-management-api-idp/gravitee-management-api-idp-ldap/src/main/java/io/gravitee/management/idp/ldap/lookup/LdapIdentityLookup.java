@@ -15,7 +15,9 @@
  */
 package io.gravitee.management.idp.ldap.lookup;
 
-import com.sun.jndi.ldap.LdapCtx;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
 import io.gravitee.management.idp.api.identity.IdentityLookup;
 import io.gravitee.management.idp.api.identity.User;
 import io.gravitee.management.idp.ldap.lookup.spring.LdapIdentityLookupConfiguration;
@@ -25,25 +27,29 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.env.Environment;
-import org.springframework.ldap.core.AttributesMapper;
 import org.springframework.ldap.core.ContextMapper;
+import org.springframework.ldap.core.DirContextOperations;
 import org.springframework.ldap.core.LdapTemplate;
 import org.springframework.ldap.filter.AndFilter;
 import org.springframework.ldap.filter.EqualsFilter;
+import org.springframework.ldap.filter.Filter;
+import org.springframework.ldap.filter.OrFilter;
 import org.springframework.ldap.filter.WhitespaceWildcardsFilter;
 import org.springframework.ldap.query.LdapQuery;
 import org.springframework.ldap.query.LdapQueryBuilder;
 import org.springframework.ldap.query.SearchScope;
 import org.springframework.ldap.support.LdapNameBuilder;
 
-import javax.naming.NamingException;
-import javax.naming.directory.Attribute;
-import javax.naming.directory.Attributes;
 import javax.naming.ldap.LdapName;
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Users retrieved by their identifier are kept in a cache (<code>lookup-cache-ttl</code>, in seconds), and so are
+ * the identifiers which are unknown from the LDAP (<code>lookup-cache-negative-ttl</code>, in seconds). As the LDAP
+ * compares identifiers case-insensitively, so do the caches. The cached users are mutable, so each caller is given
+ * its own copy.
+ *
  * @author David BRASSELY (david at gravitee.io)
  * @author GraviteeSource Team
  */
@@ -52,6 +58,11 @@ public class LdapIdentityLookup implements IdentityLookup<String>, InitializingB
 
     private final Logger LOGGER = LoggerFactory.getLogger(LdapIdentityLookup.class);
 
+    /**
+     * Maximum number of identifiers sent in a single OR-filter query.
+     */
+    private final static int RETRIEVE_BATCH_SIZE = 100;
+
     @Autowired
     private LdapTemplate ldapTemplate;
 
@@ -62,6 +73,10 @@ public class LdapIdentityLookup implements IdentityLookup<String>, InitializingB
 
     private LdapName baseDn;
 
+    private Cache<String, LdapUser> users;
+
+    private Cache<String, Boolean> unknownUsers;
+
     @Override
     public void afterPropertiesSet() throws Exception {
         String searchFilter = environment.getProperty("user-search-filter");
@@ -81,6 +96,16 @@ public class LdapIdentityLookup implements IdentityLookup<String>, InitializingB
                 .build();
 
         LOGGER.info("User search is based on DN [{}]", baseDn);
+
+        long cacheSize = environment.getProperty("lookup-cache-size", Long.class, 10000L);
+        users = CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(environment.getProperty("lookup-cache-ttl", Long.class, 300L), TimeUnit.SECONDS)
+                .build();
+        unknownUsers = CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(environment.getProperty("lookup-cache-negative-ttl", Long.class, 60L), TimeUnit.SECONDS)
+                .build();
     }
 
     @Override
@@ -89,64 +114,115 @@ public class LdapIdentityLookup implements IdentityLookup<String>, InitializingB
         filter.and(new EqualsFilter("objectclass", "person"));
         filter.and(new WhitespaceWildcardsFilter("cn", query));
 
-        LdapQuery ldapQuery = LdapQueryBuilder
-                .query()
-                .base(baseDn)
-                .countLimit(20)
-                .timeLimit(5000)
-                .searchScope(SearchScope.SUBTREE)
-                .attributes(identifierAttribute, "givenname", "sn", "mail")
-                .filter(filter);
+        return new ArrayList<>(ldapTemplate.search(query(filter, 20), new UserContextMapper()));
+    }
+
+    @Override
+    public User retrieve(String id) {
+        String key = key(id);
+        LdapUser user = users.getIfPresent(key);
+        if (user != null || unknownUsers.getIfPresent(key) != null) {
+            return copy(user);
+        }
+
+        List<LdapUser> result = ldapTemplate.search(
+                query(userFilter(new EqualsFilter(identifierAttribute, id)), 1),
+                new UserContextMapper());
 
+        if (result != null && !result.isEmpty()) {
+            user = result.iterator().next();
+            users.put(key, user);
+        } else {
+            unknownUsers.put(key, Boolean.TRUE);
+        }
 
-        return ldapTemplate.search(ldapQuery, new UserAttributesMapper());
+        return copy(user);
     }
 
     @Override
-    public User retrieve(String id) {
+    public Collection<User> retrieveAll(Collection<String> ids) {
+        List<User> found = new ArrayList<>(ids.size());
+        List<String> missingIds = new ArrayList<>();
+
+        Set<String> keys = new LinkedHashSet<>();
+        for (String id : ids) {
+            String key = key(id);
+            if (!keys.add(key)) {
+                continue;
+            }
+
+            LdapUser user = users.getIfPresent(key);
+            if (user != null) {
+                found.add(copy(user));
+            } else if (unknownUsers.getIfPresent(key) == null) {
+                missingIds.add(id);
+            }
+        }
+
+        for (List<String> batch : Lists.partition(missingIds, RETRIEVE_BATCH_SIZE)) {
+            OrFilter identifiers = new OrFilter();
+            batch.forEach(id -> identifiers.or(new EqualsFilter(identifierAttribute, id)));
+
+            // LDAP attribute values are generally compared case-insensitively
+            Map<String, LdapUser> batchUsers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (LdapUser user : ldapTemplate.search(query(userFilter(identifiers), batch.size()), new UserContextMapper())) {
+                if (user.getUsername() != null) {
+                    batchUsers.put(user.getUsername(), user);
+                }
+            }
+
+            for (String id : batch) {
+                LdapUser user = batchUsers.get(id);
+                if (user != null) {
+                    users.put(key(id), user);
+                    found.add(copy(user));
+                } else {
+                    unknownUsers.put(key(id), Boolean.TRUE);
+                }
+            }
+        }
+
+        return found;
+    }
+
+    private static LdapUser copy(LdapUser user) {
+        return user == null ? null : new LdapUser(user);
+    }
+
+    private static String key(String id) {
+        return id.toLowerCase(Locale.ENGLISH);
+    }
+
+    private Filter userFilter(Filter identifierFilter) {
         AndFilter filter = new AndFilter();
         filter.and(new EqualsFilter("objectclass", "person"));
-        filter.and(new EqualsFilter(identifierAttribute, id));
+        filter.and(identifierFilter);
+        return filter;
+    }
 
-        LdapQuery ldapQuery = LdapQueryBuilder
+    private LdapQuery query(Filter filter, int countLimit) {
+        return LdapQueryBuilder
                 .query()
                 .base(baseDn)
-                .countLimit(1)
+                .countLimit(countLimit)
                 .timeLimit(5000)
                 .searchScope(SearchScope.SUBTREE)
                 .attributes(identifierAttribute, "givenname", "sn", "mail")
                 .filter(filter);
-
-        List<User> users = ldapTemplate.search(ldapQuery, new UserAttributesMapper());
-        if (users != null && ! users.isEmpty()) {
-            LdapUser user = (LdapUser) users.iterator().next();
-            List<String> result = ldapTemplate.search(
-                    baseDn, filter.encode(),
-                    (ContextMapper<String>) o -> ((LdapCtx) o).getNameInNamespace());
-            user.setDn(result.iterator().next());
-
-            return user;
-        } else {
-            return null;
-        }
     }
 
-    private class UserAttributesMapper implements AttributesMapper<User> {
-        public User mapFromAttributes(Attributes attrs) throws NamingException {
-            LdapUser user = new LdapUser(attributeValue(attrs, identifierAttribute));
-            user.setFirstname(attributeValue(attrs, "givenname"));
-            user.setLastname(attributeValue(attrs, "sn"));
-            user.setEmail(attributeValue(attrs, "mail"));
+    /**
+     * Maps both the attributes and the DN of the entry, so that a single search is needed to build a user.
+     */
+    private class UserContextMapper implements ContextMapper<LdapUser> {
+        public LdapUser mapFromContext(Object ctx) {
+            DirContextOperations context = (DirContextOperations) ctx;
+            LdapUser user = new LdapUser(context.getStringAttribute(identifierAttribute));
+            user.setFirstname(context.getStringAttribute("givenname"));
+            user.setLastname(context.getStringAttribute("sn"));
+            user.setEmail(context.getStringAttribute("mail"));
+            user.setDn(context.getNameInNamespace());
             return user;
         }
     }
-
-    private String attributeValue(Attributes attrs, String attributeId) throws NamingException {
-        Attribute attr = attrs.get(attributeId);
-        if (attr != null) {
-            return (String) attr.get();
-        }
-
-        return null;
-    }
 }
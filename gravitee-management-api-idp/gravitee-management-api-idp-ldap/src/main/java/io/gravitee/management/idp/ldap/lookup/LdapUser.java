@@ -18,6 +18,7 @@ package io.gravitee.management.idp.ldap.lookup;
 import io.gravitee.management.idp.api.identity.User;
 import io.gravitee.management.idp.ldap.LdapIdentityProvider;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -34,6 +35,18 @@ public class LdapUser implements User<String> {
         this.username = username;
     }
 
+    /**
+     * Copies the given user, so that a cached user is never shared with the callers of the lookup.
+     */
+    LdapUser(LdapUser user) {
+        this.username = user.username;
+        this.firstname = user.firstname;
+        this.lastname = user.lastname;
+        this.email = user.email;
+        this.dn = user.dn;
+        this.properties = user.properties == null ? null : new HashMap<>(user.properties);
+    }
+
     @Override
     public String getInternalId() {
         return dn;
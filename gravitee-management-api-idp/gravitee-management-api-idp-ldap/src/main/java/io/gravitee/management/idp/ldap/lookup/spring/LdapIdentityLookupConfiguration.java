@@ -19,7 +19,7 @@ import io.gravitee.management.idp.ldap.lookup.LdapContextSourceFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.ldap.core.LdapTemplate;
-import org.springframework.ldap.core.support.LdapContextSource;
+import org.springframework.ldap.core.support.BaseLdapPathContextSource;
 
 /**
  * @author David BRASSELY (david at gravitee.io)
@@ -34,7 +34,7 @@ public class LdapIdentityLookupConfiguration {
     }
 
     @Bean
-    public LdapTemplate ldapTemplate(LdapContextSource contextSource) {
+    public LdapTemplate ldapTemplate(BaseLdapPathContextSource contextSource) {
         return new LdapTemplate(contextSource);
     }
 }
@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.idp.ldap.authentication;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.ldap.core.DirContextOperations;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.ldap.userdetails.LdapAuthoritiesPopulator;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CachingLdapAuthoritiesPopulatorTest {
+
+    @Mock
+    private LdapAuthoritiesPopulator populator;
+
+    @Mock
+    private DirContextOperations user;
+
+    @Mock
+    private DirContextOperations otherUser;
+
+    private CachingLdapAuthoritiesPopulator cachingPopulator;
+
+    @Before
+    public void init() {
+        cachingPopulator = new CachingLdapAuthoritiesPopulator(populator, 100, 60);
+
+        when(user.getNameInNamespace()).thenReturn("uid=john,ou=people,dc=gravitee,dc=io");
+        when(otherUser.getNameInNamespace()).thenReturn("uid=jane,ou=people,dc=gravitee,dc=io");
+        doReturn(Collections.singletonList(new SimpleGrantedAuthority("developers")))
+                .when(populator).getGrantedAuthorities(any(DirContextOperations.class), anyString());
+    }
+
+    @Test
+    public void shouldSearchGroupsOncePerUser() {
+        Collection<? extends GrantedAuthority> authorities = cachingPopulator.getGrantedAuthorities(user, "john");
+        cachingPopulator.getGrantedAuthorities(user, "john");
+        cachingPopulator.getGrantedAuthorities(otherUser, "jane");
+
+        assertEquals(1, authorities.size());
+        assertEquals("developers", authorities.iterator().next().getAuthority());
+        verify(populator, times(1)).getGrantedAuthorities(user, "john");
+        verify(populator, times(1)).getGrantedAuthorities(otherUser, "jane");
+    }
+
+    @Test
+    public void shouldSearchGroupsAgainOnceInvalidated() {
+        cachingPopulator.getGrantedAuthorities(user, "john");
+        cachingPopulator.invalidateAll();
+        cachingPopulator.getGrantedAuthorities(user, "john");
+
+        verify(populator, times(2)).getGrantedAuthorities(user, "john");
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.idp.ldap.lookup;
+
+import io.gravitee.management.idp.api.identity.User;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.ldap.core.ContextMapper;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.core.env.Environment;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class LdapIdentityLookupTest {
+
+    @InjectMocks
+    private LdapIdentityLookup identityLookup = new LdapIdentityLookup();
+
+    @Mock
+    private LdapTemplate ldapTemplate;
+
+    @Mock
+    private Environment environment;
+
+    private final Map<String, String> properties = new HashMap<>();
+
+    private final List<String> filters = new ArrayList<>();
+
+    @Before
+    public void init() throws Exception {
+        properties.put("context-source-base", "dc=gravitee,dc=io");
+        properties.put("user-search-base", "ou=people");
+        properties.put("user-search-filter", "uid={0}");
+        when(environment.getProperty(anyString())).thenAnswer(invocation ->
+                properties.get(invocation.getArguments()[0]));
+        when(environment.getProperty(anyString(), eq(Long.class), anyLong())).thenAnswer(invocation -> {
+            String value = properties.get(invocation.getArguments()[0]);
+            return value == null ? invocation.getArguments()[2] : Long.valueOf(value);
+        });
+
+        // returns the directory users whose identifier appears in the filter
+        Set<String> directory = new HashSet<>(Arrays.asList("jdoe", "jsmith", "admin"));
+        when(ldapTemplate.search(any(LdapQuery.class), any(ContextMapper.class))).thenAnswer(invocation -> {
+            String filter = ((LdapQuery) invocation.getArguments()[0]).filter().encode();
+            filters.add(filter);
+            return directory.stream()
+                    .filter(id -> filter.toLowerCase().contains("(uid=" + id + ")"))
+                    .map(LdapUser::new)
+                    .collect(Collectors.toList());
+        });
+    }
+
+    @Test
+    public void shouldCacheRetrievedUsers() throws Exception {
+        identityLookup.afterPropertiesSet();
+
+        assertEquals("jdoe", identityLookup.retrieve("jdoe").getUsername());
+        assertEquals("jdoe", identityLookup.retrieve("JDoe").getUsername());
+
+        assertEquals(1, filters.size());
+    }
+
+    @Test
+    public void shouldNotShareCachedUsers() throws Exception {
+        identityLookup.afterPropertiesSet();
+
+        ((LdapUser) identityLookup.retrieve("jdoe")).setEmail("changed@gravitee.io");
+        ((LdapUser) identityLookup.retrieveAll(Collections.singletonList("jdoe")).iterator().next()).setEmail("changed@gravitee.io");
+
+        assertNull(identityLookup.retrieve("jdoe").getEmail());
+        assertNull(identityLookup.retrieveAll(Collections.singletonList("jdoe")).iterator().next().getEmail());
+        assertEquals(1, filters.size());
+    }
+
+    @Test
+    public void shouldExpireCachedUsers() throws Exception {
+        properties.put("lookup-cache-ttl", "1");
+        identityLookup.afterPropertiesSet();
+
+        identityLookup.retrieve("jdoe");
+        Thread.sleep(1100);
+        identityLookup.retrieve("jdoe");
+
+        assertEquals(2, filters.size());
+    }
+
+    @Test
+    public void shouldCacheUnknownUsers() throws Exception {
+        identityLookup.afterPropertiesSet();
+
+        assertNull(identityLookup.retrieve("unknown"));
+        assertNull(identityLookup.retrieve("unknown"));
+        assertTrue(identityLookup.retrieveAll(Collections.singletonList("Unknown")).isEmpty());
+
+        assertEquals(1, filters.size());
+    }
+
+    @Test
+    public void shouldRetrieveManyUsersInOneQuery() throws Exception {
+        identityLookup.afterPropertiesSet();
+        identityLookup.retrieve("admin");
+
+        Collection<User> users = identityLookup.retrieveAll(Arrays.asList("admin", "JDoe", "jdoe", "jsmith", "unknown"));
+
+        assertEquals(Arrays.asList("admin", "jdoe", "jsmith"),
+                users.stream().map(User::getUsername).collect(Collectors.toList()));
+        assertEquals(2, filters.size());
+        assertEquals("(&(objectclass=person)(|(uid=JDoe)(uid=jsmith)(uid=unknown)))", filters.get(1));
+
+        // every identifier is now cached, whether known or not
+        identityLookup.retrieveAll(Arrays.asList("jdoe", "jsmith", "unknown"));
+        assertEquals(2, filters.size());
+    }
+}
@@ -15,22 +15,28 @@
  */
 package io.gravitee.management.idp.repository.lookup;
 
+import io.gravitee.common.event.Event;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.event.EventManager;
 import io.gravitee.management.idp.api.identity.IdentityLookup;
 import io.gravitee.management.idp.api.identity.User;
 import io.gravitee.management.idp.repository.RepositoryIdentityProvider;
 import io.gravitee.management.idp.repository.lookup.spring.RepositoryIdentityLookupConfiguration;
+import io.gravitee.management.model.UserEntity;
+import io.gravitee.management.service.cache.ReferenceData;
+import io.gravitee.management.service.cache.ReferenceDataCache;
+import io.gravitee.management.service.event.UserEvent;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.UserRepository;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
@@ -38,7 +44,7 @@ import java.util.stream.Collectors;
  * @author GraviteeSource Team
  */
 @Import(RepositoryIdentityLookupConfiguration.class)
-public class RepositoryIdentityLookup implements IdentityLookup<String> {
+public class RepositoryIdentityLookup implements IdentityLookup<String>, InitializingBean, EventListener<UserEvent, UserEntity> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RepositoryIdentityLookup.class);
 
@@ -51,9 +57,89 @@ public class RepositoryIdentityLookup implements IdentityLookup<String> {
         MANAGED_USER_TYPES.add("github");
     }
 
+    private final static int DEFAULT_SEARCH_LIMIT = 20;
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EventManager eventManager;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    private int searchLimit = DEFAULT_SEARCH_LIMIT;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        searchLimit = environment.getProperty("search-limit", Integer.class, DEFAULT_SEARCH_LIMIT);
+
+        eventManager.subscribeForEvents(this, UserEvent.class);
+
+        // Build the index at startup rather than on the first search
+        index();
+    }
+
+    /**
+     * @return the search index, <code>null</code> if the reference data cache is disabled or the index cannot be
+     * built, in which case searches are done against the repository
+     */
+    private UserSearchIndex index() {
+        if (!referenceDataCache.isEnabled()) {
+            return null;
+        }
+
+        try {
+            UserSearchIndex index = referenceDataCache.get(ReferenceData.USERS, this::buildIndex);
+            index.reloadStaleUsers(this::findManagedUser);
+            return index;
+        } catch (TechnicalException te) {
+            LOGGER.error("Unable to index users, searches will be done against the repository", te);
+            return null;
+        }
+    }
+
+    private UserSearchIndex buildIndex() throws TechnicalException {
+        long start = System.currentTimeMillis();
+        UserSearchIndex index = new UserSearchIndex();
+        userRepository.findAll()
+                .stream()
+                .filter(user -> MANAGED_USER_TYPES.contains(user.getSource()))
+                .forEach(user -> index.index(convert(user)));
+        LOGGER.info("{} users indexed for search in {} ms", index.size(), System.currentTimeMillis() - start);
+        return index;
+    }
+
+    private Optional<RepositoryUser> findManagedUser(String username) throws TechnicalException {
+        return userRepository.findByUsername(username)
+                .filter(user -> MANAGED_USER_TYPES.contains(user.getSource()))
+                .map(this::convert);
+    }
+
+    /**
+     * Updates the index with a user created or updated on this node, and notifies the other nodes.
+     */
+    @Override
+    public void onEvent(Event<UserEvent, UserEntity> event) {
+        UserEntity user = event.content();
+        if (user != null) {
+            referenceDataCache.update(ReferenceData.USERS, user.getUsername(), (UserSearchIndex index) -> {
+                if (MANAGED_USER_TYPES.contains(user.getSource())) {
+                    RepositoryUser repositoryUser = new RepositoryUser(user.getUsername());
+                    repositoryUser.setEmail(user.getEmail());
+                    repositoryUser.setFirstname(user.getFirstname());
+                    repositoryUser.setLastname(user.getLastname());
+                    index.index(repositoryUser);
+                } else {
+                    index.remove(user.getUsername());
+                }
+            });
+        }
+    }
+
     @Override
     public io.gravitee.management.idp.api.identity.User retrieve(String id) {
         try {
@@ -70,6 +156,11 @@ public class RepositoryIdentityLookup implements IdentityLookup<String> {
 
     @Override
     public Collection<User> search(String query) {
+        UserSearchIndex index = index();
+        if (index != null) {
+            return index.search(query, searchLimit);
+        }
+
         try {
             return userRepository.findAll().stream().filter(user -> MANAGED_USER_TYPES.contains(user.getSource())).filter(
                     user -> (user.getUsername() != null && StringUtils.containsIgnoreCase(user.getUsername(), query)) ||
@@ -83,7 +174,7 @@ public class RepositoryIdentityLookup implements IdentityLookup<String> {
         }
     }
 
-    private User convert(io.gravitee.repository.management.model.User identity) {
+    private RepositoryUser convert(io.gravitee.repository.management.model.User identity) {
         RepositoryUser user = new RepositoryUser(identity.getUsername());
         user.setEmail(identity.getEmail());
         user.setFirstname(identity.getFirstname());
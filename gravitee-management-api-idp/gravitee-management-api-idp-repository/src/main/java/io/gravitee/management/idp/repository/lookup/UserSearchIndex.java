@@ -0,0 +1,191 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.idp.repository.lookup;
+
+import io.gravitee.management.idp.api.identity.User;
+import io.gravitee.management.service.cache.ReferenceDataCache;
+import io.gravitee.repository.exceptions.TechnicalException;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory prefix index over the username, first name, last name and email of the users managed by the
+ * repository identity provider.
+ *
+ * Each field is lower-cased and indexed both as a whole and split into its words (on spaces, dots, dashes,
+ * underscores and @), so that <code>doe</code> matches <code>john.doe@gravitee.io</code>. Every word of a query
+ * must prefix-match at least one indexed token of a user for the user to be returned.
+ *
+ * The index is kept by the {@link ReferenceDataCache}. A user changed by another node is marked as stale and read
+ * again from the repository before the next search, and removed if it does not exist anymore.
+ *
+ * @author GraviteeSource Team
+ */
+class UserSearchIndex implements ReferenceDataCache.Evictable {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[\\s.@_\\-]+");
+
+    private static final Comparator<Map.Entry<String, Integer>> RANKING =
+            Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+    private final ConcurrentNavigableMap<String, Set<String>> tokens = new ConcurrentSkipListMap<>();
+    private final Map<String, IndexedUser> users = new ConcurrentHashMap<>();
+    private final Set<String> staleUsers = ConcurrentHashMap.newKeySet();
+
+    synchronized void index(RepositoryUser user) {
+        remove(user.getUsername());
+
+        IndexedUser indexedUser = new IndexedUser(user, tokenize(user));
+        users.put(user.getUsername(), indexedUser);
+        indexedUser.tokens.forEach(token ->
+                tokens.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(user.getUsername()));
+    }
+
+    synchronized void remove(String username) {
+        IndexedUser previous = users.remove(username);
+        if (previous != null) {
+            previous.tokens.forEach(token -> tokens.computeIfPresent(token, (key, usernames) -> {
+                usernames.remove(username);
+                return usernames.isEmpty() ? null : usernames;
+            }));
+        }
+    }
+
+    int size() {
+        return users.size();
+    }
+
+    @Override
+    public void evict(String username) {
+        staleUsers.add(username);
+    }
+
+    /**
+     * Reads again the users changed by another node.
+     */
+    void reloadStaleUsers(UserLoader loader) throws TechnicalException {
+        for (Iterator<String> ite = staleUsers.iterator(); ite.hasNext(); ) {
+            String username = ite.next();
+            ite.remove();
+            try {
+                Optional<RepositoryUser> user = loader.load(username);
+                if (user.isPresent()) {
+                    index(user.get());
+                } else {
+                    remove(username);
+                }
+            } catch (TechnicalException te) {
+                staleUsers.add(username);
+                throw te;
+            }
+        }
+    }
+
+    /**
+     * Returns at most <code>limit</code> users matching the query, best matches first. A user scores two points
+     * for each query word equal to one of its tokens and one point for each query word which is only a prefix.
+     * Ties are broken on the username.
+     */
+    List<User> search(String query, int limit) {
+        String[] terms = TOKEN_SEPARATOR.split(query == null ? "" : query.trim().toLowerCase());
+
+        Map<String, Integer> scores = null;
+        for (String term : terms) {
+            if (term.isEmpty()) {
+                continue;
+            }
+
+            Map<String, Integer> termScores = new HashMap<>();
+            tokens.subMap(term, true, term + Character.MAX_VALUE, true).forEach((token, usernames) -> {
+                int score = token.equals(term) ? 2 : 1;
+                usernames.forEach(username -> termScores.merge(username, score, Math::max));
+            });
+
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((username, score) -> score + termScores.get(username));
+            }
+
+            if (scores.isEmpty()) {
+                return Collections.emptyList();
+            }
+        }
+
+        if (scores == null) {
+            return Collections.emptyList();
+        }
+
+        return scores.entrySet()
+                .stream()
+                .sorted(RANKING)
+                .limit(limit)
+                .map(entry -> users.get(entry.getKey()))
+                .filter(Objects::nonNull)
+                .map(indexedUser -> indexedUser.user)
+                .collect(Collectors.toList());
+    }
+
+    private static Set<String> tokenize(RepositoryUser user) {
+        Set<String> userTokens = new HashSet<>();
+        tokenize(userTokens, user.getUsername());
+        tokenize(userTokens, user.getFirstname());
+        tokenize(userTokens, user.getLastname());
+        tokenize(userTokens, user.getEmail());
+        return userTokens;
+    }
+
+    private static void tokenize(Set<String> userTokens, String value) {
+        if (value == null) {
+            return;
+        }
+
+        String lowerValue = value.trim().toLowerCase();
+        if (!lowerValue.isEmpty()) {
+            userTokens.add(lowerValue);
+            for (String token : TOKEN_SEPARATOR.split(lowerValue)) {
+                if (!token.isEmpty()) {
+                    userTokens.add(token);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface UserLoader {
+
+        /**
+         * @return the user, empty if it does not exist anymore or is not managed by the repository
+         */
+        Optional<RepositoryUser> load(String username) throws TechnicalException;
+    }
+
+    private static class IndexedUser {
+        private final RepositoryUser user;
+        private final Set<String> tokens;
+
+        private IndexedUser(RepositoryUser user, Set<String> tokens) {
+            this.user = user;
+            this.tokens = tokens;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.idp.repository.lookup;
+
+import io.gravitee.common.event.EventManager;
+import io.gravitee.common.event.impl.SimpleEvent;
+import io.gravitee.management.idp.api.identity.User;
+import io.gravitee.management.model.UserEntity;
+import io.gravitee.management.service.cache.ReferenceDataCache;
+import io.gravitee.management.service.event.UserEvent;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.EventRepository;
+import io.gravitee.repository.management.api.UserRepository;
+import io.gravitee.repository.management.api.search.EventCriteria;
+import io.gravitee.repository.management.model.Event;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.core.env.Environment;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.invokeMethod;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RepositoryIdentityLookupTest {
+
+    @InjectMocks
+    private RepositoryIdentityLookup lookup = new RepositoryIdentityLookup();
+
+    @Spy
+    private ReferenceDataCache referenceDataCache = new ReferenceDataCache();
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EventManager eventManager;
+
+    @Mock
+    private Environment environment;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Before
+    public void init() throws Exception {
+        setField(referenceDataCache, "enabled", true);
+        setField(referenceDataCache, "eventRepository", eventRepository);
+        when(eventRepository.findById(anyString())).thenReturn(Optional.empty());
+        invokeMethod(referenceDataCache, "refresh");
+
+        when(environment.getProperty("search-limit", Integer.class, 20)).thenReturn(20);
+        when(userRepository.findAll()).thenReturn(new HashSet<>(Arrays.asList(
+                user("jdoe", "gravitee", "John", "Doe"),
+                user("jsmith", "gravitee", "Jane", "Smith"),
+                user("ldap-user", "ldap", "John", "Ldap"))));
+
+        lookup.afterPropertiesSet();
+    }
+
+    @Test
+    public void shouldSearchManagedUsersInIndex() throws TechnicalException {
+        assertEquals(Collections.singletonList("jdoe"), usernames(lookup.search("john")));
+        assertEquals(Collections.singletonList("jsmith"), usernames(lookup.search("smith")));
+
+        verify(userRepository, times(1)).findAll();
+    }
+
+    @Test
+    public void shouldIndexUserUpdatedOnThisNode() throws TechnicalException {
+        UserEntity user = new UserEntity();
+        user.setUsername("jdoe");
+        user.setSource("gravitee");
+        user.setFirstname("John");
+        user.setLastname("Williams");
+
+        lookup.onEvent(new SimpleEvent<>(UserEvent.UPDATE, user));
+
+        assertEquals(Collections.singletonList("jdoe"), usernames(lookup.search("williams")));
+        assertTrue(lookup.search("doe").isEmpty());
+        verify(eventRepository).create(any(Event.class));
+    }
+
+    @Test
+    public void shouldReloadUsersChangedOrDeletedByAnotherNode() throws TechnicalException {
+        when(eventRepository.search(any(EventCriteria.class))).thenReturn(Arrays.asList(
+                change("change-1", "jdoe"), change("change-2", "jsmith")));
+        when(userRepository.findByUsername("jdoe")).thenReturn(Optional.of(user("jdoe", "gravitee", "John", "Williams")));
+        when(userRepository.findByUsername("jsmith")).thenReturn(Optional.empty());
+        invokeMethod(referenceDataCache, "refresh");
+
+        assertEquals(Collections.singletonList("jdoe"), usernames(lookup.search("williams")));
+        assertTrue(lookup.search("smith").isEmpty());
+        verify(userRepository, times(1)).findAll();
+    }
+
+    @Test
+    public void shouldRebuildIndexInvalidatedByAnotherNode() throws TechnicalException {
+        Event marker = new Event();
+        marker.setPayload("token");
+        when(eventRepository.findById("reference-data-users")).thenReturn(Optional.of(marker));
+        when(userRepository.findAll()).thenReturn(Collections.singleton(user("jdoe", "gravitee", "John", "Doe")));
+        invokeMethod(referenceDataCache, "refresh");
+
+        assertTrue(lookup.search("smith").isEmpty());
+        verify(userRepository, times(2)).findAll();
+    }
+
+    @Test
+    public void shouldSearchRepositoryWhenCacheDisabled() throws TechnicalException {
+        setField(referenceDataCache, "enabled", false);
+
+        assertEquals(Collections.singletonList("jsmith"), usernames(lookup.search("smith")));
+        assertEquals(Collections.singletonList("jsmith"), usernames(lookup.search("smith")));
+
+        verify(userRepository, times(3)).findAll();
+    }
+
+    private static List<String> usernames(Collection<User> users) {
+        return users.stream().map(user -> String.valueOf(user.getUsername())).collect(Collectors.toList());
+    }
+
+    private static io.gravitee.repository.management.model.User user(String username, String source,
+                                                                      String firstname, String lastname) {
+        io.gravitee.repository.management.model.User user = new io.gravitee.repository.management.model.User();
+        user.setUsername(username);
+        user.setSource(source);
+        user.setFirstname(firstname);
+        user.setLastname(lastname);
+        return user;
+    }
+
+    private static Event change(String id, String username) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("reference_data", "USERS");
+        properties.put("reference_data_change", "true");
+        properties.put("node", "another-node");
+
+        Event change = new Event();
+        change.setId(id);
+        change.setPayload(username);
+        change.setProperties(properties);
+        return change;
+    }
+}
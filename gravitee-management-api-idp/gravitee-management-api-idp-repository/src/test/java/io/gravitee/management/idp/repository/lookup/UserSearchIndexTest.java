@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.idp.repository.lookup;
+
+import io.gravitee.management.idp.api.identity.User;
+import org.junit.Before;
+import io.gravitee.repository.exceptions.TechnicalException;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class UserSearchIndexTest {
+
+    private UserSearchIndex index;
+
+    @Before
+    public void init() {
+        index = new UserSearchIndex();
+        index.index(user("jdoe", "John", "Doe", "john.doe@gravitee.io"));
+        index.index(user("jsmith", "Jane", "Smith", "jane.smith@gravitee.io"));
+        index.index(user("admin", null, null, null));
+    }
+
+    @Test
+    public void shouldFindByPrefixOfAnyField() {
+        assertEquals("jdoe", index.search("Do", 10).get(0).getUsername());
+        assertEquals("jsmith", index.search("smi", 10).get(0).getUsername());
+        assertEquals("jsmith", index.search("jane.smith@", 10).get(0).getUsername());
+        assertEquals(2, index.search("gravitee", 10).size());
+    }
+
+    @Test
+    public void shouldMatchAllQueryWords() {
+        List<User> users = index.search("j smith", 10);
+
+        assertEquals(1, users.size());
+        assertEquals("jsmith", users.get(0).getUsername());
+    }
+
+    @Test
+    public void shouldRankExactMatchesFirst() {
+        index.index(user("johnny", "Johnny", "Walker", null));
+
+        List<User> users = index.search("john", 10);
+
+        assertEquals(2, users.size());
+        assertEquals("jdoe", users.get(0).getUsername());
+        assertEquals("johnny", users.get(1).getUsername());
+    }
+
+    @Test
+    public void shouldCapResults() {
+        assertEquals(1, index.search("j", 1).size());
+    }
+
+    @Test
+    public void shouldReindexUpdatedUser() {
+        index.index(user("jdoe", "John", "Williams", "john.williams@gravitee.io"));
+
+        assertTrue(index.search("doe", 10).isEmpty());
+        assertEquals("jdoe", index.search("williams", 10).get(0).getUsername());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void shouldReloadEvictedUsers() throws TechnicalException {
+        index.evict("jdoe");
+        index.evict("jsmith");
+
+        index.reloadStaleUsers(username -> "jdoe".equals(username) ?
+                Optional.of(user("jdoe", "John", "Williams", null)) : Optional.empty());
+
+        assertEquals("jdoe", index.search("williams", 10).get(0).getUsername());
+        assertTrue(index.search("smith", 10).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void shouldKeepEvictedUserStaleWhenReloadFails() throws TechnicalException {
+        index.evict("jsmith");
+
+        try {
+            index.reloadStaleUsers(username -> {
+                throw new TechnicalException();
+            });
+        } catch (TechnicalException te) {
+            // expected
+        }
+        index.reloadStaleUsers(username -> Optional.empty());
+
+        assertTrue(index.search("smith", 10).isEmpty());
+    }
+
+    @Test
+    public void shouldNotFindUnknownOrEmptyQuery() {
+        assertTrue(index.search("unknown", 10).isEmpty());
+        assertTrue(index.search("  ", 10).isEmpty());
+        assertTrue(index.search(null, 10).isEmpty());
+    }
+
+    private static RepositoryUser user(String username, String firstname, String lastname, String email) {
+        RepositoryUser user = new RepositoryUser(username);
+        user.setFirstname(firstname);
+        user.setLastname(lastname);
+        user.setEmail(email);
+        return user;
+    }
+}
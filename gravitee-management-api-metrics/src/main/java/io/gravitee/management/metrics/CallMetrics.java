@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Count, error count and histogram of a recorded value, such as the latency of a repository method or the number
+ * of repository calls made by an HTTP request.
+ *
+ * @author GraviteeSource Team
+ */
+public class CallMetrics {
+
+    /**
+     * Latency buckets, in milliseconds.
+     */
+    public static final long[] LATENCY_BUCKETS = {1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000};
+
+    private final long[] bounds;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+    private final LongAdder[] histogram;
+
+    /**
+     * @param bounds inclusive upper bounds of the histogram buckets, in ascending order. An additional bucket holds
+     *               every value greater than the last bound.
+     */
+    public CallMetrics(long[] bounds) {
+        this.bounds = bounds;
+        this.histogram = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = new LongAdder();
+        }
+    }
+
+    public void record(long value, boolean error) {
+        count.increment();
+        if (error) {
+            errors.increment();
+        }
+        total.add(value);
+        max.accumulate(value);
+        histogram[bucket(value)].increment();
+    }
+
+    private int bucket(long value) {
+        for (int i = 0; i < bounds.length; i++) {
+            if (value <= bounds[i]) {
+                return i;
+            }
+        }
+        return bounds.length;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getTotal() {
+        return total.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public long getAverage() {
+        long calls = getCount();
+        return calls == 0 ? 0 : getTotal() / calls;
+    }
+
+    public long[] getBounds() {
+        return bounds.clone();
+    }
+
+    /**
+     * Estimates a percentile from the histogram: the result is the upper bound of the bucket holding the requested
+     * rank, or the maximum recorded value when it falls beyond the last bound.
+     *
+     * @param percentile the percentile to estimate, between 0 and 100
+     */
+    public long getPercentile(double percentile) {
+        long[] values = getHistogram();
+        long count = 0;
+        for (long value : values) {
+            count += value;
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            seen += values[i];
+            if (seen >= rank) {
+                return Math.min(bounds[i], getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * @return the number of values per bucket, the last element being the number of values greater than the last
+     * bound.
+     */
+    public long[] getHistogram() {
+        long[] values = new long[histogram.length];
+        for (int i = 0; i < histogram.length; i++) {
+            values[i] = histogram[i].sum();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,32 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.metrics;
+
+import java.util.Map;
+
+/**
+ * A component exposing its own counters (cache hits and misses, evictions...). Every bean implementing this
+ * interface is listed by the node metrics endpoint.
+ *
+ * @author GraviteeSource Team
+ */
+public interface CounterSource {
+
+    /**
+     * @return the current value of each counter, by name
+     */
+    Map<String, Long> getCounters();
+}
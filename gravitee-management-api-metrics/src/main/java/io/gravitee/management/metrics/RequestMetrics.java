@@ -0,0 +1,73 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the latency of each REST resource method, in milliseconds, along with the number of requests being
+ * handled.
+ *
+ * @author GraviteeSource Team
+ */
+public class RequestMetrics {
+
+    private final ConcurrentMap<String, CallMetrics> resources = new ConcurrentHashMap<>();
+
+    private final LongAdder inFlight = new LongAdder();
+
+    /**
+     * Marks the start of a request.
+     *
+     * @return the start time, to give back to {@link #stop(String, long, boolean)}
+     */
+    public long start() {
+        inFlight.increment();
+        return System.nanoTime();
+    }
+
+    /**
+     * Marks the end of a request started by {@link #start()}.
+     *
+     * @param resource the resource method which handled the request, <code>null</code> if it did not match any
+     */
+    public void stop(String resource, long start, boolean error) {
+        inFlight.decrement();
+        if (resource != null) {
+            metrics(resource).record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), error);
+        }
+    }
+
+    public CallMetrics metrics(String resource) {
+        return resources.computeIfAbsent(resource, name -> new CallMetrics(CallMetrics.LATENCY_BUCKETS));
+    }
+
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    /**
+     * @return the metrics of all the resource methods called so far, by resource method.
+     */
+    public Map<String, CallMetrics> getResources() {
+        return new TreeMap<>(resources);
+    }
+}
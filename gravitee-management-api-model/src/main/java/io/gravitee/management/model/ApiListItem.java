@@ -20,6 +20,7 @@ import io.gravitee.common.component.Lifecycle;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -69,6 +70,8 @@ public class ApiListItem {
 
     private int numberOfRatings;
 
+    private Map<String, String> metadata;
+
     public String getId() {
         return id;
     }
@@ -205,6 +208,14 @@ public class ApiListItem {
         this.numberOfRatings = numberOfRatings;
     }
 
+    public Map<String, String> getMetadata() {
+        return metadata;
+    }
+
+    public void setMetadata(Map<String, String> metadata) {
+        this.metadata = metadata;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,192 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.repository.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.repository.exceptions.TechnicalException;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Read-through cache of a single kind of repository entity, looked up by id.
+ *
+ * Entities are first searched in the cache of the current request (see {@link EntityCacheManager#startRequest()}),
+ * then in a cache shared by all the threads, bounded in size and time. As repository models are mutable, the
+ * cached instances are never returned: callers always get a copy.
+ *
+ * @author GraviteeSource Team
+ */
+public class EntityCache<V> {
+
+    private final String name;
+    private final EntityCacheManager manager;
+    private final UnaryOperator<V> copier;
+    private final Function<V, String> keyMapper;
+    private final Cache<String, V> cache;
+
+    /**
+     * Incremented on every invalidation so that a value loaded concurrently with a write is never kept.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    EntityCache(String name, EntityCacheManager manager, UnaryOperator<V> copier, Function<V, String> keyMapper,
+                long maxSize, long ttl) {
+        this.name = name;
+        this.manager = manager;
+        this.copier = copier;
+        this.keyMapper = keyMapper;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl, TimeUnit.SECONDS)
+                .build();
+    }
+
+    public Optional<V> get(String key, Loader<Optional<V>> loader) throws TechnicalException {
+        if (!manager.isEnabled()) {
+            return loader.load();
+        }
+
+        V value = lookup(key);
+        if (value != null) {
+            return Optional.of(copier.apply(value));
+        }
+
+        long stamp = invalidations.get();
+        Optional<V> loaded = loader.load();
+        loaded.ifPresent(v -> store(key, v, stamp));
+        return loaded;
+    }
+
+    /**
+     * Returns the entities with the given ids, only loading the ones which are not cached yet.
+     */
+    public Set<V> getAll(Collection<String> keys, BulkLoader<V> loader) throws TechnicalException {
+        if (!manager.isEnabled() || keys == null) {
+            return loader.load(keys == null ? null : new ArrayList<>(keys));
+        }
+
+        Set<V> values = new HashSet<>();
+        List<String> missingKeys = new ArrayList<>();
+        for (String key : new LinkedHashSet<>(keys)) {
+            V value = lookup(key);
+            if (value != null) {
+                values.add(copier.apply(value));
+            } else {
+                missingKeys.add(key);
+            }
+        }
+
+        if (!missingKeys.isEmpty()) {
+            long stamp = invalidations.get();
+            for (V value : loader.load(missingKeys)) {
+                store(keyMapper.apply(value), value, stamp);
+                values.add(value);
+            }
+        }
+
+        return values;
+    }
+
+    public void invalidate(String key) {
+        if (manager.isEnabled() && key != null) {
+            invalidations.incrementAndGet();
+            cache.invalidate(key);
+            Map<String, Object> requestCache = manager.requestCache(name);
+            if (requestCache != null) {
+                requestCache.remove(key);
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @SuppressWarnings("unchecked")
+    private V lookup(String key) {
+        Map<String, Object> requestCache = manager.requestCache(name);
+        V value = (requestCache == null) ? null : (V) requestCache.get(key);
+        if (value == null) {
+            value = cache.getIfPresent(key);
+            if (value != null && requestCache != null) {
+                requestCache.put(key, value);
+            }
+        }
+
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    private void store(String key, V value, long stamp) {
+        if (key == null || stamp != invalidations.get()) {
+            return;
+        }
+
+        // The loaded instance is returned to the caller, so keep a copy of it
+        V copy = copier.apply(value);
+        cache.put(key, copy);
+
+        if (stamp != invalidations.get()) {
+            // Invalidated while storing
+            cache.invalidate(key);
+        } else {
+            Map<String, Object> requestCache = manager.requestCache(name);
+            if (requestCache != null) {
+                requestCache.put(key, copy);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getSize() {
+        return cache.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws TechnicalException;
+    }
+
+    @FunctionalInterface
+    public interface BulkLoader<V> {
+        Set<V> load(List<String> keys) throws TechnicalException;
+    }
+}
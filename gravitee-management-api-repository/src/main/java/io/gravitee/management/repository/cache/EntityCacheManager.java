@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.repository.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Creates the {@link EntityCache}s used by the repository proxies and holds the cache of the request being handled
+ * by the current thread.
+ *
+ * @author GraviteeSource Team
+ */
+public class EntityCacheManager {
+
+    private final ThreadLocal<Map<String, Map<String, Object>>> requestCaches = new ThreadLocal<>();
+    private final Map<String, EntityCache<?>> caches = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+    private final long maxSize;
+    private final long ttl;
+
+    /**
+     * @param enabled whether the entities are cached or not.
+     * @param maxSize the maximum number of entities kept by each cache.
+     * @param ttl the time (in seconds) an entity is kept after being loaded.
+     */
+    public EntityCacheManager(boolean enabled, long maxSize, long ttl) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public <V> EntityCache<V> create(String name, UnaryOperator<V> copier, Function<V, String> keyMapper) {
+        EntityCache<V> cache = new EntityCache<>(name, this, copier, keyMapper, maxSize, ttl);
+        caches.put(name, cache);
+        return cache;
+    }
+
+    public Map<String, EntityCache<?>> getCaches() {
+        return caches;
+    }
+
+    /**
+     * Starts caching the entities read by the current thread until {@link #stopRequest()} is called.
+     */
+    public void startRequest() {
+        if (enabled) {
+            requestCaches.set(new HashMap<>());
+        }
+    }
+
+    public void stopRequest() {
+        requestCaches.remove();
+    }
+
+    Map<String, Object> requestCache(String name) {
+        Map<String, Map<String, Object>> caches = requestCaches.get();
+        return (caches == null) ? null : caches.computeIfAbsent(name, key -> new HashMap<>());
+    }
+}
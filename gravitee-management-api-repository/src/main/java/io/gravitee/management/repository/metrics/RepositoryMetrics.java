@@ -0,0 +1,145 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.repository.metrics;
+
+import io.gravitee.management.metrics.CallMetrics;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects per repository and per method call metrics, as well as the number of repository calls made by each
+ * HTTP request.
+ *
+ * @author GraviteeSource Team
+ */
+public class RepositoryMetrics {
+
+    /**
+     * Buckets of the number of repository calls made by a single HTTP request.
+     */
+    public static final long[] REQUEST_CALLS_BUCKETS = {0, 1, 2, 5, 10, 20, 50, 100, 200};
+
+    private final ConcurrentMap<String, ConcurrentMap<String, CallMetrics>> repositories = new ConcurrentHashMap<>();
+
+    private final CallMetrics requests = new CallMetrics(REQUEST_CALLS_BUCKETS);
+
+    private final boolean enabled;
+
+    public RepositoryMetrics() {
+        this(true);
+    }
+
+    public RepositoryMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Wraps a repository implementation so that every call to one of the repository interfaces implemented by
+     * the given proxy class is recorded.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T instrument(T target, Class<?> proxyClass) {
+        if (!enabled || target == null) {
+            return target;
+        }
+
+        Class<?>[] interfaces = Arrays.stream(ClassUtils.getAllInterfacesForClass(target.getClass()))
+                .filter(itf -> itf.isAssignableFrom(proxyClass))
+                .toArray(Class<?>[]::new);
+        if (interfaces.length == 0) {
+            return target;
+        }
+
+        return (T) Proxy.newProxyInstance(target.getClass().getClassLoader(), interfaces,
+                new InstrumentedRepository(interfaces[0].getSimpleName(), target));
+    }
+
+    public CallMetrics metrics(String repository, String method) {
+        return repositories
+                .computeIfAbsent(repository, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, name -> new CallMetrics(CallMetrics.LATENCY_BUCKETS));
+    }
+
+    public void record(String repository, String method, long nanos, boolean error) {
+        metrics(repository, method).record(TimeUnit.NANOSECONDS.toMillis(nanos), error);
+        RequestCalls.record(repository, method, nanos);
+    }
+
+    public void record(RequestCalls requestCalls) {
+        requests.record(requestCalls.getCount(), false);
+    }
+
+    /**
+     * @return the metrics of all the methods called so far, by repository and method name.
+     */
+    public Map<String, Map<String, CallMetrics>> getRepositories() {
+        Map<String, Map<String, CallMetrics>> snapshot = new TreeMap<>();
+        repositories.forEach((repository, methods) -> snapshot.put(repository, new TreeMap<>(methods)));
+        return snapshot;
+    }
+
+    /**
+     * @return the distribution of the number of repository calls per HTTP request.
+     */
+    public CallMetrics getRequests() {
+        return requests;
+    }
+
+    private class InstrumentedRepository implements InvocationHandler {
+
+        private final String repository;
+        private final Object target;
+
+        private InstrumentedRepository(String repository, Object target) {
+            this.repository = repository;
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(target, args);
+            }
+
+            // Some methods are declared by non-public parent interfaces (ie. CrudRepository)
+            ReflectionUtils.makeAccessible(method);
+
+            long start = System.nanoTime();
+            boolean error = false;
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ite) {
+                error = true;
+                throw ite.getCause();
+            } finally {
+                record(repository, method.getName(), System.nanoTime() - start, error);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.repository.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository calls made by the current thread while handling a single HTTP request.
+ *
+ * @author GraviteeSource Team
+ */
+public final class RequestCalls {
+
+    private static final ThreadLocal<RequestCalls> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> calls = new TreeMap<>();
+    private int count;
+    private long time;
+
+    private RequestCalls() {
+    }
+
+    /**
+     * Starts collecting the repository calls made by the current thread.
+     */
+    public static void start() {
+        CURRENT.set(new RequestCalls());
+    }
+
+    /**
+     * Stops collecting the repository calls made by the current thread.
+     *
+     * @return the calls collected since {@link #start()}, or <code>null</code> if nothing was being collected.
+     */
+    public static RequestCalls stop() {
+        RequestCalls requestCalls = CURRENT.get();
+        CURRENT.remove();
+        return requestCalls;
+    }
+
+    /**
+     * Continues collecting, on the current thread, the calls of a request handed over by another thread.
+     *
+     * @param requestCalls the calls returned by {@link #stop()} on the other thread, may be <code>null</code>
+     */
+    public static void resume(RequestCalls requestCalls) {
+        if (requestCalls != null) {
+            CURRENT.set(requestCalls);
+        }
+    }
+
+    static void record(String repository, String method, long nanos) {
+        RequestCalls requestCalls = CURRENT.get();
+        if (requestCalls != null) {
+            requestCalls.count++;
+            requestCalls.time += nanos;
+            requestCalls.calls.merge(repository + '.' + method, 1, Integer::sum);
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return the time spent in the repositories, in milliseconds.
+     */
+    public long getTime() {
+        return TimeUnit.NANOSECONDS.toMillis(time);
+    }
+
+    /**
+     * @return the number of calls per repository method (ie. <code>ApiRepository.findById</code>).
+     */
+    public Map<String, Integer> getCalls() {
+        return calls;
+    }
+
+    @Override
+    public String toString() {
+        return count + " calls in " + getTime() + " ms " + calls;
+    }
+}
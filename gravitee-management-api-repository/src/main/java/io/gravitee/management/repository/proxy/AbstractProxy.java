@@ -15,6 +15,9 @@
  */
 package io.gravitee.management.repository.proxy;
 
+import io.gravitee.management.repository.metrics.RepositoryMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
@@ -23,7 +26,10 @@ public abstract class AbstractProxy<T> {
 
     protected T target;
 
+    @Autowired
+    private RepositoryMetrics repositoryMetrics;
+
     public void setTarget(T target) {
-        this.target = target;
+        this.target = repositoryMetrics.instrument(target, getClass());
     }
 }
@@ -15,12 +15,18 @@
  */
 package io.gravitee.management.repository.proxy;
 
+import io.gravitee.management.repository.cache.EntityCache;
+import io.gravitee.management.repository.cache.EntityCacheManager;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApiRepository;
 import io.gravitee.repository.management.model.Api;
 import io.gravitee.repository.management.model.Visibility;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,7 +38,17 @@ import java.util.Set;
  * @author GraviteeSource Team
  */
 @Component
-public class ApiRepositoryProxy extends AbstractProxy<ApiRepository> implements ApiRepository {
+public class ApiRepositoryProxy extends AbstractProxy<ApiRepository> implements ApiRepository, InitializingBean {
+
+    @Autowired
+    private EntityCacheManager entityCacheManager;
+
+    private EntityCache<Api> cache;
+
+    @Override
+    public void afterPropertiesSet() {
+        cache = entityCacheManager.create("api", ApiRepositoryProxy::copy, Api::getId);
+    }
 
     @Override
     public Set<Api> findAll() throws TechnicalException {
@@ -41,22 +57,34 @@ public class ApiRepositoryProxy extends AbstractProxy<ApiRepository> implements
 
     @Override
     public Api create(Api api) throws TechnicalException {
-        return target.create(api);
+        try {
+            return target.create(api);
+        } finally {
+            cache.invalidate(api.getId());
+        }
     }
 
     @Override
     public void delete(String s) throws TechnicalException {
-        target.delete(s);
+        try {
+            target.delete(s);
+        } finally {
+            cache.invalidate(s);
+        }
     }
 
     @Override
     public Optional<Api> findById(String s) throws TechnicalException {
-        return target.findById(s);
+        return cache.get(s, () -> target.findById(s));
     }
 
     @Override
     public Api update(Api api) throws TechnicalException {
-        return target.update(api);
+        try {
+            return target.update(api);
+        } finally {
+            cache.invalidate(api.getId());
+        }
     }
 
     @Override
@@ -66,7 +94,7 @@ public class ApiRepositoryProxy extends AbstractProxy<ApiRepository> implements
 
     @Override
     public Set<Api> findByIds(List<String> ids) throws TechnicalException {
-        return target.findByIds(ids);
+        return cache.getAll(ids, target::findByIds);
     }
 
     @Override
@@ -74,4 +102,11 @@ public class ApiRepositoryProxy extends AbstractProxy<ApiRepository> implements
         return target.findByGroups(groupIds);
     }
 
+    private static Api copy(Api api) {
+        Api copy = new Api(api);
+        copy.setGroups(api.getGroups() == null ? null : new HashSet<>(api.getGroups()));
+        copy.setViews(api.getViews() == null ? null : new HashSet<>(api.getViews()));
+        copy.setLabels(api.getLabels() == null ? null : new ArrayList<>(api.getLabels()));
+        return copy;
+    }
 }
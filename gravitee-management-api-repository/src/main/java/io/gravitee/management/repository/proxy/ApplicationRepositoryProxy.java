@@ -15,12 +15,17 @@
  */
 package io.gravitee.management.repository.proxy;
 
+import io.gravitee.management.repository.cache.EntityCache;
+import io.gravitee.management.repository.cache.EntityCacheManager;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApplicationRepository;
 import io.gravitee.repository.management.model.Application;
 import io.gravitee.repository.management.model.ApplicationStatus;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -31,7 +36,17 @@ import java.util.Set;
  * @author GraviteeSource Team
  */
 @Component
-public class ApplicationRepositoryProxy extends AbstractProxy<ApplicationRepository> implements ApplicationRepository {
+public class ApplicationRepositoryProxy extends AbstractProxy<ApplicationRepository> implements ApplicationRepository, InitializingBean {
+
+    @Autowired
+    private EntityCacheManager entityCacheManager;
+
+    private EntityCache<Application> cache;
+
+    @Override
+    public void afterPropertiesSet() {
+        cache = entityCacheManager.create("application", ApplicationRepositoryProxy::copy, Application::getId);
+    }
 
     @Override
     public Set<Application> findAll(ApplicationStatus... statuses) throws TechnicalException {
@@ -40,27 +55,39 @@ public class ApplicationRepositoryProxy extends AbstractProxy<ApplicationReposit
 
     @Override
     public Application create(Application application) throws TechnicalException {
-        return target.create(application);
+        try {
+            return target.create(application);
+        } finally {
+            cache.invalidate(application.getId());
+        }
     }
 
     @Override
     public void delete(String s) throws TechnicalException {
-        target.delete(s);
+        try {
+            target.delete(s);
+        } finally {
+            cache.invalidate(s);
+        }
     }
 
     @Override
     public Optional<Application> findById(String s) throws TechnicalException {
-        return target.findById(s);
+        return cache.get(s, () -> target.findById(s));
     }
 
     @Override
     public Application update(Application application) throws TechnicalException {
-        return target.update(application);
+        try {
+            return target.update(application);
+        } finally {
+            cache.invalidate(application.getId());
+        }
     }
 
     @Override
     public Set<Application> findByIds(List<String> ids) throws TechnicalException {
-        return target.findByIds(ids);
+        return cache.getAll(ids, target::findByIds);
     }
 
     @Override
@@ -72,4 +99,10 @@ public class ApplicationRepositoryProxy extends AbstractProxy<ApplicationReposit
     public Set<Application> findByName(String partialName) throws TechnicalException {
         return target.findByName(partialName);
     }
+
+    private static Application copy(Application application) {
+        Application copy = new Application(application);
+        copy.setGroups(application.getGroups() == null ? null : new HashSet<>(application.getGroups()));
+        return copy;
+    }
 }
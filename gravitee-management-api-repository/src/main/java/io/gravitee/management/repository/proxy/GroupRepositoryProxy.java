@@ -15,15 +15,20 @@
  */
 package io.gravitee.management.repository.proxy;
 
+import io.gravitee.management.repository.cache.EntityCache;
+import io.gravitee.management.repository.cache.EntityCacheManager;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.GroupRepository;
 import io.gravitee.repository.management.api.MembershipRepository;
 import io.gravitee.repository.management.model.Group;
 import io.gravitee.repository.management.model.Membership;
 import io.gravitee.repository.management.model.MembershipReferenceType;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 
@@ -32,25 +37,48 @@ import java.util.Set;
  * @author GraviteeSource Team
  */
 @Component
-public class GroupRepositoryProxy extends AbstractProxy<GroupRepository> implements GroupRepository {
+public class GroupRepositoryProxy extends AbstractProxy<GroupRepository> implements GroupRepository, InitializingBean {
+
+    @Autowired
+    private EntityCacheManager entityCacheManager;
+
+    private EntityCache<Group> cache;
+
+    @Override
+    public void afterPropertiesSet() {
+        cache = entityCacheManager.create("group", GroupRepositoryProxy::copy, Group::getId);
+    }
+
     @Override
     public Optional<Group> findById(String id) throws TechnicalException {
-        return target.findById(id);
+        return cache.get(id, () -> target.findById(id));
     }
 
     @Override
     public Group create(Group item) throws TechnicalException {
-        return target.create(item);
+        try {
+            return target.create(item);
+        } finally {
+            cache.invalidate(item.getId());
+        }
     }
 
     @Override
     public Group update(Group item) throws TechnicalException {
-        return target.update(item);
+        try {
+            return target.update(item);
+        } finally {
+            cache.invalidate(item.getId());
+        }
     }
 
     @Override
     public void delete(String s) throws TechnicalException {
-        target.delete(s);
+        try {
+            target.delete(s);
+        } finally {
+            cache.invalidate(s);
+        }
     }
 
     @Override
@@ -60,6 +88,17 @@ public class GroupRepositoryProxy extends AbstractProxy<GroupRepository> impleme
 
     @Override
     public Set<Group> findByIds(Set<String> ids) throws TechnicalException {
-        return target.findByIds(ids);
+        return cache.getAll(ids, keys -> target.findByIds(new HashSet<>(keys)));
+    }
+
+    private static Group copy(Group group) {
+        Group copy = new Group();
+        copy.setId(group.getId());
+        copy.setName(group.getName());
+        copy.setAdministrators(group.getAdministrators() == null ? null : new ArrayList<>(group.getAdministrators()));
+        copy.setEventRules(group.getEventRules() == null ? null : new ArrayList<>(group.getEventRules()));
+        copy.setCreatedAt(group.getCreatedAt());
+        copy.setUpdatedAt(group.getUpdatedAt());
+        return copy;
     }
 }
@@ -15,46 +15,85 @@
  */
 package io.gravitee.management.repository.proxy;
 
+import io.gravitee.management.repository.cache.EntityCache;
+import io.gravitee.management.repository.cache.EntityCacheManager;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.MembershipRepository;
 import io.gravitee.repository.management.model.Membership;
 import io.gravitee.repository.management.model.MembershipReferenceType;
 import io.gravitee.repository.management.model.RoleScope;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com) 
  * @author GraviteeSource Team
  */
 @Component
-public class MembershipRepositoryProxy extends AbstractProxy<MembershipRepository> implements MembershipRepository {
+public class MembershipRepositoryProxy extends AbstractProxy<MembershipRepository> implements MembershipRepository, InitializingBean {
+
+    @Autowired
+    private EntityCacheManager entityCacheManager;
+
+    private EntityCache<Membership> cache;
+
+    @Override
+    public void afterPropertiesSet() {
+        cache = entityCacheManager.create("membership", Membership::new, MembershipRepositoryProxy::key);
+    }
+
     @Override
     public Membership create(Membership membership) throws TechnicalException {
-        return target.create(membership);
+        try {
+            return target.create(membership);
+        } finally {
+            cache.invalidate(key(membership));
+        }
     }
 
     @Override
     public Membership update(Membership membership) throws TechnicalException {
-        return target.update(membership);
+        try {
+            return target.update(membership);
+        } finally {
+            cache.invalidate(key(membership));
+        }
     }
 
     @Override
     public void delete(Membership membership) throws TechnicalException {
-        target.delete(membership);
+        try {
+            target.delete(membership);
+        } finally {
+            cache.invalidate(key(membership));
+        }
     }
 
     @Override
     public Set<Membership> findByIds(String userId, MembershipReferenceType referenceType, Set<String> referenceIds) throws TechnicalException {
-        return target.findByIds(userId, referenceType, referenceIds);
+        if (referenceIds == null) {
+            return target.findByIds(userId, referenceType, null);
+        }
+
+        Map<String, String> referenceIdsByKey = new HashMap<>();
+        referenceIds.forEach(referenceId -> referenceIdsByKey.put(key(userId, referenceType, referenceId), referenceId));
+
+        return cache.getAll(referenceIdsByKey.keySet(), keys -> target.findByIds(userId, referenceType,
+                keys.stream().map(referenceIdsByKey::get).collect(Collectors.toSet())));
     }
 
     @Override
     public Optional<Membership> findById(String userId, MembershipReferenceType referenceType, String referenceId) throws TechnicalException {
-        return target.findById(userId, referenceType, referenceId);
+        return cache.get(key(userId, referenceType, referenceId),
+                () -> target.findById(userId, referenceType, referenceId));
     }
 
     @Override
@@ -76,4 +115,12 @@ public class MembershipRepositoryProxy extends AbstractProxy<MembershipRepositor
     public Set<Membership> findByReferencesAndRole(MembershipReferenceType referenceType, List<String> referenceIds, RoleScope roleScope, String roleName) throws TechnicalException {
         return target.findByReferencesAndRole(referenceType, referenceIds, roleScope, roleName);
     }
+
+    private static String key(Membership membership) {
+        return key(membership.getUserId(), membership.getReferenceType(), membership.getReferenceId());
+    }
+
+    private static String key(String userId, MembershipReferenceType referenceType, String referenceId) {
+        return userId + ':' + referenceType + ':' + referenceId;
+    }
 }
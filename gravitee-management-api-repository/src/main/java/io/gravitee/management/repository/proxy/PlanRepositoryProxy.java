@@ -15,11 +15,17 @@
  */
 package io.gravitee.management.repository.proxy;
 
+import io.gravitee.management.repository.cache.EntityCache;
+import io.gravitee.management.repository.cache.EntityCacheManager;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.PlanRepository;
 import io.gravitee.repository.management.model.Plan;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 
@@ -28,25 +34,55 @@ import java.util.Set;
  * @author GraviteeSource Team
  */
 @Component
-public class PlanRepositoryProxy extends AbstractProxy<PlanRepository> implements PlanRepository {
+public class PlanRepositoryProxy extends AbstractProxy<PlanRepository> implements PlanRepository, InitializingBean {
+
+    @Autowired
+    private EntityCacheManager entityCacheManager;
+
+    private EntityCache<Plan> cache;
+
+    @Override
+    public void afterPropertiesSet() {
+        cache = entityCacheManager.create("plan", PlanRepositoryProxy::copy, Plan::getId);
+    }
 
     public Set<Plan> findByApi(String apiId) throws TechnicalException {
         return target.findByApi(apiId);
     }
 
     public Optional<Plan> findById(String s) throws TechnicalException {
-        return target.findById(s);
+        return cache.get(s, () -> target.findById(s));
     }
 
     public Plan create(Plan item) throws TechnicalException {
-        return target.create(item);
+        try {
+            return target.create(item);
+        } finally {
+            cache.invalidate(item.getId());
+        }
     }
 
     public Plan update(Plan item) throws TechnicalException {
-        return target.update(item);
+        try {
+            return target.update(item);
+        } finally {
+            cache.invalidate(item.getId());
+        }
     }
 
     public void delete(String s) throws TechnicalException {
-        target.delete(s);
+        try {
+            target.delete(s);
+        } finally {
+            cache.invalidate(s);
+        }
+    }
+
+    private static Plan copy(Plan plan) {
+        Plan copy = new Plan(plan);
+        copy.setApis(plan.getApis() == null ? null : new HashSet<>(plan.getApis()));
+        copy.setCharacteristics(plan.getCharacteristics() == null ? null : new ArrayList<>(plan.getCharacteristics()));
+        copy.setExcludedGroups(plan.getExcludedGroups() == null ? null : new ArrayList<>(plan.getExcludedGroups()));
+        return copy;
     }
 }
@@ -15,9 +15,13 @@
  */
 package io.gravitee.management.repository.proxy;
 
+import io.gravitee.management.repository.cache.EntityCache;
+import io.gravitee.management.repository.cache.EntityCacheManager;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.UserRepository;
 import io.gravitee.repository.management.model.User;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -30,16 +34,34 @@ import java.util.Set;
  * @author GraviteeSource Team
  */
 @Component
-public class UserRepositoryProxy extends AbstractProxy<UserRepository> implements UserRepository {
+public class UserRepositoryProxy extends AbstractProxy<UserRepository> implements UserRepository, InitializingBean {
+
+    @Autowired
+    private EntityCacheManager entityCacheManager;
+
+    private EntityCache<User> cache;
+
+    @Override
+    public void afterPropertiesSet() {
+        cache = entityCacheManager.create("user", User::new, User::getUsername);
+    }
 
     @Override
     public User create(User user) throws TechnicalException {
-        return target.create(user);
+        try {
+            return target.create(user);
+        } finally {
+            cache.invalidate(user.getUsername());
+        }
     }
 
     @Override
     public User update(User user) throws TechnicalException {
-        return target.update(user);
+        try {
+            return target.update(user);
+        } finally {
+            cache.invalidate(user.getUsername());
+        }
     }
 
     @Override
@@ -49,11 +71,11 @@ public class UserRepositoryProxy extends AbstractProxy<UserRepository> implement
 
     @Override
     public Optional<User> findByUsername(String s) throws TechnicalException {
-        return target.findByUsername(s);
+        return cache.get(s, () -> target.findByUsername(s));
     }
 
     @Override
     public Set<User> findByUsernames(List<String> usernames) throws TechnicalException {
-        return target.findByUsernames(usernames);
+        return cache.getAll(usernames, target::findByUsernames);
     }
 }
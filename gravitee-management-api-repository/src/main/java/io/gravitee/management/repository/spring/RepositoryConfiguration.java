@@ -15,6 +15,12 @@
  */
 package io.gravitee.management.repository.spring;
 
+import io.gravitee.management.metrics.RequestMetrics;
+import io.gravitee.management.metrics.StartupMetrics;
+import io.gravitee.management.repository.cache.EntityCacheManager;
+import io.gravitee.management.repository.metrics.RepositoryMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
@@ -25,4 +31,26 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 @ComponentScan(basePackages = "io.gravitee.management.repository.proxy")
 public class RepositoryConfiguration {
+
+    @Bean
+    public RepositoryMetrics repositoryMetrics(@Value("${metrics.repositories.enabled:true}") boolean enabled) {
+        return new RepositoryMetrics(enabled);
+    }
+
+    @Bean
+    public RequestMetrics requestMetrics() {
+        return new RequestMetrics();
+    }
+
+    @Bean
+    public StartupMetrics startupMetrics() {
+        return new StartupMetrics();
+    }
+
+    @Bean
+    public EntityCacheManager entityCacheManager(@Value("${cache.entities.enabled:false}") boolean enabled,
+                                                 @Value("${cache.entities.maxSize:10000}") long maxSize,
+                                                 @Value("${cache.entities.ttl:30}") long ttl) {
+        return new EntityCacheManager(enabled, maxSize, ttl);
+    }
 }
@@ -0,0 +1,138 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.repository.cache;
+
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.model.Api;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class EntityCacheTest {
+
+    private final EntityCacheManager manager = new EntityCacheManager(true, 100, 60);
+    private final EntityCache<Api> cache = manager.create("api", Api::new, Api::getId);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @After
+    public void stopRequest() {
+        manager.stopRequest();
+    }
+
+    @Test
+    public void shouldLoadOnceAndReturnCopies() throws TechnicalException {
+        Api first = cache.get("api-1", () -> load("api-1")).get();
+        first.setName("updated by caller");
+
+        Api second = cache.get("api-1", () -> load("api-1")).get();
+        assertEquals(1, loads.get());
+        assertEquals("api-1", second.getName());
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void shouldReloadAfterInvalidate() throws TechnicalException {
+        cache.get("api-1", () -> load("api-1"));
+        cache.invalidate("api-1");
+        cache.get("api-1", () -> load("api-1"));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void shouldNotCacheValueLoadedDuringInvalidate() throws TechnicalException {
+        cache.get("api-1", () -> {
+            cache.invalidate("api-1");
+            return load("api-1");
+        });
+        cache.get("api-1", () -> load("api-1"));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void shouldNotCacheMissingEntity() throws TechnicalException {
+        assertFalse(cache.get("api-1", Optional::empty).isPresent());
+        assertTrue(cache.get("api-1", () -> load("api-1")).isPresent());
+    }
+
+    @Test
+    public void shouldOnlyLoadMissingEntities() throws TechnicalException {
+        cache.get("api-1", () -> load("api-1"));
+
+        List<List<String>> requested = new ArrayList<>();
+        Set<Api> apis = cache.getAll(Arrays.asList("api-1", "api-2", "api-3"), keys -> {
+            requested.add(keys);
+            return keys.stream().map(this::api).collect(Collectors.toSet());
+        });
+
+        assertEquals(Collections.singletonList(Arrays.asList("api-2", "api-3")), requested);
+        assertEquals(new HashSet<>(Arrays.asList("api-1", "api-2", "api-3")),
+                apis.stream().map(Api::getId).collect(Collectors.toSet()));
+
+        cache.getAll(Arrays.asList("api-2", "api-3"), keys -> {
+            fail("All the entities must be cached");
+            return Collections.emptySet();
+        });
+    }
+
+    @Test
+    public void shouldUseRequestCacheWhenSharedCacheIsInvalidatedByAnotherThread() throws Exception {
+        manager.startRequest();
+        cache.get("api-1", () -> load("api-1"));
+
+        Thread writer = new Thread(cache::invalidateAll);
+        writer.start();
+        writer.join();
+
+        cache.get("api-1", () -> load("api-1"));
+        assertEquals(1, loads.get());
+
+        manager.stopRequest();
+        cache.get("api-1", () -> load("api-1"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void shouldAlwaysLoadWhenDisabled() throws TechnicalException {
+        EntityCache<Api> disabled = new EntityCacheManager(false, 100, 60).create("api", Api::new, Api::getId);
+
+        disabled.get("api-1", () -> load("api-1"));
+        disabled.get("api-1", () -> load("api-1"));
+
+        assertEquals(2, loads.get());
+    }
+
+    private Optional<Api> load(String id) {
+        loads.incrementAndGet();
+        return Optional.of(api(id));
+    }
+
+    private Api api(String id) {
+        Api api = new Api();
+        api.setId(id);
+        api.setName(id);
+        return api;
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.repository.metrics;
+
+import io.gravitee.management.metrics.CallMetrics;
+import io.gravitee.management.repository.proxy.TagRepositoryProxy;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.TagRepository;
+import io.gravitee.repository.management.model.Tag;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class RepositoryMetricsTest {
+
+    private final RepositoryMetrics repositoryMetrics = new RepositoryMetrics();
+
+    @After
+    public void stopRequest() {
+        RequestCalls.stop();
+    }
+
+    @Test
+    public void shouldRecordCallsAndErrors() throws TechnicalException {
+        TagRepository target = mock(TagRepository.class);
+        when(target.findById("tag")).thenReturn(Optional.of(new Tag()));
+        when(target.findAll()).thenThrow(new TechnicalException());
+
+        TagRepository repository = repositoryMetrics.instrument(target, TagRepositoryProxy.class);
+
+        assertTrue(repository.findById("tag").isPresent());
+        assertTrue(repository.findById("tag").isPresent());
+        try {
+            repository.findAll();
+            fail("findAll must throw the original exception");
+        } catch (TechnicalException te) {
+            // expected
+        }
+
+        CallMetrics findById = repositoryMetrics.getRepositories().get("TagRepository").get("findById");
+        assertEquals(2, findById.getCount());
+        assertEquals(0, findById.getErrors());
+        assertEquals(2, LongStream.of(findById.getHistogram()).sum());
+
+        CallMetrics findAll = repositoryMetrics.getRepositories().get("TagRepository").get("findAll");
+        assertEquals(1, findAll.getCount());
+        assertEquals(1, findAll.getErrors());
+    }
+
+    @Test
+    public void shouldCountCallsOfCurrentRequest() throws TechnicalException {
+        TagRepository repository = repositoryMetrics.instrument(mock(TagRepository.class), TagRepositoryProxy.class);
+        repository.findAll();
+
+        RequestCalls.start();
+        repository.findById("tag");
+        repository.findById("tag");
+        repository.delete("tag");
+        RequestCalls requestCalls = RequestCalls.stop();
+
+        assertEquals(3, requestCalls.getCount());
+        assertEquals(Integer.valueOf(2), requestCalls.getCalls().get("TagRepository.findById"));
+        assertEquals(Integer.valueOf(1), requestCalls.getCalls().get("TagRepository.delete"));
+
+        repositoryMetrics.record(requestCalls);
+        assertEquals(1, repositoryMetrics.getRequests().getCount());
+        assertEquals(3, repositoryMetrics.getRequests().getMax());
+    }
+
+    @Test
+    public void shouldNotInstrumentWhenDisabled() {
+        TagRepository target = mock(TagRepository.class);
+
+        assertSame(target, new RepositoryMetrics(false).instrument(target, TagRepositoryProxy.class));
+    }
+
+    @Test
+    public void shouldEstimatePercentiles() {
+        CallMetrics metrics = new CallMetrics(new long[]{10, 100});
+        assertEquals(0, metrics.getPercentile(99));
+
+        for (int i = 0; i < 90; i++) {
+            metrics.record(5, false);
+        }
+        for (int i = 0; i < 9; i++) {
+            metrics.record(50, false);
+        }
+        metrics.record(500, false);
+
+        assertEquals(10, metrics.getPercentile(50));
+        assertEquals(10, metrics.getPercentile(90));
+        assertEquals(100, metrics.getPercentile(99));
+        assertEquals(500, metrics.getPercentile(100));
+    }
+}
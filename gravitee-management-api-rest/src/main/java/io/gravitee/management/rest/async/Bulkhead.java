@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.rest.async;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounds the number of requests of one kind running, and waiting to run, at the same time.
+ *
+ * A request is rejected right away when the bulkhead is full, and when it has not started before the queue timeout:
+ * the client has most likely given up by then.
+ *
+ * @author GraviteeSource Team
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final Executor executor;
+    private final int threads;
+    private final long queueTimeout;
+
+    private final Semaphore admitted;
+    private final Semaphore running;
+
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+
+    /**
+     * @param executor runs the admitted tasks, it must accept at least <code>threads + queueSize</code> tasks
+     */
+    public Bulkhead(String name, Executor executor, int threads, int queueSize, long queueTimeout) {
+        this.name = name;
+        this.executor = executor;
+        this.threads = threads;
+        this.queueTimeout = queueTimeout;
+        this.admitted = new Semaphore(threads + queueSize);
+        this.running = new Semaphore(threads);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Runs the given task, or the rejection handler if the task can not be run in time. The rejection handler is
+     * called either from the current thread or from the executor.
+     */
+    public void execute(Runnable task, Runnable onRejected) {
+        if (!admitted.tryAcquire()) {
+            rejected.incrementAndGet();
+            onRejected.run();
+            return;
+        }
+
+        final long submittedAt = System.currentTimeMillis();
+        try {
+            executor.execute(() -> {
+                try {
+                    run(task, onRejected, submittedAt);
+                } finally {
+                    admitted.release();
+                }
+            });
+        } catch (RejectedExecutionException ree) {
+            admitted.release();
+            rejected.incrementAndGet();
+            onRejected.run();
+        }
+    }
+
+    private void run(Runnable task, Runnable onRejected, long submittedAt) {
+        boolean started;
+        try {
+            long remaining = queueTimeout - (System.currentTimeMillis() - submittedAt);
+            started = remaining > 0 && running.tryAcquire(remaining, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            started = false;
+        }
+
+        if (!started) {
+            timedOut.incrementAndGet();
+            onRejected.run();
+            return;
+        }
+
+        try {
+            executed.incrementAndGet();
+            task.run();
+        } finally {
+            running.release();
+        }
+    }
+
+    public Map<String, Long> getCounters() {
+        Map<String, Long> counters = new LinkedHashMap<>();
+        counters.put("executed", executed.get());
+        counters.put("rejected", rejected.get());
+        counters.put("timedOut", timedOut.get());
+        counters.put("running", (long) (threads - running.availablePermits()));
+        return counters;
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.rest.async;
+
+import io.gravitee.management.service.exceptions.AbstractManagementException;
+
+import static io.gravitee.common.http.HttpStatusCode.SERVICE_UNAVAILABLE_503;
+
+/**
+ * Raised when a request can not be handled by its bulkhead, either because too many requests are already waiting
+ * or because it has waited too long.
+ *
+ * @author GraviteeSource Team
+ */
+public class BulkheadRejectedException extends AbstractManagementException {
+
+    private final String bulkhead;
+
+    public BulkheadRejectedException(String bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public int getHttpStatusCode() {
+        return SERVICE_UNAVAILABLE_503;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Too many concurrent " + bulkhead + " requests, please retry later.";
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.rest.async;
+
+import io.gravitee.management.metrics.CounterSource;
+import io.gravitee.management.repository.cache.EntityCacheManager;
+import io.gravitee.management.repository.metrics.RequestCalls;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import javax.ws.rs.container.AsyncResponse;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the long-running resources (analytics, logs, health-checks, audit, exports) outside of the HTTP server
+ * threads, one {@link Bulkhead} per kind of resource, so that slow queries can not use up the threads serving the
+ * rest of the console.
+ *
+ * Requests are handed over to the bulkhead with their security context and their repository call tally. When the
+ * asynchronous execution is disabled, resources are run by the HTTP server threads as before.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class Bulkheads implements CounterSource, DisposableBean {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(Bulkheads.class);
+
+    public static final String ANALYTICS = "analytics";
+    public static final String LOGS = "logs";
+    public static final String HEALTH = "health";
+    public static final String AUDIT = "audit";
+    public static final String EXPORT = "export";
+
+    private static final String PROPERTY_PREFIX = "jetty.async.";
+
+    private static final String EXECUTOR_VIRTUAL = "virtual";
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private EntityCacheManager entityCacheManager;
+
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final Map<String, ExecutorService> executors = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the given task in the named bulkhead and resumes the response with its result, or with a 503 error when
+     * the bulkhead is full.
+     */
+    public void execute(String name, AsyncResponse response, Callable<?> task) {
+        if (!environment.getProperty(PROPERTY_PREFIX + "enabled", Boolean.class, true)) {
+            resume(response, task);
+            return;
+        }
+
+        final SecurityContext securityContext = SecurityContextHolder.getContext();
+        final RequestCalls requestCalls = RequestCalls.stop();
+        entityCacheManager.stopRequest();
+
+        bulkheads.computeIfAbsent(name, this::create).execute(() -> {
+            SecurityContextHolder.setContext(securityContext);
+            RequestCalls.resume(requestCalls);
+            entityCacheManager.startRequest();
+            try {
+                resume(response, task);
+            } finally {
+                // Already done by the response filters, unless the response has not been resumed
+                entityCacheManager.stopRequest();
+                RequestCalls.stop();
+                SecurityContextHolder.clearContext();
+            }
+        }, () -> response.resume(new BulkheadRejectedException(name)));
+    }
+
+    private static void resume(AsyncResponse response, Callable<?> task) {
+        try {
+            response.resume(task.call());
+        } catch (Throwable throwable) {
+            response.resume(throwable);
+        }
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        Map<String, Long> counters = new TreeMap<>();
+        bulkheads.forEach((name, bulkhead) ->
+                bulkhead.getCounters().forEach((counter, value) -> counters.put(name + '.' + counter, value)));
+        return counters;
+    }
+
+    @Override
+    public void destroy() {
+        executors.values().forEach(ExecutorService::shutdownNow);
+    }
+
+    private Bulkhead create(String name) {
+        int threads = property(name, "threads", Integer.class, 8);
+        int queueSize = property(name, "queueSize", Integer.class, 100);
+        long queueTimeout = property(name, "queueTimeout", Long.class, 10000L);
+
+        ExecutorService executor = null;
+        if (EXECUTOR_VIRTUAL.equalsIgnoreCase(environment.getProperty(PROPERTY_PREFIX + "executor"))) {
+            executor = virtualThreadExecutor();
+            if (executor == null) {
+                LOGGER.warn("Virtual threads are not supported by this runtime, using platform threads for {} requests", name);
+            }
+        }
+        if (executor == null) {
+            AtomicInteger counter = new AtomicInteger();
+            executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "rest-" + name + '-' + counter.getAndIncrement());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+        executors.put(name, executor);
+
+        LOGGER.info("{} requests are run by {} threads, with up to {} waiting requests", name, threads, queueSize);
+        return new Bulkhead(name, executor, threads, queueSize, queueTimeout);
+    }
+
+    private <T> T property(String bulkhead, String property, Class<T> type, T defaultValue) {
+        return environment.getProperty(PROPERTY_PREFIX + "bulkheads." + bulkhead + '.' + property, type,
+                environment.getProperty(PROPERTY_PREFIX + property, type, defaultValue));
+    }
+
+    /**
+     * Virtual threads are available starting with Java 21, they are looked up so that this code still runs on Java 8.
+     */
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.rest.enhancer;
+
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.management.model.ApiEntity;
+import io.gravitee.management.model.ApplicationEntity;
+import io.gravitee.management.model.PlanEntity;
+import io.gravitee.management.model.SubscriptionEntity;
+import io.gravitee.management.rest.model.Subscription;
+import io.gravitee.management.rest.resource.param.SubscriptionSearchParam;
+import io.gravitee.management.service.ApiService;
+import io.gravitee.management.service.ApplicationService;
+import io.gravitee.management.service.PlanService;
+import io.gravitee.management.service.exceptions.ApplicationNotFoundException;
+import org.springframework.stereotype.Component;
+
+import javax.inject.Inject;
+import javax.ws.rs.core.GenericEntity;
+import javax.ws.rs.core.Response;
+import java.util.*;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Builds the {@link Subscription} views of a list of subscriptions. The applications, plans and APIs of the
+ * subscriptions are loaded once per list instead of once per subscription.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class SubscriptionAssembler {
+
+    @Inject
+    private ApplicationService applicationService;
+
+    @Inject
+    private PlanService planService;
+
+    @Inject
+    private ApiService apiService;
+
+    /**
+     * Filters and sorts the given subscriptions, then builds the views of the requested page if the list is
+     * paginated, or of all the subscriptions otherwise.
+     *
+     * @return a response whose entity is explicitly typed as a {@link Page} if the list is paginated, as a
+     * {@link List} otherwise
+     */
+    public Response search(Collection<SubscriptionEntity> subscriptions, SubscriptionSearchParam param) {
+        if (param.isPaginated()) {
+            return Response.ok(new GenericEntity<Page<Subscription>>(page(subscriptions, param)) {}).build();
+        }
+        return Response.ok(new GenericEntity<List<Subscription>>(list(subscriptions, param)) {}).build();
+    }
+
+    /**
+     * Filters and sorts the given subscriptions, then builds the views of all of them.
+     */
+    public List<Subscription> list(Collection<SubscriptionEntity> subscriptions, SubscriptionSearchParam param) {
+        return assemble(filter(subscriptions, param));
+    }
+
+    /**
+     * Filters, sorts and paginates the given subscriptions, then builds the views of the requested page only.
+     */
+    public Page<Subscription> page(Collection<SubscriptionEntity> subscriptions, SubscriptionSearchParam param) {
+        param.validate();
+
+        final List<SubscriptionEntity> filtered = filter(subscriptions, param);
+
+        final int from = (int) Math.min((long) (param.getPage() - 1) * param.getSize(), filtered.size());
+        final int to = (int) Math.min((long) from + param.getSize(), filtered.size());
+        final List<Subscription> content = assemble(filtered.subList(from, to));
+
+        return new Page<>(content, param.getPage(), content.size(), filtered.size());
+    }
+
+    private static List<SubscriptionEntity> filter(Collection<SubscriptionEntity> subscriptions, SubscriptionSearchParam param) {
+        return subscriptions.stream()
+                .filter(param::accept)
+                .sorted(param.comparator())
+                .collect(toList());
+    }
+
+    public Subscription assemble(SubscriptionEntity subscription) {
+        return assemble(Collections.singletonList(subscription)).get(0);
+    }
+
+    public List<Subscription> assemble(List<SubscriptionEntity> subscriptions) {
+        if (subscriptions.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // The plan repository can not be queried by ids, but a page only refers to a few plans
+        final Map<String, PlanEntity> plans = new HashMap<>();
+        subscriptions.forEach(subscription ->
+                plans.computeIfAbsent(subscription.getPlan(), planService::findById));
+
+        final Set<String> applicationIds = subscriptions.stream().map(SubscriptionEntity::getApplication).collect(toSet());
+        final Map<String, ApplicationEntity> applications = applicationService.findByIds(applicationIds).stream()
+                .collect(toMap(ApplicationEntity::getId, Function.identity()));
+
+        final Set<String> apiIds = new HashSet<>();
+        plans.values().forEach(plan -> {
+            if (plan.getApis() != null) {
+                apiIds.addAll(plan.getApis());
+            }
+        });
+        final Map<String, ApiEntity> apis = apiService.findByIds(apiIds).stream()
+                .collect(toMap(ApiEntity::getId, Function.identity()));
+
+        return subscriptions.stream()
+                .map(subscription -> convert(subscription, plans, applications, apis))
+                .collect(toList());
+    }
+
+    private Subscription convert(SubscriptionEntity subscriptionEntity, Map<String, PlanEntity> plans,
+                                 Map<String, ApplicationEntity> applications, Map<String, ApiEntity> apis) {
+        Subscription subscription = new Subscription();
+
+        subscription.setId(subscriptionEntity.getId());
+        subscription.setCreatedAt(subscriptionEntity.getCreatedAt());
+        subscription.setUpdatedAt(subscriptionEntity.getUpdatedAt());
+        subscription.setStartingAt(subscriptionEntity.getStartingAt());
+        subscription.setEndingAt(subscriptionEntity.getEndingAt());
+        subscription.setProcessedAt(subscriptionEntity.getProcessedAt());
+        subscription.setProcessedBy(subscriptionEntity.getProcessedBy());
+        subscription.setReason(subscriptionEntity.getReason());
+        subscription.setStatus(subscriptionEntity.getStatus());
+        subscription.setSubscribedBy(subscriptionEntity.getSubscribedBy());
+
+        ApplicationEntity application = applications.get(subscriptionEntity.getApplication());
+        if (application == null) {
+            throw new ApplicationNotFoundException(subscriptionEntity.getApplication());
+        }
+        subscription.setApplication(
+                new Subscription.Application(
+                        application.getId(),
+                        application.getName(),
+                        application.getType(),
+                        new Subscription.Owner(
+                                application.getPrimaryOwner().getUsername(),
+                                application.getPrimaryOwner().getFirstname(),
+                                application.getPrimaryOwner().getLastname()
+                        )
+                ));
+
+        PlanEntity plan = plans.get(subscriptionEntity.getPlan());
+        subscription.setPlan(new Subscription.Plan(plan.getId(), plan.getName()));
+
+        if (plan.getApis() != null) {
+            subscription.getPlan().setApis(plan.getApis().stream()
+                    .map(apis::get)
+                    .filter(Objects::nonNull)
+                    .map(api -> new Subscription.Api(api.getId(), api.getName(), api.getVersion()))
+                    .collect(toList()));
+        }
+
+        subscription.setClosedAt(subscriptionEntity.getClosedAt());
+
+        return subscription;
+    }
+}
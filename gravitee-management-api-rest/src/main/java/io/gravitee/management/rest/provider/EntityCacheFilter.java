@@ -0,0 +1,50 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.rest.provider;
+
+import io.gravitee.management.repository.cache.EntityCacheManager;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.PreMatching;
+import javax.ws.rs.ext.Provider;
+import java.io.IOException;
+
+/**
+ * Scopes the first level entity cache of the repositories to the request being handled.
+ *
+ * @author GraviteeSource Team
+ */
+@Provider
+@PreMatching
+public class EntityCacheFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    @Autowired
+    private EntityCacheManager entityCacheManager;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) throws IOException {
+        entityCacheManager.startRequest();
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
+        entityCacheManager.stopRequest();
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.rest.provider;
+
+import io.gravitee.management.repository.metrics.RepositoryMetrics;
+import io.gravitee.management.repository.metrics.RequestCalls;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.PreMatching;
+import javax.ws.rs.ext.Provider;
+import java.io.IOException;
+
+/**
+ * Counts the repository calls made while handling each request so that N+1 access patterns can be spotted.
+ *
+ * When <code>metrics.repositories.debug</code> is enabled, the tally is returned in the
+ * <code>X-Gravitee-Repository-Calls</code> and <code>X-Gravitee-Repository-Time</code> response headers.
+ *
+ * @author GraviteeSource Team
+ */
+@Provider
+@PreMatching
+public class RepositoryCallsFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(RepositoryCallsFilter.class);
+
+    static final String REPOSITORY_CALLS_HEADER = "X-Gravitee-Repository-Calls";
+    static final String REPOSITORY_TIME_HEADER = "X-Gravitee-Repository-Time";
+
+    @Autowired
+    private RepositoryMetrics repositoryMetrics;
+
+    @Autowired
+    private Environment environment;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) throws IOException {
+        if (repositoryMetrics.isEnabled()) {
+            RequestCalls.start();
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
+        RequestCalls requestCalls = RequestCalls.stop();
+        if (requestCalls == null) {
+            return;
+        }
+
+        repositoryMetrics.record(requestCalls);
+        LOGGER.debug("{} {}: {}", requestContext.getMethod(), requestContext.getUriInfo().getPath(), requestCalls);
+
+        if (environment.getProperty("metrics.repositories.debug", Boolean.class, false)) {
+            responseContext.getHeaders().putSingle(REPOSITORY_CALLS_HEADER, requestCalls.getCount());
+            responseContext.getHeaders().putSingle(REPOSITORY_TIME_HEADER, requestCalls.getTime());
+        }
+    }
+}
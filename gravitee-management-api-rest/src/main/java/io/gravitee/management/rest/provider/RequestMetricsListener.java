@@ -0,0 +1,69 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.rest.provider;
+
+import io.gravitee.management.metrics.RequestMetrics;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.model.Invocable;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.ws.rs.ext.Provider;
+
+/**
+ * Records the latency of each resource method, and the number of requests being handled, for the node metrics
+ * endpoint. Requests answered with a server error, or failing without any response, are counted as errors.
+ *
+ * A request is stopped on the <code>FINISHED</code> event, which Jersey fires whatever the outcome of the request:
+ * unlike a response filter, it is not skipped when the processing fails.
+ *
+ * @author GraviteeSource Team
+ */
+@Provider
+public class RequestMetricsListener implements ApplicationEventListener {
+
+    @Autowired
+    private RequestMetrics requestMetrics;
+
+    @Override
+    public void onEvent(ApplicationEvent event) {
+    }
+
+    @Override
+    public RequestEventListener onRequest(RequestEvent requestEvent) {
+        final long start = requestMetrics.start();
+        return event -> {
+            if (event.getType() == RequestEvent.Type.FINISHED) {
+                ContainerResponse response = event.getContainerResponse();
+                requestMetrics.stop(resource(event), start, response == null || response.getStatus() >= 500);
+            }
+        };
+    }
+
+    private static String resource(RequestEvent event) {
+        ResourceMethod resourceMethod = event.getUriInfo().getMatchedResourceMethod();
+        if (resourceMethod == null) {
+            // The request did not match any resource method
+            return null;
+        }
+        Invocable invocable = resourceMethod.getInvocable();
+        return invocable.getHandler().getHandlerClass().getSimpleName() + '.' + invocable.getDefinitionMethod().getName();
+    }
+}
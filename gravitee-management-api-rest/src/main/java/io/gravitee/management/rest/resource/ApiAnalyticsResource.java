@@ -23,6 +23,7 @@ import io.gravitee.management.model.analytics.query.AggregationType;
 import io.gravitee.management.model.analytics.query.CountQuery;
 import io.gravitee.management.model.analytics.query.DateHistogramQuery;
 import io.gravitee.management.model.analytics.query.GroupByQuery;
+import io.gravitee.management.rest.async.Bulkheads;
 import io.gravitee.management.rest.resource.param.Aggregation;
 import io.gravitee.management.rest.resource.param.AnalyticsParam;
 import io.gravitee.management.rest.resource.param.Range;
@@ -37,6 +38,8 @@ import javax.ws.rs.BeanParam;
 import javax.ws.rs.GET;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Response;
 import java.util.List;
 import java.util.Map;
@@ -54,32 +57,38 @@ public class ApiAnalyticsResource extends AbstractResource {
     @Inject
     private AnalyticsService analyticsService;
 
+    @Inject
+    private Bulkheads bulkheads;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation("Get API analytics")
     @Permissions({
             @Permission(value = RolePermission.API_ANALYTICS, acls = RolePermissionAction.READ)
     })
-    public Response hits(
+    public void hits(
             @PathParam("api") String api,
-            @BeanParam AnalyticsParam analyticsParam) {
+            @BeanParam AnalyticsParam analyticsParam,
+            @Suspended AsyncResponse response) {
         analyticsParam.validate();
 
-        Analytics analytics = null;
-
-        switch(analyticsParam.getType()) {
-            case DATE_HISTO:
-                analytics = executeDateHisto(api, analyticsParam);
-                break;
-            case GROUP_BY:
-                analytics = executeGroupBy(api, analyticsParam);
-                break;
-            case COUNT:
-                analytics = executeCount(api, analyticsParam);
-                break;
-        }
-
-        return Response.ok(analytics).build();
+        bulkheads.execute(Bulkheads.ANALYTICS, response, () -> {
+            Analytics analytics = null;
+
+            switch(analyticsParam.getType()) {
+                case DATE_HISTO:
+                    analytics = executeDateHisto(api, analyticsParam);
+                    break;
+                case GROUP_BY:
+                    analytics = executeGroupBy(api, analyticsParam);
+                    break;
+                case COUNT:
+                    analytics = executeCount(api, analyticsParam);
+                    break;
+            }
+
+            return Response.ok(analytics).build();
+        });
     }
 
     private Analytics executeCount(String api, AnalyticsParam analyticsParam) {
@@ -24,6 +24,7 @@ import io.gravitee.management.model.healthcheck.Log;
 import io.gravitee.management.model.healthcheck.SearchLogResponse;
 import io.gravitee.management.model.permissions.RolePermission;
 import io.gravitee.management.model.permissions.RolePermissionAction;
+import io.gravitee.management.rest.async.Bulkheads;
 import io.gravitee.management.rest.resource.param.AuditParam;
 import io.gravitee.management.rest.resource.param.healthcheck.HealthcheckFieldParam;
 import io.gravitee.management.rest.resource.param.healthcheck.HealthcheckTypeParam;
@@ -40,6 +41,8 @@ import io.swagger.annotations.ApiResponses;
 
 import javax.inject.Inject;
 import javax.ws.rs.*;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Response;
 import java.util.*;
 
@@ -53,14 +56,19 @@ public class ApiAuditResource extends AbstractResource {
     @Inject
     private AuditService auditService;
 
+    @Inject
+    private Bulkheads bulkheads;
+
     @GET
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
+    @ApiOperation(value = "Get API audit logs", response = MetadataPage.class)
     @Permissions({
             @Permission(value = RolePermission.API_AUDIT, acls = RolePermissionAction.READ)
     })
-    public MetadataPage<AuditEntity> list(@PathParam("api") String api,
-                                          @BeanParam AuditParam param) {
+    public void list(@PathParam("api") String api,
+                     @BeanParam AuditParam param,
+                     @Suspended AsyncResponse response) {
 
         AuditQuery query = new AuditQuery();
         query.setFrom(param.getFrom());
@@ -75,7 +83,7 @@ public class ApiAuditResource extends AbstractResource {
             query.setEvents(Collections.singletonList(param.getEvent()));
         }
 
-        return auditService.search(query);
+        bulkheads.execute(Bulkheads.AUDIT, response, () -> auditService.search(query));
     }
 
     @Path("/events")
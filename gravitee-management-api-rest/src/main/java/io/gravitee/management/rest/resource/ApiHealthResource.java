@@ -24,6 +24,7 @@ import io.gravitee.management.model.healthcheck.Log;
 import io.gravitee.management.model.healthcheck.SearchLogResponse;
 import io.gravitee.management.model.permissions.RolePermission;
 import io.gravitee.management.model.permissions.RolePermissionAction;
+import io.gravitee.management.rest.async.Bulkheads;
 import io.gravitee.management.rest.resource.param.Aggregation;
 import io.gravitee.management.rest.resource.param.AnalyticsAverageParam;
 import io.gravitee.management.rest.resource.param.AnalyticsParam;
@@ -41,6 +42,8 @@ import io.swagger.annotations.ApiResponses;
 
 import javax.inject.Inject;
 import javax.ws.rs.*;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Response;
 import java.util.Collections;
 import java.util.List;
@@ -60,23 +63,29 @@ public class ApiHealthResource extends AbstractResource {
     @Inject
     private HealthCheckService healthCheckService;
 
+    @Inject
+    private Bulkheads bulkheads;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation("Health-check statistics for API")
     @Permissions({
             @Permission(value = RolePermission.API_HEALTH, acls = RolePermissionAction.READ)
     })
-    public Response health(
+    public void health(
             @PathParam("api") String api,
             @QueryParam("type") @DefaultValue("availability") HealthcheckTypeParam healthcheckTypeParam,
-            @QueryParam("field") @DefaultValue("endpoint") HealthcheckFieldParam healthcheckFieldParam) {
-
-        switch (healthcheckTypeParam.getValue()) {
-            case RESPONSE_TIME:
-                return Response.ok(healthCheckService.getResponseTime(api, healthcheckFieldParam.getValue().name())).build();
-            default:
-                return Response.ok(healthCheckService.getAvailability(api, healthcheckFieldParam.getValue().name())).build();
-        }
+            @QueryParam("field") @DefaultValue("endpoint") HealthcheckFieldParam healthcheckFieldParam,
+            @Suspended AsyncResponse response) {
+
+        bulkheads.execute(Bulkheads.HEALTH, response, () -> {
+            switch (healthcheckTypeParam.getValue()) {
+                case RESPONSE_TIME:
+                    return Response.ok(healthCheckService.getResponseTime(api, healthcheckFieldParam.getValue().name())).build();
+                default:
+                    return Response.ok(healthCheckService.getAvailability(api, healthcheckFieldParam.getValue().name())).build();
+            }
+        });
     }
 
     @GET
@@ -86,15 +95,18 @@ public class ApiHealthResource extends AbstractResource {
             @Permission(value = RolePermission.API_HEALTH, acls = RolePermissionAction.READ)
     })
     @Path("/average")
-    public Response healthAverage(
+    public void healthAverage(
             @PathParam("api") String api,
-            @BeanParam AnalyticsAverageParam analyticsAverageParam) {
-        switch (analyticsAverageParam.getType()) {
-            case RESPONSE_TIME:
-                return Response.ok(executeDateHisto(api, analyticsAverageParam)).build();
-            default:
-                return Response.ok(executeDateHisto(api, analyticsAverageParam)).build();
-        }
+            @BeanParam AnalyticsAverageParam analyticsAverageParam,
+            @Suspended AsyncResponse response) {
+        bulkheads.execute(Bulkheads.HEALTH, response, () -> {
+            switch (analyticsAverageParam.getType()) {
+                case RESPONSE_TIME:
+                    return Response.ok(executeDateHisto(api, analyticsAverageParam)).build();
+                default:
+                    return Response.ok(executeDateHisto(api, analyticsAverageParam)).build();
+            }
+        });
     }
 
     private Analytics executeDateHisto(final String api, final AnalyticsAverageParam analyticsAverageParam) {
@@ -133,12 +145,13 @@ public class ApiHealthResource extends AbstractResource {
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "Health-check logs")
     @ApiResponses({
-            @ApiResponse(code = 200, message = "API logs"),
+            @ApiResponse(code = 200, message = "API logs", response = SearchLogResponse.class),
             @ApiResponse(code = 500, message = "Internal server error")})
     @Permissions({@Permission(value = RolePermission.API_HEALTH, acls = RolePermissionAction.READ)})
-    public SearchLogResponse healthcheckLogs(
+    public void healthcheckLogs(
             @PathParam("api") String api,
-            @BeanParam LogsParam param) {
+            @BeanParam LogsParam param,
+            @Suspended AsyncResponse response) {
 
         param.validate();
 
@@ -147,7 +160,7 @@ public class ApiHealthResource extends AbstractResource {
         logQuery.setPage(param.getPage());
         logQuery.setSize(param.getSize());
 
-        return healthCheckService.findByApi(api, logQuery);
+        bulkheads.execute(Bulkheads.HEALTH, response, () -> healthCheckService.findByApi(api, logQuery));
     }
 
     @GET
@@ -155,13 +168,14 @@ public class ApiHealthResource extends AbstractResource {
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "Health-check log")
     @ApiResponses({
-            @ApiResponse(code = 200, message = "Single health-check log"),
+            @ApiResponse(code = 200, message = "Single health-check log", response = Log.class),
             @ApiResponse(code = 500, message = "Internal server error")})
     @Permissions({@Permission(value = RolePermission.API_HEALTH, acls = RolePermissionAction.READ)})
-    public Log healthcheckLog(
+    public void healthcheckLog(
             @PathParam("api") String api,
-            @PathParam("log") String logId) {
+            @PathParam("log") String logId,
+            @Suspended AsyncResponse response) {
 
-        return healthCheckService.findLog(logId);
+        bulkheads.execute(Bulkheads.HEALTH, response, () -> healthCheckService.findLog(logId));
     }
 }
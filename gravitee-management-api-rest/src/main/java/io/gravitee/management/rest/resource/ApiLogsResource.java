@@ -21,6 +21,7 @@ import io.gravitee.management.model.permissions.RolePermissionAction;
 import io.gravitee.management.model.analytics.query.LogQuery;
 import io.gravitee.management.model.log.ApiRequest;
 import io.gravitee.management.model.log.SearchLogResponse;
+import io.gravitee.management.rest.async.Bulkheads;
 import io.gravitee.management.rest.resource.param.LogsParam;
 import io.gravitee.management.rest.security.Permission;
 import io.gravitee.management.rest.security.Permissions;
@@ -32,6 +33,8 @@ import io.swagger.annotations.ApiResponses;
 
 import javax.inject.Inject;
 import javax.ws.rs.*;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -44,16 +47,20 @@ public class ApiLogsResource extends AbstractResource {
     @Inject
     private LogsService logsService;
 
+    @Inject
+    private Bulkheads bulkheads;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "Get API logs")
     @ApiResponses({
-            @ApiResponse(code = 200, message = "API logs"),
+            @ApiResponse(code = 200, message = "API logs", response = SearchLogResponse.class),
             @ApiResponse(code = 500, message = "Internal server error")})
     @Permissions({@Permission(value = RolePermission.API_LOG, acls = RolePermissionAction.READ)})
-    public SearchLogResponse apiLogs(
+    public void apiLogs(
             @PathParam("api") String api,
-            @BeanParam LogsParam param) {
+            @BeanParam LogsParam param,
+            @Suspended AsyncResponse response) {
 
         param.validate();
 
@@ -64,7 +71,7 @@ public class ApiLogsResource extends AbstractResource {
         logQuery.setFrom(param.getFrom());
         logQuery.setTo(param.getTo());
 
-        return logsService.findByApi(api, logQuery);
+        bulkheads.execute(Bulkheads.LOGS, response, () -> logsService.findByApi(api, logQuery));
     }
 
     @GET
@@ -72,12 +79,13 @@ public class ApiLogsResource extends AbstractResource {
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "Get a specific log")
     @ApiResponses({
-            @ApiResponse(code = 200, message = "Single log"),
+            @ApiResponse(code = 200, message = "Single log", response = ApiRequest.class),
             @ApiResponse(code = 500, message = "Internal server error")})
     @Permissions({@Permission(value = RolePermission.API_LOG, acls = RolePermissionAction.READ)})
-    public ApiRequest apiLog(
+    public void apiLog(
             @PathParam("api") String api,
-            @PathParam("log") String logId) {
-        return logsService.findApiLog(logId);
+            @PathParam("log") String logId,
+            @Suspended AsyncResponse response) {
+        bulkheads.execute(Bulkheads.LOGS, response, () -> logsService.findApiLog(logId));
     }
 }
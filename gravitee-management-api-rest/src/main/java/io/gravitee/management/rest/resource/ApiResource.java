@@ -19,10 +19,12 @@ import io.gravitee.common.http.MediaType;
 import io.gravitee.management.model.*;
 import io.gravitee.management.model.permissions.RolePermission;
 import io.gravitee.management.model.permissions.RolePermissionAction;
+import io.gravitee.management.rest.async.Bulkheads;
 import io.gravitee.management.rest.resource.param.LifecycleActionParam;
 import io.gravitee.management.rest.resource.param.LifecycleActionParam.LifecycleAction;
 import io.gravitee.management.rest.security.Permission;
 import io.gravitee.management.rest.security.Permissions;
+import io.gravitee.management.rest.utils.EntityTags;
 import io.gravitee.management.service.ApiService;
 import io.gravitee.management.service.exceptions.ApiNotFoundException;
 import io.gravitee.management.service.exceptions.ForbiddenAccessException;
@@ -32,11 +34,14 @@ import javax.inject.Inject;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.*;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.container.ResourceContext;
 import javax.ws.rs.core.*;
 import javax.ws.rs.core.Response.Status;
 import java.io.ByteArrayOutputStream;
 import java.util.Objects;
+import java.util.TreeSet;
 
 import static java.lang.String.format;
 
@@ -59,6 +64,9 @@ public class ApiResource extends AbstractResource {
     @Inject
     private ApiService apiService;
 
+    @Inject
+    private Bulkheads bulkheads;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "Get the API definition",
@@ -66,21 +74,51 @@ public class ApiResource extends AbstractResource {
     @ApiResponses({
             @ApiResponse(code = 200, message = "API definition", response = ApiEntity.class),
             @ApiResponse(code = 500, message = "Internal server error")})
-    public ApiEntity get(@PathParam("api") String api) throws ApiNotFoundException {
-        ApiEntity apiEntity = apiService.findById(api);
-        if (Visibility.PUBLIC.equals(apiEntity.getVisibility())
-                || hasPermission(RolePermission.API_DEFINITION, api, RolePermissionAction.READ)) {
+    public Response get(@Context Request request, @PathParam("api") String api) throws ApiNotFoundException {
+        ApiEntity apiEntity = find(api);
 
-            setPicture(apiEntity);
+        EntityTag etag = tag(apiEntity).build();
+        Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
+        if (builder != null) {
+            return builder.build();
+        }
 
-            apiEntity.setContextPath(apiEntity.getProxy().getContextPath());
+        return Response.ok(prepare(apiEntity)).tag(etag).build();
+    }
+
+    ApiEntity get(String api) throws ApiNotFoundException {
+        return prepare(find(api));
+    }
 
-            filterSensitiveData(apiEntity);
+    private ApiEntity find(String api) throws ApiNotFoundException {
+        ApiEntity apiEntity = apiService.findById(api);
+        if (Visibility.PUBLIC.equals(apiEntity.getVisibility())
+                || hasPermission(RolePermission.API_DEFINITION, api, RolePermissionAction.READ)) {
             return apiEntity;
         }
         throw new ForbiddenAccessException();
     }
 
+    private ApiEntity prepare(ApiEntity apiEntity) {
+        setPicture(apiEntity);
+
+        apiEntity.setContextPath(apiEntity.getProxy().getContextPath());
+
+        filterSensitiveData(apiEntity);
+        return apiEntity;
+    }
+
+    /**
+     * The returned definition depends on the API and on the data the current user is allowed to see.
+     */
+    private EntityTags tag(ApiEntity apiEntity) {
+        return EntityTags.builder()
+                .add(getAuthenticatedUsernameOrNull(), apiEntity.getId(), apiEntity.getUpdatedAt(),
+                        apiEntity.getDeployedAt(), apiEntity.getState(),
+                        apiEntity.getPrimaryOwner() == null ? null : apiEntity.getPrimaryOwner().getUsername(),
+                        apiEntity.getGroups() == null ? null : new TreeSet<>(apiEntity.getGroups()));
+    }
+
     private void setPicture(final ApiEntity apiEntity) {
         final UriBuilder ub = uriInfo.getAbsolutePathBuilder();
         final UriBuilder uriBuilder = ub.path("picture");
@@ -313,14 +351,25 @@ public class ApiResource extends AbstractResource {
     @Permissions({
             @Permission(value = RolePermission.API_DEFINITION, acls = RolePermissionAction.READ)
     })
-    public Response exportDefinition(@PathParam("api") String api,
-                                     @QueryParam("exclude") @DefaultValue("") String exclude) {
+    public void exportDefinition(@Context Request request,
+                                 @PathParam("api") String api,
+                                 @QueryParam("exclude") @DefaultValue("") String exclude,
+                                 @Suspended AsyncResponse response) {
         final ApiEntity apiEntity = get(api);
+
+        EntityTag etag = tag(apiEntity).add(apiEntity.getRole(), exclude).build();
+        Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
+        if (builder != null) {
+            response.resume(builder.build());
+            return;
+        }
+
         filterSensitiveData(apiEntity);
-        return Response
+        bulkheads.execute(Bulkheads.EXPORT, response, () -> Response
                 .ok(apiService.exportAsJson(api, apiEntity.getRole(), exclude.split(",")))
                 .header(HttpHeaders.CONTENT_DISPOSITION, format("attachment;filename=%s", getExportFilename(apiEntity)))
-                .build();
+                .tag(etag)
+                .build());
     }
 
     @Path("keys")
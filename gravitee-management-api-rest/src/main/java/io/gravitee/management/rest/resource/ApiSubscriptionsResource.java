@@ -19,23 +19,20 @@ import io.gravitee.common.http.MediaType;
 import io.gravitee.management.model.*;
 import io.gravitee.management.model.permissions.RolePermission;
 import io.gravitee.management.model.permissions.RolePermissionAction;
+import io.gravitee.management.rest.enhancer.SubscriptionAssembler;
 import io.gravitee.management.rest.model.Subscription;
-import io.gravitee.management.rest.resource.param.LifecycleActionParam;
+import io.gravitee.management.rest.resource.param.SubscriptionSearchParam;
 import io.gravitee.management.rest.security.Permission;
 import io.gravitee.management.rest.security.Permissions;
 import io.gravitee.management.service.ApiKeyService;
-import io.gravitee.management.service.ApplicationService;
-import io.gravitee.management.service.PlanService;
 import io.gravitee.management.service.SubscriptionService;
 import io.swagger.annotations.*;
 
 import javax.inject.Inject;
-import javax.naming.OperationNotSupportedException;
 import javax.ws.rs.*;
 import javax.ws.rs.core.Response;
 import java.net.URI;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static io.gravitee.management.model.SubscriptionStatus.CLOSED;
 
@@ -50,31 +47,28 @@ public class ApiSubscriptionsResource extends AbstractResource {
     @Inject
     private SubscriptionService subscriptionService;
 
-    @Inject
-    private PlanService planService;
-
     @Inject
     private ApiKeyService apiKeyService;
 
     @Inject
-    private ApplicationService applicationService;
+    private SubscriptionAssembler subscriptionAssembler;
 
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "List subscriptions for the API",
             notes = "User must have the MANAGE_PLANS permission to use this service")
     @ApiResponses({
-            @ApiResponse(code = 200, message = "List of subscriptions", response = Subscription.class, responseContainer = "Set"),
+            @ApiResponse(code = 200, message = "List of subscriptions, or page of subscriptions if page or size is given",
+                    response = Subscription.class, responseContainer = "List"),
+            @ApiResponse(code = 400, message = "Invalid status, pagination or order"),
             @ApiResponse(code = 500, message = "Internal server error")})
     @Permissions({
             @Permission(value = RolePermission.API_SUBSCRIPTION, acls = RolePermissionAction.READ)
     })
-    public Set<Subscription> listApiSubscriptions(
-            @PathParam("api") String api) {
-        return subscriptionService.findByApi(api)
-                .stream()
-                .map(this::convert)
-                .collect(Collectors.toSet());
+    public Response listApiSubscriptions(
+            @PathParam("api") String api,
+            @BeanParam SubscriptionSearchParam subscriptionSearchParam) {
+        return subscriptionAssembler.search(subscriptionService.findByApi(api), subscriptionSearchParam);
     }
 
     @POST
@@ -174,39 +168,4 @@ public class ApiSubscriptionsResource extends AbstractResource {
                 .status(Response.Status.NO_CONTENT)
                 .build();
     }
-
-    private Subscription convert(SubscriptionEntity subscriptionEntity) {
-        Subscription subscription = new Subscription();
-
-        subscription.setId(subscriptionEntity.getId());
-        subscription.setCreatedAt(subscriptionEntity.getCreatedAt());
-        subscription.setUpdatedAt(subscriptionEntity.getUpdatedAt());
-        subscription.setStartingAt(subscriptionEntity.getStartingAt());
-        subscription.setEndingAt(subscriptionEntity.getEndingAt());
-        subscription.setProcessedAt(subscriptionEntity.getProcessedAt());
-        subscription.setProcessedBy(subscriptionEntity.getProcessedBy());
-        subscription.setReason(subscriptionEntity.getReason());
-        subscription.setStatus(subscriptionEntity.getStatus());
-        subscription.setSubscribedBy(subscriptionEntity.getSubscribedBy());
-
-        PlanEntity plan = planService.findById(subscriptionEntity.getPlan());
-        subscription.setPlan(new Subscription.Plan(plan.getId(), plan.getName()));
-
-        ApplicationEntity application = applicationService.findById(subscriptionEntity.getApplication());
-        subscription.setApplication(
-                new Subscription.Application(
-                        application.getId(),
-                        application.getName(),
-                        application.getType(),
-                        new Subscription.Owner(
-                                application.getPrimaryOwner().getUsername(),
-                                application.getPrimaryOwner().getFirstname(),
-                                application.getPrimaryOwner().getLastname()
-                        )
-                ));
-
-        subscription.setClosedAt(subscriptionEntity.getClosedAt());
-
-        return subscription;
-    }
 }
@@ -24,6 +24,7 @@ import io.gravitee.management.model.permissions.RolePermissionAction;
 import io.gravitee.management.rest.resource.param.VerifyApiParam;
 import io.gravitee.management.rest.security.Permission;
 import io.gravitee.management.rest.security.Permissions;
+import io.gravitee.management.rest.utils.EntityTags;
 import io.gravitee.management.service.*;
 import io.gravitee.management.service.exceptions.ApiAlreadyExistsException;
 import io.gravitee.repository.exceptions.TechnicalException;
@@ -37,14 +38,10 @@ import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.*;
 import javax.ws.rs.container.ResourceContext;
-import javax.ws.rs.core.Context;
-import javax.ws.rs.core.Response;
-import javax.ws.rs.core.UriBuilder;
-import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.core.*;
+import java.io.InputStream;
 import java.net.URI;
-import java.util.Collection;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
@@ -77,15 +74,21 @@ public class ApisResource extends AbstractResource {
     @Inject
     private RatingService ratingService;
 
+    @Inject
+    private ApiMetadataService apiMetadataService;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(
             value = "List APIs",
-            notes = "List all the APIs accessible to the current user or only public APIs for non authenticated users.")
+            notes = "List all the APIs accessible to the current user or only public APIs for non authenticated users. " +
+                    "The metadata of each API are included on demand.")
     @ApiResponses({
             @ApiResponse(code = 200, message = "List accessible APIs for current user", response = ApiListItem.class, responseContainer = "List"),
             @ApiResponse(code = 500, message = "Internal server error")})
-    public List<ApiListItem> listApis(@QueryParam("view") final String view, @QueryParam("group") final String group) {
+    public Response listApis(@Context Request request,
+                             @QueryParam("view") final String view, @QueryParam("group") final String group,
+                             @QueryParam("metadata") final boolean metadata) {
         Set<ApiEntity> apis;
         if (isAdmin()) {
             apis = group != null
@@ -97,13 +100,45 @@ public class ApisResource extends AbstractResource {
             apis = apiService.findByVisibility(Visibility.PUBLIC);
         }
 
-        return apis.stream()
+        List<ApiEntity> filteredApis = apis.stream()
                 .filter(apiEntity -> view == null || View.ALL_ID.equals(view) || (apiEntity.getViews() != null && apiEntity.getViews().contains(view)))
                 .filter(apiEntity -> group == null || (apiEntity.getGroups() != null && apiEntity.getGroups().contains(group)))
+                .sorted(Comparator.comparing(ApiEntity::getId))
+                .collect(Collectors.toList());
+
+        Map<String, Boolean> manageable = new HashMap<>();
+        filteredApis.forEach(api -> manageable.put(api.getId(), isManageable(api.getId())));
+
+        // Ratings and metadata may change without the API being updated: the list can only be tagged without them
+        EntityTag etag = null;
+        if (!ratingService.isEnabled() && !metadata) {
+            EntityTags tags = EntityTags.builder().add(getAuthenticatedUsernameOrNull(), isAdmin());
+            filteredApis.forEach(api -> tags.add(api.getId(), api.getUpdatedAt(), manageable.get(api.getId()),
+                    api.getPrimaryOwner() == null ? null : api.getPrimaryOwner().getUsername()));
+            etag = tags.build();
+
+            Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
+            if (builder != null) {
+                return builder.build();
+            }
+        }
+
+        Map<String, List<ApiMetadataEntity>> metadataByApi = metadata ?
+                apiMetadataService.findAllByApis(filteredApis.stream().map(ApiEntity::getId).collect(Collectors.toList())) :
+                Collections.emptyMap();
+
+        List<ApiListItem> items = filteredApis.stream()
                 .map(this::convert)
-                .map(this::setManageable)
+                .peek(item -> item.setManageable(manageable.get(item.getId())))
+                .peek(item -> {
+                    if (metadata) {
+                        item.setMetadata(values(metadataByApi.get(item.getId())));
+                    }
+                })
                 .sorted((o1, o2) -> String.CASE_INSENSITIVE_ORDER.compare(o1.getName(), o2.getName()))
                 .collect(Collectors.toList());
+
+        return Response.ok(items).tag(etag).build();
     }
 
     /**
@@ -156,6 +191,25 @@ public class ApisResource extends AbstractResource {
                 null, apiDefinition, getAuthenticatedUsername())).build();
     }
 
+    @POST
+    @Path("import/bulk")
+    @Consumes({MediaType.APPLICATION_JSON, "application/zip", MediaType.APPLICATION_OCTET_STREAM})
+    @Produces(MediaType.APPLICATION_JSON)
+    @ApiOperation(
+            value = "Create APIs by importing an archive of API definitions",
+            notes = "The archive is either a JSON array of API definitions or a zip file of API definitions. " +
+                    "The result of the import of each definition is returned in the archive order.")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Archive imported", response = ImportApiResultEntity.class, responseContainer = "List"),
+            @ApiResponse(code = 500, message = "Internal server error")})
+    @Permissions({
+            @Permission(value = RolePermission.MANAGEMENT_API, acls = RolePermissionAction.CREATE)
+    })
+    public List<ImportApiResultEntity> importDefinitions(
+            @ApiParam(name = "definitions", required = true) @NotNull InputStream definitions) {
+        return apiService.importDefinitions(definitions, getAuthenticatedUsername());
+    }
+
     @POST
     @Path("import/swagger")
     @Produces(MediaType.APPLICATION_JSON)
@@ -239,10 +293,17 @@ public class ApisResource extends AbstractResource {
         return apiItem;
     }
 
-    private ApiListItem setManageable(ApiListItem api) {
-        api.setManageable(isAuthenticated() &&
-                        (isAdmin() || hasPermission(RolePermission.API_GATEWAY_DEFINITION, api.getId(), RolePermissionAction.READ))
-        );
-        return api;
+    private static Map<String, String> values(List<ApiMetadataEntity> metadata) {
+        Map<String, String> values = new LinkedHashMap<>();
+        if (metadata != null) {
+            metadata.forEach(entry -> values.put(entry.getKey(),
+                    entry.getValue() == null ? entry.getDefaultValue() : entry.getValue()));
+        }
+        return values;
+    }
+
+    private boolean isManageable(String api) {
+        return isAuthenticated() &&
+                (isAdmin() || hasPermission(RolePermission.API_GATEWAY_DEFINITION, api, RolePermissionAction.READ));
     }
 }
@@ -23,6 +23,7 @@ import io.gravitee.management.model.analytics.query.AggregationType;
 import io.gravitee.management.model.analytics.query.CountQuery;
 import io.gravitee.management.model.analytics.query.DateHistogramQuery;
 import io.gravitee.management.model.analytics.query.GroupByQuery;
+import io.gravitee.management.rest.async.Bulkheads;
 import io.gravitee.management.rest.resource.param.Aggregation;
 import io.gravitee.management.rest.resource.param.AnalyticsParam;
 import io.gravitee.management.rest.resource.param.Range;
@@ -37,6 +38,8 @@ import javax.ws.rs.BeanParam;
 import javax.ws.rs.GET;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Response;
 import java.util.List;
 import java.util.Map;
@@ -54,32 +57,38 @@ public class ApplicationAnalyticsResource extends AbstractResource {
     @Inject
     private AnalyticsService analyticsService;
 
+    @Inject
+    private Bulkheads bulkheads;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "Get Application analytics")
     @Permissions({
             @Permission(value = RolePermission.APPLICATION_ANALYTICS, acls = RolePermissionAction.READ)
     })
-    public Response hits(
+    public void hits(
             @PathParam("application") String application,
-            @BeanParam AnalyticsParam analyticsParam) {
+            @BeanParam AnalyticsParam analyticsParam,
+            @Suspended AsyncResponse response) {
         analyticsParam.validate();
 
-        Analytics analytics = null;
-
-        switch(analyticsParam.getTypeParam().getValue()) {
-            case DATE_HISTO:
-                analytics = executeDateHisto(application, analyticsParam);
-                break;
-            case GROUP_BY:
-                analytics = executeGroupBy(application, analyticsParam);
-                break;
-            case COUNT:
-                analytics = executeCount(application, analyticsParam);
-                break;
-        }
-
-        return Response.ok(analytics).build();
+        bulkheads.execute(Bulkheads.ANALYTICS, response, () -> {
+            Analytics analytics = null;
+
+            switch(analyticsParam.getTypeParam().getValue()) {
+                case DATE_HISTO:
+                    analytics = executeDateHisto(application, analyticsParam);
+                    break;
+                case GROUP_BY:
+                    analytics = executeGroupBy(application, analyticsParam);
+                    break;
+                case COUNT:
+                    analytics = executeCount(application, analyticsParam);
+                    break;
+            }
+
+            return Response.ok(analytics).build();
+        });
     }
 
     private Analytics executeCount(String application, AnalyticsParam analyticsParam) {
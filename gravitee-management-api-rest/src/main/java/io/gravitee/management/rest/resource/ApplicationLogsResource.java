@@ -21,6 +21,7 @@ import io.gravitee.management.model.permissions.RolePermissionAction;
 import io.gravitee.management.model.analytics.query.LogQuery;
 import io.gravitee.management.model.log.ApplicationRequest;
 import io.gravitee.management.model.log.SearchLogResponse;
+import io.gravitee.management.rest.async.Bulkheads;
 import io.gravitee.management.rest.resource.param.LogsParam;
 import io.gravitee.management.rest.security.Permission;
 import io.gravitee.management.rest.security.Permissions;
@@ -32,6 +33,8 @@ import io.swagger.annotations.ApiResponses;
 
 import javax.inject.Inject;
 import javax.ws.rs.*;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -44,18 +47,22 @@ public class ApplicationLogsResource extends AbstractResource {
     @Inject
     private LogsService logsService;
 
+    @Inject
+    private Bulkheads bulkheads;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "Get application logs")
     @ApiResponses({
-            @ApiResponse(code = 200, message = "Application logs"),
+            @ApiResponse(code = 200, message = "Application logs", response = SearchLogResponse.class),
             @ApiResponse(code = 500, message = "Internal server error")})
     @Permissions({
             @Permission(value = RolePermission.APPLICATION_LOG, acls = RolePermissionAction.READ)
     })
-    public SearchLogResponse applicationLogs(
+    public void applicationLogs(
             @PathParam("application") String application,
-            @BeanParam LogsParam param) {
+            @BeanParam LogsParam param,
+            @Suspended AsyncResponse response) {
 
         param.validate();
 
@@ -66,7 +73,7 @@ public class ApplicationLogsResource extends AbstractResource {
         logQuery.setFrom(param.getFrom());
         logQuery.setTo(param.getTo());
 
-        return logsService.findByApplication(application, logQuery);
+        bulkheads.execute(Bulkheads.LOGS, response, () -> logsService.findByApplication(application, logQuery));
     }
 
     @GET
@@ -74,14 +81,15 @@ public class ApplicationLogsResource extends AbstractResource {
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "Get a specific log")
     @ApiResponses({
-            @ApiResponse(code = 200, message = "Single log"),
+            @ApiResponse(code = 200, message = "Single log", response = ApplicationRequest.class),
             @ApiResponse(code = 500, message = "Internal server error")})
     @Permissions({
             @Permission(value = RolePermission.APPLICATION_LOG, acls = RolePermissionAction.READ)
     })
-    public ApplicationRequest applicationLog(
+    public void applicationLog(
             @PathParam("application") String application,
-            @PathParam("log") String logId) {
-        return logsService.findApplicationLog(logId);
+            @PathParam("log") String logId,
+            @Suspended AsyncResponse response) {
+        bulkheads.execute(Bulkheads.LOGS, response, () -> logsService.findApplicationLog(logId));
     }
 }
@@ -19,7 +19,9 @@ import io.gravitee.common.http.MediaType;
 import io.gravitee.management.model.*;
 import io.gravitee.management.model.permissions.RolePermission;
 import io.gravitee.management.model.permissions.RolePermissionAction;
+import io.gravitee.management.rest.enhancer.SubscriptionAssembler;
 import io.gravitee.management.rest.model.Subscription;
+import io.gravitee.management.rest.resource.param.SubscriptionSearchParam;
 import io.gravitee.management.rest.security.Permission;
 import io.gravitee.management.rest.security.Permissions;
 import io.gravitee.management.service.*;
@@ -31,7 +33,6 @@ import javax.ws.rs.*;
 import javax.ws.rs.core.Response;
 import java.net.URI;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -51,10 +52,7 @@ public class ApplicationSubscriptionsResource {
     private ApiKeyService apiKeyService;
 
     @Inject
-    private ApiService apiService;
-
-    @Inject
-    private ApplicationService applicationService;
+    private SubscriptionAssembler subscriptionAssembler;
 
     @POST
     @Produces(MediaType.APPLICATION_JSON)
@@ -70,7 +68,7 @@ public class ApplicationSubscriptionsResource {
             @PathParam("application") String application,
             @ApiParam(name = "plan", required = true)
             @NotNull @QueryParam("plan") String plan) {
-        Subscription subscription = convert(subscriptionService.create(plan, application));
+        Subscription subscription = subscriptionAssembler.assemble(subscriptionService.create(plan, application));
         return Response
                 .created(URI.create("/applications/" + application + "/subscriptions/" + subscription.getId()))
                 .entity(subscription)
@@ -82,23 +80,23 @@ public class ApplicationSubscriptionsResource {
     @ApiOperation(value = "List subscriptions for the application",
             notes = "User must have the READ permission to use this service")
     @ApiResponses({
-            @ApiResponse(code = 200, message = "List of subscriptions", response = Subscription.class, responseContainer = "Set"),
+            @ApiResponse(code = 200, message = "List of subscriptions, or page of subscriptions if page or size is given",
+                    response = Subscription.class, responseContainer = "List"),
+            @ApiResponse(code = 400, message = "Invalid status, pagination or order"),
             @ApiResponse(code = 500, message = "Internal server error")})
     @Permissions({
             @Permission(value = RolePermission.APPLICATION_SUBSCRIPTION, acls = RolePermissionAction.READ)
     })
-    public Set<Subscription> listApplicationSubscriptions(
+    public Response listApplicationSubscriptions(
             @PathParam("application") String application,
-            @QueryParam("plan") String optionalPlanId) {
+            @QueryParam("plan") String optionalPlanId,
+            @BeanParam SubscriptionSearchParam subscriptionSearchParam) {
         String planId = null;
         if (optionalPlanId != null) {
             planService.findById(optionalPlanId);
             planId = optionalPlanId;
         }
-        return subscriptionService.findByApplicationAndPlan(application, planId)
-                .stream()
-                .map(this::convert)
-                .collect(Collectors.toSet());
+        return subscriptionAssembler.search(subscriptionService.findByApplicationAndPlan(application, planId), subscriptionSearchParam);
     }
 
     @GET
@@ -114,7 +112,7 @@ public class ApplicationSubscriptionsResource {
     })
     public Subscription getSubscription(
             @PathParam("subscription") String subscription) {
-        return convert(subscriptionService.findById(subscription));
+        return subscriptionAssembler.assemble(subscriptionService.findById(subscription));
     }
 
     @GET
@@ -186,44 +184,4 @@ public class ApplicationSubscriptionsResource {
                 .status(Response.Status.NO_CONTENT)
                 .build();
     }
-
-    private Subscription convert(SubscriptionEntity subscriptionEntity) {
-        Subscription subscription = new Subscription();
-
-        subscription.setId(subscriptionEntity.getId());
-        subscription.setCreatedAt(subscriptionEntity.getCreatedAt());
-        subscription.setUpdatedAt(subscriptionEntity.getUpdatedAt());
-        subscription.setStartingAt(subscriptionEntity.getStartingAt());
-        subscription.setEndingAt(subscriptionEntity.getEndingAt());
-        subscription.setProcessedAt(subscriptionEntity.getProcessedAt());
-        subscription.setProcessedBy(subscriptionEntity.getProcessedBy());
-        subscription.setReason(subscriptionEntity.getReason());
-        subscription.setStatus(subscriptionEntity.getStatus());
-        subscription.setSubscribedBy(subscriptionEntity.getSubscribedBy());
-
-        PlanEntity plan = planService.findById(subscriptionEntity.getPlan());
-        subscription.setPlan(new Subscription.Plan(plan.getId(), plan.getName()));
-
-        ApplicationEntity application = applicationService.findById(subscriptionEntity.getApplication());
-        subscription.setApplication(
-                new Subscription.Application(
-                        application.getId(),
-                        application.getName(),
-                        application.getType(),
-                        new Subscription.Owner(
-                                application.getPrimaryOwner().getUsername(),
-                                application.getPrimaryOwner().getFirstname(),
-                                application.getPrimaryOwner().getLastname()
-                        )
-                ));
-
-        subscription.getPlan().setApis(plan.getApis().stream().map(api -> {
-            io.gravitee.management.model.ApiEntity apiEntity = apiService.findById(api);
-            return new Subscription.Api(apiEntity.getId(), apiEntity.getName(), apiEntity.getVersion());
-        }).collect(Collectors.toList()));
-
-        subscription.setClosedAt(subscriptionEntity.getClosedAt());
-
-        return subscription;
-    }
 }
@@ -22,16 +22,20 @@ import io.gravitee.management.model.audit.AuditEntity;
 import io.gravitee.management.model.audit.AuditQuery;
 import io.gravitee.management.model.permissions.RolePermission;
 import io.gravitee.management.model.permissions.RolePermissionAction;
+import io.gravitee.management.rest.async.Bulkheads;
 import io.gravitee.management.rest.resource.param.AuditParam;
 import io.gravitee.management.rest.security.Permission;
 import io.gravitee.management.rest.security.Permissions;
 import io.gravitee.management.service.AuditService;
 import io.gravitee.repository.management.model.*;
 import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import javax.ws.rs.*;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.container.ResourceContext;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import java.util.*;
@@ -50,13 +54,17 @@ public class AuditResource extends AbstractResource  {
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private Bulkheads bulkheads;
+
     @GET
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
+    @ApiOperation(value = "Get audit logs", response = MetadataPage.class)
     @Permissions({
             @Permission(value = RolePermission.MANAGEMENT_AUDIT, acls = RolePermissionAction.READ)
     })
-    public MetadataPage<AuditEntity> list(@BeanParam AuditParam param){
+    public void list(@BeanParam AuditParam param, @Suspended AsyncResponse response) {
 
         AuditQuery query = new AuditQuery();
         query.setFrom(param.getFrom());
@@ -78,7 +86,7 @@ public class AuditResource extends AbstractResource  {
             query.setEvents(Collections.singletonList(param.getEvent()));
         }
 
-        return auditService.search(query);
+        bulkheads.execute(Bulkheads.AUDIT, response, () -> auditService.search(query));
     }
 
     @Path("/events")
@@ -15,7 +15,6 @@
  */
 package io.gravitee.management.rest.resource;
 
-import io.gravitee.common.util.Version;
 import io.gravitee.management.rest.bind.AuthenticationBinder;
 import io.gravitee.management.rest.filter.PermissionsFilter;
 import io.gravitee.management.rest.filter.SecurityContextFilter;
@@ -24,10 +23,9 @@ import io.gravitee.management.rest.provider.*;
 import io.gravitee.management.rest.resource.auth.GitHubAuthenticationResource;
 import io.gravitee.management.rest.resource.auth.GoogleAuthenticationResource;
 import io.gravitee.management.rest.resource.auth.OAuth2AuthenticationResource;
+import io.gravitee.management.rest.swagger.SwaggerResource;
 import io.gravitee.management.security.authentication.AuthenticationProvider;
 import io.gravitee.management.security.authentication.AuthenticationProviderManager;
-import io.swagger.jaxrs.config.BeanConfig;
-import io.swagger.jaxrs.listing.ApiListingResource;
 import io.swagger.jaxrs.listing.SwaggerSerializers;
 import org.glassfish.jersey.jackson.JacksonFeature;
 import org.glassfish.jersey.server.ResourceConfig;
@@ -50,12 +48,6 @@ public class GraviteeApplication extends ResourceConfig {
     public GraviteeApplication(AuthenticationProviderManager authenticationProviderManager) {
         this.authenticationProviderManager = authenticationProviderManager;
 
-        BeanConfig beanConfig = new BeanConfig();
-        beanConfig.setVersion(Version.RUNTIME_VERSION.MAJOR_VERSION);
-        beanConfig.setResourcePackage("io.gravitee.management.rest.resource");
-        beanConfig.setTitle("Gravitee.io - Rest API");
-        beanConfig.setScan(true);
-
         register(ApisResource.class);
         register(ApplicationsResource.class);
         register(SubscriptionsResource.class);
@@ -86,10 +78,13 @@ public class GraviteeApplication extends ResourceConfig {
         register(PermissionsFilter.class);
         register(CorsResponseFilter.class);
         register(UriBuilderRequestFilter.class);
+        register(RepositoryCallsFilter.class);
+        register(RequestMetricsListener.class);
+        register(EntityCacheFilter.class);
         register(ByteArrayOutputStreamWriter.class);
         register(JacksonFeature.class);
 
-        register(ApiListingResource.class);
+        register(SwaggerResource.class);
         register(SwaggerSerializers.class);
 
         property(ServerProperties.BV_SEND_ERROR_IN_RESPONSE, true);
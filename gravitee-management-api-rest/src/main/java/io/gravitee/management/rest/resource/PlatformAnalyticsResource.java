@@ -23,6 +23,7 @@ import io.gravitee.management.model.analytics.query.DateHistogramQuery;
 import io.gravitee.management.model.analytics.query.GroupByQuery;
 import io.gravitee.management.model.permissions.RolePermission;
 import io.gravitee.management.model.permissions.RolePermissionAction;
+import io.gravitee.management.rest.async.Bulkheads;
 import io.gravitee.management.rest.resource.param.Aggregation;
 import io.gravitee.management.rest.resource.param.AnalyticsParam;
 import io.gravitee.management.rest.resource.param.Range;
@@ -35,6 +36,8 @@ import javax.inject.Inject;
 import javax.ws.rs.BeanParam;
 import javax.ws.rs.GET;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Response;
 import java.util.List;
 import java.util.Map;
@@ -52,30 +55,35 @@ public class PlatformAnalyticsResource {
     @Inject
     private AnalyticsService analyticsService;
 
+    @Inject
+    private Bulkheads bulkheads;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     @Permissions({
             @Permission(value = RolePermission.MANAGEMENT_PLATFORM, acls = RolePermissionAction.READ)
     })
-    public Response platformAnalytics(@BeanParam AnalyticsParam analyticsParam) {
+    public void platformAnalytics(@BeanParam AnalyticsParam analyticsParam, @Suspended AsyncResponse response) {
 
         analyticsParam.validate();
 
-        Analytics analytics = null;
-
-        switch(analyticsParam.getTypeParam().getValue()) {
-            case DATE_HISTO:
-                analytics = executeDateHisto(analyticsParam);
-                break;
-            case GROUP_BY:
-                analytics = executeGroupBy(analyticsParam);
-                break;
-            case COUNT:
-                analytics = executeCount(analyticsParam);
-                break;
-        }
-
-        return Response.ok(analytics).build();
+        bulkheads.execute(Bulkheads.ANALYTICS, response, () -> {
+            Analytics analytics = null;
+
+            switch(analyticsParam.getTypeParam().getValue()) {
+                case DATE_HISTO:
+                    analytics = executeDateHisto(analyticsParam);
+                    break;
+                case GROUP_BY:
+                    analytics = executeGroupBy(analyticsParam);
+                    break;
+                case COUNT:
+                    analytics = executeCount(analyticsParam);
+                    break;
+            }
+
+            return Response.ok(analytics).build();
+        });
     }
 
     private Analytics executeCount(AnalyticsParam analyticsParam) {
@@ -16,13 +16,9 @@
 package io.gravitee.management.rest.resource;
 
 import io.gravitee.common.http.MediaType;
-import io.gravitee.management.model.ApplicationEntity;
-import io.gravitee.management.model.PlanEntity;
-import io.gravitee.management.model.SubscriptionEntity;
+import io.gravitee.management.rest.enhancer.SubscriptionAssembler;
 import io.gravitee.management.rest.model.Subscription;
-import io.gravitee.management.service.ApiService;
-import io.gravitee.management.service.ApplicationService;
-import io.gravitee.management.service.PlanService;
+import io.gravitee.management.rest.resource.param.SubscriptionSearchParam;
 import io.gravitee.management.service.SubscriptionService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -30,12 +26,12 @@ import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 
 import javax.inject.Inject;
+import javax.ws.rs.BeanParam;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
-import java.util.Set;
-import java.util.stream.Collectors;
+import javax.ws.rs.core.Response;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -49,65 +45,20 @@ public class SubscriptionsResource {
     private SubscriptionService subscriptionService;
 
     @Inject
-    private ApplicationService applicationService;
-
-    @Inject
-    private PlanService planService;
-
-    @Inject
-    private ApiService apiService;
+    private SubscriptionAssembler subscriptionAssembler;
 
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "List subscriptions for authenticated user")
     @ApiResponses({
-            @ApiResponse(code = 200, message = "List of subscriptions", response = Subscription.class, responseContainer = "Set"),
+            @ApiResponse(code = 200, message = "List of subscriptions, or page of subscriptions if page or size is given",
+                    response = Subscription.class, responseContainer = "List"),
+            @ApiResponse(code = 400, message = "Invalid status, pagination or order"),
             @ApiResponse(code = 500, message = "Internal server error")})
-    public Set<Subscription> listUserSubscriptions(
+    public Response listUserSubscriptions(
             @QueryParam("application") String application,
-            @QueryParam("plan") String plan) {
-        return subscriptionService.findByApplicationAndPlan(application, plan)
-                .stream()
-                .map(this::convert)
-                .collect(Collectors.toSet());
-    }
-
-    private Subscription convert(SubscriptionEntity subscriptionEntity) {
-        Subscription subscription = new Subscription();
-
-        subscription.setId(subscriptionEntity.getId());
-        subscription.setCreatedAt(subscriptionEntity.getCreatedAt());
-        subscription.setUpdatedAt(subscriptionEntity.getUpdatedAt());
-        subscription.setStartingAt(subscriptionEntity.getStartingAt());
-        subscription.setEndingAt(subscriptionEntity.getEndingAt());
-        subscription.setProcessedAt(subscriptionEntity.getProcessedAt());
-        subscription.setProcessedBy(subscriptionEntity.getProcessedBy());
-        subscription.setReason(subscriptionEntity.getReason());
-        subscription.setStatus(subscriptionEntity.getStatus());
-
-        ApplicationEntity application = applicationService.findById(subscriptionEntity.getApplication());
-        subscription.setApplication(
-                new Subscription.Application(
-                        application.getId(),
-                        application.getName(),
-                        application.getType(),
-                        new Subscription.Owner(
-                                application.getPrimaryOwner().getUsername(),
-                                application.getPrimaryOwner().getFirstname(),
-                                application.getPrimaryOwner().getLastname()
-                        )
-                ));
-
-        PlanEntity plan = planService.findById(subscriptionEntity.getPlan());
-        subscription.setPlan(new Subscription.Plan(plan.getId(), plan.getName()));
-
-        subscription.getPlan().setApis(plan.getApis().stream().map(api -> {
-            io.gravitee.management.model.ApiEntity apiEntity = apiService.findById(api);
-            return new Subscription.Api(apiEntity.getId(), apiEntity.getName(), apiEntity.getVersion());
-        }).collect(Collectors.toList()));
-
-        subscription.setClosedAt(subscriptionEntity.getClosedAt());
-
-        return subscription;
+            @QueryParam("plan") String plan,
+            @BeanParam SubscriptionSearchParam subscriptionSearchParam) {
+        return subscriptionAssembler.search(subscriptionService.findByApplicationAndPlan(application, plan), subscriptionSearchParam);
     }
 }
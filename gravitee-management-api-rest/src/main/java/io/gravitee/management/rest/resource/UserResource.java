@@ -20,7 +20,9 @@ import io.gravitee.management.idp.api.authentication.UserDetailRole;
 import io.gravitee.management.idp.api.authentication.UserDetails;
 import io.gravitee.management.model.UpdateUserEntity;
 import io.gravitee.management.model.UserEntity;
+import io.gravitee.management.security.authentication.JWTAuthenticationCache;
 import io.gravitee.management.security.cookies.JWTCookieGenerator;
+import io.gravitee.management.security.filter.JWTAuthenticationFilter;
 import io.gravitee.management.service.UserService;
 import io.gravitee.management.service.exceptions.ForbiddenAccessException;
 import io.gravitee.management.service.exceptions.UserNotFoundException;
@@ -32,6 +34,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
@@ -59,6 +62,12 @@ public class UserResource extends AbstractResource {
     @Autowired
     private JWTCookieGenerator jwtCookieGenerator;
 
+    @Autowired
+    private JWTAuthenticationCache jwtAuthenticationCache;
+
+    @Context
+    private HttpServletRequest request;
+
     @Context
     private HttpServletResponse response;
 
@@ -135,6 +144,10 @@ public class UserResource extends AbstractResource {
     @Path("/logout")
     @ApiOperation(value = "Logout")
     public Response logout() {
+        String token = JWTAuthenticationFilter.getToken(request);
+        if (token != null) {
+            jwtAuthenticationCache.invalidate(token.replaceFirst("^Bearer", "").trim());
+        }
         response.addCookie(jwtCookieGenerator.generate(null));
         return Response.ok().build();
     }
@@ -0,0 +1,149 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.rest.resource.param;
+
+import io.gravitee.management.model.SubscriptionEntity;
+
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.function.Function;
+
+/**
+ * Filtering, sorting and pagination of a subscription list. The list is only paginated when the <code>page</code>
+ * or <code>size</code> parameter is given.
+ *
+ * @author GraviteeSource Team
+ */
+public class SubscriptionSearchParam {
+
+    private static final int DEFAULT_SIZE = 20;
+
+    @QueryParam("status")
+    private SubscriptionStatusParam status;
+
+    @QueryParam("order")
+    @DefaultValue("-created_at")
+    private String order;
+
+    @QueryParam("page")
+    private Integer page;
+
+    @QueryParam("size")
+    private Integer size;
+
+    public SubscriptionStatusParam getStatus() {
+        return status;
+    }
+
+    public void setStatus(SubscriptionStatusParam status) {
+        this.status = status;
+    }
+
+    public String getOrder() {
+        return order;
+    }
+
+    public void setOrder(String order) {
+        this.order = order;
+    }
+
+    public int getPage() {
+        return page == null ? 1 : page;
+    }
+
+    public void setPage(Integer page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size == null ? DEFAULT_SIZE : size;
+    }
+
+    public void setSize(Integer size) {
+        this.size = size;
+    }
+
+    public boolean isPaginated() {
+        return page != null || size != null;
+    }
+
+    public boolean accept(SubscriptionEntity subscription) {
+        return status == null || status.getStatuses().isEmpty() || status.getStatuses().contains(subscription.getStatus());
+    }
+
+    /**
+     * Order given by the <code>order</code> parameter: a field name, prefixed by <code>-</code> for a descending
+     * order. The subscription id is used to keep the order stable between two pages.
+     */
+    public Comparator<SubscriptionEntity> comparator() {
+        final boolean descending = order.startsWith("-");
+        final String field = descending ? order.substring(1) : order;
+
+        Comparator<SubscriptionEntity> comparator;
+        switch (field) {
+            case "created_at":
+                comparator = byDate(SubscriptionEntity::getCreatedAt);
+                break;
+            case "updated_at":
+                comparator = byDate(SubscriptionEntity::getUpdatedAt);
+                break;
+            case "processed_at":
+                comparator = byDate(SubscriptionEntity::getProcessedAt);
+                break;
+            case "starting_at":
+                comparator = byDate(SubscriptionEntity::getStartingAt);
+                break;
+            case "ending_at":
+                comparator = byDate(SubscriptionEntity::getEndingAt);
+                break;
+            case "status":
+                comparator = Comparator.comparing(SubscriptionEntity::getStatus, Comparator.nullsLast(Comparator.naturalOrder()));
+                break;
+            default:
+                throw new WebApplicationException(Response
+                        .status(Response.Status.BAD_REQUEST)
+                        .entity("Query parameter 'order' is not valid")
+                        .build());
+        }
+
+        comparator = comparator.thenComparing(SubscriptionEntity::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+        return descending ? comparator.reversed() : comparator;
+    }
+
+    public void validate() throws WebApplicationException {
+        if (getPage() < 1) {
+            throw new WebApplicationException(Response
+                    .status(Response.Status.BAD_REQUEST)
+                    .entity("Query parameter 'page' is not valid")
+                    .build());
+        }
+
+        if (getSize() < 1) {
+            throw new WebApplicationException(Response
+                    .status(Response.Status.BAD_REQUEST)
+                    .entity("Query parameter 'size' is not valid")
+                    .build());
+        }
+    }
+
+    private static Comparator<SubscriptionEntity> byDate(Function<SubscriptionEntity, Date> date) {
+        return Comparator.comparing(date, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.rest.resource.param;
+
+import io.gravitee.management.model.SubscriptionStatus;
+
+import javax.ws.rs.WebApplicationException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Comma-separated list of subscription statuses. An unknown status is rejected with a <code>400</code>.
+ *
+ * @author GraviteeSource Team
+ */
+public class SubscriptionStatusParam extends AbstractParam<List<SubscriptionStatus>> {
+
+    private static final String SEPARATOR = ",";
+
+    public SubscriptionStatusParam(String param) throws WebApplicationException {
+        super(param);
+    }
+
+    @Override
+    protected List<SubscriptionStatus> parse(String param) throws Throwable {
+        List<SubscriptionStatus> statuses = new ArrayList<>();
+
+        if (param != null) {
+            String[] params = param.replaceAll("\\s","").split(SEPARATOR);
+            for (String _param : params) {
+                if (!_param.isEmpty()) {
+                    statuses.add(SubscriptionStatus.valueOf(_param.toUpperCase()));
+                }
+            }
+        }
+
+        return statuses;
+    }
+
+    public List<SubscriptionStatus> getStatuses() {
+        return getValue();
+    }
+}
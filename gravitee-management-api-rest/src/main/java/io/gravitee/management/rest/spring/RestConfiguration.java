@@ -16,6 +16,7 @@
 package io.gravitee.management.rest.spring;
 
 import io.gravitee.management.idp.core.spring.IdentityProviderPluginConfiguration;
+import io.gravitee.management.security.JWTAuthenticationCacheConfiguration;
 import io.gravitee.management.security.SecurityConfiguration;
 import io.gravitee.management.service.spring.ServiceConfiguration;
 import io.gravitee.plugin.core.spring.PluginConfiguration;
@@ -34,10 +35,11 @@ import java.util.Properties;
  * @author David BRASSELY (brasseld at gmail.com)
  */
 @Configuration
-@ComponentScan({"io.gravitee.management.rest.enhancer"})
+@ComponentScan({"io.gravitee.management.rest.enhancer", "io.gravitee.management.rest.async"})
 @Import({
         PropertiesConfiguration.class, PluginConfiguration.class, ServiceConfiguration.class,
-        SecurityConfiguration.class, EmailConfiguration.class, IdentityProviderPluginConfiguration.class
+        SecurityConfiguration.class, JWTAuthenticationCacheConfiguration.class, EmailConfiguration.class,
+        IdentityProviderPluginConfiguration.class
 })
 public class RestConfiguration {
 
@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.rest.swagger;
+
+import io.gravitee.common.util.Version;
+import io.swagger.jaxrs.config.BeanConfig;
+import io.swagger.jaxrs.listing.ApiListingResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.ServletConfig;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+
+/**
+ * Serves the Swagger descriptor of the REST API.
+ *
+ * Scanning the resources for the descriptor takes a while: it is done on the first request for the descriptor
+ * instead of when the application starts.
+ *
+ * @author GraviteeSource Team
+ */
+@Path("/swagger.{type:json|yaml}")
+public class SwaggerResource extends ApiListingResource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SwaggerResource.class);
+
+    private static volatile boolean scanned;
+
+    // No JAX-RS annotation here, so that those of the overridden method apply
+    @Override
+    public Response getListing(Application app, ServletConfig sc, HttpHeaders headers, UriInfo uriInfo, String type) {
+        scan();
+        return super.getListing(app, sc, headers, uriInfo, type);
+    }
+
+    private static void scan() {
+        if (!scanned) {
+            synchronized (SwaggerResource.class) {
+                if (!scanned) {
+                    long start = System.currentTimeMillis();
+
+                    BeanConfig beanConfig = new BeanConfig();
+                    beanConfig.setVersion(Version.RUNTIME_VERSION.MAJOR_VERSION);
+                    beanConfig.setResourcePackage("io.gravitee.management.rest.resource");
+                    beanConfig.setTitle("Gravitee.io - Rest API");
+                    beanConfig.setScan(true);
+
+                    scanned = true;
+                    LOGGER.info("REST API resources scanned for the Swagger descriptor in {} ms",
+                            System.currentTimeMillis() - start);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.rest.utils;
+
+import javax.ws.rs.core.EntityTag;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Builds weak entity tags from the values a response depends on (ids, update dates, current user, ...), so that a
+ * conditional request can be answered before the response body is built.
+ *
+ * @author GraviteeSource Team
+ */
+public final class EntityTags {
+
+    private final MessageDigest digest;
+
+    private EntityTags() {
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new IllegalStateException(nsae);
+        }
+    }
+
+    public static EntityTags builder() {
+        return new EntityTags();
+    }
+
+    public EntityTags add(Object... values) {
+        for (Object value : values) {
+            String part;
+            if (value == null) {
+                part = "";
+            } else if (value instanceof Date) {
+                part = Long.toString(((Date) value).getTime());
+            } else {
+                part = value.toString();
+            }
+            digest.update(part.getBytes(StandardCharsets.UTF_8));
+            // Separator, so that ("ab", "c") and ("a", "bc") give different tags
+            digest.update((byte) 0);
+        }
+        return this;
+    }
+
+    public EntityTag build() {
+        return new EntityTag(Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()), true);
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.rest.async;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class BulkheadTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldRejectWhenFull() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("test", executor, 1, 1, 10000);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+
+        bulkhead.execute(() -> await(release), rejected::incrementAndGet);
+        bulkhead.execute(() -> await(release), rejected::incrementAndGet);
+        bulkhead.execute(() -> await(release), rejected::incrementAndGet);
+
+        assertEquals(1, rejected.get());
+        assertEquals(Long.valueOf(1), bulkhead.getCounters().get("rejected"));
+        release.countDown();
+    }
+
+    @Test
+    public void shouldRejectWhenQueuedForTooLong() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("test", executor, 1, 1, 50);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch timedOut = new CountDownLatch(1);
+        AtomicInteger executed = new AtomicInteger();
+
+        bulkhead.execute(() -> await(release), () -> fail("First task must run"));
+        bulkhead.execute(executed::incrementAndGet, timedOut::countDown);
+
+        assertTrue(timedOut.await(5, TimeUnit.SECONDS));
+        release.countDown();
+        assertEquals(0, executed.get());
+        assertEquals(Long.valueOf(1), bulkhead.getCounters().get("timedOut"));
+    }
+
+    @Test
+    public void shouldRunQueuedTask() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("test", executor, 1, 1, 5000);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch executed = new CountDownLatch(1);
+
+        bulkhead.execute(() -> await(release), () -> fail("First task must run"));
+        bulkhead.execute(executed::countDown, () -> fail("Second task must run"));
+        release.countDown();
+
+        assertTrue(executed.await(5, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -15,7 +15,12 @@
  */
 package io.gravitee.management.rest.resource;
 
+import io.gravitee.management.metrics.RequestMetrics;
+import io.gravitee.management.repository.cache.EntityCacheManager;
+import io.gravitee.management.repository.metrics.RepositoryMetrics;
 import io.gravitee.management.rest.JerseySpringTest;
+import io.gravitee.management.rest.async.Bulkheads;
+import io.gravitee.management.rest.enhancer.SubscriptionAssembler;
 import io.gravitee.management.security.authentication.AuthenticationProvider;
 import io.gravitee.management.security.authentication.AuthenticationProviderManager;
 import io.gravitee.management.service.*;
@@ -64,6 +69,9 @@ public abstract class AbstractResourceTest extends JerseySpringTest {
     @Autowired
     protected ApiService apiService;
 
+    @Autowired
+    protected RequestMetrics requestMetrics;
+
     @Autowired
     protected ApplicationService applicationService;
 
@@ -98,6 +106,18 @@ public abstract class AbstractResourceTest extends JerseySpringTest {
     @Autowired
     protected RatingService ratingService;
 
+    @Autowired
+    protected SubscriptionService subscriptionService;
+
+    @Autowired
+    protected PlanService planService;
+
+    @Autowired
+    protected ApiKeyService apiKeyService;
+
+    @Autowired
+    protected ApiMetadataService apiMetadataService;
+
     @Configuration
     @PropertySource("classpath:/io/gravitee/management/rest/resource/jwt.properties")
     static class ContextConfiguration {
@@ -161,5 +181,50 @@ public abstract class AbstractResourceTest extends JerseySpringTest {
         public RatingService ratingService() {
             return mock(RatingService.class);
         }
+
+        @Bean
+        public ApiMetadataService apiMetadataService() {
+            return mock(ApiMetadataService.class);
+        }
+
+        @Bean
+        public SubscriptionService subscriptionService() {
+            return mock(SubscriptionService.class);
+        }
+
+        @Bean
+        public PlanService planService() {
+            return mock(PlanService.class);
+        }
+
+        @Bean
+        public ApiKeyService apiKeyService() {
+            return mock(ApiKeyService.class);
+        }
+
+        @Bean
+        public SubscriptionAssembler subscriptionAssembler() {
+            return new SubscriptionAssembler();
+        }
+
+        @Bean
+        public RepositoryMetrics repositoryMetrics() {
+            return new RepositoryMetrics();
+        }
+
+        @Bean
+        public RequestMetrics requestMetrics() {
+            return new RequestMetrics();
+        }
+
+        @Bean
+        public EntityCacheManager entityCacheManager() {
+            return new EntityCacheManager(false, 0, 0);
+        }
+
+        @Bean
+        public Bulkheads bulkheads() {
+            return new Bulkheads();
+        }
     }
 }
@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.rest.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.management.model.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.ws.rs.core.Response;
+import java.util.*;
+
+import static io.gravitee.common.http.HttpStatusCode.BAD_REQUEST_400;
+import static io.gravitee.common.http.HttpStatusCode.OK_200;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class ApiSubscriptionsResourceTest extends AbstractResourceTest {
+
+    private static final String API = "my-api";
+    private static final String PLAN = "my-plan";
+
+    @Override
+    protected String contextPath() {
+        return "apis/" + API + "/subscriptions";
+    }
+
+    @Before
+    public void init() {
+        reset(subscriptionService, planService, applicationService, apiService);
+
+        final Set<SubscriptionEntity> subscriptions = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            subscriptions.add(subscription("sub-" + i, "app-" + i,
+                    i == 2 ? SubscriptionStatus.CLOSED : SubscriptionStatus.ACCEPTED, new Date(1000L * i)));
+        }
+        doReturn(subscriptions).when(subscriptionService).findByApi(API);
+
+        final PlanEntity plan = new PlanEntity();
+        plan.setId(PLAN);
+        plan.setName("Free");
+        plan.setApis(Collections.singleton(API));
+        doReturn(plan).when(planService).findById(PLAN);
+
+        when(applicationService.findByIds(anyCollection())).thenAnswer(invocation -> {
+            final Set<ApplicationEntity> applications = new HashSet<>();
+            for (Object id : (Collection<?>) invocation.getArguments()[0]) {
+                applications.add(application((String) id));
+            }
+            return applications;
+        });
+
+        final ApiEntity api = new ApiEntity();
+        api.setId(API);
+        api.setName(API);
+        api.setVersion("1");
+        doReturn(Collections.singleton(api)).when(apiService).findByIds(Collections.singleton(API));
+    }
+
+    @Test
+    public void shouldListFilteredAndSortedPage() throws Exception {
+        final Response response = target()
+                .queryParam("status", "accepted")
+                .queryParam("order", "-created_at")
+                .queryParam("page", 2)
+                .queryParam("size", 2)
+                .request().get();
+
+        assertEquals(OK_200, response.getStatus());
+
+        final JsonNode page = new ObjectMapper().readTree(response.readEntity(String.class));
+        assertEquals(4, page.get("totalElements").asLong());
+        assertEquals(2, page.get("pageNumber").asInt());
+        assertEquals(2, page.get("content").size());
+        assertEquals("sub-1", page.get("content").get(0).get("id").asText());
+        assertEquals("sub-0", page.get("content").get(1).get("id").asText());
+        assertEquals("app-1", page.get("content").get(0).get("application").get("id").asText());
+        assertEquals(API, page.get("content").get(0).get("plan").get("apis").get(0).get("id").asText());
+
+        // Everything is loaded once for the whole page
+        verify(planService, times(1)).findById(PLAN);
+        verify(applicationService, times(1)).findByIds(anyCollection());
+        verify(applicationService, never()).findById(anyString());
+        verify(apiService, times(1)).findByIds(anyCollection());
+        verify(apiService, never()).findById(anyString());
+    }
+
+    @Test
+    public void shouldListAllSubscriptionsWithoutPagination() throws Exception {
+        final Response response = target().queryParam("status", "accepted").request().get();
+
+        assertEquals(OK_200, response.getStatus());
+
+        final JsonNode subscriptions = new ObjectMapper().readTree(response.readEntity(String.class));
+        assertTrue(subscriptions.isArray());
+        assertEquals(4, subscriptions.size());
+        assertEquals("sub-4", subscriptions.get(0).get("id").asText());
+        assertEquals("sub-0", subscriptions.get(3).get("id").asText());
+    }
+
+    @Test
+    public void shouldNotListWithUnknownStatus() {
+        final Response response = target().queryParam("status", "accepted,unknown").request().get();
+
+        assertEquals(BAD_REQUEST_400, response.getStatus());
+    }
+
+    @Test
+    public void shouldNotListWithInvalidOrder() {
+        final Response response = target().queryParam("order", "name").request().get();
+
+        assertEquals(BAD_REQUEST_400, response.getStatus());
+    }
+
+    private static SubscriptionEntity subscription(String id, String application, SubscriptionStatus status, Date createdAt) {
+        final SubscriptionEntity subscription = new SubscriptionEntity();
+        subscription.setId(id);
+        subscription.setApplication(application);
+        subscription.setPlan(PLAN);
+        subscription.setStatus(status);
+        subscription.setCreatedAt(createdAt);
+        return subscription;
+    }
+
+    private static ApplicationEntity application(String id) {
+        final PrimaryOwnerEntity primaryOwner = new PrimaryOwnerEntity();
+        primaryOwner.setUsername("owner");
+
+        final ApplicationEntity application = new ApplicationEntity();
+        application.setId(id);
+        application.setName(id);
+        application.setPrimaryOwner(primaryOwner);
+        return application;
+    }
+}
@@ -17,15 +17,30 @@ package io.gravitee.management.rest.resource;
 
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.management.model.ApiEntity;
+import io.gravitee.management.model.ApiListItem;
+import io.gravitee.management.model.ApiMetadataEntity;
 import io.gravitee.management.model.NewApiEntity;
+import io.gravitee.management.model.PrimaryOwnerEntity;
+import io.gravitee.management.model.Visibility;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
 
 /**
  * @author David BRASSELY (brasseld at gmail.com)
@@ -75,4 +90,99 @@ public class ApisResourceTest extends AbstractResourceTest {
         final Response response = target().request().post(Entity.json(apiEntity));
         assertEquals(HttpStatusCode.CREATED_201, response.getStatus());
     }
+
+    @Test
+    public void shouldNotReturnUnmodifiedApis() {
+        reset(apiService, ratingService);
+        ApiEntity api = new ApiEntity();
+        api.setId("my-api");
+        api.setName("My API");
+        api.setUpdatedAt(new Date(1000));
+        doReturn(Collections.singleton(api)).when(apiService).findAll();
+
+        final Response response = target().request().get();
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        final String etag = response.getHeaderString(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        final Response notModified = target().request().header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(HttpStatusCode.NOT_MODIFIED_304, notModified.getStatus());
+
+        api.setUpdatedAt(new Date(2000));
+        final Response modified = target().request().header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(HttpStatusCode.OK_200, modified.getStatus());
+        assertNotEquals(etag, modified.getHeaderString(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void shouldReturnApisWhenPrimaryOwnerChanges() {
+        reset(apiService, ratingService);
+        ApiEntity api = new ApiEntity();
+        api.setId("my-api");
+        api.setName("My API");
+        api.setUpdatedAt(new Date(1000));
+        api.setPrimaryOwner(primaryOwner("john"));
+        doReturn(Collections.singleton(api)).when(apiService).findAll();
+
+        final String etag = target().request().get().getHeaderString(HttpHeaders.ETAG);
+
+        // An ownership transfer does not update the API
+        api.setPrimaryOwner(primaryOwner("jane"));
+        final Response modified = target().request().header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(HttpStatusCode.OK_200, modified.getStatus());
+        assertNotEquals(etag, modified.getHeaderString(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void shouldListApisWithMetadata() {
+        reset(apiService, ratingService, apiMetadataService);
+        ApiEntity api = new ApiEntity();
+        api.setId("my-api");
+        api.setName("My API");
+        doReturn(Collections.singleton(api)).when(apiService).findAll();
+
+        ApiMetadataEntity homepage = new ApiMetadataEntity();
+        homepage.setKey("homepage");
+        homepage.setDefaultValue("http://gravitee.io");
+        ApiMetadataEntity owner = new ApiMetadataEntity();
+        owner.setKey("owner");
+        owner.setValue("john");
+        doReturn(Collections.singletonMap("my-api", Arrays.asList(homepage, owner)))
+                .when(apiMetadataService).findAllByApis(Collections.singletonList("my-api"));
+
+        final Response response = target().queryParam("metadata", true).request().get();
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        assertNull(response.getHeaderString(HttpHeaders.ETAG));
+
+        final List<ApiListItem> items = response.readEntity(new GenericType<List<ApiListItem>>() {});
+        assertEquals(1, items.size());
+        assertEquals("http://gravitee.io", items.get(0).getMetadata().get("homepage"));
+        assertEquals("john", items.get(0).getMetadata().get("owner"));
+    }
+
+    @Test
+    public void shouldRecordRequestMetricsWhenRequestFails() throws InterruptedException {
+        reset(apiService);
+        doThrow(new IllegalStateException("unavailable")).when(apiService).findAll();
+        doThrow(new IllegalStateException("unavailable")).when(apiService).findByUser(USER_NAME);
+        doThrow(new IllegalStateException("unavailable")).when(apiService).findByVisibility(Visibility.PUBLIC);
+
+        long errors = requestMetrics.metrics("ApisResource.listApis").getErrors();
+
+        final Response response = target().request().get();
+        assertEquals(HttpStatusCode.INTERNAL_SERVER_ERROR_500, response.getStatus());
+
+        // the request is stopped once the response is written, which may be after the client has read it
+        for (int i = 0; i < 50 && requestMetrics.getInFlight() > 0; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(0, requestMetrics.getInFlight());
+        assertEquals(errors + 1, requestMetrics.metrics("ApisResource.listApis").getErrors());
+    }
+
+    private static PrimaryOwnerEntity primaryOwner(String username) {
+        PrimaryOwnerEntity primaryOwner = new PrimaryOwnerEntity();
+        primaryOwner.setUsername(username);
+        return primaryOwner;
+    }
 }
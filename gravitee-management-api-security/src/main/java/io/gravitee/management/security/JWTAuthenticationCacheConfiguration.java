@@ -0,0 +1,41 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.security;
+
+import io.gravitee.management.security.authentication.JWTAuthenticationCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import static io.gravitee.management.service.common.JWTHelper.DefaultValues.DEFAULT_JWT_EXPIRE_AFTER;
+
+/**
+ * Declares the {@link JWTAuthenticationCache} in the root application context, where the REST resources invalidate
+ * it. The web context holding the security filter chain reads it from its parent, so both share the same instance.
+ *
+ * @author GraviteeSource Team
+ */
+@Configuration
+public class JWTAuthenticationCacheConfiguration {
+
+    @Bean
+    public JWTAuthenticationCache jwtAuthenticationCache(Environment environment) {
+        boolean enabled = environment.getProperty("jwt.cache.enabled", Boolean.class, true);
+        return new JWTAuthenticationCache(
+                enabled ? environment.getProperty("jwt.cache.size", Long.class, 10000L) : 0,
+                environment.getProperty("jwt.expire-after", Long.class, (long) DEFAULT_JWT_EXPIRE_AFTER));
+    }
+}
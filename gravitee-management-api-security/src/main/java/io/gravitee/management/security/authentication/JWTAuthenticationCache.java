@@ -0,0 +1,140 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.security.authentication;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.management.metrics.CounterSource;
+import org.springframework.security.core.Authentication;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the {@link Authentication} built from a verified JWT, so that the next requests carrying the same token do
+ * not have to verify its signature and decode its claims again.
+ *
+ * Entries are keyed by the token signature and are only returned for the exact same token, until the expiration
+ * date of the token. Cached authentications are shared between requests and must not be modified.
+ *
+ * @author GraviteeSource Team
+ */
+public class JWTAuthenticationCache implements CounterSource {
+
+    private final Cache<String, Entry> cache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * @param maxSize the maximum number of cached tokens, 0 to disable the cache
+     * @param maxTtl the maximum time a token is kept, in seconds (the configured token lifetime)
+     */
+    public JWTAuthenticationCache(long maxSize, long maxTtl) {
+        this.cache = maxSize > 0 ?
+                CacheBuilder.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterWrite(maxTtl, TimeUnit.SECONDS)
+                        .build() :
+                null;
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * @return the authentication of the given token, or <code>null</code> if the token has not been verified yet
+     * or has expired
+     */
+    public Authentication get(String token) {
+        if (cache == null) {
+            return null;
+        }
+
+        String key = signature(token);
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null && entry.token.equals(token)) {
+            if (System.currentTimeMillis() < entry.expiresAt) {
+                hits.increment();
+                return entry.authentication;
+            }
+            cache.invalidate(key);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * @param expiresAt the token expiration date, in seconds since the epoch (the <code>exp</code> claim), or
+     *                  <code>null</code> if the token does not expire
+     */
+    public void put(String token, Authentication authentication, Number expiresAt) {
+        if (cache != null) {
+            long expiration = expiresAt == null ? Long.MAX_VALUE : TimeUnit.SECONDS.toMillis(expiresAt.longValue());
+            cache.put(signature(token), new Entry(token, authentication, expiration));
+        }
+    }
+
+    public void invalidate(String token) {
+        if (cache != null && token != null) {
+            cache.invalidate(signature(token));
+            invalidations.increment();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getSize() {
+        return cache == null ? 0 : cache.size();
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        Map<String, Long> counters = new LinkedHashMap<>();
+        counters.put("size", getSize());
+        counters.put("hits", getHits());
+        counters.put("misses", getMisses());
+        counters.put("invalidations", invalidations.sum());
+        return counters;
+    }
+
+    private static String signature(String token) {
+        // header.payload.signature
+        return token.substring(token.lastIndexOf('.') + 1);
+    }
+
+    private static class Entry {
+        private final String token;
+        private final Authentication authentication;
+        private final long expiresAt;
+
+        private Entry(String token, Authentication authentication, long expiresAt) {
+            this.token = token;
+            this.authentication = authentication;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import io.gravitee.management.idp.api.IdentityProvider;
 import io.gravitee.management.idp.api.authentication.AuthenticationProvider;
 import io.gravitee.management.idp.core.plugin.IdentityProviderManager;
 import io.gravitee.management.security.authentication.AuthenticationProviderManager;
+import io.gravitee.management.security.authentication.JWTAuthenticationCache;
 import io.gravitee.management.security.cookies.JWTCookieGenerator;
 import io.gravitee.management.security.filter.AuthenticationSuccessFilter;
 import io.gravitee.management.security.filter.CORSFilter;
@@ -69,6 +70,9 @@ public class BasicSecurityConfigurerAdapter extends WebSecurityConfigurerAdapter
     @Autowired
     private JWTCookieGenerator jwtCookieGenerator;
 
+    @Autowired
+    private JWTAuthenticationCache jwtAuthenticationCache;
+
     @Autowired
     private IdentityProviderManager identityProviderManager;
 
@@ -211,7 +215,7 @@ public class BasicSecurityConfigurerAdapter extends WebSecurityConfigurerAdapter
                 .csrf()
                     .disable()
             .addFilterAfter(corsFilter(), AbstractPreAuthenticatedProcessingFilter.class)
-            .addFilterBefore(new JWTAuthenticationFilter(jwtCookieGenerator, jwtSecret), BasicAuthenticationFilter.class)
+            .addFilterBefore(new JWTAuthenticationFilter(jwtCookieGenerator, jwtSecret, jwtAuthenticationCache), BasicAuthenticationFilter.class)
             .addFilterAfter(new AuthenticationSuccessFilter(jwtCookieGenerator, jwtSecret, environment.getProperty("jwt.issuer", DEFAULT_JWT_ISSUER),
                             environment.getProperty("jwt.expire-after", Integer.class, DEFAULT_JWT_EXPIRE_AFTER), membershipService),
                     BasicAuthenticationFilter.class);
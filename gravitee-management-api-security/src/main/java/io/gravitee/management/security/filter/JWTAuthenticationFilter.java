@@ -19,11 +19,13 @@ import com.auth0.jwt.JWTVerifier;
 import io.gravitee.common.http.HttpHeaders;
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.management.idp.api.authentication.UserDetails;
+import io.gravitee.management.security.authentication.JWTAuthenticationCache;
 import io.gravitee.management.security.cookies.JWTCookieGenerator;
 import io.gravitee.management.service.common.JWTHelper.Claims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.GenericFilterBean;
@@ -47,57 +49,41 @@ public class JWTAuthenticationFilter extends GenericFilterBean {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JWTAuthenticationFilter.class);
 
+    private static final String EXPIRATION_CLAIM = "exp";
+
     private final JWTCookieGenerator jwtCookieGenerator;
     private final JWTVerifier jwtVerifier;
+    private final JWTAuthenticationCache jwtAuthenticationCache;
 
-    public JWTAuthenticationFilter(final JWTCookieGenerator jwtCookieGenerator, final String jwtSecret) {
+    public JWTAuthenticationFilter(final JWTCookieGenerator jwtCookieGenerator, final String jwtSecret,
+                                   final JWTAuthenticationCache jwtAuthenticationCache) {
         this.jwtCookieGenerator = jwtCookieGenerator;
         this.jwtVerifier = new JWTVerifier(jwtSecret);
+        this.jwtAuthenticationCache = jwtAuthenticationCache;
     }
 
     @Override
-    @SuppressWarnings(value = "unchecked")
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException,
             ServletException {
         HttpServletRequest req = (HttpServletRequest) request;
         HttpServletResponse res = (HttpServletResponse) response;
 
-        final Optional<Cookie> optionalStringToken;
-
-        if (req.getCookies() == null) {
-            optionalStringToken = Optional.empty();
-        } else {
-            optionalStringToken = Arrays.stream(req.getCookies())
-                    .filter(cookie -> HttpHeaders.AUTHORIZATION.equals(cookie.getName()))
-                    .findAny();
-        }
-        if (optionalStringToken.isPresent()) {
-            String stringToken = optionalStringToken.get().getValue();
+        final String cookieToken = getToken(req);
+        if (cookieToken != null) {
+            String stringToken = cookieToken;
 
             final String authorizationSchema = "Bearer";
             if (stringToken.contains(authorizationSchema)) {
                 stringToken = stringToken.substring(authorizationSchema.length()).trim();
                 try {
-                    final Map<String, Object> verify = jwtVerifier.verify(stringToken);
-
-                    List<Map> permissions = (List<Map>) verify.get(Claims.PERMISSIONS);
-                    List<SimpleGrantedAuthority> authorities;
-
-                    if (permissions != null) {
-                        authorities = ((List<Map>) verify.get(Claims.PERMISSIONS)).stream()
-                                .map(map -> new SimpleGrantedAuthority(map.get("authority").toString()))
-                                .collect(Collectors.toList());
-                    } else {
-                        authorities = Collections.emptyList();
+                    Authentication authentication = jwtAuthenticationCache.get(stringToken);
+                    if (authentication == null) {
+                        final Map<String, Object> verify = jwtVerifier.verify(stringToken);
+                        authentication = authenticate(verify);
+                        jwtAuthenticationCache.put(stringToken, authentication, (Number) verify.get(EXPIRATION_CLAIM));
                     }
 
-                    final UserDetails userDetails = new UserDetails(getStringValue(verify.get(Claims.SUBJECT)), "",
-                            authorities);
-                    userDetails.setEmail((String) verify.get(Claims.EMAIL));
-                    userDetails.setFirstname((String) verify.get(Claims.FIRSTNAME));
-                    userDetails.setLastname((String) verify.get(Claims.LASTNAME));
-
-                    SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
                 } catch (Exception e) {
                     LOGGER.error("Invalid token", e);
 
@@ -114,6 +100,43 @@ public class JWTAuthenticationFilter extends GenericFilterBean {
         chain.doFilter(request, response);
     }
 
+    /**
+     * @return the value of the authorization cookie, if any
+     */
+    public static String getToken(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (HttpHeaders.AUTHORIZATION.equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings(value = "unchecked")
+    private Authentication authenticate(Map<String, Object> verify) {
+        List<Map> permissions = (List<Map>) verify.get(Claims.PERMISSIONS);
+        List<SimpleGrantedAuthority> authorities;
+
+        if (permissions != null) {
+            authorities = Collections.unmodifiableList(permissions.stream()
+                    .map(map -> new SimpleGrantedAuthority(map.get("authority").toString()))
+                    .collect(Collectors.toList()));
+        } else {
+            authorities = Collections.emptyList();
+        }
+
+        final UserDetails userDetails = new UserDetails(getStringValue(verify.get(Claims.SUBJECT)), "",
+                authorities);
+        userDetails.setEmail((String) verify.get(Claims.EMAIL));
+        userDetails.setFirstname((String) verify.get(Claims.FIRSTNAME));
+        userDetails.setLastname((String) verify.get(Claims.LASTNAME));
+
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
     private String getStringValue(final Object object) {
         if (object == null) {
             return "";
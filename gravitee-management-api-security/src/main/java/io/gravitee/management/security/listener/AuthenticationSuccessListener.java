@@ -20,20 +20,24 @@ import io.gravitee.management.model.NewExternalUserEntity;
 import io.gravitee.management.model.RoleEntity;
 import io.gravitee.management.model.permissions.SystemRole;
 import io.gravitee.management.model.permissions.RoleScope;
+import io.gravitee.management.metrics.CallMetrics;
 import io.gravitee.management.service.MembershipService;
 import io.gravitee.management.service.RoleService;
 import io.gravitee.management.service.UserService;
 import io.gravitee.management.service.exceptions.RoleNotFoundException;
 import io.gravitee.management.service.exceptions.UserNotFoundException;
+import io.gravitee.management.service.impl.UserConnectionRecorder;
 import io.gravitee.repository.management.model.MembershipDefaultReferenceId;
 import io.gravitee.repository.management.model.MembershipReferenceType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationListener;
 import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
 import org.springframework.security.core.GrantedAuthority;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -51,10 +55,33 @@ public class AuthenticationSuccessListener implements ApplicationListener<Authen
     @Autowired
     private RoleService roleService;
 
+    @Autowired
+    private UserConnectionRecorder userConnectionRecorder;
+
+    @Autowired
+    @Qualifier("loginMetrics")
+    private CallMetrics loginMetrics;
+
     @Override
     public void onApplicationEvent(AuthenticationSuccessEvent event) {
+        final long start = System.nanoTime();
+        boolean error = true;
+        try {
+            onAuthenticationSuccess(event);
+            error = false;
+        } finally {
+            loginMetrics.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), error);
+        }
+    }
+
+    private void onAuthenticationSuccess(AuthenticationSuccessEvent event) {
         final UserDetails details = (UserDetails) event.getAuthentication().getPrincipal();
 
+        if (userConnectionRecorder.isKnown(details.getUsername())) {
+            userConnectionRecorder.connectLater(details.getUsername());
+            return;
+        }
+
         try {
             userService.findByName(details.getUsername(), false);
         } catch (UserNotFoundException unfe) {
@@ -76,9 +103,13 @@ public class AuthenticationSuccessListener implements ApplicationListener<Authen
                 addRole(RoleScope.MANAGEMENT, newUser.getUsername(), event.getAuthentication().getAuthorities());
                 addRole(RoleScope.PORTAL, newUser.getUsername(), event.getAuthentication().getAuthorities());
             }
+
+            // First connection is recorded right away
+            userConnectionRecorder.connect(details.getUsername());
+            return;
         }
 
-        userService.connect(details.getUsername());
+        userConnectionRecorder.connectLater(details.getUsername());
     }
 
     /**
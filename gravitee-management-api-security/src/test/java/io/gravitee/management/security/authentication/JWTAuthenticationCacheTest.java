@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.security.authentication;
+
+import org.junit.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class JWTAuthenticationCacheTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private final Authentication authentication = new UsernamePasswordAuthenticationToken("user", null);
+
+    private static long inOneHour() {
+        return TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 3600;
+    }
+
+    @Test
+    public void shouldReturnCachedAuthentication() {
+        JWTAuthenticationCache cache = new JWTAuthenticationCache(10, 3600);
+
+        assertNull(cache.get(TOKEN));
+        cache.put(TOKEN, authentication, inOneHour());
+
+        assertSame(authentication, cache.get(TOKEN));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void shouldNotReturnAuthenticationOfAnotherTokenWithSameSignature() {
+        JWTAuthenticationCache cache = new JWTAuthenticationCache(10, 3600);
+        cache.put(TOKEN, authentication, inOneHour());
+
+        assertNull(cache.get("header.tampered-payload.signature"));
+    }
+
+    @Test
+    public void shouldNotReturnExpiredToken() {
+        JWTAuthenticationCache cache = new JWTAuthenticationCache(10, 3600);
+        cache.put(TOKEN, authentication, TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) - 1);
+
+        assertNull(cache.get(TOKEN));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void shouldInvalidateToken() {
+        JWTAuthenticationCache cache = new JWTAuthenticationCache(10, 3600);
+        cache.put(TOKEN, authentication, inOneHour());
+
+        cache.invalidate(TOKEN);
+
+        assertNull(cache.get(TOKEN));
+        assertEquals(Long.valueOf(1), cache.getCounters().get("invalidations"));
+    }
+
+    @Test
+    public void shouldNotCacheWhenDisabled() {
+        JWTAuthenticationCache cache = new JWTAuthenticationCache(0, 3600);
+        cache.put(TOKEN, authentication, inOneHour());
+
+        assertFalse(cache.isEnabled());
+        assertNull(cache.get(TOKEN));
+    }
+}
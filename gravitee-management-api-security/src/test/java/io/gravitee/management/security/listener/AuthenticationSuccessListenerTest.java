@@ -16,12 +16,14 @@
 package io.gravitee.management.security.listener;
 
 import io.gravitee.management.idp.api.authentication.UserDetails;
+import io.gravitee.management.metrics.CallMetrics;
 import io.gravitee.management.model.NewExternalUserEntity;
 import io.gravitee.management.model.RoleEntity;
 import io.gravitee.management.service.MembershipService;
 import io.gravitee.management.service.RoleService;
 import io.gravitee.management.service.UserService;
 import io.gravitee.management.service.exceptions.UserNotFoundException;
+import io.gravitee.management.service.impl.UserConnectionRecorder;
 import io.gravitee.repository.management.model.MembershipDefaultReferenceId;
 import io.gravitee.repository.management.model.MembershipReferenceType;
 import io.gravitee.repository.management.model.RoleScope;
@@ -56,6 +58,10 @@ public class AuthenticationSuccessListenerTest {
     private MembershipService membershipServiceMock;
     @Mock
     private RoleService roleServiceMock;
+    @Mock
+    private UserConnectionRecorder userConnectionRecorderMock;
+    @Mock
+    private CallMetrics loginMetricsMock;
 
     @Mock
     private AuthenticationSuccessEvent eventMock;
@@ -73,7 +79,23 @@ public class AuthenticationSuccessListenerTest {
 
         verify(userServiceMock, times(1)).findByName(userDetailsMock.getUsername(), false);
         verify(userServiceMock, never()).create(any(NewExternalUserEntity.class), anyBoolean());
-        verify(userServiceMock, times(1)).connect(userDetailsMock.getUsername());
+        verify(userConnectionRecorderMock, times(1)).connectLater(userDetailsMock.getUsername());
+        verify(userConnectionRecorderMock, never()).connect(anyString());
+        verify(loginMetricsMock, times(1)).record(anyLong(), eq(false));
+    }
+
+    @Test
+    public void shouldConnectKnownUserWithoutLoadingIt() {
+        when(eventMock.getAuthentication()).thenReturn(authenticationMock);
+        when(authenticationMock.getPrincipal()).thenReturn(userDetailsMock);
+        when(userDetailsMock.getUsername()).thenReturn("known");
+        when(userConnectionRecorderMock.isKnown("known")).thenReturn(true);
+
+        listener.onApplicationEvent(eventMock);
+
+        verify(userServiceMock, never()).findByName(anyString(), anyBoolean());
+        verify(userServiceMock, never()).create(any(NewExternalUserEntity.class), anyBoolean());
+        verify(userConnectionRecorderMock, times(1)).connectLater("known");
     }
 
     @Test
@@ -87,7 +109,7 @@ public class AuthenticationSuccessListenerTest {
 
         verify(userServiceMock, times(1)).findByName(userDetailsMock.getUsername(), false);
         verify(userServiceMock, times(1)).create(any(NewExternalUserEntity.class), eq(true));
-        verify(userServiceMock, times(1)).connect(userDetailsMock.getUsername());
+        verify(userConnectionRecorderMock, times(1)).connect(userDetailsMock.getUsername());
     }
 
     @Test
@@ -123,7 +145,7 @@ public class AuthenticationSuccessListenerTest {
                         RoleScope.PORTAL,
                         "ROLE"
                 );
-        verify(userServiceMock, times(1)).connect(userDetailsMock.getUsername());
+        verify(userConnectionRecorderMock, times(1)).connect(userDetailsMock.getUsername());
     }
 
     @Test
@@ -162,7 +184,7 @@ public class AuthenticationSuccessListenerTest {
                         RoleScope.PORTAL,
                         "ROLE2"
                 );
-        verify(userServiceMock, times(1)).connect(userDetailsMock.getUsername());
+        verify(userConnectionRecorderMock, times(1)).connect(userDetailsMock.getUsername());
     }
 
     @Test
@@ -201,7 +223,7 @@ public class AuthenticationSuccessListenerTest {
                         RoleScope.PORTAL,
                         "ROLE2"
                 );
-        verify(userServiceMock, times(1)).connect(userDetailsMock.getUsername());
+        verify(userConnectionRecorderMock, times(1)).connect(userDetailsMock.getUsername());
     }
 
     @Test
@@ -235,6 +257,6 @@ public class AuthenticationSuccessListenerTest {
                         RoleScope.PORTAL,
                         "ADMIN"
                 );
-        verify(userServiceMock, times(1)).connect(userDetailsMock.getUsername());
+        verify(userConnectionRecorderMock, times(1)).connect(userDetailsMock.getUsername());
     }
 }
@@ -17,7 +17,9 @@ package io.gravitee.management.service;
 
 import io.gravitee.management.model.*;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Azize ELAMRANI (azize at graviteesource.com)
@@ -27,6 +29,13 @@ public interface ApiMetadataService {
 
     List<ApiMetadataEntity> findAllByApi(String apiId);
 
+    /**
+     * Same as {@link #findAllByApi(String)} for several APIs at once, the default metadata being read only once.
+     *
+     * @return the metadata of each given API, in the order of the given ids.
+     */
+    Map<String, List<ApiMetadataEntity>> findAllByApis(Collection<String> apiIds);
+
     ApiMetadataEntity findByIdAndApi(String metadataId, String apiId);
 
     ApiMetadataEntity create(NewApiMetadataEntity metadata);
@@ -18,6 +18,9 @@ package io.gravitee.management.service;
 import io.gravitee.management.model.*;
 import io.gravitee.repository.exceptions.TechnicalException;
 
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -31,6 +34,11 @@ public interface ApiService {
 
     Set<ApiEntity> findAll();
 
+    /**
+     * Find the given APIs, without reading their definition.
+     */
+    Set<ApiEntity> findByIds(Collection<String> apiIds);
+
     Set<ApiEntity> findByUser(String username);
 
     Set<ApiEntity> findByGroup(String groupId);
@@ -66,6 +74,12 @@ public interface ApiService {
 
     ApiEntity createOrUpdateWithDefinition(ApiEntity apiEntity, String apiDefinition, String username);
 
+    /**
+     * Creates the APIs of an archive, which is either a JSON array of API definitions or a zip file of API definitions.
+     * Each definition is imported on its own, and the outcome of every import is returned in the archive order.
+     */
+    List<ImportApiResultEntity> importDefinitions(InputStream definitions, String username);
+
     ImageEntity getPicture(String apiId);
 
     void deleteViewFromAPIs(String viewId);
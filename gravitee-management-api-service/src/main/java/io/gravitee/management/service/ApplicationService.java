@@ -17,6 +17,7 @@ package io.gravitee.management.service;
 
 import io.gravitee.management.model.*;
 
+import java.util.Collection;
 import java.util.Set;
 
 /**
@@ -28,6 +29,8 @@ public interface ApplicationService {
 
     ApplicationEntity findById(String applicationId);
 
+    Set<ApplicationEntity> findByIds(Collection<String> applicationIds);
+
     Set<ApplicationEntity> findByUser(String username);
 
     Set<ApplicationEntity> findByName(String name);
@@ -28,4 +28,9 @@ public interface IdentityService {
     Collection<User> search(String query);
 
     User findOne(String id);
+
+    /**
+     * Retrieves many users at once: the identity providers are queried for all the identifiers together.
+     */
+    Collection<User> findAll(Collection<String> ids);
 }
@@ -20,6 +20,7 @@ import io.gravitee.repository.management.model.Membership;
 import io.gravitee.repository.management.model.MembershipReferenceType;
 import io.gravitee.repository.management.model.RoleScope;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 
@@ -39,6 +40,14 @@ public interface MembershipService {
 
     Set<MemberEntity> getMembers(MembershipReferenceType referenceType, String referenceId, RoleScope roleScope, String roleName);
 
+    /**
+     * Finds the given users, and creates the ones only known by an identity provider. The identity providers are
+     * queried once for all the missing users.
+     *
+     * @return the users found or created, by username. Unknown users are left out.
+     */
+    Map<String, UserEntity> findOrCreateUsers(Collection<String> usernames);
+
     MemberEntity addOrUpdateMember(MembershipReferenceType referenceType, String referenceId, String username, RoleScope roleScope, String roleName);
 
     void deleteMember(MembershipReferenceType referenceType, String referenceId, String username);
@@ -20,7 +20,9 @@ import io.gravitee.management.model.RegisterUserEntity;
 import io.gravitee.management.model.UpdateUserEntity;
 import io.gravitee.management.model.UserEntity;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -33,6 +35,13 @@ public interface UserService {
 
     UserEntity connect(String username);
 
+    /**
+     * Records the last connection date of several users at once.
+     *
+     * @param connections the connection date, by username
+     */
+    void connect(Map<String, Date> connections);
+
     UserEntity findByName(String username, boolean loadRoles);
 
     Set<UserEntity> findByNames(List<String> usernames, boolean loadRoles);
@@ -0,0 +1,255 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.cache;
+
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.MembershipRepository;
+import io.gravitee.repository.management.model.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Index of the APIs visible by each user: public APIs, APIs the user is a member of and APIs of the groups in which
+ * the user has an API role.
+ *
+ * The API side of the index (visibility and groups of every API) is built once and then updated incrementally when
+ * an API is created, updated or deleted. The user side is loaded on first use and dropped when one of the user
+ * memberships changes. The index is kept by the {@link ReferenceDataCache}: a change made on another node only
+ * drops the memberships of the user, or reloads the single API, on the next lookup.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class ApiAccessIndex {
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private ApiRepository apiRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    /**
+     * Number of users kept in the index. The user side is cleared once this size is reached.
+     */
+    @Value("${cache.apiAccess.maxUsers:10000}")
+    private int maxUsers = 10000;
+
+    /**
+     * Returns the ids of the APIs visible by the given user.
+     */
+    public Set<String> findApiIds(String username) throws TechnicalException {
+        if (!referenceDataCache.isEnabled()) {
+            Set<String> apiIds = apiRepository.findByVisibility(Visibility.PUBLIC).stream()
+                    .map(Api::getId)
+                    .collect(Collectors.toSet());
+            UserAccess user = loadUser(username);
+            apiIds.addAll(user.apis);
+            if (!user.groups.isEmpty()) {
+                apiRepository.findByGroups(new ArrayList<>(user.groups)).forEach(api -> apiIds.add(api.getId()));
+            }
+            return apiIds;
+        }
+
+        Index index = referenceDataCache.get(ReferenceData.API_ACCESS, this::loadIndex);
+        return index.findApiIds(username, this::loadUser, apiRepository::findById);
+    }
+
+    public void apiUpdated(Api api) {
+        referenceDataCache.update(ReferenceData.API_ACCESS, Index.apiKey(api.getId()), (Index index) -> index.put(api));
+    }
+
+    public void apiDeleted(String apiId) {
+        referenceDataCache.update(ReferenceData.API_ACCESS, Index.apiKey(apiId), (Index index) -> index.remove(apiId));
+    }
+
+    public void membershipUpdated(String username) {
+        referenceDataCache.update(ReferenceData.API_ACCESS, Index.userKey(username),
+                (Index index) -> index.evictUser(username));
+    }
+
+    public void invalidate() {
+        referenceDataCache.invalidate(ReferenceData.API_ACCESS);
+    }
+
+    private Index loadIndex() throws TechnicalException {
+        Index index = new Index(maxUsers);
+        apiRepository.findAll().forEach(index::put);
+        return index;
+    }
+
+    private UserAccess loadUser(String username) throws TechnicalException {
+        Set<String> apis = membershipRepository.findByUserAndReferenceType(username, MembershipReferenceType.API).stream()
+                .map(Membership::getReferenceId)
+                .collect(Collectors.toSet());
+        Set<String> groups = membershipRepository.findByUserAndReferenceType(username, MembershipReferenceType.GROUP).stream()
+                .filter(m -> m.getRoles().keySet().contains(RoleScope.API.getId()))
+                .map(Membership::getReferenceId)
+                .collect(Collectors.toSet());
+        return new UserAccess(apis, groups);
+    }
+
+    @FunctionalInterface
+    interface UserLoader {
+        UserAccess load(String username) throws TechnicalException;
+    }
+
+    @FunctionalInterface
+    interface ApiLoader {
+        Optional<Api> load(String apiId) throws TechnicalException;
+    }
+
+    static class Index implements ReferenceDataCache.Evictable {
+        private static final String API_KEY_PREFIX = "api:";
+        private static final String USER_KEY_PREFIX = "user:";
+
+        private final int maxUsers;
+        private final Map<String, Set<String>> groupsByApi = new ConcurrentHashMap<>();
+        private final Map<String, Set<String>> apisByGroup = new ConcurrentHashMap<>();
+        private final Set<String> publicApis = ConcurrentHashMap.newKeySet();
+        private final Set<String> staleApis = ConcurrentHashMap.newKeySet();
+        private final Map<String, UserAccess> users = new ConcurrentHashMap<>();
+        private final AtomicLong usersVersion = new AtomicLong();
+
+        Index(int maxUsers) {
+            this.maxUsers = maxUsers;
+        }
+
+        static String apiKey(String apiId) {
+            return API_KEY_PREFIX + apiId;
+        }
+
+        static String userKey(String username) {
+            return USER_KEY_PREFIX + username;
+        }
+
+        /**
+         * Adds or replaces an API. The API is added to its new groups before being removed from the previous ones, so
+         * that concurrent lookups never miss it.
+         */
+        void put(Api api) {
+            String apiId = api.getId();
+            Set<String> groups = api.getGroups() == null ? Collections.emptySet() : new HashSet<>(api.getGroups());
+
+            groups.forEach(group -> apisByGroup.computeIfAbsent(group, key -> ConcurrentHashMap.newKeySet()).add(apiId));
+            Set<String> previousGroups = groupsByApi.put(apiId, groups);
+            if (api.getVisibility() == Visibility.PUBLIC) {
+                publicApis.add(apiId);
+            } else {
+                publicApis.remove(apiId);
+            }
+
+            if (previousGroups != null) {
+                previousGroups.stream()
+                        .filter(group -> !groups.contains(group))
+                        .forEach(group -> removeFromGroup(group, apiId));
+            }
+        }
+
+        void remove(String apiId) {
+            Set<String> groups = groupsByApi.remove(apiId);
+            if (groups != null) {
+                publicApis.remove(apiId);
+                groups.forEach(group -> removeFromGroup(group, apiId));
+            }
+        }
+
+        private void removeFromGroup(String group, String apiId) {
+            apisByGroup.computeIfPresent(group, (key, apis) -> {
+                apis.remove(apiId);
+                return apis.isEmpty() ? null : apis;
+            });
+        }
+
+        void evictUser(String username) {
+            users.compute(username, (key, current) -> {
+                usersVersion.incrementAndGet();
+                return null;
+            });
+        }
+
+        /**
+         * Drops an element changed by another node: the memberships of a user are dropped, an API is reloaded on the
+         * next lookup.
+         */
+        @Override
+        public void evict(String key) {
+            if (key.startsWith(USER_KEY_PREFIX)) {
+                evictUser(key.substring(USER_KEY_PREFIX.length()));
+            } else if (key.startsWith(API_KEY_PREFIX)) {
+                staleApis.add(key.substring(API_KEY_PREFIX.length()));
+            }
+        }
+
+        private void reloadStaleApis(ApiLoader loader) throws TechnicalException {
+            for (Iterator<String> ite = staleApis.iterator(); ite.hasNext(); ) {
+                String apiId = ite.next();
+                ite.remove();
+                try {
+                    Optional<Api> api = loader.load(apiId);
+                    if (api.isPresent()) {
+                        put(api.get());
+                    } else {
+                        remove(apiId);
+                    }
+                } catch (TechnicalException te) {
+                    staleApis.add(apiId);
+                    throw te;
+                }
+            }
+        }
+
+        Set<String> findApiIds(String username, UserLoader loader, ApiLoader apiLoader) throws TechnicalException {
+            reloadStaleApis(apiLoader);
+
+            UserAccess user = users.get(username);
+            if (user == null) {
+                long expectedVersion = usersVersion.get();
+                UserAccess loaded = loader.load(username);
+                if (users.size() >= maxUsers) {
+                    users.clear();
+                }
+                // Do not keep memberships which have been loaded while they were updated
+                users.compute(username, (key, current) -> usersVersion.get() == expectedVersion ? loaded : current);
+                user = loaded;
+            }
+
+            Set<String> apiIds = new HashSet<>(publicApis);
+            user.apis.stream().filter(groupsByApi::containsKey).forEach(apiIds::add);
+            user.groups.forEach(group -> apiIds.addAll(apisByGroup.getOrDefault(group, Collections.emptySet())));
+            return apiIds;
+        }
+    }
+
+    static class UserAccess {
+        private final Set<String> apis;
+        private final Set<String> groups;
+
+        UserAccess(Set<String> apis, Set<String> groups) {
+            this.apis = apis;
+            this.groups = groups;
+        }
+    }
+}
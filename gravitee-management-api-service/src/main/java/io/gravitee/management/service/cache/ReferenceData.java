@@ -0,0 +1,29 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.cache;
+
+/**
+ * Small and rarely updated tables kept in memory by the {@link ReferenceDataCache}.
+ *
+ * {@link #API_ACCESS} is not a table but the index built by the {@link ApiAccessIndex} from the APIs and the
+ * memberships, and {@link #USERS} the search index of the users managed by the repository identity provider.
+ *
+ * @author GraviteeSource Team
+ */
+public enum ReferenceData {
+
+    ROLES, DEFAULT_METADATA, VIEWS, TAGS, TENANTS, API_ACCESS, USERS;
+}
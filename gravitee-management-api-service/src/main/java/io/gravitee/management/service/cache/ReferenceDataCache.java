@@ -0,0 +1,375 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.cache;
+
+import io.gravitee.management.service.cluster.EventClusterStore;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.EventRepository;
+import io.gravitee.repository.management.api.search.EventCriteria;
+import io.gravitee.repository.management.model.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * In-process cache of the {@link ReferenceData} tables.
+ *
+ * A write on one of these tables invalidates the local copy and updates a change marker stored in the event
+ * repository (one event per table, with a well-known id). Markers and changes are stored like the cluster records,
+ * under {@link EventClusterStore#INTERNAL_EVENT_TYPE}, which no product component reads. Every management node polls these markers in the
+ * background and drops its own copy when a marker has been changed by another node, so that request threads
+ * never have to check anything against the repository.
+ *
+ * A change of a single element of a table, such as the memberships of one user, is instead recorded as an event of
+ * its own, kept for {@code cache.referenceData.changeRetention} ms. The other nodes only drop this element from the
+ * values implementing {@link Evictable}, and the whole value otherwise. A node which has not been able to read these
+ * events for too long drops everything, since some of them may have been removed in the meantime.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class ReferenceDataCache implements InitializingBean, DisposableBean {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(ReferenceDataCache.class);
+
+    static final String MARKER_ID_PREFIX = "reference-data-";
+    static final String MARKER_PROPERTY = "reference_data";
+    static final String CHANGE_PROPERTY = "reference_data_change";
+    static final String NODE_PROPERTY = "node";
+
+    /**
+     * Token recorded for a table which has never been changed, so that the creation of its marker by another node is
+     * seen as a change.
+     */
+    private static final String NO_MARKER = "";
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Value("${cache.referenceData.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.referenceData.refreshInterval:5000}")
+    private long refreshInterval;
+
+    @Value("${cache.referenceData.changeRetention:60000}")
+    private long changeRetention = 60000;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<ReferenceData, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<ReferenceData, AtomicLong> versions = new EnumMap<>(ReferenceData.class);
+    private final Map<ReferenceData, String> markers = new ConcurrentHashMap<>();
+
+    /**
+     * Ids of the element changes already applied, with the time they have been read. Only used by the refresh.
+     */
+    private final Map<String, Long> appliedChanges = new HashMap<>();
+    private long lastChangesRead;
+    private long lastChangesCleanup;
+
+    private ScheduledExecutorService executorService;
+
+    public ReferenceDataCache() {
+        for (ReferenceData data : ReferenceData.values()) {
+            versions.put(data, new AtomicLong());
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (enabled) {
+            // Record the current markers before anything is loaded, so that the first change made by another node
+            // is not mistaken for the initial state
+            refresh();
+
+            executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "reference-data-cache");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executorService.scheduleWithFixedDelay(this::refresh, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS);
+            LOGGER.info("Reference data cache enabled, changes from other nodes are checked every {} ms", refreshInterval);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the cached value of the given table, loading it if needed. When the cache is disabled, the loader
+     * is always called.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(ReferenceData data, Loader<T> loader) throws TechnicalException {
+        if (!enabled) {
+            return loader.load();
+        }
+
+        Entry entry = entries.get(data);
+        AtomicLong version = versions.get(data);
+        long expectedVersion = version.get();
+
+        if (entry != null && entry.version == expectedVersion) {
+            return (T) entry.value;
+        }
+
+        T value = loader.load();
+
+        // Do not keep a value which has been loaded while the table was invalidated
+        entries.compute(data, (key, current) -> version.get() == expectedVersion ?
+                new Entry(expectedVersion, value) : current);
+
+        return value;
+    }
+
+    /**
+     * Drops the local copy of the given table and notifies the other nodes.
+     */
+    public void invalidate(ReferenceData data) {
+        evict(data);
+
+        if (enabled) {
+            publishMarker(data);
+        }
+    }
+
+    /**
+     * Applies a change of a single element to the local copy of the given table, if it is loaded, and notifies the
+     * other nodes, which drop this element from their own copy.
+     *
+     * @param key the changed element, as understood by the {@link Evictable} value of the table
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void update(ReferenceData data, String key, Consumer<T> updater) {
+        if (!enabled) {
+            return;
+        }
+
+        entries.compute(data, (k, current) -> {
+            long version = versions.get(k).incrementAndGet();
+            if (current == null) {
+                return null;
+            }
+            updater.accept((T) current.value);
+            return new Entry(version, current.value);
+        });
+
+        publishChange(data, key);
+    }
+
+    void refresh() {
+        for (ReferenceData data : ReferenceData.values()) {
+            try {
+                String token = eventRepository.findById(markerId(data))
+                        .map(Event::getPayload)
+                        .orElse(NO_MARKER);
+                String previousToken = markers.put(data, token);
+                if (previousToken != null && !previousToken.equals(token)) {
+                    LOGGER.debug("{} have been updated by another node", data);
+                    evict(data);
+                }
+            } catch (Exception ex) {
+                LOGGER.warn("Unable to check {} change marker", data, ex);
+            }
+        }
+
+        refreshChanges(System.currentTimeMillis());
+    }
+
+    private void refreshChanges(long now) {
+        // Changes are read again over half of their retention, to cover the clock differences between the nodes
+        long margin = changeRetention / 2;
+
+        try {
+            if (lastChangesRead != 0 && now - lastChangesRead > margin) {
+                LOGGER.warn("Changes from other nodes have not been read for {} ms, reference data are reloaded",
+                        now - lastChangesRead);
+                for (ReferenceData data : ReferenceData.values()) {
+                    evict(data);
+                }
+            }
+
+            List<Event> changes = eventRepository.search(new EventCriteria.Builder()
+                    .types(EventClusterStore.INTERNAL_EVENT_TYPE)
+                    .property(CHANGE_PROPERTY, Boolean.TRUE.toString())
+                    .from(Math.max(1, (lastChangesRead == 0 ? now : lastChangesRead) - margin))
+                    .to(now + margin)
+                    .build());
+
+            for (Event change : changes) {
+                Map<String, String> properties = change.getProperties() == null ?
+                        Collections.emptyMap() : change.getProperties();
+                ReferenceData data = find(properties.get(MARKER_PROPERTY));
+                if (appliedChanges.putIfAbsent(change.getId(), now) == null && data != null
+                        && !nodeId.equals(properties.get(NODE_PROPERTY))) {
+                    LOGGER.debug("{} {} has been updated by another node", data, change.getPayload());
+                    evict(data, change.getPayload());
+                }
+            }
+
+            lastChangesRead = now;
+            appliedChanges.values().removeIf(readAt -> readAt < now - changeRetention);
+
+            if (now - lastChangesCleanup >= changeRetention) {
+                removeChanges(now - changeRetention);
+                lastChangesCleanup = now;
+            }
+        } catch (Exception ex) {
+            LOGGER.warn("Unable to check reference data changes", ex);
+        }
+    }
+
+    private void removeChanges(long before) throws TechnicalException {
+        List<Event> changes = eventRepository.search(new EventCriteria.Builder()
+                .types(EventClusterStore.INTERNAL_EVENT_TYPE)
+                .property(CHANGE_PROPERTY, Boolean.TRUE.toString())
+                .from(1)
+                .to(before)
+                .build());
+
+        // Not all the repositories apply the date range on the update date
+        for (Event change : changes) {
+            if (change.getUpdatedAt() == null || change.getUpdatedAt().getTime() < before) {
+                eventRepository.delete(change.getId());
+            }
+        }
+    }
+
+    private void evict(ReferenceData data) {
+        entries.compute(data, (key, current) -> {
+            versions.get(key).incrementAndGet();
+            return null;
+        });
+    }
+
+    private void evict(ReferenceData data, String key) {
+        entries.compute(data, (k, current) -> {
+            long version = versions.get(k).incrementAndGet();
+            if (current != null && current.value instanceof Evictable) {
+                ((Evictable) current.value).evict(key);
+                return new Entry(version, current.value);
+            }
+            return null;
+        });
+    }
+
+    private void publishChange(ReferenceData data, String key) {
+        try {
+            Date now = new Date();
+            Map<String, String> properties = new HashMap<>();
+            properties.put(MARKER_PROPERTY, data.name());
+            properties.put(CHANGE_PROPERTY, Boolean.TRUE.toString());
+            properties.put(NODE_PROPERTY, nodeId);
+
+            Event change = new Event();
+            change.setId(markerId(data) + '-' + UUID.randomUUID());
+            change.setType(EventClusterStore.INTERNAL_EVENT_TYPE);
+            change.setPayload(key);
+            change.setProperties(properties);
+            change.setCreatedAt(now);
+            change.setUpdatedAt(now);
+            eventRepository.create(change);
+        } catch (TechnicalException ex) {
+            LOGGER.error("Unable to notify other nodes that {} {} has been updated", data, key, ex);
+        }
+    }
+
+    private void publishMarker(ReferenceData data) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Date now = new Date();
+            Optional<Event> optMarker = eventRepository.findById(markerId(data));
+            if (optMarker.isPresent()) {
+                Event marker = optMarker.get();
+                marker.setPayload(token);
+                marker.setUpdatedAt(now);
+                eventRepository.update(marker);
+            } else {
+                Event marker = new Event();
+                marker.setId(markerId(data));
+                marker.setType(EventClusterStore.INTERNAL_EVENT_TYPE);
+                marker.setPayload(token);
+                marker.setProperties(Collections.singletonMap(MARKER_PROPERTY, data.name()));
+                marker.setCreatedAt(now);
+                marker.setUpdatedAt(now);
+                eventRepository.create(marker);
+            }
+            markers.put(data, token);
+        } catch (TechnicalException ex) {
+            LOGGER.error("Unable to notify other nodes that {} have been updated", data, ex);
+        }
+    }
+
+    private static ReferenceData find(String name) {
+        for (ReferenceData data : ReferenceData.values()) {
+            if (data.name().equals(name)) {
+                return data;
+            }
+        }
+        return null;
+    }
+
+    static String markerId(ReferenceData data) {
+        return MARKER_ID_PREFIX + data.name().toLowerCase();
+    }
+
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws TechnicalException;
+    }
+
+    /**
+     * Value able to drop a single element changed by another node, instead of being dropped as a whole.
+     */
+    public interface Evictable {
+
+        /**
+         * Called from the refresh thread, concurrently with the readers of the value.
+         */
+        void evict(String key);
+    }
+
+    private static class Entry {
+        private final long version;
+        private final Object value;
+
+        private Entry(long version, Object value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.cluster;
+
+import java.util.Set;
+
+/**
+ * Coordinates the background jobs of the management nodes sharing the same repository.
+ *
+ * Singleton jobs are guarded by a named lease: only the node holding the lease runs the job. Per-API work is
+ * sharded between the live nodes by consistent hashing, so that each key is owned by exactly one node once the
+ * membership is stable.
+ *
+ * @author GraviteeSource Team
+ */
+public interface ClusterCoordinator {
+
+    /**
+     * @return the identifier of this node in the cluster
+     */
+    String getNodeId();
+
+    /**
+     * Acquires or renews the given lease for this node.
+     *
+     * @return the lease held by this node, or <code>null</code> if the lease is held by another node
+     */
+    Lease acquire(String name);
+
+    /**
+     * Shortcut for {@link #acquire(String)} when the fencing token is not needed.
+     *
+     * @return <code>true</code> if this node holds the given lease
+     */
+    default boolean isLeader(String name) {
+        return acquire(name) != null;
+    }
+
+    /**
+     * Checks that the given lease is still held by this node with the same fencing token. Jobs call it before each
+     * write, so that a node which has been paused past the expiration of its lease stops as soon as it resumes. The
+     * lease is renewed if needed, so that a job running longer than the lease duration keeps it.
+     *
+     * @return <code>false</code> if the lease has expired or has been taken over since it was acquired
+     */
+    default boolean holds(Lease lease) {
+        Lease current = lease == null ? null : acquire(lease.getName());
+        return current != null && current.getToken() == lease.getToken();
+    }
+
+    /**
+     * @return <code>true</code> if the given key, such as an API id, is assigned to this node
+     */
+    boolean owns(String key);
+
+    /**
+     * @return the identifiers of the live nodes, including this one
+     */
+    Set<String> getMembers();
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.cluster;
+
+import io.gravitee.repository.exceptions.TechnicalException;
+
+import java.util.Set;
+
+/**
+ * Shared storage of the cluster leases and members.
+ *
+ * @author GraviteeSource Team
+ */
+public interface ClusterStore {
+
+    /**
+     * @return the current lease of the given name, <code>null</code> if it has never been acquired
+     */
+    Lease findLease(String name) throws TechnicalException;
+
+    /**
+     * Replaces the lease of the same name, but only if its current token is the expected one.
+     *
+     * @param expectedToken the token of the current lease, 0 if there is no lease yet
+     * @return <code>true</code> if the lease has been replaced
+     */
+    boolean replaceLease(Lease lease, long expectedToken) throws TechnicalException;
+
+    /**
+     * Records that the given node is alive.
+     */
+    void heartbeat(String nodeId, long now) throws TechnicalException;
+
+    /**
+     * @return the nodes which have sent a heartbeat since the given date
+     */
+    Set<String> findMembers(long since) throws TechnicalException;
+
+    /**
+     * Removes the members which have not sent any heartbeat since the given date, such as crashed nodes.
+     */
+    void removeMembers(long before) throws TechnicalException;
+
+    /**
+     * Removes the given node from the members.
+     */
+    void leave(String nodeId) throws TechnicalException;
+}
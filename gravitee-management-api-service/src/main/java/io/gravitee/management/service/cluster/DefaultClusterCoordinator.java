@@ -0,0 +1,205 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.cluster;
+
+import io.gravitee.common.node.Node;
+import io.gravitee.repository.management.api.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ClusterCoordinator} storing its leases and members in the management repository.
+ *
+ * Each node sends a heartbeat periodically and rebuilds its hash ring from the nodes seen recently. A node which has
+ * not sent any heartbeat for three intervals is considered gone and its keys are taken over by the other nodes. Its
+ * record is removed by the first node noticing, after twenty intervals, that it has not come back.
+ *
+ * When the cluster mode is disabled, the node coordinates with itself only: it holds every lease and owns every key.
+ * The nodes must have roughly synchronized clocks, leases and heartbeats being compared against the local time.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class DefaultClusterCoordinator implements ClusterCoordinator, InitializingBean, DisposableBean {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(DefaultClusterCoordinator.class);
+
+    private static final int MISSED_HEARTBEATS = 3;
+    private static final int EXPIRED_HEARTBEATS = 20;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Value("${cluster.enabled:false}")
+    private boolean enabled;
+
+    @Value("${cluster.heartbeatInterval:5000}")
+    private long heartbeatInterval;
+
+    @Value("${cluster.leaseDuration:15000}")
+    private long leaseDuration;
+
+    private String nodeId = Node.ID;
+
+    private ClusterStore store;
+
+    private final Map<String, Lease> heldLeases = new ConcurrentHashMap<>();
+
+    private volatile Set<String> members = Collections.singleton(nodeId);
+    private volatile ConsistentHashRing ring = new ConsistentHashRing(members);
+
+    private ScheduledExecutorService executorService;
+
+    private long lastCleanup;
+
+    @Override
+    public void afterPropertiesSet() {
+        members = Collections.singleton(nodeId);
+        ring = new ConsistentHashRing(members);
+
+        if (enabled) {
+            store = new EventClusterStore(eventRepository);
+            executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "cluster-coordinator");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executorService.scheduleWithFixedDelay(this::refresh, 0, heartbeatInterval, TimeUnit.MILLISECONDS);
+            LOGGER.info("Cluster mode enabled, node {} sends a heartbeat every {} ms", nodeId, heartbeatInterval);
+        } else {
+            store = new InMemoryClusterStore();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+
+        // Let the other nodes take over without waiting for the expiration
+        long now = System.currentTimeMillis();
+        for (Lease lease : heldLeases.values()) {
+            try {
+                store.replaceLease(new Lease(lease.getName(), nodeId, lease.getToken(), now), lease.getToken());
+            } catch (Exception ex) {
+                LOGGER.warn("Unable to release lease {}", lease.getName(), ex);
+            }
+        }
+        heldLeases.clear();
+
+        try {
+            store.leave(nodeId);
+        } catch (Exception ex) {
+            LOGGER.warn("Unable to leave the cluster", ex);
+        }
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public Lease acquire(String name) {
+        long now = System.currentTimeMillis();
+
+        // Renew the lease only once half of its duration has elapsed
+        Lease held = heldLeases.get(name);
+        if (held != null && held.getExpiresAt() - now > leaseDuration / 2) {
+            return held;
+        }
+
+        try {
+            Lease current = store.findLease(name);
+            Lease candidate;
+            long expectedToken;
+
+            if (current == null) {
+                expectedToken = 0;
+                candidate = new Lease(name, nodeId, 1, now + leaseDuration);
+            } else if (nodeId.equals(current.getHolder()) && !current.isExpired(now)) {
+                expectedToken = current.getToken();
+                candidate = new Lease(name, nodeId, current.getToken(), now + leaseDuration);
+            } else if (current.isExpired(now)) {
+                expectedToken = current.getToken();
+                candidate = new Lease(name, nodeId, current.getToken() + 1, now + leaseDuration);
+            } else {
+                heldLeases.remove(name);
+                return null;
+            }
+
+            if (store.replaceLease(candidate, expectedToken)) {
+                if (held == null || held.getToken() != candidate.getToken()) {
+                    LOGGER.info("Node {} is now holding lease {} (token {})", nodeId, name, candidate.getToken());
+                }
+                heldLeases.put(name, candidate);
+                return candidate;
+            }
+        } catch (Exception ex) {
+            LOGGER.error("Unable to acquire lease {}", name, ex);
+        }
+
+        heldLeases.remove(name);
+        return null;
+    }
+
+    @Override
+    public boolean owns(String key) {
+        String owner = ring.nodeFor(key);
+        return owner == null || nodeId.equals(owner);
+    }
+
+    @Override
+    public Set<String> getMembers() {
+        return members;
+    }
+
+    void refresh() {
+        long now = System.currentTimeMillis();
+        try {
+            store.heartbeat(nodeId, now);
+
+            Set<String> alive = new TreeSet<>(store.findMembers(now - MISSED_HEARTBEATS * heartbeatInterval));
+            alive.add(nodeId);
+
+            if (!alive.equals(members)) {
+                LOGGER.info("Cluster members have changed: {}", alive);
+                members = Collections.unmodifiableSet(alive);
+                ring = new ConsistentHashRing(alive);
+            }
+
+            long expiration = EXPIRED_HEARTBEATS * heartbeatInterval;
+            if (now - lastCleanup >= expiration) {
+                store.removeMembers(now - expiration);
+                lastCleanup = now;
+            }
+        } catch (Exception ex) {
+            LOGGER.warn("Unable to refresh cluster members", ex);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.cluster;
+
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.EventRepository;
+import io.gravitee.repository.management.api.search.EventCriteria;
+import io.gravitee.repository.management.model.Event;
+import io.gravitee.repository.management.model.EventType;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ClusterStore} backed by the event repository, the only table shared by all the management nodes which is
+ * free to be used for internal records.
+ *
+ * Each lease and each member is stored as an event with a well-known id. The repository does not offer a
+ * compare-and-set operation: the token is checked before the write and the lease is read again afterwards, so that
+ * a node losing a concurrent takeover notices it. Two nodes may still both believe they hold a lease for a short
+ * time, which is why the leases carry a fencing token.
+ *
+ * @author GraviteeSource Team
+ */
+public class EventClusterStore implements ClusterStore {
+
+    static final String LEASE_ID_PREFIX = "cluster-lease-";
+    static final String MEMBER_ID_PREFIX = "cluster-member-";
+
+    static final String CLUSTER_PROPERTY = "cluster";
+    static final String TOKEN_PROPERTY = "token";
+    static final String EXPIRES_AT_PROPERTY = "expires_at";
+
+    private static final String LEASE = "lease";
+    private static final String MEMBER = "member";
+
+    /**
+     * Type of the events written by the management nodes for their own coordination: cluster members and leases, and
+     * the reference data change markers. The repository has no type dedicated to internal records: this one is neither
+     * written nor read by the gateways, the console or the deployment history, so that these records never show up
+     * among the events they list by type.
+     */
+    public static final EventType INTERNAL_EVENT_TYPE = EventType.UNPUBLISH_API_RESULT;
+
+    private final EventRepository eventRepository;
+
+    public EventClusterStore(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @Override
+    public Lease findLease(String name) throws TechnicalException {
+        return eventRepository.findById(LEASE_ID_PREFIX + name)
+                .map(event -> toLease(name, event))
+                .orElse(null);
+    }
+
+    @Override
+    public boolean replaceLease(Lease lease, long expectedToken) throws TechnicalException {
+        String id = LEASE_ID_PREFIX + lease.getName();
+        Optional<Event> optCurrent = eventRepository.findById(id);
+        long currentToken = optCurrent.map(event -> toLease(lease.getName(), event).getToken()).orElse(0L);
+        if (currentToken != expectedToken) {
+            return false;
+        }
+
+        Date now = new Date();
+        Map<String, String> properties = new HashMap<>();
+        properties.put(CLUSTER_PROPERTY, LEASE);
+        properties.put(TOKEN_PROPERTY, Long.toString(lease.getToken()));
+        properties.put(EXPIRES_AT_PROPERTY, Long.toString(lease.getExpiresAt()));
+
+        if (optCurrent.isPresent()) {
+            Event event = optCurrent.get();
+            event.setPayload(lease.getHolder());
+            event.setProperties(properties);
+            event.setUpdatedAt(now);
+            eventRepository.update(event);
+        } else {
+            Event event = new Event();
+            event.setId(id);
+            event.setType(INTERNAL_EVENT_TYPE);
+            event.setPayload(lease.getHolder());
+            event.setProperties(properties);
+            event.setCreatedAt(now);
+            event.setUpdatedAt(now);
+            eventRepository.create(event);
+        }
+
+        // No atomic write available: check that a concurrent takeover has not overwritten this one
+        Lease written = findLease(lease.getName());
+        return written != null && written.getToken() == lease.getToken()
+                && lease.getHolder().equals(written.getHolder());
+    }
+
+    @Override
+    public void heartbeat(String nodeId, long now) throws TechnicalException {
+        String id = MEMBER_ID_PREFIX + nodeId;
+        Date date = new Date(now);
+        Optional<Event> optMember = eventRepository.findById(id);
+        if (optMember.isPresent()) {
+            Event member = optMember.get();
+            member.setUpdatedAt(date);
+            eventRepository.update(member);
+        } else {
+            Event member = new Event();
+            member.setId(id);
+            member.setType(INTERNAL_EVENT_TYPE);
+            member.setPayload(nodeId);
+            member.setProperties(Collections.singletonMap(CLUSTER_PROPERTY, MEMBER));
+            member.setCreatedAt(date);
+            member.setUpdatedAt(date);
+            eventRepository.create(member);
+        }
+    }
+
+    @Override
+    public Set<String> findMembers(long since) throws TechnicalException {
+        List<Event> members = eventRepository.search(new EventCriteria.Builder()
+                .types(INTERNAL_EVENT_TYPE)
+                .property(CLUSTER_PROPERTY, MEMBER)
+                .from(since)
+                .to(Long.MAX_VALUE)
+                .build());
+
+        // Not all the repositories apply the date range on the update date
+        return members.stream()
+                .filter(event -> event.getUpdatedAt() != null && event.getUpdatedAt().getTime() >= since)
+                .map(Event::getPayload)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void removeMembers(long before) throws TechnicalException {
+        List<Event> members = eventRepository.search(new EventCriteria.Builder()
+                .types(INTERNAL_EVENT_TYPE)
+                .property(CLUSTER_PROPERTY, MEMBER)
+                .build());
+
+        for (Event member : members) {
+            if (member.getUpdatedAt() == null || member.getUpdatedAt().getTime() < before) {
+                eventRepository.delete(member.getId());
+            }
+        }
+    }
+
+    @Override
+    public void leave(String nodeId) throws TechnicalException {
+        eventRepository.delete(MEMBER_ID_PREFIX + nodeId);
+    }
+
+    private static Lease toLease(String name, Event event) {
+        Map<String, String> properties = event.getProperties() == null ?
+                Collections.emptyMap() : event.getProperties();
+        return new Lease(name, event.getPayload(),
+                parseLong(properties.get(TOKEN_PROPERTY)),
+                parseLong(properties.get(EXPIRES_AT_PROPERTY)));
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return value == null ? 0 : Long.parseLong(value);
+        } catch (NumberFormatException nfe) {
+            return 0;
+        }
+    }
+}
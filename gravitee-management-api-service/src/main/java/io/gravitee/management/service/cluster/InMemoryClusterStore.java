@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.cluster;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ClusterStore} local to the JVM, used when the node is not part of a cluster and by tests to simulate
+ * several nodes sharing the same store.
+ *
+ * @author GraviteeSource Team
+ */
+public class InMemoryClusterStore implements ClusterStore {
+
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final Map<String, Long> members = new ConcurrentHashMap<>();
+
+    @Override
+    public Lease findLease(String name) {
+        return leases.get(name);
+    }
+
+    @Override
+    public synchronized boolean replaceLease(Lease lease, long expectedToken) {
+        Lease current = leases.get(lease.getName());
+        long currentToken = current == null ? 0 : current.getToken();
+        if (currentToken != expectedToken) {
+            return false;
+        }
+        leases.put(lease.getName(), lease);
+        return true;
+    }
+
+    @Override
+    public void heartbeat(String nodeId, long now) {
+        members.put(nodeId, now);
+    }
+
+    @Override
+    public Set<String> findMembers(long since) {
+        Set<String> alive = new HashSet<>();
+        members.forEach((nodeId, lastSeen) -> {
+            if (lastSeen >= since) {
+                alive.add(nodeId);
+            }
+        });
+        return alive;
+    }
+
+    @Override
+    public void removeMembers(long before) {
+        members.values().removeIf(lastSeen -> lastSeen < before);
+    }
+
+    @Override
+    public void leave(String nodeId) {
+        members.remove(nodeId);
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.cluster;
+
+/**
+ * A named lease held by a node until a given date.
+ *
+ * The fencing token is incremented each time the lease changes hands: a job can pass it along with its writes so
+ * that a node which has lost the lease without noticing it can be detected.
+ *
+ * @author GraviteeSource Team
+ */
+public class Lease {
+
+    private final String name;
+    private final String holder;
+    private final long token;
+    private final long expiresAt;
+
+    public Lease(String name, String holder, long token, long expiresAt) {
+        this.name = name;
+        this.holder = holder;
+        this.token = token;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHolder() {
+        return holder;
+    }
+
+    public long getToken() {
+        return token;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+
+    @Override
+    public String toString() {
+        return "Lease{name='" + name + "', holder='" + holder + "', token=" + token + ", expiresAt=" + expiresAt + '}';
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.io.IOUtils;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Reads API definitions one at a time from an archive, which is either a JSON array of definitions (or a single
+ * definition) or a zip file with one definition per <code>.json</code> entry. Only the definition being read is held
+ * in memory.
+ *
+ * @author GraviteeSource Team
+ */
+class ApiDefinitionReader implements Closeable {
+
+    private static final byte[] ZIP_MAGIC = {'P', 'K', 3, 4};
+
+    private final ObjectMapper objectMapper;
+    private final InputStream inputStream;
+    private ZipInputStream zip;
+    private JsonParser parser;
+    private JsonNode single;
+
+    ApiDefinitionReader(ObjectMapper objectMapper, InputStream inputStream) throws IOException {
+        this.objectMapper = objectMapper;
+        this.inputStream = new BufferedInputStream(inputStream);
+
+        if (isZip(this.inputStream)) {
+            zip = new ZipInputStream(this.inputStream);
+        } else {
+            parser = objectMapper.getFactory().createParser(this.inputStream);
+            final JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                // a single definition
+                single = parser.readValueAsTree();
+                parser = null;
+            } else if (token != JsonToken.START_ARRAY) {
+                throw new IOException("An array of API definitions is expected");
+            }
+        }
+    }
+
+    /**
+     * @return the next definition, or <code>null</code> when the archive has been read.
+     */
+    JsonNode next() throws IOException {
+        if (zip != null) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (! entry.isDirectory() && entry.getName().endsWith(".json")) {
+                    return objectMapper.readTree(IOUtils.toByteArray(zip));
+                }
+            }
+            return null;
+        }
+
+        if (parser == null) {
+            final JsonNode definition = single;
+            single = null;
+            return definition;
+        }
+
+        final JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_OBJECT) {
+            return parser.readValueAsTree();
+        } else if (token == null || token == JsonToken.END_ARRAY) {
+            return null;
+        }
+        throw new IOException("An API definition is expected, got " + token);
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+
+    private static boolean isZip(InputStream inputStream) throws IOException {
+        inputStream.mark(ZIP_MAGIC.length);
+        try {
+            for (byte b : ZIP_MAGIC) {
+                if (inputStream.read() != b) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            inputStream.reset();
+        }
+    }
+}
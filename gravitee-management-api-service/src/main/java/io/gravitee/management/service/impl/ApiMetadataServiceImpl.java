@@ -39,7 +39,6 @@ import static io.gravitee.repository.management.model.Audit.AuditProperties.META
 import static io.gravitee.repository.management.model.Metadata.AuditEvent.METADATA_CREATED;
 import static io.gravitee.repository.management.model.Metadata.AuditEvent.METADATA_DELETED;
 import static io.gravitee.repository.management.model.Metadata.AuditEvent.METADATA_UPDATED;
-import static java.util.stream.Collectors.toList;
 
 /**
  * @author Azize ELAMRANI (azize at graviteesource.com)
@@ -66,34 +65,78 @@ public class ApiMetadataServiceImpl implements ApiMetadataService {
     public List<ApiMetadataEntity> findAllByApi(final String apiId) {
         try {
             LOGGER.debug("Find all metadata by api ID {}", apiId);
-            final List<MetadataEntity> defaultMetadata = metadataService.findAllDefault();
-            final List<String> defaultMetadataKeys = defaultMetadata.stream().map(MetadataEntity::getKey).collect(toList());
-
+            final Map<String, MetadataEntity> defaultMetadata = findAllDefaultByKey();
             final List<Metadata> apiMetadata = metadataRepository.findByReferenceTypeAndReferenceId(MetadataReferenceType.API, apiId);
 
-            final List<ApiMetadataEntity> allMetadata = new ArrayList<>();
-
-            allMetadata.addAll(defaultMetadata.stream()
-                    .map(metadata -> {
-                        final Optional<Metadata> optApiMetadata = apiMetadata.stream()
-                                .filter(metadataEntity -> metadata.getKey().equals(metadataEntity.getKey()))
-                                .findAny();
-                        return convert(optApiMetadata, metadata, null);
-                    }).collect(toList()));
-
+            return merge(apiId, defaultMetadata, apiMetadata);
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurred while trying to find all metadata by API", ex);
+            throw new TechnicalManagementException("An error occurred while trying to find all metadata by API", ex);
+        }
+    }
 
-            allMetadata.addAll(apiMetadata.stream()
-                    .filter(metadata -> !defaultMetadataKeys.contains(metadata.getKey()))
-                    .map(metadata -> convert(metadata, apiId))
-                    .collect(toList()));
+    @Override
+    public Map<String, List<ApiMetadataEntity>> findAllByApis(final Collection<String> apiIds) {
+        if (apiIds == null || apiIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
 
+        try {
+            LOGGER.debug("Find all metadata by api IDs {}", apiIds);
+            final Map<String, MetadataEntity> defaultMetadata = findAllDefaultByKey();
+
+            final Map<String, List<ApiMetadataEntity>> allMetadata = new LinkedHashMap<>(apiIds.size());
+            for (final String apiId : apiIds) {
+                if (!allMetadata.containsKey(apiId)) {
+                    final List<Metadata> apiMetadata =
+                            metadataRepository.findByReferenceTypeAndReferenceId(MetadataReferenceType.API, apiId);
+                    allMetadata.put(apiId, merge(apiId, defaultMetadata, apiMetadata));
+                }
+            }
             return allMetadata;
         } catch (TechnicalException ex) {
-            LOGGER.error("An error occurred while trying to find all metadata by API", ex);
-            throw new TechnicalManagementException("An error occurred while trying to find all metadata by API", ex);
+            LOGGER.error("An error occurred while trying to find all metadata by APIs", ex);
+            throw new TechnicalManagementException("An error occurred while trying to find all metadata by APIs", ex);
         }
     }
 
+    /**
+     * Default metadata indexed by key, in the order returned by the metadata service.
+     */
+    private Map<String, MetadataEntity> findAllDefaultByKey() {
+        final List<MetadataEntity> defaultMetadata = metadataService.findAllDefault();
+        final Map<String, MetadataEntity> defaultMetadataByKey = new LinkedHashMap<>(defaultMetadata.size());
+        for (final MetadataEntity metadata : defaultMetadata) {
+            defaultMetadataByKey.putIfAbsent(metadata.getKey(), metadata);
+        }
+        return defaultMetadataByKey;
+    }
+
+    /**
+     * Merges the default metadata, overridden by the API ones, with the metadata specific to the API.
+     */
+    private List<ApiMetadataEntity> merge(final String apiId, final Map<String, MetadataEntity> defaultMetadata,
+                                          final List<Metadata> apiMetadata) {
+        final Map<String, Metadata> apiMetadataByKey = new HashMap<>(apiMetadata.size());
+        for (final Metadata metadata : apiMetadata) {
+            apiMetadataByKey.putIfAbsent(metadata.getKey(), metadata);
+        }
+
+        final List<ApiMetadataEntity> allMetadata = new ArrayList<>(defaultMetadata.size() + apiMetadata.size());
+
+        for (final MetadataEntity metadata : defaultMetadata.values()) {
+            allMetadata.add(convert(Optional.ofNullable(apiMetadataByKey.get(metadata.getKey())), metadata, null));
+        }
+
+        for (final Metadata metadata : apiMetadata) {
+            if (!defaultMetadata.containsKey(metadata.getKey())) {
+                allMetadata.add(convert(metadata, apiId));
+            }
+        }
+
+        return allMetadata;
+    }
+
     @Override
     public ApiMetadataEntity findByIdAndApi(final String metadataId, final String apiId) {
         LOGGER.debug("Find metadata by id {} and api {}", metadataId, apiId);
@@ -32,6 +32,7 @@ import io.gravitee.management.model.documentation.PageQuery;
 import io.gravitee.management.model.permissions.SystemRole;
 import io.gravitee.management.model.plan.PlanQuery;
 import io.gravitee.management.service.*;
+import io.gravitee.management.service.cache.ApiAccessIndex;
 import io.gravitee.management.service.exceptions.*;
 import io.gravitee.management.service.processor.ApiSynchronizationProcessor;
 import io.gravitee.repository.exceptions.TechnicalException;
@@ -44,12 +45,20 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import javax.xml.bind.DatatypeConverter;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static io.gravitee.repository.management.model.Api.AuditEvent.*;
@@ -106,6 +115,15 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private ApiAccessIndex apiAccessIndex;
+
+    /**
+     * Number of API definitions of an archive imported concurrently.
+     */
+    @Value("${api.import.parallelism:4}")
+    private int importParallelism = 4;
+
     @Override
     public ApiEntity create(NewApiEntity newApiEntity, String username) throws ApiAlreadyExistsException {
         UpdateApiEntity apiEntity = new UpdateApiEntity();
@@ -135,10 +153,13 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
 
         apiEntity.setPaths(paths);
 
-        return create0(apiEntity, username);
+        return create0(apiEntity, username, true);
     }
 
-    private ApiEntity create0(UpdateApiEntity api, String username) throws ApiAlreadyExistsException {
+    /**
+     * @param checkContextPath <code>false</code> when the caller already made sure the context path is unique.
+     */
+    private ApiEntity create0(UpdateApiEntity api, String username, boolean checkContextPath) throws ApiAlreadyExistsException {
         try {
             LOGGER.debug("Create {} for user {}", api, username);
 
@@ -149,7 +170,9 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
             }
 
             // Format context-path and check if context path is unique
-            checkContextPath(api.getProxy().getContextPath());
+            if (checkContextPath) {
+                checkContextPath(api.getProxy().getContextPath());
+            }
 
             Api repoApi = convert(id, api);
 
@@ -193,6 +216,9 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
                 membership.setUpdatedAt(repoApi.getCreatedAt());
                 membershipRepository.create(membership);
                 //TODO add membership log
+
+                apiAccessIndex.apiUpdated(createdApi);
+                apiAccessIndex.membershipUpdated(primaryOwner.getUsername());
                 return convert(createdApi, primaryOwner, true);
             } else {
                 LOGGER.error("Unable to create API {} because of previous error.");
@@ -209,29 +235,33 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
     }
 
     private void checkContextPath(String newContextPath, final String apiId) throws TechnicalException {
-        if (newContextPath.charAt(newContextPath.length() - 1) == '/') {
-            newContextPath = newContextPath.substring(0, newContextPath.length() - 1);
-        }
-
-        final int indexOfEndOfNewSubContextPath = newContextPath.lastIndexOf('/', 1);
-        final String newSubContextPath = newContextPath.substring(0, indexOfEndOfNewSubContextPath <= 0 ?
-                newContextPath.length() : indexOfEndOfNewSubContextPath) + '/';
+        final String newSubContextPath = ContextPathIndex.subContextPath(newContextPath);
 
         final boolean contextPathExists = apiRepository.findAll().stream()
                 .filter(api -> !api.getId().equals(apiId))
-                .anyMatch(api -> {
-                    final String contextPath = convert(api, null, true).getProxy().getContextPath();
-                    final int indexOfEndOfSubContextPath = contextPath.lastIndexOf('/', 1);
-                    final String subContextPath = contextPath.substring(0, indexOfEndOfSubContextPath <= 0 ?
-                            contextPath.length() : indexOfEndOfSubContextPath) + '/';
-
-                    return subContextPath.startsWith(newSubContextPath) || newSubContextPath.startsWith(subContextPath);
-                });
+                .map(this::readContextPath)
+                .filter(contextPath -> contextPath != null && !contextPath.isEmpty())
+                .anyMatch(contextPath -> ContextPathIndex.conflicts(newSubContextPath, ContextPathIndex.subContextPath(contextPath)));
         if (contextPathExists) {
             throw new ApiContextPathAlreadyExistsException(newSubContextPath);
         }
     }
 
+    /**
+     * Reads the context path of an API without converting its whole definition.
+     */
+    private String readContextPath(Api api) {
+        if (api.getDefinition() == null) {
+            return null;
+        }
+        try {
+            return readContextPath(objectMapper.readTree(api.getDefinition()));
+        } catch (IOException ioe) {
+            LOGGER.error("Unexpected error while reading the context path of API {}", api.getId(), ioe);
+            return null;
+        }
+    }
+
     @Override
     public ApiEntity findById(String apiId) {
         try {
@@ -284,30 +314,31 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
         }
     }
 
+    @Override
+    public Set<ApiEntity> findByIds(Collection<String> apiIds) {
+        try {
+            LOGGER.debug("Find APIs by IDs {}", apiIds);
+            if (apiIds == null || apiIds.isEmpty()) {
+                return Collections.emptySet();
+            }
+            return convert(apiRepository.findByIds(new ArrayList<>(apiIds)), false);
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to find APIs by IDs {}", apiIds, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find APIs by IDs " + apiIds, ex);
+        }
+    }
+
     @Override
     public Set<ApiEntity> findByUser(String username) {
         try {
             LOGGER.debug("Find APIs by user {}", username);
 
-            Set<Api> publicApis = apiRepository.findByVisibility(Visibility.PUBLIC);
-            Set<Api> userApis = apiRepository.findByIds(
-                    membershipRepository.findByUserAndReferenceType(username, MembershipReferenceType.API).stream()
-                            .map(Membership::getReferenceId)
-                            .collect(Collectors.toList())
-            );
-
-            List<String> groupIds = membershipRepository.findByUserAndReferenceType(username, MembershipReferenceType.GROUP).stream()
-                    .filter(m -> m.getRoles().keySet().contains(RoleScope.API.getId()))
-                    .map(Membership::getReferenceId).collect(Collectors.toList());
-            Set<Api> groupApis = apiRepository.findByGroups(groupIds);
-
-            final Set<ApiEntity> apis = new HashSet<>(publicApis.size() + userApis.size() + groupApis.size());
-
-            apis.addAll(convert(publicApis, true));
-            apis.addAll(convert(userApis, true));
-            apis.addAll(convert(groupApis, true));
+            Set<String> apiIds = apiAccessIndex.findApiIds(username);
+            if (apiIds.isEmpty()) {
+                return new HashSet<>();
+            }
 
-            return apis;
+            return new HashSet<>(convert(apiRepository.findByIds(new ArrayList<>(apiIds)), true));
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to find APIs for user {}", username, ex);
             throw new TechnicalManagementException("An error occurs while trying to find APIs for user " + username, ex);
@@ -354,6 +385,7 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
                 }
 
                 Api updatedApi = apiRepository.update(api);
+                apiAccessIndex.apiUpdated(updatedApi);
 
                 // Audit
                 auditService.createApiAuditLog(
@@ -412,6 +444,7 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
 
                 // Delete API
                 apiRepository.delete(apiId);
+                apiAccessIndex.apiDeleted(apiId);
                 // Audit
                 auditService.createApiAuditLog(
                         apiId,
@@ -669,124 +702,301 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
     @Override
     public ApiEntity createOrUpdateWithDefinition(final ApiEntity apiEntity, String apiDefinition, String username) {
         try {
-            final UpdateApiEntity importedApi = objectMapper
-                    // because definition could contains other values than the api itself (pages, members)
-                    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-                    .readValue(apiDefinition, UpdateApiEntity.class);
-
-            // Initialize with a default path
-            if (importedApi.getPaths() == null || importedApi.getPaths().isEmpty()) {
-                Path path = new Path();
-                path.setPath("/");
-                importedApi.setPaths(Collections.singletonMap("/", path));
-            }
+            return createOrUpdateWithDefinition(apiEntity, objectMapper.readTree(apiDefinition), username, new ImportContext(true),
+                    id -> {});
+        } catch (final IOException e) {
+            LOGGER.error("An error occurs while trying to JSON deserialize the API {}", apiDefinition, e);
+        }
+        return null;
+    }
 
-            //create group if not exist & replace groupName by groupId
-            if (importedApi.getGroups() != null) {
-                Set<String> groupNames = new HashSet<>(importedApi.getGroups());
-                importedApi.getGroups().clear();
-                for (String name : groupNames) {
-                    List<GroupEntity> groupEntities = groupService.findByName(name);
-                    GroupEntity group;
-                    if (groupEntities.isEmpty()) {
-                        NewGroupEntity newGroupEntity = new NewGroupEntity();
-                        newGroupEntity.setName(name);
-                        group = groupService.create(newGroupEntity);
-                    } else {
-                        group = groupEntities.get(0);
-                    }
-                    importedApi.getGroups().add(group.getId());
+    @Override
+    public List<ImportApiResultEntity> importDefinitions(InputStream definitions, String username) {
+        // context paths are checked by the import, against a single read of the existing APIs
+        final ImportContext context = new ImportContext(false);
+        final ContextPathIndex contextPaths = new ContextPathIndex();
+        try {
+            apiRepository.findAll().forEach(api -> contextPaths.add(readContextPath(api)));
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to find all APIs", ex);
+            throw new TechnicalManagementException("An error occurs while trying to find all APIs", ex);
+        }
+
+        // the imports are made on behalf of the current user, whatever the thread
+        final ExecutorService executor = new DelegatingSecurityContextExecutorService(
+                Executors.newFixedThreadPool(importParallelism, new CustomizableThreadFactory("api-import-")),
+                SecurityContextHolder.getContext());
+        // bounds the number of definitions read ahead of the imports
+        final Semaphore pending = new Semaphore(importParallelism * 2);
+        final List<Future<ImportApiResultEntity>> futures = new ArrayList<>();
+
+        try (ApiDefinitionReader reader = new ApiDefinitionReader(objectMapper, definitions)) {
+            JsonNode definition;
+            while ((definition = reader.next()) != null) {
+                final JsonNode apiDefinition = definition;
+                final ImportApiResultEntity result = new ImportApiResultEntity();
+                result.setIndex(futures.size());
+                result.setName(apiDefinition.path("name").asText(null));
+                result.setContextPath(apiDefinition.path("proxy").path("context_path").asText(null));
+
+                // reserved in the archive order, so that the first of two conflicting APIs is the one imported
+                final String contextPath = reserveContextPath(result, apiDefinition, contextPaths);
+                if (contextPath == null) {
+                    futures.add(CompletableFuture.completedFuture(result));
+                    continue;
                 }
+
+                // groups are resolved here, one definition at a time, so that the imports never create one twice
+                if (!resolveGroups(result, apiDefinition, context)) {
+                    contextPaths.release(contextPath);
+                    futures.add(CompletableFuture.completedFuture(result));
+                    continue;
+                }
+
+                pending.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        return importDefinition(result, apiDefinition, username, context, contextPaths, contextPath);
+                    } finally {
+                        pending.release();
+                    }
+                }));
             }
 
-            ApiEntity createdOrUpdatedApiEntity;
-            Set<MemberEntity> members = Collections.emptySet();
-            if (apiEntity == null || apiEntity.getId() == null) {
-                createdOrUpdatedApiEntity = create0(importedApi, username);
+            final List<ImportApiResultEntity> results = new ArrayList<>(futures.size());
+            for (Future<ImportApiResultEntity> future : futures) {
+                results.add(future.get());
             }
-            else {
-                createdOrUpdatedApiEntity = update(apiEntity.getId(), importedApi);
-                members = membershipService.getMembers(MembershipReferenceType.API, apiEntity.getId(), RoleScope.API);
+            return results;
+        } catch (IOException ioe) {
+            LOGGER.error("An error occurs while trying to read the API definitions", ioe);
+            throw new TechnicalManagementException("An error occurs while trying to read the API definitions", ioe);
+        } catch (ExecutionException ee) {
+            throw new TechnicalManagementException("An error occurs while trying to import the API definitions", ee.getCause());
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new TechnicalManagementException("The import of the API definitions has been interrupted", ie);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the reserved context path, or null if the definition must not be imported
+     */
+    private String reserveContextPath(ImportApiResultEntity result, JsonNode definition, ContextPathIndex contextPaths) {
+        try {
+            final String contextPath = readContextPath(definition);
+            if (contextPath == null) {
+                result.setStatus(ImportApiResultEntity.Status.FAILED);
+                result.setMessage("The API definition has no context path");
+                return null;
             }
+            contextPaths.reserve(contextPath);
+            return contextPath;
+        } catch (IOException ioe) {
+            LOGGER.error("Unable to read the API definition #{} of the archive", result.getIndex(), ioe);
+            result.setStatus(ImportApiResultEntity.Status.FAILED);
+            result.setMessage("Invalid API definition: " + ioe.getMessage());
+        } catch (ApiContextPathAlreadyExistsException ex) {
+            result.setStatus(ImportApiResultEntity.Status.FAILED);
+            result.setMessage(ex.getMessage());
+        }
+        return null;
+    }
 
-            final JsonNode jsonNode = objectMapper.readTree(apiDefinition);
-            // Members
-            final JsonNode membersDefinition = jsonNode.path("members");
-            if (membersDefinition != null && membersDefinition.isArray()) {
-                String memberAsPrimaryOwner = null;
-                for (final JsonNode memberNode : membersDefinition) {
-                    MemberEntity memberEntity = objectMapper.readValue(memberNode.toString(), MemberEntity.class);
-                    if (!members.contains(memberEntity)
-                            || members.stream().anyMatch(m ->
-                                m.getUsername().equals(memberEntity.getUsername())
-                                && !m.getRole().equals(memberEntity.getRole()))) {
-                        membershipService.addOrUpdateMember(
-                                MembershipReferenceType.API,
-                                createdOrUpdatedApiEntity.getId(),
-                                memberEntity.getUsername(),
-                                RoleScope.API,
-                                memberEntity.getRole());
-                        if (SystemRole.PRIMARY_OWNER.name().equals(memberEntity.getRole())) {
-                            memberAsPrimaryOwner = memberEntity.getUsername();
-                        }
-                    }
+    private boolean resolveGroups(ImportApiResultEntity result, JsonNode definition, ImportContext context) {
+        try {
+            for (JsonNode group : definition.path("groups")) {
+                findOrCreateGroup(group.asText(), context);
+            }
+            return true;
+        } catch (RuntimeException re) {
+            LOGGER.error("Unable to resolve the groups of the API definition #{} of the archive", result.getIndex(), re);
+            result.setStatus(ImportApiResultEntity.Status.FAILED);
+            result.setMessage(re.getMessage());
+            return false;
+        }
+    }
+
+    private ImportApiResultEntity importDefinition(ImportApiResultEntity result, JsonNode definition, String username,
+                                                   ImportContext context, ContextPathIndex contextPaths,
+                                                   String contextPath) {
+        final int index = result.getIndex();
+        try {
+            createOrUpdateWithDefinition(null, definition, username, context, result::setApi);
+            result.setStatus(ImportApiResultEntity.Status.CREATED);
+        } catch (IOException ioe) {
+            LOGGER.error("Unable to read the API definition #{} of the archive", index, ioe);
+            result.setStatus(ImportApiResultEntity.Status.FAILED);
+            result.setMessage("Invalid API definition: " + ioe.getMessage());
+        } catch (RuntimeException re) {
+            LOGGER.error("Unable to import the API definition #{} of the archive", index, re);
+            result.setStatus(ImportApiResultEntity.Status.FAILED);
+            result.setMessage(re.getMessage());
+        }
+
+        // unless the API has been created before the failure, its context path is left to the next definitions
+        if (result.getStatus() == ImportApiResultEntity.Status.FAILED && result.getApi() == null) {
+            contextPaths.release(contextPath);
+        }
+        return result;
+    }
+
+    private ApiEntity createOrUpdateWithDefinition(final ApiEntity apiEntity, JsonNode apiDefinition, String username,
+                                                   ImportContext context, Consumer<String> onCreated) throws IOException {
+        // because definition could contains other values than the api itself (pages, members)
+        final UpdateApiEntity importedApi = readDefinition(apiDefinition, UpdateApiEntity.class);
+
+        // Initialize with a default path
+        if (importedApi.getPaths() == null || importedApi.getPaths().isEmpty()) {
+            Path path = new Path();
+            path.setPath("/");
+            importedApi.setPaths(Collections.singletonMap("/", path));
+        }
+
+        //create group if not exist & replace groupName by groupId
+        if (importedApi.getGroups() != null) {
+            Set<String> groupNames = new HashSet<>(importedApi.getGroups());
+            importedApi.getGroups().clear();
+            for (String name : groupNames) {
+                importedApi.getGroups().add(findOrCreateGroup(name, context));
+            }
+        }
+
+        ApiEntity createdOrUpdatedApiEntity;
+        Set<MemberEntity> members = Collections.emptySet();
+        final boolean created = apiEntity == null || apiEntity.getId() == null;
+        if (created) {
+            createdOrUpdatedApiEntity = create0(importedApi, username, context.checkContextPath);
+            onCreated.accept(createdOrUpdatedApiEntity.getId());
+        }
+        else {
+            createdOrUpdatedApiEntity = update(apiEntity.getId(), importedApi);
+            members = membershipService.getMembers(MembershipReferenceType.API, apiEntity.getId(), RoleScope.API);
+        }
+
+        // Members
+        final JsonNode membersDefinition = apiDefinition.path("members");
+        if (membersDefinition != null && membersDefinition.isArray()) {
+            final List<MemberEntity> updatedMembers = new ArrayList<>();
+            for (final JsonNode memberNode : membersDefinition) {
+                MemberEntity memberEntity = readDefinition(memberNode, MemberEntity.class);
+                if (!members.contains(memberEntity)
+                        || members.stream().anyMatch(m ->
+                            m.getUsername().equals(memberEntity.getUsername())
+                            && !m.getRole().equals(memberEntity.getRole()))) {
+                    updatedMembers.add(memberEntity);
                 }
-                //transfer ownership if necessary
-                if (memberAsPrimaryOwner != null && !username.equals(memberAsPrimaryOwner)) {
-                    membershipService.transferApiOwnership(createdOrUpdatedApiEntity.getId(), memberAsPrimaryOwner, null);
+            }
+
+            // users only known by an identity provider are retrieved all at once
+            membershipService.findOrCreateUsers(updatedMembers.stream().map(MemberEntity::getUsername).collect(Collectors.toSet()));
+
+            String memberAsPrimaryOwner = null;
+            for (final MemberEntity memberEntity : updatedMembers) {
+                membershipService.addOrUpdateMember(
+                        MembershipReferenceType.API,
+                        createdOrUpdatedApiEntity.getId(),
+                        memberEntity.getUsername(),
+                        RoleScope.API,
+                        memberEntity.getRole());
+                if (SystemRole.PRIMARY_OWNER.name().equals(memberEntity.getRole())) {
+                    memberAsPrimaryOwner = memberEntity.getUsername();
                 }
             }
+            //transfer ownership if necessary
+            if (memberAsPrimaryOwner != null && !username.equals(memberAsPrimaryOwner)) {
+                membershipService.transferApiOwnership(createdOrUpdatedApiEntity.getId(), memberAsPrimaryOwner, null);
+            }
+        }
 
-            //Pages
-            final JsonNode pagesDefinition = jsonNode.path("pages");
-            if (pagesDefinition != null && pagesDefinition.isArray()) {
-                for (final JsonNode pageNode : pagesDefinition) {
+        //Pages
+        final JsonNode pagesDefinition = apiDefinition.path("pages");
+        if (pagesDefinition != null && pagesDefinition.isArray()) {
+            for (final JsonNode pageNode : pagesDefinition) {
+                // a newly created API has no page yet
+                List<PageEntity> pageEntities = null;
+                if (!created) {
                     PageQuery query = new PageQuery.Builder().
                             api(createdOrUpdatedApiEntity.getId()).
                             name(pageNode.get("name").asText()).
                             type(PageType.valueOf(pageNode.get("type").asText())).
                             build();
-                    List<PageEntity> pageEntities = pageService.search(query);
-                    if (pageEntities == null || pageEntities.isEmpty()) {
-                        pageService.createApiPage(createdOrUpdatedApiEntity.getId(), objectMapper.readValue(pageNode.toString(), NewPageEntity.class));
-                    } else if (pageEntities.size() == 1) {
-                        UpdatePageEntity updatePageEntity = objectMapper.readValue(pageNode.toString(), UpdatePageEntity.class);
-                        pageService.update(pageEntities.get(0).getId(), updatePageEntity);
-                    } else {
-                        LOGGER.error("Not able to identify the page to update: {}. Too much page with the same name", pageNode.get("name").asText());
-                        throw new TechnicalManagementException("Not able to identify the page to update: " + pageNode.get("name").asText() + ". Too much page with the same name");
-                    }
+                    pageEntities = pageService.search(query);
+                }
+                if (pageEntities == null || pageEntities.isEmpty()) {
+                    pageService.createApiPage(createdOrUpdatedApiEntity.getId(), readDefinition(pageNode, NewPageEntity.class));
+                } else if (pageEntities.size() == 1) {
+                    UpdatePageEntity updatePageEntity = readDefinition(pageNode, UpdatePageEntity.class);
+                    pageService.update(pageEntities.get(0).getId(), updatePageEntity);
+                } else {
+                    LOGGER.error("Not able to identify the page to update: {}. Too much page with the same name", pageNode.get("name").asText());
+                    throw new TechnicalManagementException("Not able to identify the page to update: " + pageNode.get("name").asText() + ". Too much page with the same name");
                 }
             }
+        }
 
-            //Plans
-            final JsonNode plansDefinition = jsonNode.path("plans");
-            if (plansDefinition != null && plansDefinition.isArray()) {
-                for (JsonNode planNode : plansDefinition) {
+        //Plans
+        final JsonNode plansDefinition = apiDefinition.path("plans");
+        if (plansDefinition != null && plansDefinition.isArray()) {
+            for (JsonNode planNode : plansDefinition) {
+                // a newly created API has no plan yet
+                List<PlanEntity> planEntities = null;
+                if (!created) {
                     PlanQuery query = new PlanQuery.Builder().
                             api(createdOrUpdatedApiEntity.getId()).
                             name(planNode.get("name").asText()).
                             security(PlanSecurityType.valueOf(planNode.get("security").asText())).
                             build();
-                    List<PlanEntity> planEntities = planService.search(query);
-                    if (planEntities == null || planEntities.isEmpty()) {
-                        NewPlanEntity newPlanEntity = objectMapper.readValue(planNode.toString(), NewPlanEntity.class);
-                        newPlanEntity.setApi(createdOrUpdatedApiEntity.getId());
-                        planService.create(newPlanEntity);
-                    } else if (planEntities.size() == 1) {
-                        UpdatePlanEntity updatePlanEntity = objectMapper.readValue(planNode.toString(), UpdatePlanEntity.class);
-                        planService.update(updatePlanEntity);
-                    } else {
-                        LOGGER.error("Not able to identify the plan to update: {}. Too much plan with the same name", planNode.get("name").asText());
-                        throw new TechnicalManagementException("Not able to identify the plan to update: " + planNode.get("name").asText() + ". Too much plan with the same name");
-                    }
+                    planEntities = planService.search(query);
+                }
+                if (planEntities == null || planEntities.isEmpty()) {
+                    NewPlanEntity newPlanEntity = readDefinition(planNode, NewPlanEntity.class);
+                    newPlanEntity.setApi(createdOrUpdatedApiEntity.getId());
+                    planService.create(newPlanEntity);
+                } else if (planEntities.size() == 1) {
+                    UpdatePlanEntity updatePlanEntity = readDefinition(planNode, UpdatePlanEntity.class);
+                    planService.update(updatePlanEntity);
+                } else {
+                    LOGGER.error("Not able to identify the plan to update: {}. Too much plan with the same name", planNode.get("name").asText());
+                    throw new TechnicalManagementException("Not able to identify the plan to update: " + planNode.get("name").asText() + ". Too much plan with the same name");
                 }
             }
-            return createdOrUpdatedApiEntity;
-        } catch (final IOException e) {
-            LOGGER.error("An error occurs while trying to JSON deserialize the API {}", apiDefinition, e);
         }
-        return null;
+        return createdOrUpdatedApiEntity;
+    }
+
+    private String readContextPath(JsonNode definition) throws IOException {
+        // the proxy deserializer formats the context path
+        final JsonNode proxy = definition.get("proxy");
+        return proxy == null ? null : objectMapper.treeToValue(proxy, Proxy.class).getContextPath();
+    }
+
+    private <T> T readDefinition(JsonNode definition, Class<T> type) throws IOException {
+        return objectMapper.readerFor(type)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(definition);
+    }
+
+    private String findOrCreateGroup(String name, ImportContext context) {
+        // not computeIfAbsent: the repository must not be called while holding the lock of the map
+        String groupId = context.groups.get(name);
+        if (groupId == null) {
+            groupId = findOrCreateGroup(name);
+            context.groups.put(name, groupId);
+        }
+        return groupId;
+    }
+
+    private String findOrCreateGroup(String name) {
+        List<GroupEntity> groupEntities = groupService.findByName(name);
+        if (groupEntities.isEmpty()) {
+            NewGroupEntity newGroupEntity = new NewGroupEntity();
+            newGroupEntity.setName(name);
+            return groupService.create(newGroupEntity).getId();
+        }
+        return groupEntities.get(0).getId();
     }
 
     @Override
@@ -813,46 +1023,80 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
 
     @Override
     public void deleteViewFromAPIs(final String viewId) {
-        findAll().forEach(api -> {
-            if (api.getViews() != null && api.getViews().contains(viewId)) {
-                removeView(api.getId(), viewId);
-            }
-        });
+        removeReference(Audit.AuditProperties.VIEW, viewId, Api::getViews, Api::setViews);
+    }
+
+    @Override
+    public void deleteTagFromAPIs(final String tagId) {
+        // Tags are only stored in the definition, which is not parsed unless it contains the tag
+        removeReference(Audit.AuditProperties.TAG, tagId,
+                api -> api.getDefinition() != null && api.getDefinition().contains('"' + tagId + '"') ? readTags(api) : null,
+                this::writeTags);
     }
 
-    private void removeView(String apiId, String viewId) throws TechnicalManagementException {
+    /**
+     * Removes a view or a tag from every API referencing it. The APIs are read in a single query, each updated API is
+     * written once, and the whole operation is recorded in one audit entry listing the updated APIs.
+     */
+    private void removeReference(Audit.AuditProperties property, String referenceId,
+                                 Function<Api, Set<String>> reader, BiConsumer<Api, Set<String>> writer) {
         try {
-            Optional<Api> optApi = apiRepository.findById(apiId);
-            if (optApi.isPresent()) {
-                Api api = optApi.get();
-                Api previousApi = new Api(api);
-                api.getViews().remove(viewId);
-                api.setUpdatedAt(new Date());
-                apiRepository.update(api);
+            Date updatedAt = new Date();
+            Map<String, Set<String>> previousReferences = new TreeMap<>();
+            Map<String, Set<String>> newReferences = new TreeMap<>();
+
+            for (Api api : apiRepository.findAll()) {
+                Set<String> apiReferences = reader.apply(api);
+                if (apiReferences != null && apiReferences.contains(referenceId)) {
+                    Set<String> newApiReferences = new TreeSet<>(apiReferences);
+                    newApiReferences.remove(referenceId);
+                    writer.accept(api, newApiReferences);
+                    api.setUpdatedAt(updatedAt);
+                    apiRepository.update(api);
+
+                    previousReferences.put(api.getId(), new TreeSet<>(apiReferences));
+                    newReferences.put(api.getId(), newApiReferences);
+                }
+            }
+
+            if (!previousReferences.isEmpty()) {
                 // Audit
-                auditService.createApiAuditLog(
-                        apiId,
-                        Collections.emptyMap(),
+                auditService.createPortalAuditLog(
+                        Collections.singletonMap(property, referenceId),
                         API_UPDATED,
-                        api.getUpdatedAt(),
-                        previousApi,
-                        api);
-            } else {
-                throw new ApiNotFoundException(apiId);
+                        updatedAt,
+                        previousReferences,
+                        newReferences);
             }
-        } catch (Exception ex) {
-            LOGGER.error("An error occurs while removing view from API: {}", apiId, ex);
-            throw new TechnicalManagementException("An error occurs while removing view from API: " + apiId, ex);
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while removing {} {} from APIs", property, referenceId, ex);
+            throw new TechnicalManagementException("An error occurs while removing " + property + " " + referenceId + " from APIs", ex);
         }
     }
 
-    @Override
-    public void deleteTagFromAPIs(final String tagId) {
-        findAll().forEach(api -> {
-            if (api.getTags() != null && api.getTags().contains(tagId)) {
-                removeTag(api.getId(), tagId);
+    private Set<String> readTags(Api api) {
+        try {
+            Set<String> tags = new HashSet<>();
+            JsonNode tagsNode = objectMapper.readTree(api.getDefinition()).get("tags");
+            if (tagsNode != null) {
+                tagsNode.forEach(tag -> tags.add(tag.asText()));
             }
-        });
+            return tags;
+        } catch (IOException ioe) {
+            LOGGER.error("Unexpected error while reading API definition: {}", api.getId(), ioe);
+            throw new TechnicalManagementException("An error occurs while reading the definition of API " + api.getId(), ioe);
+        }
+    }
+
+    private void writeTags(Api api, Set<String> tags) {
+        try {
+            ObjectNode definition = (ObjectNode) objectMapper.readTree(api.getDefinition());
+            definition.set("tags", objectMapper.valueToTree(tags));
+            api.setDefinition(objectMapper.writeValueAsString(definition));
+        } catch (IOException ioe) {
+            LOGGER.error("Unexpected error while writing API definition: {}", api.getId(), ioe);
+            throw new TechnicalManagementException("An error occurs while writing the definition of API " + api.getId(), ioe);
+        }
     }
 
     @Override
@@ -893,17 +1137,6 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
         return apiModelEntity;
     }
 
-    private void removeTag(String apiId, String tagId) throws TechnicalManagementException {
-        try {
-            ApiEntity apiEntity = this.findById(apiId);
-            apiEntity.getTags().remove(tagId);
-            update(apiId, convert(apiEntity));
-        } catch (Exception ex) {
-            LOGGER.error("An error occurs while removing tag from API: {}", apiId, ex);
-            throw new TechnicalManagementException("An error occurs while removing tag from API: " + apiId, ex);
-        }
-    }
-
     private void updateLifecycle(String apiId, LifecycleState lifecycleState, String username) throws TechnicalException {
         Optional<Api> optApi = apiRepository.findById(apiId);
         if (optApi.isPresent()) {
@@ -1091,29 +1324,6 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
         return null;
     }
 
-    private static UpdateApiEntity convert(ApiEntity apiEntity) {
-        UpdateApiEntity updateApiEntity = new UpdateApiEntity();
-
-        updateApiEntity.setProxy(apiEntity.getProxy());
-        updateApiEntity.setVersion(apiEntity.getVersion());
-        updateApiEntity.setName(apiEntity.getName());
-        updateApiEntity.setProperties(apiEntity.getProperties());
-        updateApiEntity.setDescription(apiEntity.getDescription());
-
-        if (apiEntity.getGroups() != null) {
-            updateApiEntity.setGroups(apiEntity.getGroups());
-        }
-        updateApiEntity.setPaths(apiEntity.getPaths());
-        updateApiEntity.setPicture(apiEntity.getPicture());
-        updateApiEntity.setResources(apiEntity.getResources());
-        updateApiEntity.setTags(apiEntity.getTags());
-        updateApiEntity.setServices(apiEntity.getServices());
-        updateApiEntity.setVisibility(apiEntity.getVisibility());
-        updateApiEntity.setLabels(apiEntity.getLabels());
-
-        return updateApiEntity;
-    }
-
     private LifecycleState convert(EventType eventType) {
         LifecycleState lifecycleState;
         switch (eventType) {
@@ -1128,4 +1338,13 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
         }
         return lifecycleState;
     }
+
+    private static class ImportContext {
+        private final boolean checkContextPath;
+        private final Map<String, String> groups = new ConcurrentHashMap<>();
+
+        private ImportContext(boolean checkContextPath) {
+            this.checkContextPath = checkContextPath;
+        }
+    }
 }
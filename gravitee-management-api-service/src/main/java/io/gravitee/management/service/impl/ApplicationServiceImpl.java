@@ -103,6 +103,20 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
         }
     }
 
+    @Override
+    public Set<ApplicationEntity> findByIds(Collection<String> applicationIds) {
+        try {
+            LOGGER.debug("Find applications by IDs: {}", applicationIds);
+            if (applicationIds == null || applicationIds.isEmpty()) {
+                return emptySet();
+            }
+            return convert(applicationRepository.findByIds(new ArrayList<>(applicationIds)));
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to find applications by IDs {}", applicationIds, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find applications by IDs " + applicationIds, ex);
+        }
+    }
+
     @Override
     public Set<ApplicationEntity> findByUser(String username) {
         try {
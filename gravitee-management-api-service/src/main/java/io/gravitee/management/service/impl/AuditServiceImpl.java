@@ -15,15 +15,16 @@
  */
 package io.gravitee.management.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.github.fge.jsonpatch.diff.JsonDiff;
 import io.gravitee.common.data.domain.MetadataPage;
 import io.gravitee.common.data.domain.Page;
 import io.gravitee.common.utils.UUID;
 import io.gravitee.management.model.audit.AuditEntity;
 import io.gravitee.management.model.audit.AuditQuery;
 import io.gravitee.management.service.AuditService;
+import io.gravitee.management.service.utils.JsonPatchDiff;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.*;
 import io.gravitee.repository.management.api.search.AuditCriteria.Builder;
@@ -32,9 +33,11 @@ import io.gravitee.repository.management.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -70,6 +73,12 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
     @Autowired
     private ObjectMapper mapper;
 
+    /**
+     * Maximum length of a stored patch. Longer patches are truncated.
+     */
+    @Value("${audit.patch.maxLength:1048576}")
+    private int maxPatchLength = 1048576;
+
     @Override
     public MetadataPage<AuditEntity> search(AuditQuery query) {
 
@@ -176,11 +185,24 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
     @Override
     public void createApiAuditLog(String apiId, Map<Audit.AuditProperties,String> properties, Audit.AuditEvent event, Date createdAt,
                                   Object oldValue, Object newValue) {
-        create(Audit.AuditReferenceType.API,
+        createApiAuditLog(
                 apiId,
                 properties,
                 event,
                 getAuthenticatedUsername(),
+                createdAt,
+                oldValue,
+                newValue);
+    }
+
+    @Override
+    public void createApiAuditLog(String apiId, Map<Audit.AuditProperties,String> properties, Audit.AuditEvent event, String username, Date createdAt,
+                                  Object oldValue, Object newValue) {
+        create(Audit.AuditReferenceType.API,
+                apiId,
+                properties,
+                event,
+                username,
                 createdAt==null ? new Date() : createdAt,
                 oldValue,
                 newValue);
@@ -252,14 +274,11 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
         audit.setReferenceId(referenceId);
         audit.setEvent(event.name());
 
-        ObjectNode oldNode = oldValue == null
-                ? mapper.createObjectNode()
-                : mapper.convertValue(oldValue, ObjectNode.class).remove(Arrays.asList("updatedAt", "createdAt"));
-        ObjectNode newNode = newValue == null
-                ? mapper.createObjectNode()
-                : mapper.convertValue(newValue, ObjectNode.class).remove(Arrays.asList("updatedAt", "createdAt"));
+        ObjectNode oldNode = toNode(oldValue);
+        ObjectNode newNode = toNode(newValue);
+        readDefinitions(oldNode, newNode);
 
-        audit.setPatch(JsonDiff.asJson(oldNode, newNode).toString());
+        audit.setPatch(JsonPatchDiff.toString(JsonPatchDiff.diff(oldNode, newNode), maxPatchLength));
 
         try {
             auditRepository.create(audit);
@@ -268,6 +287,38 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
         }
     }
 
+    private ObjectNode toNode(Object value) {
+        return value == null
+                ? mapper.createObjectNode()
+                : mapper.convertValue(value, ObjectNode.class).remove(Arrays.asList("updatedAt", "createdAt"));
+    }
+
+    /**
+     * API definitions are stored as JSON strings: when they have changed, their content is compared rather than the
+     * whole strings.
+     */
+    private void readDefinitions(ObjectNode oldNode, ObjectNode newNode) {
+        JsonNode oldDefinition = oldNode.get("definition");
+        JsonNode newDefinition = newNode.get("definition");
+        if (oldDefinition != null && oldDefinition.equals(newDefinition)) {
+            return;
+        }
+
+        readDefinition(oldNode);
+        readDefinition(newNode);
+    }
+
+    private void readDefinition(ObjectNode node) {
+        JsonNode definition = node.get("definition");
+        if (definition != null && definition.isTextual()) {
+            try {
+                node.set("definition", mapper.readTree(definition.asText()));
+            } catch (IOException ioe) {
+                LOGGER.debug("Definition is not a JSON document, it is compared as a string", ioe);
+            }
+        }
+    }
+
     private AuditEntity convert(Audit audit) {
         AuditEntity auditEntity = new AuditEntity();
 
@@ -0,0 +1,83 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.impl;
+
+import io.gravitee.management.service.exceptions.ApiContextPathAlreadyExistsException;
+
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * In-memory index of the context paths in use, so that a batch of APIs can be checked against each other and against
+ * the existing APIs without scanning the repository for each of them.
+ *
+ * Two context paths conflict when the sub-context path of one of them is a prefix of the other's. The index is
+ * thread-safe, so that an import running on another thread can release its context path.
+ *
+ * @author GraviteeSource Team
+ */
+class ContextPathIndex {
+
+    private final NavigableSet<String> subContextPaths = new TreeSet<>();
+
+    static String subContextPath(String contextPath) {
+        if (contextPath.charAt(contextPath.length() - 1) == '/') {
+            contextPath = contextPath.substring(0, contextPath.length() - 1);
+        }
+
+        final int indexOfEndOfSubContextPath = contextPath.lastIndexOf('/', 1);
+        return contextPath.substring(0, indexOfEndOfSubContextPath <= 0 ?
+                contextPath.length() : indexOfEndOfSubContextPath) + '/';
+    }
+
+    static boolean conflicts(String subContextPath, String otherSubContextPath) {
+        return subContextPath.startsWith(otherSubContextPath) || otherSubContextPath.startsWith(subContextPath);
+    }
+
+    synchronized void add(String contextPath) {
+        if (contextPath != null && ! contextPath.isEmpty()) {
+            subContextPaths.add(subContextPath(contextPath));
+        }
+    }
+
+    /**
+     * Adds the context path to the index, unless it conflicts with an indexed one.
+     */
+    synchronized void reserve(String contextPath) {
+        final String subContextPath = subContextPath(contextPath);
+
+        // an indexed path starting with the new one sorts right after it
+        final String ceiling = subContextPaths.ceiling(subContextPath);
+        boolean exists = ceiling != null && ceiling.startsWith(subContextPath);
+
+        // or the new path starts with an indexed one
+        for (int i = subContextPath.indexOf('/'); ! exists && i >= 0; i = subContextPath.indexOf('/', i + 1)) {
+            exists = subContextPaths.contains(subContextPath.substring(0, i + 1));
+        }
+
+        if (exists) {
+            throw new ApiContextPathAlreadyExistsException(subContextPath);
+        }
+        subContextPaths.add(subContextPath);
+    }
+
+    /**
+     * Removes a context path previously reserved, so that another API can use it.
+     */
+    synchronized void release(String contextPath) {
+        subContextPaths.remove(subContextPath(contextPath));
+    }
+}
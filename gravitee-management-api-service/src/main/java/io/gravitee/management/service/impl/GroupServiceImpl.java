@@ -21,6 +21,7 @@ import io.gravitee.management.model.Visibility;
 import io.gravitee.management.service.AuditService;
 import io.gravitee.management.service.GroupService;
 import io.gravitee.management.service.MembershipService;
+import io.gravitee.management.service.cache.ApiAccessIndex;
 import io.gravitee.management.service.exceptions.GroupNameAlreadyExistsException;
 import io.gravitee.management.service.exceptions.GroupNotFoundException;
 import io.gravitee.management.service.exceptions.GroupsNotFoundException;
@@ -68,6 +69,9 @@ public class GroupServiceImpl extends TransactionalService implements GroupServi
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private ApiAccessIndex apiAccessIndex;
+
     @Override
     public List<GroupEntity> findAll() {
         try {
@@ -263,6 +267,7 @@ public class GroupServiceImpl extends TransactionalService implements GroupServi
             });
             //remove group
             groupRepository.delete(groupId);
+            apiAccessIndex.invalidate();
 
             // Audit
             auditService.createPortalAuditLog(
@@ -45,6 +45,11 @@ public class IdentityServiceImpl implements IdentityService {
         return (user != null) ? convert(user) : null;
     }
 
+    @Override
+    public Collection<User> findAll(Collection<String> ids) {
+        return identityManager.retrieveAll(ids).stream().map(this::convert).collect(Collectors.toList());
+    }
+
     private User convert(io.gravitee.management.idp.api.identity.User identity) {
         User user = new User();
         user.setEmail(identity.getEmail());
@@ -15,6 +15,7 @@
  */
 package io.gravitee.management.service.impl;
 
+import io.gravitee.management.metrics.StartupMetrics;
 import io.gravitee.management.model.*;
 import io.gravitee.management.model.permissions.*;
 import io.gravitee.management.service.InitializerService;
@@ -31,11 +32,18 @@ import org.springframework.stereotype.Component;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.gravitee.management.model.permissions.RolePermissionAction.*;
 import static io.gravitee.management.model.permissions.RoleScope.*;
 
 /**
+ * Creates the default metadata, roles and views. They do not depend on each other and are initialized in parallel.
+ *
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com) 
  * @author GraviteeSource Team
  */
@@ -53,6 +61,8 @@ public class InitializerServiceImpl extends io.gravitee.common.service.AbstractS
     private MetadataService metadataService;
     @Autowired
     private ViewService viewService;
+    @Autowired
+    private StartupMetrics startupMetrics;
 
     @Override
     protected String name() {
@@ -63,6 +73,41 @@ public class InitializerServiceImpl extends io.gravitee.common.service.AbstractS
     protected void doStart() throws Exception {
         super.doStart();
 
+        long start = System.currentTimeMillis();
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(3,
+                runnable -> new Thread(runnable, "initializer-" + counter.getAndIncrement()));
+        try {
+            CompletableFuture.allOf(
+                    initialize("metadata", this::initializeMetadata, executor),
+                    initialize("roles", this::initializeRoles, executor),
+                    initialize("views", this::initializeViews, executor))
+                    .join();
+        } catch (CompletionException ce) {
+            if (ce.getCause() instanceof Exception) {
+                throw (Exception) ce.getCause();
+            }
+            throw ce;
+        } finally {
+            executor.shutdown();
+        }
+
+        long time = System.currentTimeMillis() - start;
+        startupMetrics.record("initializer", time);
+        logger.info("Initialization done in {} ms", time);
+    }
+
+    private CompletableFuture<Void> initialize(String phase, Runnable initializer, ExecutorService executor) {
+        return CompletableFuture.runAsync(() -> {
+            long start = System.currentTimeMillis();
+            initializer.run();
+            long time = System.currentTimeMillis() - start;
+            startupMetrics.record("initializer." + phase, time);
+            logger.debug("Initialization of the {} done in {} ms", phase, time);
+        }, executor);
+    }
+
+    private void initializeMetadata() {
         // initialize default metadata
         final MetadataEntity defaultEmailSupportMetadata = metadataService.findDefaultByKey(METADATA_EMAIL_SUPPORT_KEY);
 
@@ -75,7 +120,9 @@ public class InitializerServiceImpl extends io.gravitee.common.service.AbstractS
             final MetadataEntity metadataEntity = metadataService.create(metadata);
             logger.info("    Added default metadata for email support with success: {}", metadataEntity);
         }
+    }
 
+    private void initializeRoles() {
         // initialize roles.
         if(roleService.findAll().isEmpty()) {
             logger.info("    No role found. Add default ones.");
@@ -198,6 +245,15 @@ public class InitializerServiceImpl extends io.gravitee.common.service.AbstractS
             ));
         }
 
+        roleService.createOrUpdateSystemRoles();
+
+        // Resolve the default roles once, so that the first logins do not have to load them
+        roleService.findDefaultRoleByScopes(
+                io.gravitee.repository.management.model.RoleScope.MANAGEMENT,
+                io.gravitee.repository.management.model.RoleScope.PORTAL);
+    }
+
+    private void initializeViews() {
         // Initialize default view
         Optional<ViewEntity> optionalAllView = viewService.findAll().
                 stream().
@@ -207,7 +263,6 @@ public class InitializerServiceImpl extends io.gravitee.common.service.AbstractS
             logger.info("Create default View");
             viewService.createDefaultView();
         }
-        roleService.createOrUpdateSystemRoles();
     }
 }
 
@@ -19,6 +19,7 @@ import com.google.common.collect.ImmutableMap;
 import io.gravitee.management.model.*;
 import io.gravitee.management.service.*;
 import io.gravitee.management.service.builder.EmailNotificationBuilder;
+import io.gravitee.management.service.cache.ApiAccessIndex;
 import io.gravitee.management.service.exceptions.*;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.MembershipRepository;
@@ -75,6 +76,9 @@ public class MembershipServiceImpl extends AbstractService implements Membership
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private ApiAccessIndex apiAccessIndex;
+
     @Override
     public Set<MemberEntity> getMembers(MembershipReferenceType referenceType, String referenceId, RoleScope roleScope) {
         return getMembers(referenceType, referenceId, roleScope, null);
@@ -187,16 +191,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                 // User does not exist so we are looking into defined providers
                 io.gravitee.management.model.providers.User providerUser = identityService.findOne(username);
                 if (providerUser != null) {
-                    // Information will be updated after the first connection of the user
-                    NewExternalUserEntity newUser = new NewExternalUserEntity();
-                    newUser.setUsername(username);
-                    newUser.setFirstname(providerUser.getFirstname());
-                    newUser.setLastname(providerUser.getLastname());
-                    newUser.setEmail(providerUser.getEmail());
-                    newUser.setSource(providerUser.getSource());
-                    newUser.setSourceId(providerUser.getSourceId());
-
-                    user = userService.create(newUser, true);
+                    user = createExternalUser(username, providerUser);
                 } else {
                     throw new UserNotFoundException(username);
                 }
@@ -221,6 +216,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                 returnedMembership = membershipRepository.create(membership);
                 createAuditLog(MEMBERSHIP_CREATED, membership.getCreatedAt(), null, membership);
             }
+            updateApiAccess(referenceType, username);
 
             if (user.getEmail() != null && !user.getEmail().isEmpty()) {
                 EmailNotification emailNotification = buildEmailNotification(user, referenceType, referenceId);
@@ -236,6 +232,53 @@ public class MembershipServiceImpl extends AbstractService implements Membership
         }
     }
 
+    @Override
+    public Map<String, UserEntity> findOrCreateUsers(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, UserEntity> users = new HashMap<>();
+        try {
+            userService.findByNames(new ArrayList<>(usernames), false)
+                    .forEach(user -> users.put(user.getUsername(), user));
+        } catch (UserNotFoundException unfe) {
+            // none of the users exists yet
+        }
+
+        List<String> missingUsernames = usernames.stream()
+                .filter(username -> !users.containsKey(username))
+                .distinct()
+                .collect(Collectors.toList());
+        if (!missingUsernames.isEmpty()) {
+            // Identity providers match the usernames case-insensitively
+            Map<String, String> missingByKey = new HashMap<>();
+            missingUsernames.forEach(username -> missingByKey.put(username.toLowerCase(Locale.ENGLISH), username));
+
+            for (io.gravitee.management.model.providers.User providerUser : identityService.findAll(missingUsernames)) {
+                String username = missingByKey.remove(providerUser.getId().toLowerCase(Locale.ENGLISH));
+                if (username != null) {
+                    users.put(username, createExternalUser(username, providerUser));
+                }
+            }
+        }
+
+        return users;
+    }
+
+    private UserEntity createExternalUser(String username, io.gravitee.management.model.providers.User providerUser) {
+        // Information will be updated after the first connection of the user
+        NewExternalUserEntity newUser = new NewExternalUserEntity();
+        newUser.setUsername(username);
+        newUser.setFirstname(providerUser.getFirstname());
+        newUser.setLastname(providerUser.getLastname());
+        newUser.setEmail(providerUser.getEmail());
+        newUser.setSource(providerUser.getSource());
+        newUser.setSourceId(providerUser.getSourceId());
+
+        return userService.create(newUser, true);
+    }
+
     @Override
     public void deleteMember(MembershipReferenceType referenceType, String referenceId, String username) {
         try {
@@ -254,6 +297,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
             Membership membership = new Membership(username, referenceId, referenceType);
             membershipRepository.delete(membership);
             createAuditLog(MEMBERSHIP_DELETED, new Date(), membership, null);
+            updateApiAccess(referenceType, username);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to delete member {} for {} {}", username, referenceType, referenceId, ex);
             throw new TechnicalManagementException("An error occurs while trying to delete member " + username + " for " + referenceType + " " + referenceId, ex);
@@ -315,6 +359,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                 } else {
                     membershipRepository.update(membership);
                     createAuditLog(MEMBERSHIP_UPDATED, membership.getUpdatedAt(), previousMembership, membership);
+                    updateApiAccess(referenceType, username);
                     return true;
                 }
             }
@@ -325,6 +370,13 @@ public class MembershipServiceImpl extends AbstractService implements Membership
         }
     }
 
+    private void updateApiAccess(MembershipReferenceType referenceType, String username) {
+        // API and group memberships give access to APIs
+        if (API.equals(referenceType) || MembershipReferenceType.GROUP.equals(referenceType)) {
+            apiAccessIndex.membershipUpdated(username);
+        }
+    }
+
     private Map<String, char[]> getMemberPermissions(MembershipReferenceType membershipReferenceType, String referenceId, String username, Set<String> groups, RoleScope roleScope) {
         MemberEntity member = this.getMember(membershipReferenceType, referenceId, username, roleScope);
         if (member != null) {
@@ -22,6 +22,8 @@ import io.gravitee.management.model.NewMetadataEntity;
 import io.gravitee.management.model.UpdateMetadataEntity;
 import io.gravitee.management.service.AuditService;
 import io.gravitee.management.service.MetadataService;
+import io.gravitee.management.service.cache.ReferenceData;
+import io.gravitee.management.service.cache.ReferenceDataCache;
 import io.gravitee.management.service.exceptions.DuplicateMetadataNameException;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
 import io.gravitee.repository.exceptions.TechnicalException;
@@ -65,11 +67,15 @@ public class MetadataServiceImpl extends TransactionalService implements Metadat
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
     @Override
     public List<MetadataEntity> findAllDefault() {
         try {
             LOGGER.debug("Find all metadata");
-            return metadataRepository.findByReferenceType(MetadataReferenceType.DEFAULT).stream()
+            return referenceDataCache.get(ReferenceData.DEFAULT_METADATA,
+                    () -> metadataRepository.findByReferenceType(MetadataReferenceType.DEFAULT)).stream()
                     .sorted((o1, o2) -> String.CASE_INSENSITIVE_ORDER.compare(o1.getName(), o2.getName()))
                     .map(this::convert)
                     .collect(Collectors.toList());
@@ -102,6 +108,7 @@ public class MetadataServiceImpl extends TransactionalService implements Metadat
             metadata.setCreatedAt(now);
             metadata.setUpdatedAt(now);
             metadataRepository.create(metadata);
+            referenceDataCache.invalidate(ReferenceData.DEFAULT_METADATA);
             // Audit
             auditService.createPortalAuditLog(
                     Collections.singletonMap(METADATA, metadata.getKey()),
@@ -134,6 +141,7 @@ public class MetadataServiceImpl extends TransactionalService implements Metadat
             final Date now = new Date();
             metadata.setUpdatedAt(now);
             metadataRepository.update(metadata);
+            referenceDataCache.invalidate(ReferenceData.DEFAULT_METADATA);
             // Audit
             auditService.createPortalAuditLog(
                     Collections.singletonMap(METADATA, metadata.getKey()),
@@ -154,6 +162,7 @@ public class MetadataServiceImpl extends TransactionalService implements Metadat
             final Optional<Metadata> optMetadata = metadataRepository.findById(key, DEFAUT_REFERENCE_ID, MetadataReferenceType.DEFAULT);
             if (optMetadata.isPresent()) {
                 metadataRepository.delete(key, DEFAUT_REFERENCE_ID, MetadataReferenceType.DEFAULT);
+                referenceDataCache.invalidate(ReferenceData.DEFAULT_METADATA);
                 // Audit
                 auditService.createPortalAuditLog(
                         Collections.singletonMap(METADATA, key),
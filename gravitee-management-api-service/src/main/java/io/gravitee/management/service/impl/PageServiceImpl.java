@@ -22,10 +22,7 @@ import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import io.gravitee.common.http.MediaType;
 import io.gravitee.common.utils.UUID;
-import io.gravitee.fetcher.api.Fetcher;
-import io.gravitee.fetcher.api.FetcherConfiguration;
 import io.gravitee.fetcher.api.FetcherException;
-import io.gravitee.management.fetcher.FetcherConfigurationFactory;
 import io.gravitee.management.model.*;
 import io.gravitee.management.model.PageType;
 import io.gravitee.management.model.Visibility;
@@ -33,27 +30,32 @@ import io.gravitee.management.model.documentation.PageQuery;
 import io.gravitee.management.model.permissions.ApiPermission;
 import io.gravitee.management.model.permissions.RolePermissionAction;
 import io.gravitee.management.service.*;
+import io.gravitee.management.service.cluster.ClusterCoordinator;
+import io.gravitee.management.service.cluster.Lease;
 import io.gravitee.management.service.exceptions.PageAlreadyExistsException;
 import io.gravitee.management.service.exceptions.PageNotFoundException;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
-import io.gravitee.plugin.fetcher.FetcherPlugin;
-import io.gravitee.plugin.fetcher.FetcherPluginManager;
 import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
 import io.gravitee.repository.management.api.PageRepository;
 import io.gravitee.repository.management.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationContext;
-import org.springframework.context.ApplicationContextAware;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.ui.freemarker.FreeMarkerTemplateUtils;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
 
 import static io.gravitee.repository.management.model.Audit.AuditProperties.PAGE;
@@ -69,10 +71,17 @@ import static java.util.Collections.emptyList;
  * @author GraviteeSource Team
  */
 @Component
-public class PageServiceImpl extends TransactionalService implements PageService, ApplicationContextAware {
+public class PageServiceImpl extends TransactionalService implements PageService, InitializingBean, DisposableBean {
 
 	private static final Gson gson = new Gson();
 
+	/**
+	 * Name of the lease guarding the refresh of the pages: only one management node fetches the page sources.
+	 */
+	static final String REFRESH_LEASE = "documentation-refresher";
+
+	private static final String SYSTEM_USERNAME = "system";
+
 	private static final Logger logger = LoggerFactory.getLogger(PageServiceImpl.class);
 
 	@Autowired
@@ -85,17 +94,11 @@ public class PageServiceImpl extends TransactionalService implements PageService
 	private SwaggerService swaggerService;
 
 	@Autowired
-	private FetcherPluginManager fetcherPluginManager;
-
-	@Autowired
-	private FetcherConfigurationFactory fetcherConfigurationFactory;
+	private PageSourceFetcher pageSourceFetcher;
 
 	@Autowired
 	private Configuration freemarkerConfiguration;
 
-	@Autowired
-	private ApplicationContext applicationContext;
-
 	@Autowired
 	private MembershipService membershipService;
 
@@ -105,6 +108,47 @@ public class PageServiceImpl extends TransactionalService implements PageService
 	@Autowired
 	private AuditService auditService;
 
+	@Autowired
+	private ApiRepository apiRepository;
+
+	@Autowired
+	private ClusterCoordinator clusterCoordinator;
+
+	/**
+	 * Time, in milliseconds, a request waits for the content of a page source. The page is saved without it once
+	 * this time has elapsed, and updated when the content has been fetched.
+	 */
+	@Value("${documentation.fetch.timeout:5000}")
+	private long fetchTimeout = 5000;
+
+	/**
+	 * Interval, in milliseconds, between two fetches of the page sources. Pages are not refreshed if 0.
+	 */
+	@Value("${documentation.refresh.interval:0}")
+	private long refreshInterval;
+
+	private ScheduledExecutorService refreshExecutor;
+
+	@Override
+	public void afterPropertiesSet() {
+		if (refreshInterval > 0) {
+			refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "page-refresher");
+				thread.setDaemon(true);
+				return thread;
+			});
+			refreshExecutor.scheduleWithFixedDelay(this::refreshPages, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS);
+			logger.info("Pages are fetched from their source every {} ms", refreshInterval);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if (refreshExecutor != null) {
+			refreshExecutor.shutdownNow();
+		}
+	}
+
 	@Override
 	public List<PageListItem> findApiPagesByApi(String apiId) {
 	    return findApiPagesByApiAndHomepage(apiId, null);
@@ -253,11 +297,9 @@ public class PageServiceImpl extends TransactionalService implements PageService
 
 			Page page = convert(newPageEntity);
 
+			CompletableFuture<String> pendingContent = null;
 			if (page.getSource() != null) {
-				String fetchedContent = this.getContentFromFetcher(page.getSource());
-				if (fetchedContent != null && !fetchedContent.isEmpty()) {
-					page.setContent(fetchedContent);
-				}
+				pendingContent = fetchContent(page);
 			}
 
 			page.setId(id);
@@ -272,6 +314,7 @@ public class PageServiceImpl extends TransactionalService implements PageService
 			//only one homepage is allowed
 			onlyOneHomepage(page);
 			createAuditLog(apiId, PAGE_CREATED, page.getCreatedAt(), null, page);
+			updateContentWhenFetched(page, pendingContent);
 			return convert(createdPage);
 		} catch (TechnicalException | FetcherException ex) {
 			logger.error("An error occurs while trying to create {}", newPageEntity, ex);
@@ -292,11 +335,9 @@ public class PageServiceImpl extends TransactionalService implements PageService
 
 			Page page = convert(newPageEntity);
 
+			CompletableFuture<String> pendingContent = null;
 			if (page.getSource() != null) {
-				String fetchedContent = this.getContentFromFetcher(page.getSource());
-				if (fetchedContent != null && !fetchedContent.isEmpty()) {
-					page.setContent(fetchedContent);
-				}
+				pendingContent = fetchContent(page);
 			}
 
 			page.setId(id);
@@ -310,6 +351,7 @@ public class PageServiceImpl extends TransactionalService implements PageService
 			//only one homepage is allowed
 			onlyOneHomepage(page);
 			createAuditLog(null, PAGE_CREATED, page.getCreatedAt(), null, page);
+			updateContentWhenFetched(page, pendingContent);
 			return convert(createdPage);
 		} catch (TechnicalException | FetcherException ex) {
 			logger.error("An error occurs while trying to create {}", newPageEntity, ex);
@@ -349,12 +391,10 @@ public class PageServiceImpl extends TransactionalService implements PageService
 			Page pageToUpdate = optPageToUpdate.get();
 			Page page = convert(updatePageEntity);
 
+			CompletableFuture<String> pendingContent = null;
 			if (page.getSource() != null) {
 				try {
-					String fetchedContent = this.getContentFromFetcher(page.getSource());
-                    if (fetchedContent != null && !fetchedContent.isEmpty()) {
-                    	page.setContent(fetchedContent);
-					}
+					pendingContent = fetchContent(page);
 				} catch (FetcherException e) {
 					throw onUpdateFail(pageId, e);
 				}
@@ -372,10 +412,12 @@ public class PageServiceImpl extends TransactionalService implements PageService
 			// if order change, reorder all pages
 			if (page.getOrder() != pageToUpdate.getOrder()) {
 				reorderAndSavePages(page);
+				updateContentWhenFetched(page, pendingContent);
 				return null;
 			} else {
 				Page updatedPage = pageRepository.update(page);
 				createAuditLog(page.getApi(), PAGE_UPDATED, page.getUpdatedAt(), pageToUpdate, page);
+				updateContentWhenFetched(page, pendingContent);
 				return convert(updatedPage);
 			}
 		} catch (TechnicalException ex) {
@@ -383,32 +425,171 @@ public class PageServiceImpl extends TransactionalService implements PageService
 		}
 	}
 
-	private String getContentFromFetcher(PageSource ps) throws FetcherException {
-		if (ps.getConfiguration().isEmpty()) {
+	/**
+	 * Fetches the content of the page source, waiting at most {@link #fetchTimeout} milliseconds.
+	 *
+	 * @return the content being fetched if it has not been received in time, <code>null</code> otherwise
+	 */
+	private CompletableFuture<String> fetchContent(Page page) throws FetcherException {
+		CompletableFuture<String> content = pageSourceFetcher.fetch(page.getSource());
+		try {
+			String fetchedContent = content.get(fetchTimeout, TimeUnit.MILLISECONDS);
+			if (fetchedContent != null && !fetchedContent.isEmpty()) {
+				page.setContent(fetchedContent);
+			}
 			return null;
+		} catch (TimeoutException te) {
+			logger.info("Source of page {} is slow to respond, the page will be updated once its content is fetched", page.getName());
+			return content;
+		} catch (ExecutionException ee) {
+			if (ee.getCause() instanceof FetcherException) {
+				throw (FetcherException) ee.getCause();
+			}
+			throw new FetcherException("Unable to fetch the content of page " + page.getName(), ee.getCause());
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+			throw new FetcherException("Interrupted while fetching the content of page " + page.getName(), ie);
 		}
+	}
+
+	/**
+	 * Saves the content of the page once fetched, as long as the page has not been updated in the meantime.
+	 *
+	 * @param page the page as saved while its content was being fetched
+	 */
+	private void updateContentWhenFetched(Page page, CompletableFuture<String> content) {
+		if (content != null) {
+			Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+			String username = authentication != null ? authentication.getName() : SYSTEM_USERNAME;
+			content.whenComplete((fetchedContent, throwable) -> {
+				if (throwable != null) {
+					logger.error("Unable to fetch the content of page {}", page.getId(), throwable);
+				} else {
+					updateContent(page, fetchedContent, username);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Fetches every page which has a source, and saves the pages whose content has changed.
+	 */
+	void refreshPages() {
+		Lease lease = clusterCoordinator.acquire(REFRESH_LEASE);
+		if (lease == null) {
+			logger.debug("Pages are refreshed by another node");
+			return;
+		}
+
 		try {
-			FetcherPlugin fetcherPlugin = fetcherPluginManager.get(ps.getType());
-			ClassLoader fetcherCL = fetcherPlugin.fetcher().getClassLoader();
-			Class<? extends FetcherConfiguration> fetcherConfigurationClass = (Class<? extends FetcherConfiguration>) fetcherCL.loadClass(fetcherPlugin.configuration().getName());
-			Class<? extends Fetcher> fetcherClass = (Class<? extends Fetcher>) fetcherCL.loadClass(fetcherPlugin.clazz());
-			FetcherConfiguration fetcherConfigurationInstance = fetcherConfigurationFactory.create(fetcherConfigurationClass, ps.getConfiguration());
-			Fetcher fetcher = fetcherClass.getConstructor(fetcherConfigurationClass).newInstance(fetcherConfigurationInstance);
-			// Autowire fetcher
-			applicationContext.getAutowireCapableBeanFactory().autowireBean(fetcher);
-
-			StringBuilder sb = new StringBuilder();
-			try (BufferedReader br = new BufferedReader(new InputStreamReader(fetcher.fetch()))) {
-				String line;
-				while ((line = br.readLine()) != null) {
-					sb.append(line);
-					sb.append("\n");
+			List<Page> pages = new ArrayList<>(pageRepository.findPortalPages());
+			for (Api api : apiRepository.findAll()) {
+				pages.addAll(pageRepository.findApiPageByApiId(api.getId()));
+			}
+
+			// bounds the number of fetches queued at the same time
+			int parallelism = pageSourceFetcher.getThreads();
+			Semaphore pending = new Semaphore(parallelism);
+			for (Page page : pages) {
+				if (page.getSource() != null) {
+					pending.acquire();
+					pageSourceFetcher.fetch(page.getSource()).whenComplete((fetchedContent, throwable) -> {
+						try {
+							if (throwable != null) {
+								logger.warn("Unable to fetch the content of page {}", page.getId(), throwable);
+							} else if (hasChanged(page.getContent(), fetchedContent)) {
+								// Do not write anything once another node has taken over
+								if (clusterCoordinator.holds(lease)) {
+									updateContent(page, fetchedContent, SYSTEM_USERNAME);
+								}
+							}
+						} finally {
+							pending.release();
+						}
+					});
 				}
 			}
-			return sb.toString();
-		} catch (Exception e) {
-		    logger.error(e.getMessage(), e);
-            throw new FetcherException(e.getMessage(), e);
+			pending.acquire(parallelism);
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+		} catch (Exception ex) {
+			logger.error("An error occurs while trying to refresh pages", ex);
+		}
+	}
+
+	/**
+	 * Saves the fetched content of a page, unless it is the current content of the page or the page has been
+	 * updated since the fetch started: its source may have changed, or a newer content may have been saved.
+	 *
+	 * @param fetchedPage the page whose source has been fetched
+	 */
+	private void updateContent(Page fetchedPage, String content, String username) {
+		String pageId = fetchedPage.getId();
+		try {
+			Optional<Page> optPage = pageRepository.findById(pageId);
+			if (!optPage.isPresent() || !hasChanged(optPage.get().getContent(), content)) {
+				return;
+			}
+
+			Page page = optPage.get();
+			if (!isSameVersion(fetchedPage, page)) {
+				logger.debug("Page {} has been updated while its content was fetched, the content is dropped", pageId);
+				return;
+			}
+
+			Page previousPage = copy(page);
+			page.setContent(content);
+			page.setUpdatedAt(new Date());
+			pageRepository.update(page);
+			createAuditLog(page.getApi(), PAGE_UPDATED, page.getUpdatedAt(), previousPage, page, username);
+		} catch (TechnicalException ex) {
+			logger.error("An error occurs while trying to update the content of page {}", pageId, ex);
+		}
+	}
+
+	private static Page copy(Page page) {
+		Page copy = new Page();
+		copy.setId(page.getId());
+		copy.setName(page.getName());
+		copy.setType(page.getType());
+		copy.setContent(page.getContent());
+		copy.setLastContributor(page.getLastContributor());
+		copy.setOrder(page.getOrder());
+		copy.setApi(page.getApi());
+		copy.setCreatedAt(page.getCreatedAt());
+		copy.setUpdatedAt(page.getUpdatedAt());
+		copy.setPublished(page.isPublished());
+		copy.setSource(page.getSource());
+		copy.setConfiguration(page.getConfiguration());
+		copy.setHomepage(page.isHomepage());
+		copy.setExcludedGroups(page.getExcludedGroups());
+		return copy;
+	}
+
+	private static boolean isSameVersion(Page fetchedPage, Page page) {
+		PageSource fetchedSource = fetchedPage.getSource();
+		PageSource source = page.getSource();
+		return sameTime(fetchedPage.getUpdatedAt(), page.getUpdatedAt())
+				&& fetchedSource != null && source != null
+				&& Objects.equals(fetchedSource.getType(), source.getType())
+				&& Objects.equals(fetchedSource.getConfiguration(), source.getConfiguration());
+	}
+
+	private static boolean sameTime(Date date, Date other) {
+		return date == null ? other == null : other != null && date.getTime() == other.getTime();
+	}
+
+	private static boolean hasChanged(String content, String fetchedContent) {
+		return fetchedContent != null && !fetchedContent.isEmpty()
+				&& !MessageDigest.isEqual(digest(content), digest(fetchedContent));
+	}
+
+	private static byte[] digest(String content) {
+		try {
+			return MessageDigest.getInstance("SHA-256")
+					.digest(content == null ? new byte[0] : content.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException nsae) {
+			throw new IllegalStateException(nsae);
 		}
 	}
 
@@ -672,17 +853,35 @@ public class PageServiceImpl extends TransactionalService implements PageService
 		}
 	}
 
-	@Override
-	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
-		this.applicationContext = applicationContext;
+	private void createAuditLog(String apiId, Audit.AuditEvent event, Date createdAt, Page oldValue, Page newValue) {
+		String pageId = oldValue != null ? oldValue.getId() : newValue.getId();
+		if (apiId == null ) {
+			auditService.createPortalAuditLog(
+					Collections.singletonMap(PAGE, pageId),
+					event,
+					createdAt,
+					oldValue,
+					newValue
+			);
+		} else {
+			auditService.createApiAuditLog(
+					apiId,
+					Collections.singletonMap(PAGE, pageId),
+					event,
+					createdAt,
+					oldValue,
+					newValue
+			);
+		}
 	}
 
-	private void createAuditLog(String apiId, Audit.AuditEvent event, Date createdAt, Page oldValue, Page newValue) {
+	private void createAuditLog(String apiId, Audit.AuditEvent event, Date createdAt, Page oldValue, Page newValue, String username) {
 		String pageId = oldValue != null ? oldValue.getId() : newValue.getId();
 		if (apiId == null ) {
 			auditService.createPortalAuditLog(
 					Collections.singletonMap(PAGE, pageId),
 					event,
+					username,
 					createdAt,
 					oldValue,
 					newValue
@@ -692,6 +891,7 @@ public class PageServiceImpl extends TransactionalService implements PageService
 					apiId,
 					Collections.singletonMap(PAGE, pageId),
 					event,
+					username,
 					createdAt,
 					oldValue,
 					newValue
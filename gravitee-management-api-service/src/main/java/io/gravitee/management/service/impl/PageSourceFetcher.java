@@ -0,0 +1,176 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.impl;
+
+import io.gravitee.fetcher.api.Fetcher;
+import io.gravitee.fetcher.api.FetcherConfiguration;
+import io.gravitee.fetcher.api.FetcherException;
+import io.gravitee.management.fetcher.FetcherConfigurationFactory;
+import io.gravitee.plugin.fetcher.FetcherPlugin;
+import io.gravitee.plugin.fetcher.FetcherPluginManager;
+import io.gravitee.repository.management.model.PageSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Fetches the content of the pages from their source, on a bounded pool of threads, so that a slow source never
+ * blocks the calling thread for longer than it is willing to wait.
+ *
+ * The fetcher and configuration classes of each fetcher plugin are resolved once.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class PageSourceFetcher implements DisposableBean {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(PageSourceFetcher.class);
+
+    @Autowired
+    private FetcherPluginManager fetcherPluginManager;
+
+    @Autowired
+    private FetcherConfigurationFactory fetcherConfigurationFactory;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Value("${documentation.fetch.threads:4}")
+    private int threads = 4;
+
+    @Value("${documentation.fetch.queueSize:100}")
+    private int queueSize = 100;
+
+    private final Map<String, FetcherFactory> factories = new ConcurrentHashMap<>();
+
+    private volatile ExecutorService executor;
+
+    /**
+     * Fetches the content of the given source. The returned future completes with <code>null</code> if the source is
+     * not configured, or exceptionally with a {@link FetcherException}.
+     */
+    public CompletableFuture<String> fetch(PageSource source) {
+        if (source.getConfiguration() == null || source.getConfiguration().isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<String> content = new CompletableFuture<>();
+        try {
+            executor().execute(() -> {
+                try {
+                    content.complete(read(source));
+                } catch (Throwable t) {
+                    content.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException ree) {
+            content.completeExceptionally(new FetcherException("Too many pages are being fetched", ree));
+        }
+        return content;
+    }
+
+    /**
+     * Number of fetches which can run at the same time.
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private String read(PageSource source) throws FetcherException {
+        try {
+            Fetcher fetcher = factories.computeIfAbsent(source.getType(), this::factory).create(source.getConfiguration());
+
+            StringBuilder sb = new StringBuilder();
+            try (BufferedReader br = new BufferedReader(new InputStreamReader(fetcher.fetch(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = br.readLine()) != null) {
+                    sb.append(line);
+                    sb.append("\n");
+                }
+            }
+            return sb.toString();
+        } catch (FetcherException fe) {
+            LOGGER.error(fe.getMessage(), fe);
+            throw fe;
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            throw new FetcherException(e.getMessage(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private FetcherFactory factory(String type) {
+        FetcherPlugin fetcherPlugin = fetcherPluginManager.get(type);
+        ClassLoader fetcherCL = fetcherPlugin.fetcher().getClassLoader();
+        try {
+            Class<? extends FetcherConfiguration> fetcherConfigurationClass =
+                    (Class<? extends FetcherConfiguration>) fetcherCL.loadClass(fetcherPlugin.configuration().getName());
+            Class<? extends Fetcher> fetcherClass = (Class<? extends Fetcher>) fetcherCL.loadClass(fetcherPlugin.clazz());
+            return new FetcherFactory(fetcherConfigurationClass, fetcherClass.getConstructor(fetcherConfigurationClass));
+        } catch (ReflectiveOperationException roe) {
+            throw new IllegalStateException("Unable to load fetcher " + type, roe);
+        }
+    }
+
+    private ExecutorService executor() {
+        if (executor == null) {
+            synchronized (this) {
+                if (executor == null) {
+                    executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                            new ArrayBlockingQueue<>(queueSize), new CustomizableThreadFactory("page-fetcher-"));
+                    ((ThreadPoolExecutor) executor).allowCoreThreadTimeOut(true);
+                }
+            }
+        }
+        return executor;
+    }
+
+    private class FetcherFactory {
+        private final Class<? extends FetcherConfiguration> configurationClass;
+        private final Constructor<? extends Fetcher> constructor;
+
+        private FetcherFactory(Class<? extends FetcherConfiguration> configurationClass, Constructor<? extends Fetcher> constructor) {
+            this.configurationClass = configurationClass;
+            this.constructor = constructor;
+        }
+
+        private Fetcher create(String configuration) throws ReflectiveOperationException {
+            Fetcher fetcher = constructor.newInstance(fetcherConfigurationFactory.create(configurationClass, configuration));
+            // Autowire fetcher
+            applicationContext.getAutowireCapableBeanFactory().autowireBean(fetcher);
+            return fetcher;
+        }
+    }
+}
@@ -21,6 +21,8 @@ import io.gravitee.management.model.UpdateRoleEntity;
 import io.gravitee.management.model.permissions.*;
 import io.gravitee.management.service.AuditService;
 import io.gravitee.management.service.RoleService;
+import io.gravitee.management.service.cache.ReferenceData;
+import io.gravitee.management.service.cache.ReferenceDataCache;
 import io.gravitee.management.service.exceptions.RoleAlreadyExistsException;
 import io.gravitee.management.service.exceptions.RoleNotFoundException;
 import io.gravitee.management.service.exceptions.RoleReservedNameException;
@@ -62,11 +64,22 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
     @Override
     public RoleEntity findById(final RoleScope scope, final String name) {
         try {
             LOGGER.debug("Find Role by id");
 
+            if (referenceDataCache.isEnabled()) {
+                RoleEntity role = roles().get(key(scope, name));
+                if (role == null) {
+                    throw new RoleNotFoundException(scope, name);
+                }
+                return role;
+            }
+
             Optional<Role> role = roleRepository.findById(scope, name);
             if (!role.isPresent()) {
                 throw new RoleNotFoundException(scope, name);
@@ -82,9 +95,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
     public List<RoleEntity> findAll() {
         try {
             LOGGER.debug("Find all Roles");
-            return roleRepository.findAll()
-                    .stream()
-                    .map(this::convert).collect(Collectors.toList());
+            return new ArrayList<>(roles().values());
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to find all roles", ex);
             throw new TechnicalManagementException("An error occurs while trying to find all roles", ex);
@@ -110,6 +121,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             if (entity.isDefaultRole()) {
                 toggleDefaultRole(convert(roleEntity.getScope()), entity.getName());
             }
+            referenceDataCache.invalidate(ReferenceData.ROLES);
             return entity;
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to create role {}", roleEntity.getName(), ex);
@@ -161,6 +173,8 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             createOrUpdateSystemRole(SystemRole.PRIMARY_OWNER, RoleScope.API, io.gravitee.management.model.permissions.RoleScope.API, ApiPermission.values());
             //APPLICATION - PRIMARY_OWNER
             createOrUpdateSystemRole(SystemRole.PRIMARY_OWNER, RoleScope.APPLICATION, io.gravitee.management.model.permissions.RoleScope.APPLICATION, ApplicationPermission.values());
+
+            referenceDataCache.invalidate(ReferenceData.ROLES);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to create admin roles", ex);
             throw new TechnicalManagementException("An error occurs while trying to create admin roles ", ex);
@@ -191,6 +205,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             if (entity.isDefaultRole()) {
                 toggleDefaultRole(scope, entity.getName());
             }
+            referenceDataCache.invalidate(ReferenceData.ROLES);
             return entity;
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to update role {}", roleEntity.getName(), ex);
@@ -216,6 +231,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
                     role.getUpdatedAt(),
                     role,
                     null);
+            referenceDataCache.invalidate(ReferenceData.ROLES);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to delete role {}/{}", scope, name, ex);
             throw new TechnicalManagementException("An error occurs while trying to delete role " + scope + "/" + name, ex);
@@ -226,9 +242,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
     public List<RoleEntity> findByScope(RoleScope scope) {
         try {
             LOGGER.debug("Find Roles by scope");
-            return roleRepository.findByScope(scope)
-                    .stream()
-                    .map(this::convert).collect(Collectors.toList());
+            return findRolesByScope(scope);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to find roles by scope", ex);
             throw new TechnicalManagementException("An error occurs while trying to find roles by scope", ex);
@@ -242,10 +256,9 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             List<RoleEntity> roles = new ArrayList<>();
             for (RoleScope scope : scopes) {
                 roles.addAll(
-                        roleRepository.findByScope(scope).
+                        findRolesByScope(scope).
                                 stream().
-                                filter(Role::isDefaultRole).
-                                map(this::convert).
+                                filter(RoleEntity::isDefaultRole).
                                 collect(Collectors.toList())
                 );
             }
@@ -276,6 +289,38 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
         return hasPermission;
     }
 
+    private List<RoleEntity> findRolesByScope(RoleScope scope) throws TechnicalException {
+        if (referenceDataCache.isEnabled()) {
+            return roles().values()
+                    .stream()
+                    .filter(role -> scope.name().equals(role.getScope().name()))
+                    .collect(Collectors.toList());
+        }
+        return roleRepository.findByScope(scope)
+                .stream()
+                .map(this::convert).collect(Collectors.toList());
+    }
+
+    /**
+     * All the roles, indexed by scope and name. Roles are read on almost every request to compute permissions so
+     * they are kept in the {@link ReferenceDataCache}.
+     */
+    private Map<String, RoleEntity> roles() throws TechnicalException {
+        return referenceDataCache.get(ReferenceData.ROLES, () -> {
+            Map<String, RoleEntity> roles = new LinkedHashMap<>();
+            for (Role role : roleRepository.findAll()) {
+                RoleEntity roleEntity = convert(role);
+                roleEntity.setPermissions(Collections.unmodifiableMap(roleEntity.getPermissions()));
+                roles.put(key(role.getScope(), role.getName()), roleEntity);
+            }
+            return Collections.unmodifiableMap(roles);
+        });
+    }
+
+    private String key(RoleScope scope, String name) {
+        return scope.name() + ':' + name;
+    }
+
     private void toggleDefaultRole(RoleScope scope, String newDefaultRoleName) throws TechnicalException {
         List<Role> roles = roleRepository.findByScope(scope).
                 stream().
@@ -22,6 +22,8 @@ import io.gravitee.management.model.TagEntity;
 import io.gravitee.management.service.ApiService;
 import io.gravitee.management.service.AuditService;
 import io.gravitee.management.service.TagService;
+import io.gravitee.management.service.cache.ReferenceData;
+import io.gravitee.management.service.cache.ReferenceDataCache;
 import io.gravitee.management.service.exceptions.DuplicateTagNameException;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
 import io.gravitee.repository.exceptions.TechnicalException;
@@ -59,11 +61,14 @@ public class TagServiceImpl extends TransactionalService implements TagService {
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
     @Override
     public List<TagEntity> findAll() {
         try {
             LOGGER.debug("Find all APIs");
-            return tagRepository.findAll()
+            return referenceDataCache.get(ReferenceData.TAGS, tagRepository::findAll)
                     .stream()
                     .map(this::convert).collect(Collectors.toList());
         } catch (TechnicalException ex) {
@@ -88,45 +93,53 @@ public class TagServiceImpl extends TransactionalService implements TagService {
         }
 
         final List<TagEntity> savedTags = new ArrayList<>(tagEntities.size());
-        tagEntities.forEach(tagEntity -> {
-            try {
-                Tag tag = convert(tagEntity);
-                savedTags.add(convert(tagRepository.create(tag)));
-                auditService.createPortalAuditLog(
-                        Collections.singletonMap(TAG, tag.getId()),
-                        TAG_CREATED,
-                        new Date(),
-                        null,
-                        tag);
-            } catch (TechnicalException ex) {
-                LOGGER.error("An error occurs while trying to create tag {}", tagEntity.getName(), ex);
-                throw new TechnicalManagementException("An error occurs while trying to create tag " + tagEntity.getName(), ex);
-            }
-        });
+        try {
+            tagEntities.forEach(tagEntity -> {
+                try {
+                    Tag tag = convert(tagEntity);
+                    savedTags.add(convert(tagRepository.create(tag)));
+                    auditService.createPortalAuditLog(
+                            Collections.singletonMap(TAG, tag.getId()),
+                            TAG_CREATED,
+                            new Date(),
+                            null,
+                            tag);
+                } catch (TechnicalException ex) {
+                    LOGGER.error("An error occurs while trying to create tag {}", tagEntity.getName(), ex);
+                    throw new TechnicalManagementException("An error occurs while trying to create tag " + tagEntity.getName(), ex);
+                }
+            });
+        } finally {
+            referenceDataCache.invalidate(ReferenceData.TAGS);
+        }
         return savedTags;
     }
 
     @Override
     public List<TagEntity> update(final List<UpdateTagEntity> tagEntities) {
         final List<TagEntity> savedTags = new ArrayList<>(tagEntities.size());
-        tagEntities.forEach(tagEntity -> {
-            try {
-                Tag tag = convert(tagEntity);
-                Optional<Tag> tagOptional = tagRepository.findById(tag.getId());
-                if (tagOptional.isPresent()) {
-                    savedTags.add(convert(tagRepository.update(tag)));
-                    auditService.createPortalAuditLog(
-                            Collections.singletonMap(TAG, tag.getId()),
-                            TAG_UPDATED,
-                            new Date(),
-                            tagOptional.get(),
-                            tag);
+        try {
+            tagEntities.forEach(tagEntity -> {
+                try {
+                    Tag tag = convert(tagEntity);
+                    Optional<Tag> tagOptional = tagRepository.findById(tag.getId());
+                    if (tagOptional.isPresent()) {
+                        savedTags.add(convert(tagRepository.update(tag)));
+                        auditService.createPortalAuditLog(
+                                Collections.singletonMap(TAG, tag.getId()),
+                                TAG_UPDATED,
+                                new Date(),
+                                tagOptional.get(),
+                                tag);
+                    }
+                } catch (TechnicalException ex) {
+                    LOGGER.error("An error occurs while trying to update tag {}", tagEntity.getName(), ex);
+                    throw new TechnicalManagementException("An error occurs while trying to update tag " + tagEntity.getName(), ex);
                 }
-            } catch (TechnicalException ex) {
-                LOGGER.error("An error occurs while trying to update tag {}", tagEntity.getName(), ex);
-                throw new TechnicalManagementException("An error occurs while trying to update tag " + tagEntity.getName(), ex);
-            }
-        });
+            });
+        } finally {
+            referenceDataCache.invalidate(ReferenceData.TAGS);
+        }
         return savedTags;
     }
 
@@ -142,6 +155,8 @@ public class TagServiceImpl extends TransactionalService implements TagService {
                         new Date(),
                         null,
                         tagOptional.get());
+                referenceDataCache.invalidate(ReferenceData.TAGS);
+
                 // delete all reference on APIs
                 apiService.deleteTagFromAPIs(tagId);
             }
@@ -21,6 +21,8 @@ import io.gravitee.management.model.TenantEntity;
 import io.gravitee.management.model.UpdateTenantEntity;
 import io.gravitee.management.service.AuditService;
 import io.gravitee.management.service.TenantService;
+import io.gravitee.management.service.cache.ReferenceData;
+import io.gravitee.management.service.cache.ReferenceDataCache;
 import io.gravitee.management.service.exceptions.DuplicateTenantNameException;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
 import io.gravitee.management.service.exceptions.TenantNotFoundException;
@@ -55,6 +57,9 @@ public class TenantServiceImpl extends TransactionalService implements TenantSer
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
     @Override
     public TenantEntity findById(String tenantId) {
         try {
@@ -76,7 +81,7 @@ public class TenantServiceImpl extends TransactionalService implements TenantSer
     public List<TenantEntity> findAll() {
         try {
             LOGGER.debug("Find all tenants");
-            return tenantRepository.findAll()
+            return referenceDataCache.get(ReferenceData.TENANTS, tenantRepository::findAll)
                     .stream()
                     .map(this::convert).collect(Collectors.toList());
         } catch (TechnicalException ex) {
@@ -101,45 +106,53 @@ public class TenantServiceImpl extends TransactionalService implements TenantSer
         }
 
         final List<TenantEntity> savedTenants = new ArrayList<>(tenantEntities.size());
-        tenantEntities.forEach(tenantEntity -> {
-            try {
-                Tenant tenant = convert(tenantEntity);
-                savedTenants.add(convert(tenantRepository.create(tenant)));
-                auditService.createPortalAuditLog(
-                        Collections.singletonMap(TENANT, tenant.getId()),
-                        TENANT_CREATED,
-                        new Date(),
-                        null,
-                        tenant);
-            } catch (TechnicalException ex) {
-                LOGGER.error("An error occurs while trying to create tenant {}", tenantEntity.getName(), ex);
-                throw new TechnicalManagementException("An error occurs while trying to create tenant " + tenantEntity.getName(), ex);
-            }
-        });
+        try {
+            tenantEntities.forEach(tenantEntity -> {
+                try {
+                    Tenant tenant = convert(tenantEntity);
+                    savedTenants.add(convert(tenantRepository.create(tenant)));
+                    auditService.createPortalAuditLog(
+                            Collections.singletonMap(TENANT, tenant.getId()),
+                            TENANT_CREATED,
+                            new Date(),
+                            null,
+                            tenant);
+                } catch (TechnicalException ex) {
+                    LOGGER.error("An error occurs while trying to create tenant {}", tenantEntity.getName(), ex);
+                    throw new TechnicalManagementException("An error occurs while trying to create tenant " + tenantEntity.getName(), ex);
+                }
+            });
+        } finally {
+            referenceDataCache.invalidate(ReferenceData.TENANTS);
+        }
         return savedTenants;
     }
 
     @Override
     public List<TenantEntity> update(final List<UpdateTenantEntity> tenantEntities) {
         final List<TenantEntity> savedTenants = new ArrayList<>(tenantEntities.size());
-        tenantEntities.forEach(tenantEntity -> {
-            try {
-                Tenant tenant = convert(tenantEntity);
-                Optional<Tenant> tenantOptional = tenantRepository.findById(tenant.getId());
-                if (tenantOptional.isPresent()) {
-                    savedTenants.add(convert(tenantRepository.update(tenant)));
-                    auditService.createPortalAuditLog(
-                            Collections.singletonMap(TENANT, tenant.getId()),
-                            TENANT_UPDATED,
-                            new Date(),
-                            tenantOptional.get(),
-                            tenant);
+        try {
+            tenantEntities.forEach(tenantEntity -> {
+                try {
+                    Tenant tenant = convert(tenantEntity);
+                    Optional<Tenant> tenantOptional = tenantRepository.findById(tenant.getId());
+                    if (tenantOptional.isPresent()) {
+                        savedTenants.add(convert(tenantRepository.update(tenant)));
+                        auditService.createPortalAuditLog(
+                                Collections.singletonMap(TENANT, tenant.getId()),
+                                TENANT_UPDATED,
+                                new Date(),
+                                tenantOptional.get(),
+                                tenant);
+                    }
+                } catch (TechnicalException ex) {
+                    LOGGER.error("An error occurs while trying to update tenant {}", tenantEntity.getName(), ex);
+                    throw new TechnicalManagementException("An error occurs while trying to update tenant " + tenantEntity.getName(), ex);
                 }
-            } catch (TechnicalException ex) {
-                LOGGER.error("An error occurs while trying to update tenant {}", tenantEntity.getName(), ex);
-                throw new TechnicalManagementException("An error occurs while trying to update tenant " + tenantEntity.getName(), ex);
-            }
-        });
+            });
+        } finally {
+            referenceDataCache.invalidate(ReferenceData.TENANTS);
+        }
         return savedTenants;
     }
 
@@ -156,6 +169,7 @@ public class TenantServiceImpl extends TransactionalService implements TenantSer
                         null,
                         tenantOptional.get());
                 tenantRepository.delete(tenantId);
+                referenceDataCache.invalidate(ReferenceData.TENANTS);
             }
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to delete tenant {}", tenantId, ex);
@@ -0,0 +1,164 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.management.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of the successful logins.
+ *
+ * The last connection date of a user who already exists is not written on each login: connections are coalesced by
+ * username and flushed in batches by a background thread, so that a login storm ends up in at most one update per
+ * user and flush interval. Usernames known to exist are kept for a while, so that their next logins do not have to
+ * read the user either.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class UserConnectionRecorder implements InitializingBean, DisposableBean {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(UserConnectionRecorder.class);
+
+    static final int BATCH_SIZE = 100;
+
+    @Autowired
+    private UserService userService;
+
+    /**
+     * Delay between two flushes of the pending connections, in milliseconds. Connections are written synchronously
+     * when set to 0.
+     */
+    @Value("${user.login.lastConnection.flushInterval:1000}")
+    private long flushInterval;
+
+    /**
+     * How long a username is known to exist, in seconds (0 to disable).
+     */
+    @Value("${user.login.knownUsers.ttl:600}")
+    private long knownUsersTtl;
+
+    @Value("${user.login.knownUsers.size:10000}")
+    private long knownUsersSize;
+
+    private final ConcurrentMap<String, Date> pendingConnections = new ConcurrentHashMap<>();
+
+    private Cache<String, Boolean> knownUsers;
+
+    private ScheduledExecutorService executorService;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (knownUsersTtl > 0) {
+            knownUsers = CacheBuilder.newBuilder()
+                    .maximumSize(knownUsersSize)
+                    .expireAfterWrite(knownUsersTtl, TimeUnit.SECONDS)
+                    .build();
+        }
+
+        if (flushInterval > 0) {
+            executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "user-connection-recorder");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executorService.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+        // Do not lose the connections received since the last flush
+        flush();
+    }
+
+    public boolean isKnown(String username) {
+        return knownUsers != null && knownUsers.getIfPresent(username) != null;
+    }
+
+    /**
+     * Records the connection of a user right away. Used for the first connection, which may have to initialize
+     * data for the user.
+     */
+    public void connect(String username) {
+        userService.connect(username);
+        known(username);
+    }
+
+    /**
+     * Records the connection of an existing user with the next flush.
+     */
+    public void connectLater(String username) {
+        if (executorService == null) {
+            connect(username);
+            return;
+        }
+        Date connectedAt = new Date();
+        pendingConnections.merge(username, connectedAt, (previous, current) -> current.after(previous) ? current : previous);
+        known(username);
+    }
+
+    void flush() {
+        Map<String, Date> batch = new HashMap<>();
+        for (String username : pendingConnections.keySet()) {
+            Date connectedAt = pendingConnections.remove(username);
+            if (connectedAt != null) {
+                batch.put(username, connectedAt);
+                if (batch.size() == BATCH_SIZE) {
+                    flush(batch);
+                    batch = new HashMap<>();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    private void flush(Map<String, Date> batch) {
+        try {
+            userService.connect(batch);
+        } catch (Exception ex) {
+            LOGGER.error("Unable to record the last connection of {} users", batch.size(), ex);
+        }
+    }
+
+    private void known(String username) {
+        if (knownUsers != null) {
+            knownUsers.put(username, Boolean.TRUE);
+        }
+    }
+}
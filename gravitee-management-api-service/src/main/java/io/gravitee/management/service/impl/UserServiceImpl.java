@@ -18,10 +18,12 @@ package io.gravitee.management.service.impl;
 import com.auth0.jwt.JWTSigner;
 import com.auth0.jwt.JWTVerifier;
 import com.google.common.collect.ImmutableMap;
+import io.gravitee.common.event.EventManager;
 import io.gravitee.management.model.*;
 import io.gravitee.management.service.*;
 import io.gravitee.management.service.builder.EmailNotificationBuilder;
 import io.gravitee.management.service.common.JWTHelper.Claims;
+import io.gravitee.management.service.event.UserEvent;
 import io.gravitee.management.service.exceptions.DefaultRoleNotFoundException;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
 import io.gravitee.management.service.exceptions.UserNotFoundException;
@@ -81,6 +83,9 @@ public class UserServiceImpl extends AbstractService implements UserService {
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private EventManager eventManager;
+
     @Value("${user.login.defaultApplication:true}")
     private boolean defaultApplicationForFirstConnection;
 
@@ -95,28 +100,7 @@ public class UserServiceImpl extends AbstractService implements UserService {
                 throw new UserNotFoundException(username);
             }
 
-            User user = checkUser.get();
-            User previousUser = new User(user);
-            // First connection: create default application for user
-            if (defaultApplicationForFirstConnection && user.getLastConnectionAt() == null) {
-                LOGGER.debug("Create a default application for {}", username);
-                NewApplicationEntity defaultApp = new NewApplicationEntity();
-                defaultApp.setName("Default application");
-                defaultApp.setDescription("My default application");
-                applicationService.create(defaultApp, username);
-            }
-
-            // Set date fields
-            user.setLastConnectionAt(new Date());
-            user.setUpdatedAt(user.getLastConnectionAt());
-
-            User updatedUser = userRepository.update(user);
-            auditService.createPortalAuditLog(
-                    Collections.singletonMap(USER, username),
-                    User.AuditEvent.USER_CONNECTED,
-                    user.getUpdatedAt(),
-                    previousUser,
-                    user);
+            User updatedUser = connect(username, checkUser.get(), new Date());
             return convert(updatedUser, true);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to connect {}", username, ex);
@@ -124,6 +108,49 @@ public class UserServiceImpl extends AbstractService implements UserService {
         }
     }
 
+    @Override
+    public void connect(Map<String, Date> connections) {
+        try {
+            LOGGER.debug("Connection of {} users", connections.size());
+            Set<User> users = userRepository.findByUsernames(new ArrayList<>(connections.keySet()));
+            for (User user : users) {
+                try {
+                    connect(user.getUsername(), user, connections.get(user.getUsername()));
+                } catch (Exception ex) {
+                    LOGGER.error("An error occurs while trying to connect {}", user.getUsername(), ex);
+                }
+            }
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to connect users {}", connections.keySet(), ex);
+            throw new TechnicalManagementException("An error occurs while trying to connect users " + connections.keySet(), ex);
+        }
+    }
+
+    private User connect(String username, User user, Date connectedAt) throws TechnicalException {
+        User previousUser = new User(user);
+        // First connection: create default application for user
+        if (defaultApplicationForFirstConnection && user.getLastConnectionAt() == null) {
+            LOGGER.debug("Create a default application for {}", username);
+            NewApplicationEntity defaultApp = new NewApplicationEntity();
+            defaultApp.setName("Default application");
+            defaultApp.setDescription("My default application");
+            applicationService.create(defaultApp, username);
+        }
+
+        // Set date fields
+        user.setLastConnectionAt(connectedAt);
+        user.setUpdatedAt(user.getLastConnectionAt());
+
+        User updatedUser = userRepository.update(user);
+        auditService.createPortalAuditLog(
+                Collections.singletonMap(USER, username),
+                User.AuditEvent.USER_CONNECTED,
+                user.getUpdatedAt(),
+                previousUser,
+                user);
+        return updatedUser;
+    }
+
     @Override
     public UserEntity findByName(String username, boolean loadRoles) {
         LOGGER.debug("Find user by name: {}", username);
@@ -211,6 +238,7 @@ public class UserServiceImpl extends AbstractService implements UserService {
                     user.getUpdatedAt(),
                     null,
                     user);
+            eventManager.publishEvent(UserEvent.UPDATE, convert(user, false));
             return convert(user, true);
         } catch (Exception ex) {
             LOGGER.error("An error occurs while trying to create an internal user with the token {}", registerUserEntity.getToken(), ex);
@@ -248,6 +276,7 @@ public class UserServiceImpl extends AbstractService implements UserService {
             if (addDefaultRole) {
                 addDefaultMembership(createdUser);
             }
+            eventManager.publishEvent(UserEvent.CREATE, convert(createdUser, false));
 
             return convert(createdUser, true);
         } catch (TechnicalException ex) {
@@ -370,6 +399,7 @@ public class UserServiceImpl extends AbstractService implements UserService {
                     user.getUpdatedAt(),
                     previousUser,
                     user);
+            eventManager.publishEvent(UserEvent.UPDATE, convert(updatedUser, false));
             return convert(updatedUser, true);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to update {}", updateUserEntity, ex);
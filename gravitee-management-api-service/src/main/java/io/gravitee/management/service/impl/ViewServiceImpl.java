@@ -22,6 +22,8 @@ import io.gravitee.management.model.ViewEntity;
 import io.gravitee.management.service.ApiService;
 import io.gravitee.management.service.AuditService;
 import io.gravitee.management.service.ViewService;
+import io.gravitee.management.service.cache.ReferenceData;
+import io.gravitee.management.service.cache.ReferenceDataCache;
 import io.gravitee.management.service.exceptions.DuplicateViewNameException;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
 import io.gravitee.repository.exceptions.TechnicalException;
@@ -58,11 +60,14 @@ public class ViewServiceImpl extends TransactionalService implements ViewService
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
     @Override
     public List<ViewEntity> findAll() {
         try {
             LOGGER.debug("Find all APIs");
-            return viewRepository.findAll()
+            return referenceDataCache.get(ReferenceData.VIEWS, viewRepository::findAll)
                     .stream()
                     .map(this::convert).collect(Collectors.toList());
         } catch (TechnicalException ex) {
@@ -87,45 +92,53 @@ public class ViewServiceImpl extends TransactionalService implements ViewService
         }
 
         final List<ViewEntity> savedViews = new ArrayList<>(viewEntities.size());
-        viewEntities.forEach(viewEntity -> {
-            try {
-                View view = convert(viewEntity);
-                savedViews.add(convert(viewRepository.create(view)));
-                auditService.createPortalAuditLog(
-                        Collections.singletonMap(VIEW, view.getId()),
-                        VIEW_CREATED,
-                        new Date(),
-                        null,
-                        view);
-            } catch (TechnicalException ex) {
-                LOGGER.error("An error occurs while trying to create view {}", viewEntity.getName(), ex);
-                throw new TechnicalManagementException("An error occurs while trying to create view " + viewEntity.getName(), ex);
-            }
-        });
+        try {
+            viewEntities.forEach(viewEntity -> {
+                try {
+                    View view = convert(viewEntity);
+                    savedViews.add(convert(viewRepository.create(view)));
+                    auditService.createPortalAuditLog(
+                            Collections.singletonMap(VIEW, view.getId()),
+                            VIEW_CREATED,
+                            new Date(),
+                            null,
+                            view);
+                } catch (TechnicalException ex) {
+                    LOGGER.error("An error occurs while trying to create view {}", viewEntity.getName(), ex);
+                    throw new TechnicalManagementException("An error occurs while trying to create view " + viewEntity.getName(), ex);
+                }
+            });
+        } finally {
+            referenceDataCache.invalidate(ReferenceData.VIEWS);
+        }
         return savedViews;
     }
 
     @Override
     public List<ViewEntity> update(final List<UpdateViewEntity> viewEntities) {
         final List<ViewEntity> savedViews = new ArrayList<>(viewEntities.size());
-        viewEntities.forEach(viewEntity -> {
-            try {
-                View view = convert(viewEntity);
-                Optional<View> viewOptional = viewRepository.findById(view.getId());
-                if (viewOptional.isPresent()) {
-                    savedViews.add(convert(viewRepository.update(view)));
-                    auditService.createPortalAuditLog(
-                            Collections.singletonMap(VIEW, view.getId()),
-                            VIEW_UPDATED,
-                            new Date(),
-                            viewOptional.get(),
-                            view);
+        try {
+            viewEntities.forEach(viewEntity -> {
+                try {
+                    View view = convert(viewEntity);
+                    Optional<View> viewOptional = viewRepository.findById(view.getId());
+                    if (viewOptional.isPresent()) {
+                        savedViews.add(convert(viewRepository.update(view)));
+                        auditService.createPortalAuditLog(
+                                Collections.singletonMap(VIEW, view.getId()),
+                                VIEW_UPDATED,
+                                new Date(),
+                                viewOptional.get(),
+                                view);
+                    }
+                } catch (TechnicalException ex) {
+                    LOGGER.error("An error occurs while trying to update view {}", viewEntity.getName(), ex);
+                    throw new TechnicalManagementException("An error occurs while trying to update view " + viewEntity.getName(), ex);
                 }
-            } catch (TechnicalException ex) {
-                LOGGER.error("An error occurs while trying to update view {}", viewEntity.getName(), ex);
-                throw new TechnicalManagementException("An error occurs while trying to update view " + viewEntity.getName(), ex);
-            }
-        });
+            });
+        } finally {
+            referenceDataCache.invalidate(ReferenceData.VIEWS);
+        }
         return savedViews;
     }
 
@@ -146,6 +159,8 @@ public class ViewServiceImpl extends TransactionalService implements ViewService
                         null,
                         viewOptional.get());
 
+                referenceDataCache.invalidate(ReferenceData.VIEWS);
+
                 // delete all reference on APIs
                 apiService.deleteViewFromAPIs(viewId);
             }
@@ -166,6 +181,7 @@ public class ViewServiceImpl extends TransactionalService implements ViewService
             view.setUpdatedAt(view.getCreatedAt());
         try{
             viewRepository.create(view);
+            referenceDataCache.invalidate(ReferenceData.VIEWS);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to create view {}", view.getName(), ex);
             throw new TechnicalManagementException("An error occurs while trying to create view " + view.getName(), ex);
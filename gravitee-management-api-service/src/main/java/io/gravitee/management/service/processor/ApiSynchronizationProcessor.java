@@ -15,17 +15,14 @@
  */
 package io.gravitee.management.service.processor;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import io.gravitee.management.model.ApiEntity;
 import io.gravitee.management.model.DeploymentRequired;
 
@@ -36,39 +33,29 @@ import io.gravitee.management.model.DeploymentRequired;
 @Component
 public class ApiSynchronizationProcessor {
 
-    private final Logger LOGGER = LoggerFactory.getLogger(ApiSynchronizationProcessor.class);
-
-    @Autowired
-    private ObjectMapper objectMapper;
+    /**
+     * Accessors of the {@link DeploymentRequired} fields, resolved once.
+     */
+    private static final List<MethodHandle> REQUIRED_FIELDS = requiredFields();
 
     public boolean processCheckSynchronization(ApiEntity deployedApi, ApiEntity apiToDeploy) {
-        Class<ApiEntity> cl = ApiEntity.class;
-        List<Object> requiredFieldsDeployedApi = new ArrayList<Object>();
-        List<Object> requiredFieldsApiToDeploy = new ArrayList<Object>();
-        for (Field f : cl.getDeclaredFields()) {
-            if (f.getAnnotation(DeploymentRequired.class) != null) {
-                boolean previousAccessibleState = f.isAccessible();
-                f.setAccessible(true);
-                try {
-                    requiredFieldsDeployedApi.add(f.get(deployedApi));
-                    requiredFieldsApiToDeploy.add(f.get(apiToDeploy));
-                } catch (Exception e) {
-                    LOGGER.error("Error access API required deployment fields", e);
-                } finally {
-                    f.setAccessible(previousAccessibleState);
-                }
+        for (MethodHandle requiredField : REQUIRED_FIELDS) {
+            if (!StructuralEquality.isEqual(
+                    StructuralEquality.get(requiredField, deployedApi),
+                    StructuralEquality.get(requiredField, apiToDeploy))) {
+                return false;
             }
         }
+        return true;
+    }
 
-        try {
-            String requiredFieldsDeployedApiDefinition = objectMapper.writeValueAsString(requiredFieldsDeployedApi);
-            String requiredFieldsApiToDeployDefinition = objectMapper.writeValueAsString(requiredFieldsApiToDeploy);
-
-            return requiredFieldsDeployedApiDefinition.equals(requiredFieldsApiToDeployDefinition);
-        } catch (Exception e) {
-            LOGGER.error("Unexpected error while generating API deployment required fields definition", e);
-            return false;
+    private static List<MethodHandle> requiredFields() {
+        List<MethodHandle> accessors = new ArrayList<>();
+        for (Field f : ApiEntity.class.getDeclaredFields()) {
+            if (f.getAnnotation(DeploymentRequired.class) != null) {
+                accessors.add(StructuralEquality.getter(f));
+            }
         }
+        return Collections.unmodifiableList(accessors);
     }
-
 }
@@ -0,0 +1,182 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.processor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Deep, field by field comparison of definition objects.
+ *
+ * The definition model classes do not implement a value based <code>equals</code> (endpoints or policies are only
+ * compared by name), so they are walked through their declared fields. Field accessors are resolved once per class
+ * and kept for the life of the class loader.
+ *
+ * @author GraviteeSource Team
+ */
+final class StructuralEquality {
+
+    private static final ClassValue<MethodHandle[]> ACCESSORS = new ClassValue<MethodHandle[]>() {
+        @Override
+        protected MethodHandle[] computeValue(Class<?> type) {
+            List<MethodHandle> accessors = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())
+                            && !field.isSynthetic()) {
+                        accessors.add(getter(field));
+                    }
+                }
+            }
+            return accessors.toArray(new MethodHandle[accessors.size()]);
+        }
+    };
+
+    private StructuralEquality() {
+    }
+
+    /**
+     * Resolves a getter for the given field. The field instance must not be shared: it is made accessible for good.
+     */
+    static MethodHandle getter(Field field) {
+        field.setAccessible(true);
+        try {
+            return MethodHandles.lookup().unreflectGetter(field);
+        } catch (IllegalAccessException iae) {
+            throw new IllegalStateException("Unable to access field " + field, iae);
+        }
+    }
+
+    static Object get(MethodHandle getter, Object target) {
+        try {
+            return getter.invoke(target);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    static boolean isEqual(Object first, Object second) {
+        if (first == second) {
+            return true;
+        }
+        if (first == null || second == null) {
+            return false;
+        }
+
+        if (first instanceof List && second instanceof List) {
+            return listEquals((List<?>) first, (List<?>) second);
+        }
+        if (first instanceof Set && second instanceof Set) {
+            return setEquals((Set<?>) first, (Set<?>) second);
+        }
+        if (first instanceof Collection && second instanceof Collection) {
+            return listEquals(new ArrayList<>((Collection<?>) first), new ArrayList<>((Collection<?>) second));
+        }
+        if (first instanceof Map && second instanceof Map) {
+            return mapEquals((Map<?, ?>) first, (Map<?, ?>) second);
+        }
+
+        Class<?> type = first.getClass();
+        if (type != second.getClass()) {
+            return false;
+        }
+        if (type.isArray()) {
+            return type.getComponentType().isPrimitive() ?
+                    Arrays.deepEquals(new Object[]{first}, new Object[]{second}) :
+                    listEquals(Arrays.asList((Object[]) first), Arrays.asList((Object[]) second));
+        }
+        if (isValueType(type)) {
+            return first.equals(second);
+        }
+
+        for (MethodHandle accessor : ACCESSORS.get(type)) {
+            if (!isEqual(get(accessor, first), get(accessor, second))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValueType(Class<?> type) {
+        // JDK types (String, boxed primitives, dates, classes...) and enums already compare by value
+        return type.isEnum() || type.getName().startsWith("java.") || type.getName().startsWith("javax.");
+    }
+
+    private static boolean listEquals(List<?> first, List<?> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        Iterator<?> secondIte = second.iterator();
+        for (Object element : first) {
+            if (!isEqual(element, secondIte.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean setEquals(Set<?> first, Set<?> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        // Both sets are usually built the same way, so try their iteration order before matching each element
+        if (listEquals(new ArrayList<>(first), new ArrayList<>(second))) {
+            return true;
+        }
+        List<Object> remaining = new ArrayList<>(second);
+        for (Object element : first) {
+            Iterator<Object> ite = remaining.iterator();
+            boolean found = false;
+            while (ite.hasNext() && !found) {
+                if (isEqual(element, ite.next())) {
+                    ite.remove();
+                    found = true;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean mapEquals(Map<?, ?> first, Map<?, ?> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (Map.Entry<?, ?> entry : first.entrySet()) {
+            Object other = second.get(entry.getKey());
+            if (other == null && !second.containsKey(entry.getKey())) {
+                return false;
+            }
+            if (!isEqual(entry.getValue(), other)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,30 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.registry;
+
+/**
+ * Read-only view of the APIs deployed on this management node by the synchronization service.
+ *
+ * @author GraviteeSource Team
+ */
+public interface ApiRegistry {
+
+    /**
+     * Returns the current state of the registry. The snapshot is immutable: it is never blocked by, nor affected
+     * by, the deployments applied after it has been taken.
+     */
+    ApiRegistrySnapshot snapshot();
+}
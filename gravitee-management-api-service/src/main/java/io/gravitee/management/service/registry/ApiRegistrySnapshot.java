@@ -0,0 +1,139 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.registry;
+
+import io.gravitee.management.model.ApiEntity;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable state of an {@link ApiRegistry}.
+ *
+ * The registry revision is incremented by each deployment, update or undeployment, and each API keeps the revision
+ * at which it has been deployed or updated for the last time.
+ *
+ * @author GraviteeSource Team
+ */
+public final class ApiRegistrySnapshot {
+
+    public static final ApiRegistrySnapshot EMPTY = new ApiRegistrySnapshot(0, Collections.emptyMap());
+
+    private final long revision;
+    private final Map<String, Entry> entries;
+
+    private ApiRegistrySnapshot(long revision, Map<String, Entry> entries) {
+        this.revision = revision;
+        this.entries = entries;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public ApiEntity get(String apiId) {
+        Entry entry = entries.get(apiId);
+        return entry == null ? null : entry.api;
+    }
+
+    /**
+     * @return the revision at which the given API has been deployed or updated, 0 if it is not deployed
+     */
+    public long getRevision(String apiId) {
+        Entry entry = entries.get(apiId);
+        return entry == null ? 0 : entry.revision;
+    }
+
+    public Collection<ApiEntity> getApis() {
+        return entries.values().stream().map(entry -> entry.api).collect(Collectors.toList());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return a new snapshot, one revision ahead, in which the given API is deployed
+     */
+    public ApiRegistrySnapshot with(ApiEntity api) {
+        long nextRevision = revision + 1;
+        Map<String, Entry> nextEntries = new HashMap<>(entries);
+        nextEntries.put(api.getId(), new Entry(api, nextRevision));
+        return new ApiRegistrySnapshot(nextRevision, Collections.unmodifiableMap(nextEntries));
+    }
+
+    /**
+     * Same as chaining {@link #with(ApiEntity)} for each API, but with a single copy of the registry.
+     *
+     * @return a new snapshot, one revision ahead per API, in which the given APIs are deployed
+     */
+    public ApiRegistrySnapshot withAll(Collection<ApiEntity> apis) {
+        if (apis.isEmpty()) {
+            return this;
+        }
+        long nextRevision = revision;
+        Map<String, Entry> nextEntries = new HashMap<>(entries);
+        for (ApiEntity api : apis) {
+            nextEntries.put(api.getId(), new Entry(api, ++nextRevision));
+        }
+        return new ApiRegistrySnapshot(nextRevision, Collections.unmodifiableMap(nextEntries));
+    }
+
+    /**
+     * @return a new snapshot, one revision ahead, without the given API, or this snapshot if the API is not deployed
+     */
+    public ApiRegistrySnapshot without(String apiId) {
+        if (!entries.containsKey(apiId)) {
+            return this;
+        }
+        Map<String, Entry> nextEntries = new HashMap<>(entries);
+        nextEntries.remove(apiId);
+        return new ApiRegistrySnapshot(revision + 1, Collections.unmodifiableMap(nextEntries));
+    }
+
+    /**
+     * Same as chaining {@link #without(String)} for each API, but with a single copy of the registry.
+     *
+     * @return a new snapshot, one revision ahead per deployed API, without the given APIs
+     */
+    public ApiRegistrySnapshot withoutAll(Collection<String> apiIds) {
+        long nextRevision = revision;
+        Map<String, Entry> nextEntries = null;
+        for (String apiId : apiIds) {
+            if ((nextEntries == null ? entries : nextEntries).containsKey(apiId)) {
+                if (nextEntries == null) {
+                    nextEntries = new HashMap<>(entries);
+                }
+                nextEntries.remove(apiId);
+                nextRevision++;
+            }
+        }
+        return nextEntries == null ? this : new ApiRegistrySnapshot(nextRevision, Collections.unmodifiableMap(nextEntries));
+    }
+
+    private static final class Entry {
+        private final ApiEntity api;
+        private final long revision;
+
+        private Entry(ApiEntity api, long revision) {
+            this.api = api;
+            this.revision = revision;
+        }
+    }
+}
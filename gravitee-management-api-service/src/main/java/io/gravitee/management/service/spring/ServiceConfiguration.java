@@ -22,6 +22,7 @@ import io.gravitee.common.event.EventManager;
 import io.gravitee.common.event.impl.EventManagerImpl;
 import io.gravitee.definition.jackson.datatype.GraviteeMapper;
 import io.gravitee.management.fetcher.spring.FetcherConfigurationConfiguration;
+import io.gravitee.management.metrics.CallMetrics;
 import io.gravitee.management.service.jackson.filter.ApiPermissionFilter;
 import io.gravitee.plugin.fetcher.spring.FetcherPluginConfiguration;
 import io.gravitee.plugin.policy.spring.PolicyPluginConfiguration;
@@ -57,4 +58,12 @@ public class ServiceConfiguration {
 		objectMapper.setFilterProvider(new SimpleFilterProvider(Collections.singletonMap("apiMembershipTypeFilter", apiMembershipTypeFilter)));
 		return objectMapper;
 	}
+
+	/**
+	 * Time spent, in milliseconds, to register a successful login (user creation or last connection).
+	 */
+	@Bean
+	public CallMetrics loginMetrics() {
+		return new CallMetrics(CallMetrics.LATENCY_BUCKETS);
+	}
 }
@@ -0,0 +1,184 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Computes RFC 6902 patches between two JSON trees.
+ *
+ * The hash of every object and array is computed once for both trees, so that unchanged subtrees are skipped
+ * without being compared field by field. Arrays are compared element by element once their common prefix and
+ * suffix have been skipped: an insertion or a removal only produces one operation, but elements are never moved.
+ *
+ * @author GraviteeSource Team
+ */
+public final class JsonPatchDiff {
+
+    /**
+     * Last operation of a truncated patch. It is not a RFC 6902 operation and only tells how many operations have
+     * been omitted.
+     */
+    public static final String TRUNCATED_OPERATION = "truncated";
+
+    private final Map<JsonNode, Integer> hashes = new IdentityHashMap<>();
+    private final ArrayNode patch = JsonNodeFactory.instance.arrayNode();
+
+    private JsonPatchDiff() {
+    }
+
+    public static ArrayNode diff(JsonNode source, JsonNode target) {
+        JsonPatchDiff diff = new JsonPatchDiff();
+        diff.hash(source);
+        diff.hash(target);
+        diff.diff("", source, target);
+        return diff.patch;
+    }
+
+    /**
+     * Writes the patch, dropping the last operations if it is longer than the given number of characters. A
+     * {@link #TRUNCATED_OPERATION} is then added at the end of the patch.
+     */
+    public static String toString(ArrayNode patch, int maxLength) {
+        String value = patch.toString();
+        if (maxLength <= 0 || value.length() <= maxLength) {
+            return value;
+        }
+
+        StringBuilder builder = new StringBuilder(maxLength + 64).append('[');
+        int kept = 0;
+        for (JsonNode operation : patch) {
+            String op = operation.toString();
+            if (builder.length() + op.length() + 1 > maxLength) {
+                break;
+            }
+            builder.append(op).append(',');
+            kept++;
+        }
+
+        ObjectNode marker = JsonNodeFactory.instance.objectNode()
+                .put("op", TRUNCATED_OPERATION)
+                .put("omitted", patch.size() - kept);
+        return builder.append(marker).append(']').toString();
+    }
+
+    private int hash(JsonNode node) {
+        if (node.isObject()) {
+            int hash = 0;
+            for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                // Fields order is not significant
+                hash += field.getKey().hashCode() ^ hash(field.getValue());
+            }
+            hashes.put(node, hash);
+            return hash;
+        } else if (node.isArray()) {
+            int hash = 1;
+            for (JsonNode element : node) {
+                hash = 31 * hash + hash(element);
+            }
+            hashes.put(node, hash);
+            return hash;
+        }
+        return node.hashCode();
+    }
+
+    private boolean same(JsonNode source, JsonNode target) {
+        if (source == target) {
+            return true;
+        }
+        int sourceHash = hashes.containsKey(source) ? hashes.get(source) : source.hashCode();
+        int targetHash = hashes.containsKey(target) ? hashes.get(target) : target.hashCode();
+        return sourceHash == targetHash && source.equals(target);
+    }
+
+    private void diff(String path, JsonNode source, JsonNode target) {
+        if (same(source, target)) {
+            return;
+        }
+
+        if (source.isObject() && target.isObject()) {
+            diffObjects(path, source, target);
+        } else if (source.isArray() && target.isArray()) {
+            diffArrays(path, source, target);
+        } else {
+            add("replace", path, target);
+        }
+    }
+
+    private void diffObjects(String path, JsonNode source, JsonNode target) {
+        for (Iterator<Map.Entry<String, JsonNode>> fields = source.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode targetValue = target.get(field.getKey());
+            if (targetValue == null) {
+                add("remove", path(path, field.getKey()), null);
+            } else {
+                diff(path(path, field.getKey()), field.getValue(), targetValue);
+            }
+        }
+
+        for (Iterator<Map.Entry<String, JsonNode>> fields = target.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!source.has(field.getKey())) {
+                add("add", path(path, field.getKey()), field.getValue());
+            }
+        }
+    }
+
+    private void diffArrays(String path, JsonNode source, JsonNode target) {
+        int start = 0;
+        int sourceEnd = source.size();
+        int targetEnd = target.size();
+
+        while (start < sourceEnd && start < targetEnd && same(source.get(start), target.get(start))) {
+            start++;
+        }
+        while (sourceEnd > start && targetEnd > start && same(source.get(sourceEnd - 1), target.get(targetEnd - 1))) {
+            sourceEnd--;
+            targetEnd--;
+        }
+
+        int common = Math.min(sourceEnd, targetEnd) - start;
+        for (int i = start; i < start + common; i++) {
+            diff(path + '/' + i, source.get(i), target.get(i));
+        }
+        // Remove from the end so that the indexes of the remaining elements do not change
+        for (int i = sourceEnd - 1; i >= start + common; i--) {
+            add("remove", path + '/' + i, null);
+        }
+        for (int i = start + common; i < targetEnd; i++) {
+            add("add", path + '/' + i, target.get(i));
+        }
+    }
+
+    private void add(String op, String path, JsonNode value) {
+        ObjectNode operation = patch.addObject().put("op", op).put("path", path);
+        if (value != null) {
+            operation.set("value", value);
+        }
+    }
+
+    private static String path(String parent, String field) {
+        return parent + '/' + field.replace("~", "~0").replace("/", "~1");
+    }
+}
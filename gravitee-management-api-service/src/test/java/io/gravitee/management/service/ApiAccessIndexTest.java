@@ -0,0 +1,196 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.management.service.cache.ApiAccessIndex;
+import io.gravitee.management.service.cache.ReferenceDataCache;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.EventRepository;
+import io.gravitee.repository.management.api.MembershipRepository;
+import io.gravitee.repository.management.api.search.EventCriteria;
+import io.gravitee.repository.management.model.*;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.invokeMethod;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApiAccessIndexTest {
+
+    private static final String USERNAME = "johndoe";
+
+    @InjectMocks
+    private ApiAccessIndex apiAccessIndex = new ApiAccessIndex();
+
+    @Spy
+    private ReferenceDataCache referenceDataCache = new ReferenceDataCache();
+
+    @Mock
+    private ApiRepository apiRepository;
+
+    @Mock
+    private MembershipRepository membershipRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Before
+    public void init() throws TechnicalException {
+        setField(referenceDataCache, "enabled", true);
+        setField(referenceDataCache, "eventRepository", eventRepository);
+        when(eventRepository.findById(anyString())).thenReturn(Optional.empty());
+
+        when(apiRepository.findAll()).thenReturn(new HashSet<>(Arrays.asList(
+                api("public", Visibility.PUBLIC),
+                api("member", Visibility.PRIVATE),
+                api("group", Visibility.PRIVATE, "group-api"),
+                api("other", Visibility.PRIVATE, "group-other"),
+                api("application-group", Visibility.PRIVATE, "group-application"))));
+        when(membershipRepository.findByUserAndReferenceType(USERNAME, MembershipReferenceType.API))
+                .thenReturn(Collections.singleton(membership("member", MembershipReferenceType.API, RoleScope.API)));
+        when(membershipRepository.findByUserAndReferenceType(USERNAME, MembershipReferenceType.GROUP))
+                .thenReturn(new HashSet<>(Arrays.asList(
+                        membership("group-api", MembershipReferenceType.GROUP, RoleScope.API),
+                        membership("group-application", MembershipReferenceType.GROUP, RoleScope.APPLICATION))));
+    }
+
+    @Test
+    public void shouldFindVisibleApisOnce() throws TechnicalException {
+        Set<String> expected = new HashSet<>(Arrays.asList("public", "member", "group"));
+
+        assertEquals(expected, apiAccessIndex.findApiIds(USERNAME));
+        assertEquals(expected, apiAccessIndex.findApiIds(USERNAME));
+
+        verify(apiRepository, times(1)).findAll();
+        verify(membershipRepository, times(2)).findByUserAndReferenceType(eq(USERNAME), any(MembershipReferenceType.class));
+    }
+
+    @Test
+    public void shouldUpdateApisIncrementally() throws TechnicalException {
+        apiAccessIndex.findApiIds(USERNAME);
+
+        apiAccessIndex.apiUpdated(api("other", Visibility.PUBLIC, "group-other"));
+        apiAccessIndex.apiUpdated(api("group", Visibility.PRIVATE));
+        apiAccessIndex.apiDeleted("member");
+
+        assertEquals(new HashSet<>(Arrays.asList("public", "other")), apiAccessIndex.findApiIds(USERNAME));
+        verify(apiRepository, times(1)).findAll();
+    }
+
+    @Test
+    public void shouldReloadUserOnMembershipUpdate() throws TechnicalException {
+        apiAccessIndex.findApiIds(USERNAME);
+
+        when(membershipRepository.findByUserAndReferenceType(USERNAME, MembershipReferenceType.GROUP))
+                .thenReturn(Collections.singleton(membership("group-other", MembershipReferenceType.GROUP, RoleScope.API)));
+        apiAccessIndex.membershipUpdated(USERNAME);
+
+        assertEquals(new HashSet<>(Arrays.asList("public", "member", "other")), apiAccessIndex.findApiIds(USERNAME));
+        verify(apiRepository, times(1)).findAll();
+        verify(membershipRepository, times(4)).findByUserAndReferenceType(eq(USERNAME), any(MembershipReferenceType.class));
+    }
+
+    @Test
+    public void shouldReloadOnlyApiUpdatedByAnotherNode() throws TechnicalException {
+        apiAccessIndex.findApiIds(USERNAME);
+
+        when(eventRepository.search(any(EventCriteria.class))).thenReturn(Collections.singletonList(change("api:other")));
+        when(apiRepository.findById("other")).thenReturn(Optional.of(api("other", Visibility.PUBLIC)));
+        invokeMethod(referenceDataCache, "refresh");
+
+        assertEquals(new HashSet<>(Arrays.asList("public", "member", "group", "other")), apiAccessIndex.findApiIds(USERNAME));
+        verify(apiRepository, times(1)).findAll();
+        verify(apiRepository, times(1)).findById("other");
+        verify(membershipRepository, times(2)).findByUserAndReferenceType(eq(USERNAME), any(MembershipReferenceType.class));
+    }
+
+    @Test
+    public void shouldReloadOnlyUserUpdatedByAnotherNode() throws TechnicalException {
+        apiAccessIndex.findApiIds(USERNAME);
+
+        when(eventRepository.search(any(EventCriteria.class))).thenReturn(Collections.singletonList(change("user:" + USERNAME)));
+        invokeMethod(referenceDataCache, "refresh");
+        apiAccessIndex.findApiIds(USERNAME);
+
+        verify(apiRepository, times(1)).findAll();
+        verify(membershipRepository, times(4)).findByUserAndReferenceType(eq(USERNAME), any(MembershipReferenceType.class));
+    }
+
+    @Test
+    public void shouldPublishSingleChanges() throws TechnicalException {
+        apiAccessIndex.membershipUpdated(USERNAME);
+
+        ArgumentCaptor<Event> change = ArgumentCaptor.forClass(Event.class);
+        verify(eventRepository).create(change.capture());
+        assertEquals("user:" + USERNAME, change.getValue().getPayload());
+        assertEquals("API_ACCESS", change.getValue().getProperties().get("reference_data"));
+        verify(eventRepository, never()).update(any(Event.class));
+    }
+
+    @Test
+    public void shouldQueryRepositoriesWhenCacheDisabled() throws TechnicalException {
+        setField(referenceDataCache, "enabled", false);
+        when(apiRepository.findByVisibility(Visibility.PUBLIC)).thenReturn(Collections.singleton(api("public", Visibility.PUBLIC)));
+        when(apiRepository.findByGroups(Collections.singletonList("group-api")))
+                .thenReturn(Collections.singleton(api("group", Visibility.PRIVATE, "group-api")));
+
+        assertEquals(new HashSet<>(Arrays.asList("public", "member", "group")), apiAccessIndex.findApiIds(USERNAME));
+        verify(apiRepository, never()).findAll();
+    }
+
+    private static Event change(String key) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("reference_data", "API_ACCESS");
+        properties.put("reference_data_change", "true");
+        properties.put("node", "another-node");
+
+        Event change = new Event();
+        change.setId("reference-data-api_access-" + key);
+        change.setPayload(key);
+        change.setProperties(properties);
+        return change;
+    }
+
+    private static Api api(String id, Visibility visibility, String... groups) {
+        Api api = new Api();
+        api.setId(id);
+        api.setVisibility(visibility);
+        api.setGroups(new HashSet<>(Arrays.asList(groups)));
+        return api;
+    }
+
+    private static Membership membership(String referenceId, MembershipReferenceType referenceType, RoleScope roleScope) {
+        Membership membership = new Membership(USERNAME, referenceId, referenceType);
+        membership.setRoles(Collections.singletonMap(roleScope.getId(), "USER"));
+        return membership;
+    }
+}
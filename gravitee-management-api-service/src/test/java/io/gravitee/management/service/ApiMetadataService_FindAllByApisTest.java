@@ -0,0 +1,139 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.management.model.ApiMetadataEntity;
+import io.gravitee.management.model.MetadataEntity;
+import io.gravitee.management.model.MetadataFormat;
+import io.gravitee.management.service.impl.ApiMetadataServiceImpl;
+import io.gravitee.repository.management.api.MetadataRepository;
+import io.gravitee.repository.management.model.Metadata;
+import io.gravitee.repository.management.model.MetadataReferenceType;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApiMetadataService_FindAllByApisTest {
+
+    private static final String API_ID = "api-id";
+    private static final String API_ID2 = "api-id-2";
+
+    @InjectMocks
+    private ApiMetadataService apiMetadataService = new ApiMetadataServiceImpl();
+
+    @Mock
+    private MetadataRepository metadataRepository;
+
+    @Mock
+    private MetadataService metadataService;
+
+    @Before
+    public void init() {
+        when(metadataService.findAllDefault()).thenReturn(Arrays.asList(
+                defaultMetadata("email-support", "support@change.me"),
+                defaultMetadata("homepage", "http://gravitee.io")));
+    }
+
+    @Test
+    public void shouldMergeDefaultAndApiMetadata() throws Exception {
+        when(metadataRepository.findByReferenceTypeAndReferenceId(MetadataReferenceType.API, API_ID)).thenReturn(Arrays.asList(
+                apiMetadata(API_ID, "homepage", "http://my-api.io"),
+                apiMetadata(API_ID, "owner", "john")));
+
+        final List<ApiMetadataEntity> metadata = apiMetadataService.findAllByApi(API_ID);
+
+        assertEquals(3, metadata.size());
+        assertMetadata(metadata.get(0), "email-support", null, "support@change.me");
+        assertMetadata(metadata.get(1), "homepage", "http://my-api.io", "http://gravitee.io");
+        assertMetadata(metadata.get(2), "owner", "john", null);
+        assertEquals(API_ID, metadata.get(2).getApiId());
+    }
+
+    @Test
+    public void shouldFindAllByApisWithDefaultsReadOnce() throws Exception {
+        when(metadataRepository.findByReferenceTypeAndReferenceId(MetadataReferenceType.API, API_ID)).thenReturn(
+                Collections.singletonList(apiMetadata(API_ID, "homepage", "http://my-api.io")));
+        when(metadataRepository.findByReferenceTypeAndReferenceId(MetadataReferenceType.API, API_ID2)).thenReturn(
+                Collections.singletonList(apiMetadata(API_ID2, "owner", "john")));
+
+        final Map<String, List<ApiMetadataEntity>> metadata = apiMetadataService.findAllByApis(Arrays.asList(API_ID2, API_ID, API_ID2));
+
+        assertEquals(Arrays.asList(API_ID2, API_ID), Arrays.asList(metadata.keySet().toArray()));
+
+        final List<ApiMetadataEntity> metadata1 = metadata.get(API_ID);
+        assertEquals(2, metadata1.size());
+        assertMetadata(metadata1.get(0), "email-support", null, "support@change.me");
+        assertMetadata(metadata1.get(1), "homepage", "http://my-api.io", "http://gravitee.io");
+
+        final List<ApiMetadataEntity> metadata2 = metadata.get(API_ID2);
+        assertEquals(3, metadata2.size());
+        assertMetadata(metadata2.get(1), "homepage", null, "http://gravitee.io");
+        assertMetadata(metadata2.get(2), "owner", "john", null);
+
+        verify(metadataService, times(1)).findAllDefault();
+        verify(metadataRepository, times(1)).findByReferenceTypeAndReferenceId(MetadataReferenceType.API, API_ID);
+        verify(metadataRepository, times(1)).findByReferenceTypeAndReferenceId(MetadataReferenceType.API, API_ID2);
+        verify(metadataRepository, never()).findByReferenceType(any());
+    }
+
+    @Test
+    public void shouldFindAllByApisWithoutApis() throws Exception {
+        assertTrue(apiMetadataService.findAllByApis(Collections.emptyList()).isEmpty());
+        verifyZeroInteractions(metadataRepository, metadataService);
+    }
+
+    private static void assertMetadata(ApiMetadataEntity metadata, String key, String value, String defaultValue) {
+        assertEquals(key, metadata.getKey());
+        assertEquals(value, metadata.getValue());
+        assertEquals(defaultValue, metadata.getDefaultValue());
+    }
+
+    private static MetadataEntity defaultMetadata(String key, String value) {
+        final MetadataEntity metadata = new MetadataEntity();
+        metadata.setKey(key);
+        metadata.setName(key);
+        metadata.setValue(value);
+        metadata.setFormat(MetadataFormat.STRING);
+        return metadata;
+    }
+
+    private static Metadata apiMetadata(String apiId, String key, String value) {
+        final Metadata metadata = new Metadata();
+        metadata.setKey(key);
+        metadata.setName(key);
+        metadata.setValue(value);
+        metadata.setFormat(io.gravitee.repository.management.model.MetadataFormat.STRING);
+        metadata.setReferenceId(apiId);
+        metadata.setReferenceType(MetadataReferenceType.API);
+        return metadata;
+    }
+}
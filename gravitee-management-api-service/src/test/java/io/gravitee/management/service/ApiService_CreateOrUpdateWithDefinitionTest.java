@@ -22,6 +22,7 @@ import io.gravitee.definition.jackson.datatype.GraviteeMapper;
 import io.gravitee.management.model.*;
 import io.gravitee.management.model.documentation.PageQuery;
 import io.gravitee.management.model.permissions.SystemRole;
+import io.gravitee.management.service.cache.ApiAccessIndex;
 import io.gravitee.management.service.impl.ApiServiceImpl;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApiRepository;
@@ -60,6 +61,9 @@ public class ApiService_CreateOrUpdateWithDefinitionTest {
     @InjectMocks
     private ApiServiceImpl apiService = new ApiServiceImpl();
 
+    @Mock
+    private ApiAccessIndex apiAccessIndex;
+
     @Mock
     private ApiRepository apiRepository;
 
@@ -213,6 +217,7 @@ public class ApiService_CreateOrUpdateWithDefinitionTest {
         apiService.createOrUpdateWithDefinition(apiEntity, toBeImport, "import");
 
         verify(pageService, never()).createApiPage(eq(API_ID), any(NewPageEntity.class));
+        verify(membershipService, times(1)).findOrCreateUsers(Collections.singleton(admin.getUsername()));
         verify(membershipService, times(1)).addOrUpdateMember(
                 MembershipReferenceType.API,
                 API_ID,
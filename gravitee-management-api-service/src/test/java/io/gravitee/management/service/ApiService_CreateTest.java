@@ -21,6 +21,7 @@ import io.gravitee.management.model.ApiEntity;
 import io.gravitee.management.model.NewApiEntity;
 import io.gravitee.management.model.UserEntity;
 import io.gravitee.management.model.permissions.SystemRole;
+import io.gravitee.management.service.cache.ApiAccessIndex;
 import io.gravitee.management.service.exceptions.ApiAlreadyExistsException;
 import io.gravitee.management.service.exceptions.ApiContextPathAlreadyExistsException;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
@@ -60,6 +61,9 @@ public class ApiService_CreateTest {
     @InjectMocks
     private ApiServiceImpl apiService = new ApiServiceImpl();
 
+    @Mock
+    private ApiAccessIndex apiAccessIndex;
+
     @Mock
     private ApiRepository apiRepository;
 
@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.management.service.impl.ApiServiceImpl;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Audit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.*;
+
+import static io.gravitee.repository.management.model.Api.AuditEvent.API_UPDATED;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApiService_DeleteReferenceTest {
+
+    @InjectMocks
+    private ApiServiceImpl apiService = new ApiServiceImpl();
+
+    @Mock
+    private ApiRepository apiRepository;
+
+    @Mock
+    private AuditService auditService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void shouldRemoveViewFromReferencingApis() throws Exception {
+        Api api1 = api("api1", "{}", "view", "other");
+        Api api2 = api("api2", "{}", "other");
+        Api api3 = api("api3", "{}", "view");
+        when(apiRepository.findAll()).thenReturn(new HashSet<>(Arrays.asList(api1, api2, api3)));
+
+        apiService.deleteViewFromAPIs("view");
+
+        assertEquals(Collections.singleton("other"), api1.getViews());
+        assertEquals(Collections.emptySet(), api3.getViews());
+        verify(apiRepository, times(1)).findAll();
+        verify(apiRepository, times(1)).update(api1);
+        verify(apiRepository, times(1)).update(api3);
+        verify(apiRepository, never()).update(api2);
+        verify(apiRepository, never()).findById(anyString());
+        verify(auditService, times(1)).createPortalAuditLog(
+                eq(Collections.singletonMap(Audit.AuditProperties.VIEW, "view")),
+                eq(API_UPDATED), any(Date.class), any(), any());
+    }
+
+    @Test
+    public void shouldRemoveTagFromReferencingApiDefinitions() throws Exception {
+        Api api1 = api("api1", "{\"name\":\"api1\",\"tags\":[\"tag\",\"other\"]}");
+        Api api2 = api("api2", "{\"name\":\"api2\",\"tags\":[\"other\"]}");
+        Api api3 = api("api3", "{\"name\":\"api3\",\"description\":\"tag\"}");
+        when(apiRepository.findAll()).thenReturn(new HashSet<>(Arrays.asList(api1, api2, api3)));
+
+        apiService.deleteTagFromAPIs("tag");
+
+        assertEquals("{\"name\":\"api1\",\"tags\":[\"other\"]}", api1.getDefinition());
+        verify(apiRepository, times(1)).update(api1);
+        verify(apiRepository, never()).update(api2);
+        verify(apiRepository, never()).update(api3);
+
+        ArgumentCaptor<Object> newValue = ArgumentCaptor.forClass(Object.class);
+        verify(auditService, times(1)).createPortalAuditLog(
+                eq(Collections.singletonMap(Audit.AuditProperties.TAG, "tag")),
+                eq(API_UPDATED), any(Date.class), any(), newValue.capture());
+        assertEquals(Collections.singletonMap("api1", Collections.singleton("other")), newValue.getValue());
+    }
+
+    @Test
+    public void shouldNotAuditWhenNoApiIsReferencing() throws Exception {
+        when(apiRepository.findAll()).thenReturn(Collections.singleton(api("api1", "{}", "other")));
+
+        apiService.deleteViewFromAPIs("view");
+
+        verify(apiRepository, never()).update(any(Api.class));
+        verify(auditService, never()).createPortalAuditLog(any(), any(), any(), any(), any());
+    }
+
+    private Api api(String id, String definition, String... views) {
+        Api api = new Api();
+        api.setId(id);
+        api.setDefinition(definition);
+        api.setViews(new HashSet<>(Arrays.asList(views)));
+        return api;
+    }
+}
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import io.gravitee.definition.jackson.datatype.GraviteeMapper;
 import io.gravitee.management.model.PlanEntity;
 import io.gravitee.management.model.PlanStatus;
+import io.gravitee.management.service.cache.ApiAccessIndex;
 import io.gravitee.management.service.exceptions.ApiNotDeletableException;
 import io.gravitee.management.service.exceptions.ApiRunningStateException;
 import io.gravitee.management.service.impl.ApiServiceImpl;
@@ -54,6 +55,9 @@ public class ApiService_DeleteTest {
     @InjectMocks
     private ApiServiceImpl apiService = new ApiServiceImpl();
 
+    @Mock
+    private ApiAccessIndex apiAccessIndex;
+
     @Mock
     private ApiRepository apiRepository;
 
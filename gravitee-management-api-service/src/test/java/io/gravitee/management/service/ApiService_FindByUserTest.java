@@ -21,6 +21,7 @@ import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import io.gravitee.definition.jackson.datatype.GraviteeMapper;
 import io.gravitee.management.model.ApiEntity;
 import io.gravitee.management.model.permissions.SystemRole;
+import io.gravitee.management.service.cache.ApiAccessIndex;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
 import io.gravitee.management.service.impl.ApiServiceImpl;
 import io.gravitee.management.service.jackson.filter.ApiPermissionFilter;
@@ -40,8 +41,7 @@ import java.util.*;
 
 import static org.junit.Assert.*;
 import static org.mockito.Matchers.any;
-import static org.mockito.Mockito.anyString;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 /**
  * @author Azize Elamrani (azize dot elamrani at gmail dot com)
@@ -55,6 +55,9 @@ public class ApiService_FindByUserTest {
     @InjectMocks
     private ApiServiceImpl apiService = new ApiServiceImpl();
 
+    @Mock
+    private ApiAccessIndex apiAccessIndex;
+
     @Mock
     private ApiRepository apiRepository;
 
@@ -78,14 +81,9 @@ public class ApiService_FindByUserTest {
 
     @Test
     public void shouldFindByUser() throws TechnicalException {
-        when(apiRepository.findByVisibility(any(Visibility.class)))
-                .thenReturn(new HashSet<>(Arrays.asList(api)));
-        Membership membership = new Membership(USER_NAME, api.getId(), MembershipReferenceType.API);
-        membership.setRoles(Collections.singletonMap(RoleScope.API.getId(), "USER"));
-        Set<Membership> memberships = Collections.singleton(membership);
-        when(membershipRepository.findByUserAndReferenceType(anyString(), any(MembershipReferenceType.class)))
-                .thenReturn(memberships);
-        when(apiRepository.findByIds(Arrays.asList(USER_NAME))).thenReturn(new HashSet<>(Arrays.asList(api)));
+        when(api.getId()).thenReturn(API_ID);
+        when(apiAccessIndex.findApiIds(USER_NAME)).thenReturn(Collections.singleton(API_ID));
+        when(apiRepository.findByIds(Arrays.asList(API_ID))).thenReturn(new HashSet<>(Arrays.asList(api)));
         Membership po = new Membership(USER_NAME, API_ID, MembershipReferenceType.API);
         po.setRoles(Collections.singletonMap(RoleScope.API.getId(), SystemRole.PRIMARY_OWNER.name()));
         when(membershipRepository.findByReferencesAndRole(any(), any(), any(), any()))
@@ -99,21 +97,18 @@ public class ApiService_FindByUserTest {
 
     @Test
     public void shouldNotFindByUserBecauseNotExists() throws TechnicalException {
-        when(apiRepository.findByVisibility(any(Visibility.class)))
-                .thenReturn(Collections.emptySet());
-        when(membershipRepository.findByUserAndReferenceType(anyString(), any(MembershipReferenceType.class)))
-                .thenReturn(Collections.emptySet());
-        when(apiRepository.findByIds(any())).thenReturn(Collections.emptySet());
+        when(apiAccessIndex.findApiIds(USER_NAME)).thenReturn(Collections.emptySet());
 
         final Set<ApiEntity> apiEntities = apiService.findByUser(USER_NAME);
 
         assertNotNull(apiEntities);
         assertTrue(apiEntities.isEmpty());
+        verify(apiRepository, never()).findByIds(any());
     }
 
     @Test(expected = TechnicalManagementException.class)
     public void shouldNotFindByUserBecauseTechnicalException() throws TechnicalException {
-        when(apiRepository.findByVisibility(any(Visibility.class))).thenThrow(TechnicalException.class);
+        when(apiAccessIndex.findApiIds(USER_NAME)).thenThrow(TechnicalException.class);
 
         apiService.findByUser(USER_NAME);
     }
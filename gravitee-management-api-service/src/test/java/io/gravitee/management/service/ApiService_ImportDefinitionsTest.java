@@ -0,0 +1,234 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.io.Resources;
+import io.gravitee.definition.jackson.datatype.GraviteeMapper;
+import io.gravitee.management.model.GroupEntity;
+import io.gravitee.management.model.ImportApiResultEntity;
+import io.gravitee.management.model.UserEntity;
+import io.gravitee.management.service.cache.ApiAccessIndex;
+import io.gravitee.management.service.exceptions.TechnicalManagementException;
+import io.gravitee.management.service.impl.ApiServiceImpl;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.MembershipRepository;
+import io.gravitee.repository.management.model.Api;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApiService_ImportDefinitionsTest {
+
+    @InjectMocks
+    private ApiServiceImpl apiService = new ApiServiceImpl();
+
+    @Mock
+    private ApiAccessIndex apiAccessIndex;
+
+    @Mock
+    private ApiRepository apiRepository;
+
+    @Mock
+    private MembershipRepository membershipRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new GraviteeMapper();
+
+    @Mock
+    private MembershipService membershipService;
+
+    @Mock
+    private PageService pageService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private PlanService planService;
+
+    @Mock
+    private GroupService groupService;
+
+    @Mock
+    private AuditService auditService;
+
+    @Before
+    public void init() throws TechnicalException, IOException {
+        Api existingApi = new Api();
+        existingApi.setId("existing");
+        existingApi.setDefinition(definition("/existing").toString());
+        when(apiRepository.findAll()).thenReturn(Collections.singleton(existingApi));
+        when(apiRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(apiRepository.create(any())).thenAnswer(invocation -> invocation.getArguments()[0]);
+
+        UserEntity admin = new UserEntity();
+        admin.setUsername("admin");
+        when(userService.findByName(eq("admin"), eq(false))).thenReturn(admin);
+    }
+
+    @Test
+    public void shouldImportArrayOfDefinitions() throws Exception {
+        ArrayNode archive = objectMapper.createArrayNode()
+                .add(definition("/a"))
+                .add(definition("/existing"))
+                .add(definition("/a"))
+                .add(definition("/c"))
+                .add(definition("/c/d"));
+
+        List<ImportApiResultEntity> results = apiService.importDefinitions(
+                new ByteArrayInputStream(objectMapper.writeValueAsBytes(archive)), "admin");
+
+        assertEquals(5, results.size());
+        assertCreated(results.get(0), 0, "/a");
+        assertFailed(results.get(1), 1, "/existing");
+        assertFailed(results.get(2), 2, "/a");
+        assertCreated(results.get(3), 3, "/c");
+        assertFailed(results.get(4), 4, "/c/d");
+
+        // context paths are checked against a single read of the APIs
+        verify(apiRepository, times(1)).findAll();
+        verify(apiRepository, times(2)).create(any());
+    }
+
+    @Test
+    public void shouldImportZipOfDefinitions() throws Exception {
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(zip)) {
+            zipOutputStream.putNextEntry(new ZipEntry("apis/"));
+            zipOutputStream.putNextEntry(new ZipEntry("apis/a.json"));
+            zipOutputStream.write(objectMapper.writeValueAsBytes(definition("/a")));
+            zipOutputStream.putNextEntry(new ZipEntry("README.md"));
+            zipOutputStream.write("not a definition".getBytes());
+            zipOutputStream.putNextEntry(new ZipEntry("apis/b.json"));
+            zipOutputStream.write(objectMapper.writeValueAsBytes(definition("/b")));
+        }
+
+        List<ImportApiResultEntity> results = apiService.importDefinitions(
+                new ByteArrayInputStream(zip.toByteArray()), "admin");
+
+        assertEquals(2, results.size());
+        assertCreated(results.get(0), 0, "/a");
+        assertCreated(results.get(1), 1, "/b");
+    }
+
+    @Test
+    public void shouldReportInvalidDefinition() throws Exception {
+        ArrayNode archive = objectMapper.createArrayNode()
+                .add(objectMapper.createObjectNode().put("visibility", "UNKNOWN"))
+                .add(definition("/a"));
+
+        List<ImportApiResultEntity> results = apiService.importDefinitions(
+                new ByteArrayInputStream(objectMapper.writeValueAsBytes(archive)), "admin");
+
+        assertEquals(ImportApiResultEntity.Status.FAILED, results.get(0).getStatus());
+        assertNotNull(results.get(0).getMessage());
+        assertCreated(results.get(1), 1, "/a");
+    }
+
+    @Test
+    public void shouldCreateSharedGroupsOnce() throws Exception {
+        GroupEntity group = new GroupEntity();
+        group.setId("group-id");
+        when(groupService.findByName("group")).thenReturn(Collections.emptyList());
+        when(groupService.create(any())).thenReturn(group);
+
+        ArrayNode archive = objectMapper.createArrayNode()
+                .add(definition("/a", "group"))
+                .add(definition("/b", "group"));
+
+        List<ImportApiResultEntity> results = apiService.importDefinitions(
+                new ByteArrayInputStream(objectMapper.writeValueAsBytes(archive)), "admin");
+
+        assertCreated(results.get(0), 0, "/a");
+        assertCreated(results.get(1), 1, "/b");
+        verify(groupService, times(1)).findByName("group");
+        verify(groupService, times(1)).create(any());
+    }
+
+    @Test
+    public void shouldReleaseContextPathOfFailedImport() throws Exception {
+        when(groupService.findByName("broken")).thenThrow(new TechnicalManagementException("broken group"));
+
+        ArrayNode archive = objectMapper.createArrayNode()
+                .add(definition("/a", "broken"))
+                .add(definition("/a"));
+
+        List<ImportApiResultEntity> results = apiService.importDefinitions(
+                new ByteArrayInputStream(objectMapper.writeValueAsBytes(archive)), "admin");
+
+        assertEquals(ImportApiResultEntity.Status.FAILED, results.get(0).getStatus());
+        assertEquals("broken group", results.get(0).getMessage());
+        assertCreated(results.get(1), 1, "/a");
+    }
+
+    private ObjectNode definition(String contextPath, String group) throws IOException {
+        ObjectNode definition = definition(contextPath);
+        definition.putArray("groups").add(group);
+        return definition;
+    }
+
+    private ObjectNode definition(String contextPath) throws IOException {
+        ObjectNode definition = (ObjectNode) objectMapper.readTree(
+                Resources.getResource("io/gravitee/management/service/import-api.definition.json"));
+        ((ObjectNode) definition.get("proxy")).put("context_path", contextPath);
+        return definition;
+    }
+
+    private static void assertCreated(ImportApiResultEntity result, int index, String contextPath) {
+        assertEquals(index, result.getIndex());
+        assertEquals(contextPath, result.getContextPath());
+        assertEquals(ImportApiResultEntity.Status.CREATED, result.getStatus());
+        assertNotNull(result.getApi());
+        assertNull(result.getMessage());
+    }
+
+    private static void assertFailed(ImportApiResultEntity result, int index, String contextPath) {
+        assertEquals(index, result.getIndex());
+        assertEquals(contextPath, result.getContextPath());
+        assertEquals(ImportApiResultEntity.Status.FAILED, result.getStatus());
+        assertNull(result.getApi());
+        assertEquals("The api context path [" + contextPath + "/] already exists.", result.getMessage());
+    }
+}
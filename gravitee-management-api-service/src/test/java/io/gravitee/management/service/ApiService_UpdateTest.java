@@ -25,6 +25,7 @@ import io.gravitee.management.model.PlanEntity;
 import io.gravitee.management.model.permissions.SystemRole;
 import io.gravitee.repository.management.model.RoleScope;
 import io.gravitee.management.model.UpdateApiEntity;
+import io.gravitee.management.service.cache.ApiAccessIndex;
 import io.gravitee.management.service.exceptions.ApiContextPathAlreadyExistsException;
 import io.gravitee.management.service.exceptions.ApiNotFoundException;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
@@ -68,6 +69,9 @@ public class ApiService_UpdateTest {
     @InjectMocks
     private ApiServiceImpl apiService = new ApiServiceImpl();
 
+    @Mock
+    private ApiAccessIndex apiAccessIndex;
+
     @Mock
     private ApiRepository apiRepository;
 
@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.definition.model.Endpoint;
+import io.gravitee.definition.model.Path;
+import io.gravitee.definition.model.Policy;
+import io.gravitee.definition.model.Proxy;
+import io.gravitee.definition.model.Rule;
+import io.gravitee.definition.model.endpoint.HttpEndpoint;
+import io.gravitee.management.model.ApiEntity;
+import io.gravitee.management.service.processor.ApiSynchronizationProcessor;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class ApiSynchronizationProcessorTest {
+
+    private final ApiSynchronizationProcessor apiSynchronizationProcessor = new ApiSynchronizationProcessor();
+
+    @Test
+    public void shouldBeSynchronizedWithSameDefinition() {
+        assertTrue(apiSynchronizationProcessor.processCheckSynchronization(
+                api("http://host1", "{}", "endpoint1", "endpoint2"),
+                api("http://host1", "{}", "endpoint1", "endpoint2")));
+    }
+
+    @Test
+    public void shouldIgnoreFieldsNotRequiringDeployment() {
+        ApiEntity deployedApi = api("http://host1", "{}", "endpoint1");
+        ApiEntity apiToDeploy = api("http://host1", "{}", "endpoint1");
+        apiToDeploy.setName("renamed");
+        apiToDeploy.setDescription("new description");
+
+        assertTrue(apiSynchronizationProcessor.processCheckSynchronization(deployedApi, apiToDeploy));
+    }
+
+    @Test
+    public void shouldIgnoreEndpointsOrder() {
+        assertTrue(apiSynchronizationProcessor.processCheckSynchronization(
+                api("http://host1", "{}", "endpoint1", "endpoint2"),
+                api("http://host1", "{}", "endpoint2", "endpoint1")));
+    }
+
+    @Test
+    public void shouldNotBeSynchronizedWithDifferentEndpointTarget() {
+        // endpoints are equal by name, their target must be compared anyway
+        assertFalse(apiSynchronizationProcessor.processCheckSynchronization(
+                api("http://host1", "{}", "endpoint1"),
+                api("http://host2", "{}", "endpoint1")));
+    }
+
+    @Test
+    public void shouldNotBeSynchronizedWithDifferentPolicyConfiguration() {
+        assertFalse(apiSynchronizationProcessor.processCheckSynchronization(
+                api("http://host1", "{}", "endpoint1"),
+                api("http://host1", "{\"limit\":10}", "endpoint1")));
+    }
+
+    @Test
+    public void shouldNotBeSynchronizedWithAdditionalPath() {
+        ApiEntity deployedApi = api("http://host1", "{}", "endpoint1");
+        ApiEntity apiToDeploy = api("http://host1", "{}", "endpoint1");
+        apiToDeploy.getPaths().put("/other", new Path());
+
+        assertFalse(apiSynchronizationProcessor.processCheckSynchronization(deployedApi, apiToDeploy));
+    }
+
+    private ApiEntity api(String target, String policyConfiguration, String... endpointNames) {
+        Set<Endpoint> endpoints = new LinkedHashSet<>();
+        for (String endpointName : endpointNames) {
+            endpoints.add(new HttpEndpoint(endpointName, target));
+        }
+        Proxy proxy = new Proxy();
+        proxy.setContextPath("/test");
+        proxy.setEndpoints(endpoints);
+
+        Policy policy = new Policy();
+        policy.setName("rate-limit");
+        policy.setConfiguration(policyConfiguration);
+        Rule rule = new Rule();
+        rule.setMethods(Arrays.asList(HttpMethod.GET, HttpMethod.POST));
+        rule.setPolicy(policy);
+        Path path = new Path();
+        path.setPath("/");
+        path.setRules(Collections.singletonList(rule));
+        Map<String, Path> paths = new HashMap<>();
+        paths.put("/", path);
+
+        ApiEntity api = new ApiEntity();
+        api.setId("api-id");
+        api.setName("api");
+        api.setProxy(proxy);
+        api.setPaths(paths);
+        api.setTags(new LinkedHashSet<>(Arrays.asList("internal", "external")));
+        return api;
+    }
+}
@@ -0,0 +1,160 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.management.service.cluster.ClusterStore;
+import io.gravitee.management.service.cluster.DefaultClusterCoordinator;
+import io.gravitee.management.service.cluster.InMemoryClusterStore;
+import io.gravitee.management.service.cluster.Lease;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.*;
+import static org.springframework.test.util.ReflectionTestUtils.invokeMethod;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class ClusterCoordinatorTest {
+
+    private static final String LEASE = "job";
+
+    private final ClusterStore store = new InMemoryClusterStore();
+
+    private DefaultClusterCoordinator node1;
+    private DefaultClusterCoordinator node2;
+
+    @Before
+    public void init() {
+        node1 = coordinator("node-1");
+        node2 = coordinator("node-2");
+    }
+
+    @Test
+    public void shouldElectOnlyOneLeader() {
+        Lease lease = node1.acquire(LEASE);
+
+        assertNotNull(lease);
+        assertEquals("node-1", lease.getHolder());
+        assertEquals(1, lease.getToken());
+        assertTrue(node1.isLeader(LEASE));
+        assertFalse(node2.isLeader(LEASE));
+    }
+
+    @Test
+    public void shouldKeepTokenWhenRenewing() {
+        setField(node1, "leaseDuration", 1000L);
+
+        Lease lease = node1.acquire(LEASE);
+        Lease renewed = node1.acquire(LEASE);
+
+        assertEquals(lease.getToken(), renewed.getToken());
+        assertFalse(node2.isLeader(LEASE));
+    }
+
+    @Test
+    public void shouldIncrementTokenOnTakeover() {
+        setField(node1, "leaseDuration", 0L);
+        assertNotNull(node1.acquire(LEASE));
+
+        Lease lease = node2.acquire(LEASE);
+
+        assertNotNull(lease);
+        assertEquals("node-2", lease.getHolder());
+        assertEquals(2, lease.getToken());
+        assertFalse(node1.isLeader(LEASE));
+    }
+
+    @Test
+    public void shouldNotHoldLeaseTakenOverByAnotherNode() {
+        // A lease of node 1 which expires while its job is paused
+        setField(node1, "leaseDuration", 0L);
+        Lease lease = node1.acquire(LEASE);
+
+        assertNotNull(node2.acquire(LEASE));
+
+        assertFalse(node1.holds(lease));
+    }
+
+    @Test
+    public void shouldKeepHoldingRenewedLease() {
+        setField(node1, "leaseDuration", 1000L);
+        Lease lease = node1.acquire(LEASE);
+
+        assertTrue(node1.holds(lease));
+        assertTrue(node1.holds(lease));
+        assertFalse(node2.holds(node2.acquire(LEASE)));
+    }
+
+    @Test
+    public void shouldRemoveCrashedMembers() throws Exception {
+        store.heartbeat("node-3", 0);
+        invokeMethod(node2, "refresh");
+
+        invokeMethod(node1, "refresh");
+
+        assertEquals(new HashSet<>(Arrays.asList("node-1", "node-2")), store.findMembers(0));
+    }
+
+    @Test
+    public void shouldReleaseLeaseOnDestroy() {
+        assertTrue(node1.isLeader(LEASE));
+
+        node1.destroy();
+
+        assertTrue(node2.isLeader(LEASE));
+    }
+
+    @Test
+    public void shouldShareKeysBetweenMembers() {
+        invokeMethod(node1, "refresh");
+        invokeMethod(node2, "refresh");
+        invokeMethod(node1, "refresh");
+
+        assertEquals(new HashSet<>(Arrays.asList("node-1", "node-2")), node1.getMembers());
+        assertEquals(node1.getMembers(), node2.getMembers());
+
+        int owned1 = 0, owned2 = 0;
+        for (int i = 0; i < 1000; i++) {
+            String key = "api-" + i;
+            assertNotEquals(node1.owns(key), node2.owns(key));
+            owned1 += node1.owns(key) ? 1 : 0;
+            owned2 += node2.owns(key) ? 1 : 0;
+        }
+        assertTrue(owned1 > 200);
+        assertTrue(owned2 > 200);
+    }
+
+    @Test
+    public void shouldOwnEveryKeyWhenAlone() {
+        assertTrue(node1.owns("api-1"));
+        assertTrue(node1.owns("api-2"));
+    }
+
+    private DefaultClusterCoordinator coordinator(String nodeId) {
+        DefaultClusterCoordinator coordinator = new DefaultClusterCoordinator();
+        setField(coordinator, "nodeId", nodeId);
+        setField(coordinator, "heartbeatInterval", 5000L);
+        setField(coordinator, "leaseDuration", 15000L);
+        coordinator.afterPropertiesSet();
+        setField(coordinator, "store", store);
+        return coordinator;
+    }
+}
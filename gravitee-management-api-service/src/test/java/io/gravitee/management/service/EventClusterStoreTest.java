@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.management.service.cluster.EventClusterStore;
+import io.gravitee.management.service.cluster.Lease;
+import io.gravitee.repository.management.api.EventRepository;
+import io.gravitee.repository.management.api.search.EventCriteria;
+import io.gravitee.repository.management.model.Event;
+import io.gravitee.repository.management.model.EventType;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EventClusterStoreTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventClusterStore store;
+
+    @Before
+    public void init() throws Exception {
+        store = new EventClusterStore(eventRepository);
+        when(eventRepository.findById(anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    public void shouldStoreRecordsWithTheInternalType() throws Exception {
+        store.heartbeat("node-1", 1000L);
+        store.replaceLease(new Lease("job", "node-1", 1, 2000L), 0);
+
+        ArgumentCaptor<Event> records = ArgumentCaptor.forClass(Event.class);
+        verify(eventRepository, times(2)).create(records.capture());
+        records.getAllValues().forEach(record -> assertEquals(EventType.UNPUBLISH_API_RESULT, record.getType()));
+    }
+
+    @Test
+    public void shouldSearchMembersWithTheInternalTypeOnly() throws Exception {
+        when(eventRepository.search(any(EventCriteria.class))).thenReturn(Collections.emptyList());
+
+        assertTrue(store.findMembers(1000L).isEmpty());
+
+        ArgumentCaptor<EventCriteria> criteria = ArgumentCaptor.forClass(EventCriteria.class);
+        verify(eventRepository).search(criteria.capture());
+        assertEquals(Collections.singleton(EventType.UNPUBLISH_API_RESULT), new HashSet<>(criteria.getValue().getTypes()));
+    }
+}
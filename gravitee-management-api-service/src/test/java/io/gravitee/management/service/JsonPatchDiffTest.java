@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.github.fge.jsonpatch.JsonPatch;
+import io.gravitee.management.service.utils.JsonPatchDiff;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class JsonPatchDiffTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void shouldOnlyPatchChangedValues() throws Exception {
+        ArrayNode patch = diff(
+                "{\"name\":\"api\",\"paths\":{\"/a/b\":[{\"limit\":10}],\"/c\":[{\"limit\":10}]},\"tags\":[\"a\"]}",
+                "{\"name\":\"api\",\"paths\":{\"/a/b\":[{\"limit\":20}],\"/c\":[{\"limit\":10}]},\"tags\":[\"a\"]}");
+
+        assertEquals(json("[{\"op\":\"replace\",\"path\":\"/paths/~1a~1b/0/limit\",\"value\":20}]"), patch);
+    }
+
+    @Test
+    public void shouldPatchObjects() throws Exception {
+        assertPatch("{\"a\":1,\"b\":{\"c\":true},\"d\":\"e\"}", "{\"b\":{\"c\":false,\"f\":null},\"d\":[1],\"g\":2}");
+    }
+
+    @Test
+    public void shouldInsertAndRemoveArrayElements() throws Exception {
+        assertEquals(1, assertPatch("[1,2,3,4]", "[1,2,5,3,4]").size());
+        assertEquals(1, assertPatch("[1,2,3,4]", "[1,3,4]").size());
+        assertPatch("[1,2,3,4,5,6]", "[1,7,8,6]");
+        assertPatch("[1,2]", "[3,4,5,1,2]");
+        assertPatch("[{\"a\":1},{\"a\":2}]", "[{\"a\":3}]");
+    }
+
+    @Test
+    public void shouldTruncateLongPatches() throws Exception {
+        ArrayNode patch = diff("{}", "{\"a\":\"" + repeat('a', 100) + "\",\"b\":\"" + repeat('b', 100) + "\"}");
+
+        JsonNode truncated = json(JsonPatchDiff.toString(patch, 150));
+
+        assertEquals(2, truncated.size());
+        assertEquals("/a", truncated.get(0).get("path").asText());
+        assertEquals(JsonPatchDiff.TRUNCATED_OPERATION, truncated.get(1).get("op").asText());
+        assertEquals(1, truncated.get(1).get("omitted").asInt());
+        assertEquals(patch.toString(), JsonPatchDiff.toString(patch, 0));
+    }
+
+    @Test
+    public void shouldNotPatchEqualDocuments() throws Exception {
+        assertEquals(0, diff("{\"a\":[1,{\"b\":2}],\"c\":3}", "{\"c\":3,\"a\":[1,{\"b\":2}]}").size());
+    }
+
+    /**
+     * Checks that the patch turns the source document into the target one.
+     */
+    private ArrayNode assertPatch(String source, String target) throws Exception {
+        ArrayNode patch = diff(source, target);
+        JsonPatch jsonPatch = JsonPatch.fromJson(patch);
+        assertEquals(json(target), jsonPatch.apply(json(source)));
+        return patch;
+    }
+
+    private ArrayNode diff(String source, String target) throws IOException {
+        return JsonPatchDiff.diff(json(source), json(target));
+    }
+
+    private JsonNode json(String value) throws IOException {
+        return mapper.readTree(value);
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+}
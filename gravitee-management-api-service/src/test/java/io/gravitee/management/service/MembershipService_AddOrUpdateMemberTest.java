@@ -19,6 +19,7 @@ import io.gravitee.management.model.GroupEntity;
 import io.gravitee.management.model.MemberEntity;
 import io.gravitee.management.model.RoleEntity;
 import io.gravitee.management.model.UserEntity;
+import io.gravitee.management.service.cache.ApiAccessIndex;
 import io.gravitee.management.service.exceptions.NotAuthorizedMembershipException;
 import io.gravitee.management.service.exceptions.RoleNotFoundException;
 import io.gravitee.management.service.impl.MembershipServiceImpl;
@@ -54,6 +55,9 @@ public class MembershipService_AddOrUpdateMemberTest {
     @InjectMocks
     private MembershipService membershipService = new MembershipServiceImpl();
 
+    @Mock
+    private ApiAccessIndex apiAccessIndex;
+
     @Mock
     private MembershipRepository membershipRepository;
 
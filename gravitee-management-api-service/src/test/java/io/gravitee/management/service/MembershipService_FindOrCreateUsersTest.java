@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.management.model.NewExternalUserEntity;
+import io.gravitee.management.model.UserEntity;
+import io.gravitee.management.model.providers.User;
+import io.gravitee.management.service.exceptions.UserNotFoundException;
+import io.gravitee.management.service.impl.MembershipServiceImpl;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollection;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MembershipService_FindOrCreateUsersTest {
+
+    @InjectMocks
+    private MembershipService membershipService = new MembershipServiceImpl();
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private IdentityService identityService;
+
+    @Test
+    public void shouldRetrieveMissingUsersAtOnce() {
+        when(userService.findByNames(anyList(), eq(false))).thenReturn(Collections.singleton(userEntity("admin")));
+        when(identityService.findAll(Arrays.asList("jdoe", "jsmith", "unknown")))
+                .thenReturn(Arrays.asList(providerUser("JDoe"), providerUser("jsmith")));
+        when(userService.create(any(NewExternalUserEntity.class), eq(true))).thenAnswer(invocation ->
+                userEntity(((NewExternalUserEntity) invocation.getArguments()[0]).getUsername()));
+
+        Map<String, UserEntity> users = membershipService.findOrCreateUsers(
+                new LinkedHashSet<>(Arrays.asList("admin", "jdoe", "jsmith", "unknown")));
+
+        assertEquals(new HashSet<>(Arrays.asList("admin", "jdoe", "jsmith")), users.keySet());
+        assertEquals("jdoe", users.get("jdoe").getUsername());
+        verify(identityService, times(1)).findAll(anyCollection());
+        verify(identityService, never()).findOne(any());
+        verify(userService, times(2)).create(any(NewExternalUserEntity.class), eq(true));
+    }
+
+    @Test
+    public void shouldNotQueryIdentityProvidersWhenUsersExist() {
+        when(userService.findByNames(anyList(), eq(false))).thenReturn(Collections.singleton(userEntity("admin")));
+
+        Map<String, UserEntity> users = membershipService.findOrCreateUsers(Collections.singleton("admin"));
+
+        assertEquals(1, users.size());
+        verifyZeroInteractions(identityService);
+    }
+
+    @Test
+    public void shouldRetrieveAllUsersWhenNoneExists() {
+        when(userService.findByNames(anyList(), eq(false))).thenThrow(new UserNotFoundException("jdoe"));
+        when(identityService.findAll(Collections.singletonList("jdoe"))).thenReturn(Collections.emptyList());
+
+        assertTrue(membershipService.findOrCreateUsers(Collections.singleton("jdoe")).isEmpty());
+        verify(userService, never()).create(any(NewExternalUserEntity.class), eq(true));
+    }
+
+    private static UserEntity userEntity(String username) {
+        UserEntity user = new UserEntity();
+        user.setUsername(username);
+        return user;
+    }
+
+    private static User providerUser(String id) {
+        User user = new User();
+        user.setId(id);
+        user.setSource("ldap");
+        return user;
+    }
+}
@@ -0,0 +1,252 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.gravitee.management.model.NewPageEntity;
+import io.gravitee.management.model.PageEntity;
+import io.gravitee.management.model.PageSourceEntity;
+import io.gravitee.management.model.PageType;
+import io.gravitee.management.service.cluster.ClusterCoordinator;
+import io.gravitee.management.service.cluster.Lease;
+import io.gravitee.management.service.impl.PageServiceImpl;
+import io.gravitee.management.service.impl.PageSourceFetcher;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.PageRepository;
+import io.gravitee.repository.management.model.Page;
+import io.gravitee.repository.management.model.PageSource;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static io.gravitee.repository.management.model.Page.AuditEvent.PAGE_UPDATED;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.argThat;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.invokeMethod;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PageService_FetchTest {
+
+    private static final String PAGE_ID = "page-id";
+
+    @InjectMocks
+    private PageServiceImpl pageService = new PageServiceImpl();
+
+    @Mock
+    private PageRepository pageRepository;
+
+    @Mock
+    private ApiRepository apiRepository;
+
+    @Mock
+    private PageSourceFetcher pageSourceFetcher;
+
+    @Mock
+    private ClusterCoordinator clusterCoordinator;
+
+    @Mock
+    private AuditService auditService;
+
+    @Before
+    public void init() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void shouldCreatePageWithFetchedContent() throws TechnicalException {
+        when(pageSourceFetcher.fetch(any(PageSource.class))).thenReturn(CompletableFuture.completedFuture("fetched"));
+        when(pageRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(pageRepository.create(any(Page.class))).thenAnswer(invocation -> invocation.getArguments()[0]);
+
+        PageEntity createdPage = pageService.createPortalPage(newPage());
+
+        assertEquals("fetched", createdPage.getContent());
+        verify(pageRepository, never()).update(any(Page.class));
+    }
+
+    @Test
+    public void shouldUpdatePageOnceSlowSourceIsFetched() throws TechnicalException {
+        setField(pageService, "fetchTimeout", 10L);
+        CompletableFuture<String> content = new CompletableFuture<>();
+        when(pageSourceFetcher.fetch(any(PageSource.class))).thenReturn(content);
+        when(pageRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(pageRepository.create(any(Page.class))).thenAnswer(invocation -> invocation.getArguments()[0]);
+
+        PageEntity createdPage = pageService.createPortalPage(newPage());
+
+        assertEquals("content", createdPage.getContent());
+        verify(pageRepository, never()).update(any(Page.class));
+
+        Page storedPage = storedPage();
+        when(pageRepository.findById(createdPage.getId())).thenReturn(Optional.of(storedPage));
+        content.complete("fetched");
+
+        verify(pageRepository).update(argThat(hasContent("fetched")));
+        verify(auditService).createPortalAuditLog(any(), eq(PAGE_UPDATED), eq("system"), any(), any(), any());
+    }
+
+    @Test
+    public void shouldNotOverwritePageUpdatedWhileSlowSourceIsFetched() throws TechnicalException {
+        setField(pageService, "fetchTimeout", 10L);
+        CompletableFuture<String> content = new CompletableFuture<>();
+        when(pageSourceFetcher.fetch(any(PageSource.class))).thenReturn(content);
+        when(pageRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(pageRepository.create(any(Page.class))).thenAnswer(invocation -> invocation.getArguments()[0]);
+
+        PageEntity createdPage = pageService.createPortalPage(newPage());
+
+        Page updatedPage = storedPage();
+        updatedPage.setContent("newer content");
+        updatedPage.setUpdatedAt(new Date(updatedPage.getUpdatedAt().getTime() + 1));
+        when(pageRepository.findById(createdPage.getId())).thenReturn(Optional.of(updatedPage));
+        content.complete("fetched");
+
+        verify(pageRepository, never()).update(any(Page.class));
+    }
+
+    @Test
+    public void shouldNotSaveContentOfPreviousSource() throws TechnicalException {
+        setField(pageService, "fetchTimeout", 10L);
+        CompletableFuture<String> content = new CompletableFuture<>();
+        when(pageSourceFetcher.fetch(any(PageSource.class))).thenReturn(content);
+        when(pageRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(pageRepository.create(any(Page.class))).thenAnswer(invocation -> invocation.getArguments()[0]);
+
+        PageEntity createdPage = pageService.createPortalPage(newPage());
+
+        Page updatedPage = storedPage();
+        updatedPage.getSource().setConfiguration("{\"url\":\"http://localhost/other.md\"}");
+        when(pageRepository.findById(createdPage.getId())).thenReturn(Optional.of(updatedPage));
+        content.complete("fetched");
+
+        verify(pageRepository, never()).update(any(Page.class));
+    }
+
+    @Test
+    public void shouldOnlySaveChangedPagesOnRefresh() throws TechnicalException {
+        Lease lease = new Lease("documentation-refresher", "node", 1, Long.MAX_VALUE);
+        when(clusterCoordinator.acquire(anyString())).thenReturn(lease);
+        when(clusterCoordinator.holds(lease)).thenReturn(true);
+        Page unchanged = page("unchanged", "fetched");
+        Page changed = page(PAGE_ID, "content");
+        when(pageRepository.findPortalPages()).thenReturn(Arrays.asList(unchanged, changed, page("no-source", "content", null)));
+        when(pageRepository.findById(PAGE_ID)).thenReturn(Optional.of(page(PAGE_ID, "content")));
+        when(pageSourceFetcher.getThreads()).thenReturn(2);
+        when(pageSourceFetcher.fetch(any(PageSource.class))).thenReturn(CompletableFuture.completedFuture("fetched"));
+
+        invokeMethod(pageService, "refreshPages");
+
+        verify(pageSourceFetcher, times(2)).fetch(any(PageSource.class));
+        verify(pageRepository, times(1)).update(argThat(hasContent("fetched")));
+        verify(pageRepository, never()).findById("unchanged");
+    }
+
+    @Test
+    public void shouldNotRefreshPagesRefreshedByAnotherNode() throws TechnicalException {
+        when(clusterCoordinator.acquire(anyString())).thenReturn(null);
+
+        invokeMethod(pageService, "refreshPages");
+
+        verifyZeroInteractions(pageRepository, pageSourceFetcher);
+    }
+
+    @Test
+    public void shouldNotSavePagesOnceLeaseIsLost() throws TechnicalException {
+        Lease lease = new Lease("documentation-refresher", "node", 1, Long.MAX_VALUE);
+        when(clusterCoordinator.acquire(anyString())).thenReturn(lease);
+        when(clusterCoordinator.holds(lease)).thenReturn(false);
+        when(pageRepository.findPortalPages()).thenReturn(Collections.singletonList(page(PAGE_ID, "content")));
+        when(pageSourceFetcher.getThreads()).thenReturn(2);
+        when(pageSourceFetcher.fetch(any(PageSource.class))).thenReturn(CompletableFuture.completedFuture("fetched"));
+
+        invokeMethod(pageService, "refreshPages");
+
+        verify(pageRepository, never()).update(any(Page.class));
+    }
+
+    /**
+     * @return a copy of the page created by the service
+     */
+    private Page storedPage() throws TechnicalException {
+        ArgumentCaptor<Page> created = ArgumentCaptor.forClass(Page.class);
+        verify(pageRepository).create(created.capture());
+        Page page = created.getValue();
+
+        PageSource source = new PageSource();
+        source.setType(page.getSource().getType());
+        source.setConfiguration(page.getSource().getConfiguration());
+        Page copy = page(page.getId(), page.getContent(), source);
+        copy.setUpdatedAt(new Date(page.getUpdatedAt().getTime()));
+        return copy;
+    }
+
+    private static NewPageEntity newPage() {
+        PageSourceEntity source = new PageSourceEntity();
+        source.setType("http-fetcher");
+        source.setConfiguration(JsonNodeFactory.instance.objectNode().put("url", "http://localhost/doc.md"));
+
+        NewPageEntity newPage = new NewPageEntity();
+        newPage.setName("page");
+        newPage.setType(PageType.MARKDOWN);
+        newPage.setContent("content");
+        newPage.setSource(source);
+        return newPage;
+    }
+
+    private static Page page(String id, String content) {
+        PageSource source = new PageSource();
+        source.setType("http-fetcher");
+        source.setConfiguration("{\"url\":\"http://localhost/" + id + ".md\"}");
+        return page(id, content, source);
+    }
+
+    private static Page page(String id, String content, PageSource source) {
+        Page page = new Page();
+        page.setId(id);
+        page.setContent(content);
+        page.setSource(source);
+        return page;
+    }
+
+    private static org.hamcrest.Matcher<Page> hasContent(String content) {
+        return new org.mockito.ArgumentMatcher<Page>() {
+            @Override
+            public boolean matches(Object argument) {
+                return argument != null && content.equals(((Page) argument).getContent());
+            }
+        };
+    }
+}
@@ -0,0 +1,213 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.management.service.cache.ReferenceData;
+import io.gravitee.management.service.cache.ReferenceDataCache;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.EventRepository;
+import io.gravitee.repository.management.api.search.EventCriteria;
+import io.gravitee.repository.management.model.Event;
+import io.gravitee.repository.management.model.EventType;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.invokeMethod;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReferenceDataCacheTest {
+
+    @InjectMocks
+    private ReferenceDataCache referenceDataCache = new ReferenceDataCache();
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Before
+    public void init() throws TechnicalException {
+        setField(referenceDataCache, "enabled", true);
+        when(eventRepository.findById(anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    public void shouldLoadOnlyOnce() throws TechnicalException {
+        assertEquals(1, (int) referenceDataCache.get(ReferenceData.ROLES, loads::incrementAndGet));
+        assertEquals(1, (int) referenceDataCache.get(ReferenceData.ROLES, loads::incrementAndGet));
+        assertEquals(2, (int) referenceDataCache.get(ReferenceData.VIEWS, loads::incrementAndGet));
+    }
+
+    @Test
+    public void shouldAlwaysLoadWhenDisabled() throws TechnicalException {
+        setField(referenceDataCache, "enabled", false);
+
+        referenceDataCache.get(ReferenceData.ROLES, loads::incrementAndGet);
+        referenceDataCache.get(ReferenceData.ROLES, loads::incrementAndGet);
+        referenceDataCache.invalidate(ReferenceData.ROLES);
+
+        assertEquals(2, loads.get());
+        verifyZeroInteractions(eventRepository);
+    }
+
+    @Test
+    public void shouldReloadAndNotifyOnInvalidate() throws TechnicalException {
+        referenceDataCache.get(ReferenceData.TAGS, loads::incrementAndGet);
+        referenceDataCache.invalidate(ReferenceData.TAGS);
+
+        assertEquals(2, (int) referenceDataCache.get(ReferenceData.TAGS, loads::incrementAndGet));
+        ArgumentCaptor<Event> marker = ArgumentCaptor.forClass(Event.class);
+        verify(eventRepository).create(marker.capture());
+        assertEquals("reference-data-tags", marker.getValue().getId());
+        assertEquals(EventType.UNPUBLISH_API_RESULT, marker.getValue().getType());
+    }
+
+    @Test
+    public void shouldNotKeepValueLoadedDuringInvalidate() throws TechnicalException {
+        referenceDataCache.get(ReferenceData.TENANTS, () -> {
+            referenceDataCache.invalidate(ReferenceData.TENANTS);
+            return loads.incrementAndGet();
+        });
+
+        assertEquals(2, (int) referenceDataCache.get(ReferenceData.TENANTS, loads::incrementAndGet));
+    }
+
+    @Test
+    public void shouldEvictWhenUpdatedByAnotherNode() throws TechnicalException {
+        Event marker = new Event();
+        marker.setPayload("token-1");
+        when(eventRepository.findById("reference-data-roles")).thenReturn(Optional.of(marker));
+
+        invokeMethod(referenceDataCache, "refresh");
+        referenceDataCache.get(ReferenceData.ROLES, loads::incrementAndGet);
+        invokeMethod(referenceDataCache, "refresh");
+        assertEquals(1, (int) referenceDataCache.get(ReferenceData.ROLES, loads::incrementAndGet));
+
+        marker.setPayload("token-2");
+        invokeMethod(referenceDataCache, "refresh");
+        assertEquals(2, (int) referenceDataCache.get(ReferenceData.ROLES, loads::incrementAndGet));
+        verify(eventRepository, never()).update(any(Event.class));
+    }
+
+    @Test
+    public void shouldEvictWhenMarkerIsCreatedByAnotherNode() throws TechnicalException {
+        invokeMethod(referenceDataCache, "refresh");
+        referenceDataCache.get(ReferenceData.VIEWS, loads::incrementAndGet);
+
+        Event marker = new Event();
+        marker.setPayload("token-1");
+        when(eventRepository.findById("reference-data-views")).thenReturn(Optional.of(marker));
+        invokeMethod(referenceDataCache, "refresh");
+
+        assertEquals(2, (int) referenceDataCache.get(ReferenceData.VIEWS, loads::incrementAndGet));
+    }
+
+    @Test
+    public void shouldEvictWhenMarkerIsDeleted() throws TechnicalException {
+        Event marker = new Event();
+        marker.setPayload("token-1");
+        when(eventRepository.findById("reference-data-tenants")).thenReturn(Optional.of(marker));
+        invokeMethod(referenceDataCache, "refresh");
+        referenceDataCache.get(ReferenceData.TENANTS, loads::incrementAndGet);
+
+        when(eventRepository.findById("reference-data-tenants")).thenReturn(Optional.empty());
+        invokeMethod(referenceDataCache, "refresh");
+
+        assertEquals(2, (int) referenceDataCache.get(ReferenceData.TENANTS, loads::incrementAndGet));
+    }
+
+    @Test
+    public void shouldEvictSingleElementChangedByAnotherNode() throws TechnicalException {
+        invokeMethod(referenceDataCache, "refresh");
+        List<String> evicted = new ArrayList<>();
+        ReferenceDataCache.Evictable value = evicted::add;
+        referenceDataCache.get(ReferenceData.API_ACCESS, () -> value);
+        referenceDataCache.get(ReferenceData.ROLES, loads::incrementAndGet);
+
+        when(eventRepository.search(any(EventCriteria.class))).thenReturn(Arrays.asList(
+                change("change-1", ReferenceData.API_ACCESS, "user:johndoe", "another-node"),
+                change("change-2", ReferenceData.ROLES, "role", "another-node")));
+        invokeMethod(referenceDataCache, "refresh");
+        invokeMethod(referenceDataCache, "refresh");
+
+        assertEquals(Collections.singletonList("user:johndoe"), evicted);
+        assertEquals(value, referenceDataCache.get(ReferenceData.API_ACCESS, () -> null));
+        assertEquals(2, (int) referenceDataCache.get(ReferenceData.ROLES, loads::incrementAndGet));
+    }
+
+    @Test
+    public void shouldIgnoreOwnChanges() throws TechnicalException {
+        invokeMethod(referenceDataCache, "refresh");
+        List<String> evicted = new ArrayList<>();
+        referenceDataCache.get(ReferenceData.API_ACCESS, () -> (ReferenceDataCache.Evictable) evicted::add);
+        List<String> updated = new ArrayList<>();
+        referenceDataCache.update(ReferenceData.API_ACCESS, "user:johndoe", (ReferenceDataCache.Evictable value) -> updated.add("user:johndoe"));
+
+        ArgumentCaptor<Event> change = ArgumentCaptor.forClass(Event.class);
+        verify(eventRepository).create(change.capture());
+        assertEquals(EventType.UNPUBLISH_API_RESULT, change.getValue().getType());
+        when(eventRepository.search(any(EventCriteria.class))).thenReturn(Collections.singletonList(change.getValue()));
+        invokeMethod(referenceDataCache, "refresh");
+
+        ArgumentCaptor<EventCriteria> criteria = ArgumentCaptor.forClass(EventCriteria.class);
+        verify(eventRepository, atLeastOnce()).search(criteria.capture());
+        criteria.getAllValues().forEach(search ->
+                assertEquals(Collections.singletonList(EventType.UNPUBLISH_API_RESULT), new ArrayList<>(search.getTypes())));
+
+        assertEquals(Collections.singletonList("user:johndoe"), updated);
+        assertEquals(Collections.emptyList(), evicted);
+    }
+
+    @Test
+    public void shouldEvictEverythingWhenChangesHaveNotBeenReadForTooLong() throws TechnicalException {
+        invokeMethod(referenceDataCache, "refresh");
+        referenceDataCache.get(ReferenceData.VIEWS, loads::incrementAndGet);
+
+        setField(referenceDataCache, "lastChangesRead", System.currentTimeMillis() - 60000);
+        invokeMethod(referenceDataCache, "refresh");
+
+        assertEquals(2, (int) referenceDataCache.get(ReferenceData.VIEWS, loads::incrementAndGet));
+    }
+
+    private static Event change(String id, ReferenceData data, String key, String node) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("reference_data", data.name());
+        properties.put("reference_data_change", "true");
+        properties.put("node", node);
+
+        Event change = new Event();
+        change.setId(id);
+        change.setPayload(key);
+        change.setProperties(properties);
+        return change;
+    }
+}
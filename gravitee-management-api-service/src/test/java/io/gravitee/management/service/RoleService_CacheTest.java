@@ -0,0 +1,130 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.management.model.RoleEntity;
+import io.gravitee.management.service.cache.ReferenceDataCache;
+import io.gravitee.management.service.exceptions.RoleNotFoundException;
+import io.gravitee.management.service.impl.RoleServiceImpl;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.EventRepository;
+import io.gravitee.repository.management.api.RoleRepository;
+import io.gravitee.repository.management.model.Event;
+import io.gravitee.repository.management.model.Role;
+import io.gravitee.repository.management.model.RoleScope;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.invokeMethod;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * Role lookups with the reference data cache enabled.
+ *
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RoleService_CacheTest {
+
+    @InjectMocks
+    private RoleServiceImpl roleService = new RoleServiceImpl();
+
+    @Spy
+    private ReferenceDataCache referenceDataCache = new ReferenceDataCache();
+
+    @Mock
+    private RoleRepository mockRoleRepository;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Before
+    public void init() throws TechnicalException {
+        setField(referenceDataCache, "enabled", true);
+        setField(referenceDataCache, "eventRepository", eventRepository);
+        when(eventRepository.findById(anyString())).thenReturn(Optional.empty());
+        invokeMethod(referenceDataCache, "refresh");
+
+        when(mockRoleRepository.findAll()).thenReturn(Collections.singleton(role("USER", 1104)));
+    }
+
+    @Test
+    public void shouldReadRolesFromCache() throws TechnicalException {
+        roleService.findById(RoleScope.PORTAL, "USER");
+        roleService.findById(RoleScope.PORTAL, "USER");
+        roleService.findByScope(RoleScope.PORTAL);
+
+        verify(mockRoleRepository, times(1)).findAll();
+        verify(mockRoleRepository, never()).findById(any(RoleScope.class), anyString());
+    }
+
+    @Test(expected = RoleNotFoundException.class)
+    public void shouldNotFindUnknownRoleInCache() {
+        roleService.findById(RoleScope.PORTAL, "unknown");
+    }
+
+    @Test
+    public void shouldReloadRolesAfterDelete() throws TechnicalException {
+        Role role = role("USER", 1104);
+        when(mockRoleRepository.findById(RoleScope.PORTAL, "USER")).thenReturn(Optional.of(role));
+        roleService.findAll();
+
+        roleService.delete(RoleScope.PORTAL, "USER");
+        when(mockRoleRepository.findAll()).thenReturn(Collections.emptySet());
+
+        assertEquals(0, roleService.findAll().size());
+        verify(mockRoleRepository, times(2)).findAll();
+        verify(eventRepository).create(any(Event.class));
+    }
+
+    @Test
+    public void shouldReloadRolesChangedByAnotherNode() throws TechnicalException {
+        RoleEntity role = roleService.findById(RoleScope.PORTAL, "USER");
+        assertEquals(1, role.getPermissions().size());
+
+        Event marker = new Event();
+        marker.setPayload("token");
+        when(eventRepository.findById("reference-data-roles")).thenReturn(Optional.of(marker));
+        when(mockRoleRepository.findAll()).thenReturn(Collections.singleton(role("USER", 1104, 1204)));
+        invokeMethod(referenceDataCache, "refresh");
+
+        role = roleService.findById(RoleScope.PORTAL, "USER");
+        assertEquals(2, role.getPermissions().size());
+        verify(mockRoleRepository, times(2)).findAll();
+    }
+
+    private Role role(String name, int... permissions) {
+        Role role = new Role();
+        role.setScope(RoleScope.PORTAL);
+        role.setName(name);
+        role.setPermissions(permissions);
+        return role;
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.gravitee.management.service;
 
+import io.gravitee.management.service.cache.ReferenceDataCache;
 import io.gravitee.management.service.impl.RoleServiceImpl;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.RoleRepository;
@@ -25,6 +26,7 @@ import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatcher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import java.util.Arrays;
@@ -44,6 +46,9 @@ public class RoleService_CreateOrUpdateSystemRolesTest {
     @InjectMocks
     private RoleServiceImpl roleService = new RoleServiceImpl();
 
+    @Spy
+    private ReferenceDataCache referenceDataCache = new ReferenceDataCache();
+
     @Mock
     private RoleRepository mockRoleRepository;
 
@@ -18,6 +18,7 @@ package io.gravitee.management.service;
 import io.gravitee.management.model.*;
 import io.gravitee.management.model.permissions.RolePermissionAction;
 import io.gravitee.management.service.exceptions.RoleReservedNameException;
+import io.gravitee.management.service.cache.ReferenceDataCache;
 import io.gravitee.management.service.impl.RoleServiceImpl;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.RoleRepository;
@@ -27,6 +28,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import java.util.*;
@@ -46,6 +48,9 @@ public class RoleService_CreateTest {
     @InjectMocks
     private RoleServiceImpl roleService = new RoleServiceImpl();
 
+    @Spy
+    private ReferenceDataCache referenceDataCache = new ReferenceDataCache();
+
     @Mock
     private RoleRepository mockRoleRepository;
 
@@ -18,10 +18,12 @@ package io.gravitee.management.service;
 import io.gravitee.management.model.RoleEntity;
 import io.gravitee.management.model.permissions.ApiPermission;
 import io.gravitee.management.model.permissions.RolePermissionAction;
+import io.gravitee.management.service.cache.ReferenceDataCache;
 import io.gravitee.management.service.impl.RoleServiceImpl;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import java.util.HashMap;
@@ -42,6 +44,9 @@ public class RoleService_HasPermissionTest {
     @InjectMocks
     private RoleServiceImpl roleService = new RoleServiceImpl();
 
+    @Spy
+    private ReferenceDataCache referenceDataCache = new ReferenceDataCache();
+
     @Test
     public void shouldHasPermission() {
         final Map<String, char[]> perms = new HashMap<>();
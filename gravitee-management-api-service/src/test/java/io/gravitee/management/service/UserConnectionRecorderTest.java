@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.management.service.impl.UserConnectionRecorder;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class UserConnectionRecorderTest {
+
+    @InjectMocks
+    private UserConnectionRecorder userConnectionRecorder = new UserConnectionRecorder();
+
+    @Mock
+    private UserService userService;
+
+    @Before
+    public void init() {
+        // Flushes are triggered by the tests
+        ReflectionTestUtils.setField(userConnectionRecorder, "flushInterval", 3_600_000L);
+        ReflectionTestUtils.setField(userConnectionRecorder, "knownUsersTtl", 600L);
+        ReflectionTestUtils.setField(userConnectionRecorder, "knownUsersSize", 100L);
+        userConnectionRecorder.afterPropertiesSet();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldCoalesceConnections() {
+        userConnectionRecorder.connectLater("user1");
+        userConnectionRecorder.connectLater("user2");
+        userConnectionRecorder.connectLater("user1");
+
+        verify(userService, never()).connect(anyMap());
+
+        userConnectionRecorder.destroy();
+
+        ArgumentCaptor<Map> connections = ArgumentCaptor.forClass(Map.class);
+        verify(userService, times(1)).connect(connections.capture());
+        assertEquals(2, connections.getValue().size());
+        assertTrue(connections.getValue().get("user1") instanceof Date);
+        verify(userService, never()).connect(anyString());
+    }
+
+    @Test
+    public void shouldConnectRightAway() {
+        assertFalse(userConnectionRecorder.isKnown("user1"));
+
+        userConnectionRecorder.connect("user1");
+
+        verify(userService, times(1)).connect("user1");
+        assertTrue(userConnectionRecorder.isKnown("user1"));
+    }
+
+    @Test
+    public void shouldConnectRightAwayWhenFlushIsDisabled() {
+        UserConnectionRecorder synchronousRecorder = new UserConnectionRecorder();
+        ReflectionTestUtils.setField(synchronousRecorder, "userService", userService);
+        synchronousRecorder.afterPropertiesSet();
+
+        synchronousRecorder.connectLater("user1");
+
+        verify(userService, times(1)).connect("user1");
+        assertFalse(synchronousRecorder.isKnown("user1"));
+    }
+}
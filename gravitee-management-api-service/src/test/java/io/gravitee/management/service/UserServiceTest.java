@@ -15,6 +15,7 @@
  */
 package io.gravitee.management.service;
 
+import io.gravitee.common.event.EventManager;
 import io.gravitee.management.model.NewExternalUserEntity;
 import io.gravitee.management.model.RoleEntity;
 import io.gravitee.management.model.UserRoleEntity;
@@ -22,6 +23,7 @@ import io.gravitee.repository.management.model.MembershipDefaultReferenceId;
 import io.gravitee.repository.management.model.MembershipReferenceType;
 import io.gravitee.repository.management.model.RoleScope;
 import io.gravitee.management.model.UserEntity;
+import io.gravitee.management.service.event.UserEvent;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
 import io.gravitee.management.service.exceptions.UserNotFoundException;
 import io.gravitee.management.service.exceptions.UsernameAlreadyExistsException;
@@ -36,8 +38,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -86,6 +92,8 @@ public class UserServiceTest {
     private Date date;
     @Mock
     private AuditService auditService;
+    @Mock
+    private EventManager eventManager;
 
     @Test
     public void shouldFindByUsername() throws TechnicalException {
@@ -170,6 +178,7 @@ public class UserServiceTest {
         assertEquals(ROLES, createdUserEntity.getRoles());
         assertEquals(date, createdUserEntity.getCreatedAt());
         assertEquals(date, createdUserEntity.getUpdatedAt());
+        verify(eventManager).publishEvent(eq(UserEvent.CREATE), any(UserEntity.class));
     }
 
     @Test(expected = UsernameAlreadyExistsException.class)
@@ -233,4 +242,27 @@ public class UserServiceTest {
 
         verify(applicationService, never()).create(any(), eq(USER_NAME));
     }
+
+    @Test
+    public void shouldConnectUsersInBatch() throws TechnicalException {
+        User user1 = new User();
+        user1.setUsername("user1");
+        user1.setLastConnectionAt(new Date(0));
+        User user2 = new User();
+        user2.setUsername("user2");
+        user2.setLastConnectionAt(new Date(0));
+        when(userRepository.findByUsernames(any())).thenReturn(new HashSet<>(Arrays.asList(user1, user2)));
+
+        Map<String, Date> connections = new HashMap<>();
+        connections.put("user1", new Date(1000));
+        connections.put("user2", new Date(2000));
+        userService.connect(connections);
+
+        verify(userRepository, times(1)).findByUsernames(any());
+        verify(userRepository, never()).findByUsername(any());
+        verify(userRepository, times(2)).update(any());
+        assertEquals(new Date(1000), user1.getLastConnectionAt());
+        assertEquals(new Date(2000), user2.getLastConnectionAt());
+        verify(applicationService, never()).create(any(), any());
+    }
 }
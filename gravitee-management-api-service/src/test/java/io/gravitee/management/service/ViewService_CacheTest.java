@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.management.service.cache.ReferenceDataCache;
+import io.gravitee.management.service.impl.ViewServiceImpl;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.EventRepository;
+import io.gravitee.repository.management.api.ViewRepository;
+import io.gravitee.repository.management.model.Event;
+import io.gravitee.repository.management.model.View;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Optional;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.invokeMethod;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * View lookups with the reference data cache enabled.
+ *
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ViewService_CacheTest {
+
+    @InjectMocks
+    private ViewServiceImpl viewService = new ViewServiceImpl();
+
+    @Spy
+    private ReferenceDataCache referenceDataCache = new ReferenceDataCache();
+
+    @Mock
+    private ViewRepository mockViewRepository;
+
+    @Mock
+    private ApiService apiService;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Before
+    public void init() throws TechnicalException {
+        setField(referenceDataCache, "enabled", true);
+        setField(referenceDataCache, "eventRepository", eventRepository);
+        when(eventRepository.findById(anyString())).thenReturn(Optional.empty());
+        invokeMethod(referenceDataCache, "refresh");
+
+        when(mockViewRepository.findAll()).thenReturn(singleton(view("view-id")));
+    }
+
+    @Test
+    public void shouldReadViewsFromCache() throws TechnicalException {
+        assertEquals(1, viewService.findAll().size());
+        assertEquals(1, viewService.findAll().size());
+
+        verify(mockViewRepository, times(1)).findAll();
+    }
+
+    @Test
+    public void shouldReloadViewsAfterDelete() throws TechnicalException {
+        viewService.findAll();
+        when(mockViewRepository.findById("view-id")).thenReturn(Optional.of(view("view-id")));
+
+        viewService.delete("view-id");
+        when(mockViewRepository.findAll()).thenReturn(emptySet());
+
+        assertEquals(0, viewService.findAll().size());
+        verify(mockViewRepository, times(2)).findAll();
+        verify(eventRepository).create(any(Event.class));
+    }
+
+    @Test
+    public void shouldReloadViewsChangedByAnotherNode() throws TechnicalException {
+        viewService.findAll();
+
+        Event marker = new Event();
+        marker.setPayload("token");
+        when(eventRepository.findById("reference-data-views")).thenReturn(Optional.of(marker));
+        when(mockViewRepository.findAll()).thenReturn(emptySet());
+        invokeMethod(referenceDataCache, "refresh");
+
+        assertEquals(0, viewService.findAll().size());
+        verify(mockViewRepository, times(2)).findAll();
+    }
+
+    private View view(String id) {
+        View view = new View();
+        view.setId(id);
+        view.setName(id);
+        return view;
+    }
+}
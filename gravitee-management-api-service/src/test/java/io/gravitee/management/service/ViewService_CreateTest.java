@@ -18,6 +18,7 @@ package io.gravitee.management.service;
 import io.gravitee.management.model.NewViewEntity;
 import io.gravitee.management.model.ViewEntity;
 import io.gravitee.management.service.exceptions.DuplicateViewNameException;
+import io.gravitee.management.service.cache.ReferenceDataCache;
 import io.gravitee.management.service.impl.ViewServiceImpl;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ViewRepository;
@@ -28,6 +29,7 @@ import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatcher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import java.util.Arrays;
@@ -50,6 +52,9 @@ public class ViewService_CreateTest {
     @InjectMocks
     private ViewServiceImpl viewService = new ViewServiceImpl();
 
+    @Spy
+    private ReferenceDataCache referenceDataCache = new ReferenceDataCache();
+
     @Mock
     private ViewRepository mockViewRepository;
 
@@ -18,7 +18,10 @@ package io.gravitee.management.services.http;
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.common.service.AbstractService;
 import io.gravitee.management.services.http.configuration.HttpServerConfiguration;
+import io.gravitee.management.services.http.handler.ApiRegistryHandler;
 import io.gravitee.management.services.http.handler.NodeHandler;
+import io.gravitee.management.services.http.handler.PrometheusMetricsHandler;
+import io.gravitee.management.services.http.handler.RepositoryMetricsHandler;
 import io.vertx.core.Vertx;
 import io.vertx.ext.auth.AuthProvider;
 import io.vertx.ext.web.Router;
@@ -97,6 +100,21 @@ public class HttpServer extends AbstractService {
         NodeHandler nodeHandler = new NodeHandler();
         applicationContext.getAutowireCapableBeanFactory().autowireBean(nodeHandler);
         nodeRouter.get("/").handler(nodeHandler);
+
+        // Set repository metrics handler
+        RepositoryMetricsHandler repositoryMetricsHandler = new RepositoryMetricsHandler();
+        applicationContext.getAutowireCapableBeanFactory().autowireBean(repositoryMetricsHandler);
+        nodeRouter.get("/metrics/repositories").handler(repositoryMetricsHandler);
+
+        // Set Prometheus metrics handler
+        PrometheusMetricsHandler prometheusMetricsHandler = new PrometheusMetricsHandler();
+        applicationContext.getAutowireCapableBeanFactory().autowireBean(prometheusMetricsHandler);
+        nodeRouter.get("/metrics").handler(prometheusMetricsHandler);
+
+        // Set deployed APIs handler
+        ApiRegistryHandler apiRegistryHandler = new ApiRegistryHandler();
+        applicationContext.getAutowireCapableBeanFactory().autowireBean(apiRegistryHandler);
+        nodeRouter.get("/apis").handler(apiRegistryHandler);
     }
 
     @Override
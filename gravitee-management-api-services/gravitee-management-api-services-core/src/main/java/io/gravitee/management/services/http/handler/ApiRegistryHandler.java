@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.services.http.handler;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpStatusCode;
+import io.gravitee.common.http.MediaType;
+import io.gravitee.management.model.ApiEntity;
+import io.gravitee.management.service.registry.ApiRegistry;
+import io.gravitee.management.service.registry.ApiRegistrySnapshot;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.Json;
+import io.vertx.ext.web.RoutingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+
+import java.util.*;
+
+/**
+ * Lists the APIs deployed on this node, as seen by the synchronization service.
+ *
+ * @author GraviteeSource Team
+ */
+public class ApiRegistryHandler implements Handler<RoutingContext> {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(ApiRegistryHandler.class);
+
+    /**
+     * The registry is looked up on each request: it is registered by the sync service once started.
+     */
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpServerResponse response = ctx.response();
+        response.putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+        response.setChunked(true);
+
+        Map<String, ApiRegistry> registries = BeanFactoryUtils.beansOfTypeIncludingAncestors(applicationContext, ApiRegistry.class);
+        if (registries.isEmpty()) {
+            response.setStatusCode(HttpStatusCode.SERVICE_UNAVAILABLE_503);
+            response.end();
+            return;
+        }
+
+        ApiRegistrySnapshot snapshot = registries.values().iterator().next().snapshot();
+
+        List<Map<String, Object>> apis = new ArrayList<>(snapshot.size());
+        snapshot.getApis().stream()
+                .sorted(Comparator.comparing(ApiEntity::getId))
+                .forEach(api -> {
+                    Map<String, Object> apiData = new LinkedHashMap<>();
+                    apiData.put("id", api.getId());
+                    apiData.put("name", api.getName());
+                    apiData.put("version", api.getVersion());
+                    apiData.put("state", api.getState());
+                    apiData.put("deployed_at", api.getDeployedAt());
+                    apiData.put("revision", snapshot.getRevision(api.getId()));
+                    apis.add(apiData);
+                });
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("revision", snapshot.getRevision());
+        data.put("apis", apis);
+
+        try {
+            response.setStatusCode(HttpStatusCode.OK_200);
+            Json.prettyMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+            response.write(Json.prettyMapper.writeValueAsString(data));
+        } catch (JsonProcessingException jpe) {
+            response.setStatusCode(HttpStatusCode.INTERNAL_SERVER_ERROR_500);
+            LOGGER.error("Unable to transform data object to JSON", jpe);
+        }
+
+        response.end();
+    }
+}
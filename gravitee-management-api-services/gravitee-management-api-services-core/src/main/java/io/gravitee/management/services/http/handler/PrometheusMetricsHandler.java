@@ -0,0 +1,221 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.services.http.handler;
+
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpStatusCode;
+import io.gravitee.management.metrics.CallMetrics;
+import io.gravitee.management.metrics.CounterSource;
+import io.gravitee.management.metrics.RequestMetrics;
+import io.gravitee.management.repository.cache.EntityCacheManager;
+import io.gravitee.management.repository.metrics.RepositoryMetrics;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+
+import java.lang.management.*;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Exposes the node metrics in the Prometheus text format: latency of the REST resources and of the repositories,
+ * requests in flight, timed operations ({@link CallMetrics} beans, such as the scheduled services runs), counters
+ * ({@link CounterSource} beans, such as the Jetty thread pool), entity cache statistics, and JVM memory, garbage
+ * collection and threads.
+ *
+ * Metrics are read from the recorders on each scrape, nothing is computed between two scrapes. Latencies are
+ * recorded in milliseconds and exported in seconds.
+ *
+ * @author GraviteeSource Team
+ */
+public class PrometheusMetricsHandler implements Handler<RoutingContext> {
+
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double MILLISECONDS = 1000;
+
+    @Autowired
+    private RequestMetrics requestMetrics;
+
+    @Autowired
+    private RepositoryMetrics repositoryMetrics;
+
+    @Autowired
+    private EntityCacheManager entityCacheManager;
+
+    /**
+     * Timers and counters are looked up on each request: services loaded from plugins register theirs once started.
+     */
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        StringBuilder out = new StringBuilder(16384);
+
+        family(out, "gravitee_http_requests_in_flight", "gauge", "Requests being handled by the REST API");
+        sample(out, "gravitee_http_requests_in_flight", "", requestMetrics.getInFlight());
+
+        Map<String, CallMetrics> resources = requestMetrics.getResources();
+        family(out, "gravitee_http_request_duration_seconds", "histogram", "Latency of the REST resource methods");
+        resources.forEach((resource, metrics) ->
+                histogram(out, "gravitee_http_request_duration_seconds", labels("resource", resource), metrics, MILLISECONDS));
+        family(out, "gravitee_http_request_errors_total", "counter", "Requests answered with a server error");
+        resources.forEach((resource, metrics) ->
+                sample(out, "gravitee_http_request_errors_total", labels("resource", resource), metrics.getErrors()));
+
+        family(out, "gravitee_http_request_repository_calls", "histogram", "Repository calls made by a single request");
+        histogram(out, "gravitee_http_request_repository_calls", "", repositoryMetrics.getRequests(), 1);
+
+        Map<String, Map<String, CallMetrics>> repositories = repositoryMetrics.getRepositories();
+        family(out, "gravitee_repository_call_duration_seconds", "histogram", "Latency of the repository methods");
+        repositories.forEach((repository, methods) -> methods.forEach((method, metrics) ->
+                histogram(out, "gravitee_repository_call_duration_seconds",
+                        labels("repository", repository, "method", method), metrics, MILLISECONDS)));
+        family(out, "gravitee_repository_call_errors_total", "counter", "Repository calls which have thrown an error");
+        repositories.forEach((repository, methods) -> methods.forEach((method, metrics) ->
+                sample(out, "gravitee_repository_call_errors_total",
+                        labels("repository", repository, "method", method), metrics.getErrors())));
+
+        Map<String, CallMetrics> timers = new TreeMap<>(
+                BeanFactoryUtils.beansOfTypeIncludingAncestors(applicationContext, CallMetrics.class));
+        family(out, "gravitee_timer_duration_seconds", "histogram", "Duration of the timed operations");
+        timers.forEach((name, metrics) ->
+                histogram(out, "gravitee_timer_duration_seconds", labels("timer", name), metrics, MILLISECONDS));
+
+        Map<String, CounterSource> counterSources = new TreeMap<>(
+                BeanFactoryUtils.beansOfTypeIncludingAncestors(applicationContext, CounterSource.class));
+        family(out, "gravitee_counter", "untyped", "Counters of the node components");
+        counterSources.forEach((source, counterSource) -> counterSource.getCounters().forEach((counter, value) ->
+                sample(out, "gravitee_counter", labels("source", source, "counter", counter), value)));
+
+        if (entityCacheManager.isEnabled()) {
+            family(out, "gravitee_entity_cache_size", "gauge", "Entries of the entity caches");
+            entityCacheManager.getCaches().forEach((name, cache) ->
+                    sample(out, "gravitee_entity_cache_size", labels("cache", name), cache.getSize()));
+            family(out, "gravitee_entity_cache_hits_total", "counter", "Hits of the entity caches");
+            entityCacheManager.getCaches().forEach((name, cache) ->
+                    sample(out, "gravitee_entity_cache_hits_total", labels("cache", name), cache.getHits()));
+            family(out, "gravitee_entity_cache_misses_total", "counter", "Misses of the entity caches");
+            entityCacheManager.getCaches().forEach((name, cache) ->
+                    sample(out, "gravitee_entity_cache_misses_total", labels("cache", name), cache.getMisses()));
+        }
+
+        jvm(out);
+
+        HttpServerResponse response = ctx.response();
+        response.setStatusCode(HttpStatusCode.OK_200);
+        response.putHeader(HttpHeaders.CONTENT_TYPE, CONTENT_TYPE);
+        response.end(out.toString());
+    }
+
+    private static void jvm(StringBuilder out) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        MemoryUsage heap = memory.getHeapMemoryUsage();
+        MemoryUsage nonHeap = memory.getNonHeapMemoryUsage();
+
+        family(out, "jvm_memory_bytes_used", "gauge", "Used bytes of a given JVM memory area");
+        sample(out, "jvm_memory_bytes_used", labels("area", "heap"), heap.getUsed());
+        sample(out, "jvm_memory_bytes_used", labels("area", "nonheap"), nonHeap.getUsed());
+        family(out, "jvm_memory_bytes_committed", "gauge", "Committed bytes of a given JVM memory area");
+        sample(out, "jvm_memory_bytes_committed", labels("area", "heap"), heap.getCommitted());
+        sample(out, "jvm_memory_bytes_committed", labels("area", "nonheap"), nonHeap.getCommitted());
+        family(out, "jvm_memory_bytes_max", "gauge", "Max bytes of a given JVM memory area, -1 if undefined");
+        sample(out, "jvm_memory_bytes_max", labels("area", "heap"), heap.getMax());
+        sample(out, "jvm_memory_bytes_max", labels("area", "nonheap"), nonHeap.getMax());
+
+        family(out, "jvm_memory_pool_bytes_used", "gauge", "Used bytes of a given JVM memory pool");
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            sample(out, "jvm_memory_pool_bytes_used", labels("pool", pool.getName()), pool.getUsage().getUsed());
+        }
+
+        family(out, "jvm_gc_collection_seconds", "summary", "Time spent in a given JVM garbage collector");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            String labels = labels("gc", gc.getName());
+            sample(out, "jvm_gc_collection_seconds_count", labels, gc.getCollectionCount());
+            sample(out, "jvm_gc_collection_seconds_sum", labels, gc.getCollectionTime() / MILLISECONDS);
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        family(out, "jvm_threads_current", "gauge", "Current thread count of the JVM");
+        sample(out, "jvm_threads_current", "", threads.getThreadCount());
+        family(out, "jvm_threads_daemon", "gauge", "Daemon thread count of the JVM");
+        sample(out, "jvm_threads_daemon", "", threads.getDaemonThreadCount());
+    }
+
+    /**
+     * Writes a histogram recorded by a {@link CallMetrics}: the exported buckets are cumulative.
+     *
+     * @param unit the recorded values are divided by this unit (ie. 1000 to export milliseconds as seconds)
+     */
+    static void histogram(StringBuilder out, String name, String labels, CallMetrics metrics, double unit) {
+        long[] bounds = metrics.getBounds();
+        long[] histogram = metrics.getHistogram();
+        String prefix = labels.isEmpty() ? "" : labels + ',';
+
+        long cumulated = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            cumulated += histogram[i];
+            sample(out, name + "_bucket", prefix + "le=\"" + format(bounds[i] / unit) + '"', cumulated);
+        }
+        cumulated += histogram[bounds.length];
+        sample(out, name + "_bucket", prefix + "le=\"+Inf\"", cumulated);
+        sample(out, name + "_sum", labels, metrics.getTotal() / unit);
+        // Use the buckets count so that the +Inf bucket and the count never disagree during a scrape
+        sample(out, name + "_count", labels, cumulated);
+    }
+
+    static void family(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ').append(format(value)).append('\n');
+    }
+
+    /**
+     * @param namesAndValues label names, each one followed by its value
+     */
+    static String labels(String... namesAndValues) {
+        StringBuilder labels = new StringBuilder();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            if (i > 0) {
+                labels.append(',');
+            }
+            labels.append(namesAndValues[i]).append("=\"").append(escape(namesAndValues[i + 1])).append('"');
+        }
+        return labels.toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String format(double value) {
+        if (value == Math.rint(value) && !Double.isInfinite(value)) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+}
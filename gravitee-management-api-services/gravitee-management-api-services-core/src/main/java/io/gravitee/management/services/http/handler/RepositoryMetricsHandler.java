@@ -0,0 +1,136 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.services.http.handler;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpStatusCode;
+import io.gravitee.common.http.MediaType;
+import io.gravitee.management.metrics.CallMetrics;
+import io.gravitee.management.metrics.CounterSource;
+import io.gravitee.management.repository.cache.EntityCacheManager;
+import io.gravitee.management.repository.metrics.RepositoryMetrics;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.Json;
+import io.vertx.ext.web.RoutingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Exposes the repository call metrics: latency per repository method, number of repository calls per HTTP
+ * request and entity cache statistics, along with the other timed operations (such as logins) registered as
+ * {@link CallMetrics} beans and the counters of the {@link CounterSource} beans.
+ *
+ * @author GraviteeSource Team
+ */
+public class RepositoryMetricsHandler implements Handler<RoutingContext> {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(RepositoryMetricsHandler.class);
+
+    @Autowired
+    private RepositoryMetrics repositoryMetrics;
+
+    @Autowired
+    private EntityCacheManager entityCacheManager;
+
+    /**
+     * Timers and counters are looked up on each request: services loaded from plugins register theirs once started.
+     */
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpServerResponse response = ctx.response();
+        response.setStatusCode(HttpStatusCode.OK_200);
+        response.putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+        response.setChunked(true);
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("requests", convert(repositoryMetrics.getRequests()));
+
+        Map<String, Map<String, Object>> repositories = new TreeMap<>();
+        repositoryMetrics.getRepositories().forEach((repository, methods) -> {
+            Map<String, Object> methodsData = new TreeMap<>();
+            methods.forEach((method, metrics) -> methodsData.put(method, convert(metrics)));
+            repositories.put(repository, methodsData);
+        });
+        data.put("repositories", repositories);
+
+        Map<String, Object> timersData = new TreeMap<>();
+        Map<String, CallMetrics> timers = BeanFactoryUtils.beansOfTypeIncludingAncestors(applicationContext, CallMetrics.class);
+        timers.forEach((name, metrics) -> timersData.put(name, convert(metrics)));
+        data.put("timers", timersData);
+
+        Map<String, Object> countersData = new TreeMap<>();
+        Map<String, CounterSource> counterSources = BeanFactoryUtils.beansOfTypeIncludingAncestors(applicationContext, CounterSource.class);
+        counterSources.forEach((name, source) -> countersData.put(name, source.getCounters()));
+        data.put("counters", countersData);
+
+        if (entityCacheManager.isEnabled()) {
+            Map<String, Map<String, Long>> caches = new TreeMap<>();
+            entityCacheManager.getCaches().forEach((name, cache) -> {
+                Map<String, Long> cacheData = new LinkedHashMap<>();
+                cacheData.put("size", cache.getSize());
+                cacheData.put("hits", cache.getHits());
+                cacheData.put("misses", cache.getMisses());
+                caches.put(name, cacheData);
+            });
+            data.put("caches", caches);
+        }
+
+        try {
+            Json.prettyMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+            response.write(Json.prettyMapper.writeValueAsString(data));
+        } catch (JsonProcessingException jpe) {
+            response.setStatusCode(HttpStatusCode.INTERNAL_SERVER_ERROR_500);
+            LOGGER.error("Unable to transform data object to JSON", jpe);
+        }
+
+        response.end();
+    }
+
+    private Map<String, Object> convert(CallMetrics metrics) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("count", metrics.getCount());
+        data.put("errors", metrics.getErrors());
+        data.put("total", metrics.getTotal());
+        data.put("average", metrics.getAverage());
+        data.put("max", metrics.getMax());
+        data.put("p50", metrics.getPercentile(50));
+        data.put("p90", metrics.getPercentile(90));
+        data.put("p99", metrics.getPercentile(99));
+
+        long[] bounds = metrics.getBounds();
+        long[] histogram = metrics.getHistogram();
+        Map<String, Long> buckets = new LinkedHashMap<>();
+        for (int i = 0; i < bounds.length; i++) {
+            buckets.put("le_" + bounds[i], histogram[i]);
+        }
+        buckets.put("gt_" + bounds[bounds.length - 1], histogram[bounds.length]);
+        data.put("histogram", buckets);
+        return data;
+    }
+}
@@ -16,17 +16,27 @@
 package io.gravitee.management.services.impl;
 
 import io.gravitee.common.service.AbstractService;
+import io.gravitee.management.metrics.StartupMetrics;
 import io.gravitee.management.services.ServiceManager;
 import io.gravitee.management.services.http.HttpServer;
 import io.gravitee.management.services.http.configuration.HttpServerConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * Services are started by order (see {@link Ordered}, services not implementing it have the order 0): services
+ * sharing the same order do not depend on each other and are started in parallel, once all the services of a lower
+ * order are started.
+ *
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
@@ -40,6 +50,12 @@ public class ServiceManagerImpl extends AbstractService implements ServiceManage
     @Autowired
     private HttpServer httpServer;
 
+    @Autowired
+    private StartupMetrics startupMetrics;
+
+    @Value("${services.startup.threads:4}")
+    private int startupThreads;
+
     private final List<AbstractService> services = new ArrayList<>();
 
     @Override
@@ -56,18 +72,51 @@ public class ServiceManagerImpl extends AbstractService implements ServiceManage
         }
 
         if (! services.isEmpty()) {
-            for (AbstractService service : services) {
-                try {
-                    service.start();
-                } catch (Exception ex) {
-                    LOGGER.error("Unexpected error while starting service", ex);
+            long start = System.currentTimeMillis();
+            AtomicInteger counter = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, startupThreads),
+                    runnable -> new Thread(runnable, "services-startup-" + counter.getAndIncrement()));
+            try {
+                for (List<AbstractService> group : groupByOrder(services)) {
+                    CompletableFuture.allOf(group.stream()
+                            .map(service -> CompletableFuture.runAsync(() -> start(service), executor))
+                            .toArray(CompletableFuture[]::new))
+                            .join();
                 }
+            } finally {
+                executor.shutdown();
             }
+
+            long time = System.currentTimeMillis() - start;
+            startupMetrics.record("services", time);
+            LOGGER.info("{} services started in {} ms", services.size(), time);
         } else {
             LOGGER.info("\tThere is no service to start");
         }
     }
 
+    private void start(AbstractService service) {
+        long start = System.currentTimeMillis();
+        try {
+            service.start();
+        } catch (Exception ex) {
+            LOGGER.error("Unexpected error while starting service", ex);
+        }
+
+        long time = System.currentTimeMillis() - start;
+        startupMetrics.record("services." + service.getClass().getSimpleName(), time);
+        LOGGER.debug("{} started in {} ms", service.getClass().getSimpleName(), time);
+    }
+
+    static Collection<List<AbstractService>> groupByOrder(List<AbstractService> services) {
+        Map<Integer, List<AbstractService>> groups = new TreeMap<>();
+        for (AbstractService service : services) {
+            int order = service instanceof Ordered ? ((Ordered) service).getOrder() : 0;
+            groups.computeIfAbsent(order, key -> new ArrayList<>()).add(service);
+        }
+        return groups.values();
+    }
+
     @Override
     protected void doStop() throws Exception {
         super.doStop();
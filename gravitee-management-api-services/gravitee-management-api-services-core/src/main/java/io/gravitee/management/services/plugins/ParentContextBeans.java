@@ -0,0 +1,58 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.services.plugins;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultSingletonBeanRegistry;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Service plugins live in their own context: the beans which have to be read from outside of the plugin (registries,
+ * metrics, ...) are published in the parent context.
+ *
+ * @author GraviteeSource Team
+ */
+public final class ParentContextBeans {
+
+    private ParentContextBeans() {
+    }
+
+    /**
+     * Registers the bean in the parent of the plugin context. A bean registered under the same name by a previous
+     * instance of the plugin is replaced, so that a restarted service does not keep publishing stale data.
+     *
+     * @param pluginContext the context of the plugin
+     * @param name the name of the bean
+     * @param bean the bean to register
+     */
+    public static void register(ApplicationContext pluginContext, String name, Object bean) {
+        ApplicationContext parent = pluginContext == null ? null : pluginContext.getParent();
+        if (parent instanceof ConfigurableApplicationContext) {
+            ConfigurableListableBeanFactory beanFactory = ((ConfigurableApplicationContext) parent).getBeanFactory();
+            synchronized (beanFactory) {
+                if (beanFactory.containsSingleton(name)) {
+                    if (beanFactory.getSingleton(name) == bean
+                            || !(beanFactory instanceof DefaultSingletonBeanRegistry)) {
+                        return;
+                    }
+                    ((DefaultSingletonBeanRegistry) beanFactory).destroySingleton(name);
+                }
+                beanFactory.registerSingleton(name, bean);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.services.http.handler;
+
+import io.gravitee.management.metrics.CallMetrics;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class PrometheusMetricsHandlerTest {
+
+    @Test
+    public void shouldWriteCumulativeHistogram() {
+        CallMetrics metrics = new CallMetrics(new long[]{5, 50});
+        metrics.record(2, false);
+        metrics.record(10, false);
+        metrics.record(20, true);
+        metrics.record(100, false);
+
+        StringBuilder out = new StringBuilder();
+        PrometheusMetricsHandler.histogram(out, "latency_seconds",
+                PrometheusMetricsHandler.labels("resource", "ApiResource.get"), metrics, 1000);
+
+        assertEquals(
+                "latency_seconds_bucket{resource=\"ApiResource.get\",le=\"0.005\"} 1\n" +
+                "latency_seconds_bucket{resource=\"ApiResource.get\",le=\"0.05\"} 3\n" +
+                "latency_seconds_bucket{resource=\"ApiResource.get\",le=\"+Inf\"} 4\n" +
+                "latency_seconds_sum{resource=\"ApiResource.get\"} 0.132\n" +
+                "latency_seconds_count{resource=\"ApiResource.get\"} 4\n",
+                out.toString());
+    }
+
+    @Test
+    public void shouldEscapeLabelValues() {
+        assertEquals("name=\"a\\\"b\\\\c\\nd\",other=\"e\"",
+                PrometheusMetricsHandler.labels("name", "a\"b\\c\nd", "other", "e"));
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.services.impl;
+
+import io.gravitee.common.service.AbstractService;
+import org.junit.Test;
+import org.springframework.core.Ordered;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class ServiceManagerImplTest {
+
+    @Test
+    public void shouldGroupServicesByOrder() {
+        AbstractService first = new OrderedService(-1);
+        AbstractService unordered1 = new UnorderedService();
+        AbstractService last = new OrderedService(Ordered.LOWEST_PRECEDENCE);
+        AbstractService unordered2 = new UnorderedService();
+
+        List<List<AbstractService>> groups = new ArrayList<>(
+                ServiceManagerImpl.groupByOrder(Arrays.asList(last, unordered1, first, unordered2)));
+
+        assertEquals(3, groups.size());
+        assertEquals(Arrays.asList(first), groups.get(0));
+        assertEquals(Arrays.asList(unordered1, unordered2), groups.get(1));
+        assertEquals(Arrays.asList(last), groups.get(2));
+    }
+
+    private static class UnorderedService extends AbstractService {
+    }
+
+    private static class OrderedService extends AbstractService implements Ordered {
+
+        private final int order;
+
+        private OrderedService(int order) {
+            this.order = order;
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.services.plugins;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ParentContextBeansTest {
+
+    @Mock
+    private ApplicationContext pluginContext;
+
+    @Mock
+    private ConfigurableApplicationContext parentContext;
+
+    @Mock
+    private DefaultListableBeanFactory beanFactory;
+
+    @Before
+    public void init() {
+        when(pluginContext.getParent()).thenReturn(parentContext);
+        when(parentContext.getBeanFactory()).thenReturn(beanFactory);
+    }
+
+    @Test
+    public void shouldRegisterBeanInParentContext() {
+        Object bean = new Object();
+
+        ParentContextBeans.register(pluginContext, "metrics", bean);
+
+        verify(beanFactory).registerSingleton("metrics", bean);
+        verify(beanFactory, never()).destroySingleton(anyString());
+    }
+
+    @Test
+    public void shouldReplaceBeanOfPreviousPluginInstance() {
+        Object bean = new Object();
+        when(beanFactory.containsSingleton("metrics")).thenReturn(true);
+        when(beanFactory.getSingleton("metrics")).thenReturn(new Object());
+
+        ParentContextBeans.register(pluginContext, "metrics", bean);
+
+        verify(beanFactory).destroySingleton("metrics");
+        verify(beanFactory).registerSingleton("metrics", bean);
+    }
+
+    @Test
+    public void shouldNotRegisterSameBeanTwice() {
+        Object bean = new Object();
+        when(beanFactory.containsSingleton("metrics")).thenReturn(true);
+        when(beanFactory.getSingleton("metrics")).thenReturn(bean);
+
+        ParentContextBeans.register(pluginContext, "metrics", bean);
+
+        verify(beanFactory, never()).destroySingleton(anyString());
+        verify(beanFactory, never()).registerSingleton(anyString(), any());
+    }
+
+    @Test
+    public void shouldIgnoreContextWithoutParent() {
+        when(pluginContext.getParent()).thenReturn(null);
+
+        ParentContextBeans.register(pluginContext, "metrics", new Object());
+
+        verifyZeroInteractions(beanFactory);
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.services.dynamicproperties;
+
+import io.gravitee.management.metrics.CallMetrics;
+import io.gravitee.management.metrics.CounterSource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the dynamic properties service, in milliseconds:
+ * <ul>
+ *     <li>fetch lag: delay between the planned and the actual start of a poll on the event loop</li>
+ *     <li>update lag: time spent by fetched properties waiting for a worker</li>
+ *     <li>update time: time a worker is blocked applying fetched properties to an API</li>
+ * </ul>
+ *
+ * @author GraviteeSource Team
+ */
+public class DynamicPropertiesMetrics implements CounterSource {
+
+    private final CallMetrics fetchLag = new CallMetrics(CallMetrics.LATENCY_BUCKETS);
+    private final CallMetrics updateLag = new CallMetrics(CallMetrics.LATENCY_BUCKETS);
+    private final CallMetrics updateTime = new CallMetrics(CallMetrics.LATENCY_BUCKETS);
+
+    private final LongAdder rejectedUpdates = new LongAdder();
+    private final LongAdder blockedUpdates = new LongAdder();
+
+    private final long blockedThreshold;
+
+    private ThreadPoolExecutor workers;
+
+    /**
+     * @param blockedThreshold time, in milliseconds, above which an update is counted as blocking its worker
+     */
+    public DynamicPropertiesMetrics(long blockedThreshold) {
+        this.blockedThreshold = blockedThreshold;
+    }
+
+    public CallMetrics getFetchLag() {
+        return fetchLag;
+    }
+
+    public CallMetrics getUpdateLag() {
+        return updateLag;
+    }
+
+    public CallMetrics getUpdateTime() {
+        return updateTime;
+    }
+
+    /**
+     * @return <code>true</code> if the update has blocked its worker for longer than the threshold
+     */
+    boolean recordUpdate(long time, boolean error) {
+        updateTime.record(time, error);
+        if (time > blockedThreshold) {
+            blockedUpdates.increment();
+            return true;
+        }
+        return false;
+    }
+
+    void recordRejectedUpdate() {
+        rejectedUpdates.increment();
+    }
+
+    void setWorkers(ThreadPoolExecutor workers) {
+        this.workers = workers;
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        Map<String, Long> counters = new LinkedHashMap<>();
+        counters.put("rejectedUpdates", rejectedUpdates.sum());
+        counters.put("blockedUpdates", blockedUpdates.sum());
+        if (workers != null) {
+            counters.put("activeWorkers", (long) workers.getActiveCount());
+            counters.put("queuedUpdates", (long) workers.getQueue().size());
+        }
+        return counters;
+    }
+}
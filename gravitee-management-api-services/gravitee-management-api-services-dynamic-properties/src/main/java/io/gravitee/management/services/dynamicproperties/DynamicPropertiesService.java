@@ -24,17 +24,20 @@ import io.gravitee.definition.model.services.dynamicproperty.DynamicPropertyProv
 import io.gravitee.definition.model.services.dynamicproperty.DynamicPropertyService;
 import io.gravitee.management.model.ApiEntity;
 import io.gravitee.management.service.ApiService;
+import io.gravitee.management.service.cluster.ClusterCoordinator;
 import io.gravitee.management.service.event.ApiEvent;
 import io.gravitee.management.services.dynamicproperties.provider.http.HttpProvider;
+import io.gravitee.management.services.plugins.ParentContextBeans;
 import io.vertx.core.Vertx;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Alexandre FARIA (lusoalex on github.com)
@@ -46,8 +49,24 @@ public class DynamicPropertiesService extends AbstractService  implements EventL
      */
     private final Logger logger = LoggerFactory.getLogger(DynamicPropertiesService.class);
 
-    @Value("${services.dynamicproperties.threads:2}")
-    private int threads;
+    /**
+     * Number of threads applying fetched properties to the APIs. Polls are scheduled on the Vert.x event loop and
+     * do not use these threads.
+     */
+    @Value("${services.dynamicproperties.workers:${services.dynamicproperties.threads:2}}")
+    private int workers;
+
+    /**
+     * Maximum number of fetched properties waiting for a worker.
+     */
+    @Value("${services.dynamicproperties.queueCapacity:1000}")
+    private int queueCapacity;
+
+    /**
+     * Time, in milliseconds, above which an update is reported as blocking its worker.
+     */
+    @Value("${services.dynamicproperties.blockedThreshold:2000}")
+    private long blockedThreshold;
 
     @Autowired
     private EventManager eventManager;
@@ -58,9 +77,17 @@ public class DynamicPropertiesService extends AbstractService  implements EventL
     @Autowired
     private Vertx vertx;
 
-    private ExecutorService executorService;
+    @Autowired
+    private ClusterCoordinator clusterCoordinator;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private ThreadPoolExecutor executorService;
 
-    private final Map<ApiEntity, ScheduledFuture> scheduledTasks = new HashMap<>();
+    private DynamicPropertiesMetrics metrics;
+
+    private final Map<String, DynamicPropertyUpdater> updaters = new ConcurrentHashMap<>();
 
     @Override
     protected String name() {
@@ -69,29 +96,44 @@ public class DynamicPropertiesService extends AbstractService  implements EventL
 
     @Override
     protected void doStart() throws Exception {
-            super.doStart();
+        super.doStart();
 
-            eventManager.subscribeForEvents(this, ApiEvent.class);
+        executorService = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), new ThreadFactory() {
+            private final AtomicInteger counter = new AtomicInteger();
+            private final String prefix = "dynamic-properties";
 
-            executorService = Executors.newScheduledThreadPool(threads, new ThreadFactory() {
-                private int counter = 0;
-                private String prefix = "dynamic-properties";
+            public Thread newThread(Runnable r) {
+                return new Thread(r, prefix + '-' + counter.getAndIncrement());
+            }
+        });
 
-                public Thread newThread(Runnable r) {
-                    return new Thread(r, prefix + '-' + counter++);
-                }
-            });
+        metrics = new DynamicPropertiesMetrics(blockedThreshold);
+        metrics.setWorkers(executorService);
+        registerMetrics();
+
+        eventManager.subscribeForEvents(this, ApiEvent.class);
     }
 
     @Override
     protected void doStop() throws Exception {
         super.doStop();
 
+        updaters.values().forEach(DynamicPropertyUpdater::stop);
+        updaters.clear();
+
         if (executorService != null) {
             executorService.shutdown();
         }
     }
 
+    private void registerMetrics() {
+        ParentContextBeans.register(applicationContext, "dynamicProperties", metrics);
+        ParentContextBeans.register(applicationContext, "dynamicPropertiesFetchLag", metrics.getFetchLag());
+        ParentContextBeans.register(applicationContext, "dynamicPropertiesUpdateLag", metrics.getUpdateLag());
+        ParentContextBeans.register(applicationContext, "dynamicPropertiesUpdateTime", metrics.getUpdateTime());
+    }
+
     @Override
     public void onEvent(Event<ApiEvent, ApiEntity> event) {
         final ApiEntity api = event.content();
@@ -122,13 +164,24 @@ public class DynamicPropertiesService extends AbstractService  implements EventL
 
                     updater.setProvider(provider);
                     updater.setApiService(apiService);
+                    updater.setExecutor(executorService);
+                    updater.setMetrics(metrics);
+                    // APIs are spread between the management nodes, each one polling only its own APIs
+                    updater.setOwner(() -> clusterCoordinator.owns(api.getId()));
+
+                    long delay = dynamicPropertyService.getTrigger().getUnit().toMillis(
+                            dynamicPropertyService.getTrigger().getRate());
+                    // Spread the first poll of each API over a whole period
+                    long initialDelay = ThreadLocalRandom.current().nextLong(Math.max(1, delay));
+
                     logger.info("Add a scheduled task to poll dynamic properties each {} {} ", dynamicPropertyService.getTrigger().getRate(),
                             dynamicPropertyService.getTrigger().getUnit());
-                    ScheduledFuture scheduledFuture = ((ScheduledExecutorService) executorService).scheduleWithFixedDelay(
-                            updater, 0, dynamicPropertyService.getTrigger().getRate(),
-                            dynamicPropertyService.getTrigger().getUnit());
+                    updater.start(vertx, initialDelay, delay);
 
-                    scheduledTasks.put(api, scheduledFuture);
+                    DynamicPropertyUpdater previous = updaters.put(api.getId(), updater);
+                    if (previous != null) {
+                        previous.stop();
+                    }
                 }
             } else {
                 logger.info("Dynamic properties service is disabled for: {} [{}]", api.getName(), api.getVersion());
@@ -137,14 +190,10 @@ public class DynamicPropertiesService extends AbstractService  implements EventL
     }
 
     private void stopDynamicProperties(ApiEntity api) {
-        ScheduledFuture scheduledFuture = scheduledTasks.remove(api);
-        if (scheduledFuture != null) {
-            if (! scheduledFuture.isCancelled()) {
-                logger.info("Stop Dynamic properties");
-                scheduledFuture.cancel(true);
-            } else {
-                logger.info("Dynamic properties service already shutdown");
-            }
+        DynamicPropertyUpdater updater = updaters.remove(api.getId());
+        if (updater != null) {
+            logger.info("Stop Dynamic properties");
+            updater.stop();
         }
     }
 }
@@ -24,10 +24,16 @@ import io.gravitee.management.model.UpdateApiEntity;
 import io.gravitee.management.service.ApiService;
 import io.gravitee.management.services.dynamicproperties.model.DynamicProperty;
 import io.gravitee.management.services.dynamicproperties.provider.Provider;
+import io.vertx.core.Vertx;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -41,24 +47,125 @@ public class DynamicPropertyUpdater implements Runnable {
     private ApiEntity api;
     private Provider provider;
     private ApiService apiService;
+    private Executor executor = Runnable::run;
+    private DynamicPropertiesMetrics metrics = new DynamicPropertiesMetrics(Long.MAX_VALUE);
+
+    /**
+     * Checked before each scheduled poll: an updater stays scheduled on every node, but only polls while its API is
+     * assigned to the current one.
+     */
+    private BooleanSupplier owner = () -> true;
+
+    private Vertx vertx;
+    private volatile long timerId = -1;
+    private volatile boolean stopped;
+
+    /**
+     * Properties fetched and waiting for a worker. A poll completing before the previous properties have been
+     * applied replaces them, so that at most one update per API is waiting for a worker.
+     */
+    private final AtomicReference<Collection<DynamicProperty>> pendingProperties = new AtomicReference<>();
 
     public DynamicPropertyUpdater(final ApiEntity api) {
         this.api = api;
     }
 
+    /**
+     * Polls the provider from the Vert.x event loop: a first time after the given initial delay, then with a fixed
+     * delay between the end of a poll and the start of the next one. Fetched properties are applied to the API by
+     * the executor, never on the event loop.
+     */
+    public void start(Vertx vertx, long initialDelay, long delay) {
+        this.vertx = vertx;
+        this.stopped = false;
+        schedule(initialDelay, delay);
+    }
+
+    public void stop() {
+        stopped = true;
+        if (vertx != null) {
+            vertx.cancelTimer(timerId);
+        }
+    }
+
+    private void schedule(long delay, long nextDelay) {
+        if (stopped) {
+            return;
+        }
+
+        final long plannedAt = System.currentTimeMillis() + delay;
+        // A Vert.x timer can not be shorter than 1 ms
+        timerId = vertx.setTimer(Math.max(1, delay), id -> {
+            if (stopped) {
+                return;
+            }
+            if (!owner.getAsBoolean()) {
+                schedule(nextDelay, nextDelay);
+                return;
+            }
+            metrics.getFetchLag().record(Math.max(0, System.currentTimeMillis() - plannedAt), false);
+            fetch().whenComplete((dynamicProperties, throwable) -> schedule(nextDelay, nextDelay));
+        });
+    }
+
     @Override
     public void run() {
+        fetch();
+    }
+
+    private CompletableFuture<Collection<DynamicProperty>> fetch() {
         logger.debug("Running dynamic-properties poller for {}", api);
 
-        provider.get()
-                .whenComplete((dynamicProperties, throwable) -> {
-                    if (throwable != null) {
-                        logger.error("Unexpected error while getting dynamic properties from provider: {}",
-                                provider.name(), throwable);
-                    } else if (dynamicProperties != null) {
-                        update(dynamicProperties);
+        final CompletableFuture<Collection<DynamicProperty>> future;
+        try {
+            future = provider.get();
+        } catch (Exception ex) {
+            logger.error("Unexpected error while getting dynamic properties from provider: {}", provider.name(), ex);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return future.whenComplete((dynamicProperties, throwable) -> {
+            if (throwable != null) {
+                logger.error("Unexpected error while getting dynamic properties from provider: {}",
+                        provider.name(), throwable);
+            } else if (dynamicProperties != null) {
+                submit(dynamicProperties);
+            }
+        });
+    }
+
+    private void submit(Collection<DynamicProperty> dynamicProperties) {
+        if (pendingProperties.getAndSet(dynamicProperties) != null) {
+            // An update is already waiting for a worker, it will apply these properties
+            return;
+        }
+
+        final long submittedAt = System.currentTimeMillis();
+        try {
+            executor.execute(() -> {
+                final long startedAt = System.currentTimeMillis();
+                metrics.getUpdateLag().record(startedAt - submittedAt, false);
+
+                boolean error = false;
+                try {
+                    update(pendingProperties.getAndSet(null));
+                } catch (Exception ex) {
+                    error = true;
+                    logger.error("Unexpected error while updating dynamic properties of API {}", api.getId(), ex);
+                } finally {
+                    final long time = System.currentTimeMillis() - startedAt;
+                    if (metrics.recordUpdate(time, error)) {
+                        logger.warn("Dynamic properties update of API {} has blocked a worker thread for {} ms",
+                                api.getId(), time);
                     }
-                });
+                }
+            });
+        } catch (RejectedExecutionException ree) {
+            pendingProperties.set(null);
+            metrics.recordRejectedUpdate();
+            logger.warn("Too many pending dynamic properties updates, properties fetched for API {} are ignored",
+                    api.getId());
+        }
     }
 
     private void update(Collection<DynamicProperty> dynamicProperties) {
@@ -135,4 +242,16 @@ public class DynamicPropertyUpdater implements Runnable {
     public void setProvider(Provider provider) {
         this.provider = provider;
     }
+
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public void setMetrics(DynamicPropertiesMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public void setOwner(BooleanSupplier owner) {
+        this.owner = owner;
+    }
 }
@@ -16,6 +16,7 @@
 package io.gravitee.management.services.dynamicproperties;
 
 import io.gravitee.management.model.ApiEntity;
+import io.gravitee.management.service.ApiService;
 import io.gravitee.management.services.dynamicproperties.model.DynamicProperty;
 import io.gravitee.management.services.dynamicproperties.provider.Provider;
 import org.junit.Before;
@@ -24,9 +25,14 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -42,6 +48,9 @@ public class DynamicPropertyUpdaterTest {
     @Mock
     private Provider provider;
 
+    @Mock
+    private ApiService apiService;
+
     @Before
     public void setUp() {
         MockitoAnnotations.initMocks(this);
@@ -77,4 +86,44 @@ public class DynamicPropertyUpdaterTest {
 
         poller.run();
     }
+
+    @Test
+    public void shouldApplyPropertiesOnExecutor() {
+        List<Runnable> tasks = new ArrayList<>();
+        poller.setExecutor(tasks::add);
+        poller.setApiService(apiService);
+        Mockito.when(apiEntity.getId()).thenReturn("api");
+        Mockito.when(apiService.findById("api")).thenThrow(new IllegalStateException());
+        Mockito.when(provider.get())
+                .thenReturn(CompletableFuture.completedFuture(
+                        Collections.singletonList(new DynamicProperty("my-key", "my-value"))));
+
+        poller.run();
+        poller.run();
+
+        // The second poll replaces the properties waiting for a worker
+        assertEquals(1, tasks.size());
+        Mockito.verify(apiService, Mockito.never()).findById("api");
+
+        tasks.get(0).run();
+
+        Mockito.verify(apiService).findById("api");
+    }
+
+    @Test
+    public void shouldCountRejectedUpdates() {
+        DynamicPropertiesMetrics metrics = new DynamicPropertiesMetrics(1000);
+        poller.setMetrics(metrics);
+        poller.setExecutor(task -> {
+            throw new RejectedExecutionException();
+        });
+        Mockito.when(provider.get())
+                .thenReturn(CompletableFuture.completedFuture(
+                        Collections.singletonList(new DynamicProperty("my-key", "my-value"))));
+
+        poller.run();
+        poller.run();
+
+        assertEquals(Long.valueOf(2), metrics.getCounters().get("rejectedUpdates"));
+    }
 }
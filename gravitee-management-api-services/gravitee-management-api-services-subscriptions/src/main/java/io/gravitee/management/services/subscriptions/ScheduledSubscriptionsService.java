@@ -16,15 +16,20 @@
 package io.gravitee.management.services.subscriptions;
 
 import io.gravitee.common.service.AbstractService;
+import io.gravitee.management.metrics.CallMetrics;
 import io.gravitee.management.model.ApiEntity;
 import io.gravitee.management.model.SubscriptionEntity;
 import io.gravitee.management.model.SubscriptionStatus;
 import io.gravitee.management.service.ApiService;
 import io.gravitee.management.service.SubscriptionService;
+import io.gravitee.management.service.cluster.ClusterCoordinator;
+import io.gravitee.management.service.cluster.Lease;
+import io.gravitee.management.services.plugins.ParentContextBeans;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.support.CronTrigger;
 
@@ -32,8 +37,6 @@ import java.time.Instant;
 import java.util.Date;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Consumer;
-import java.util.function.Predicate;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -55,14 +58,27 @@ public class ScheduledSubscriptionsService extends AbstractService implements Ru
     @Value("${services.subscriptions.enabled:true}")
     private boolean enabled;
 
+    /**
+     * Name of the lease guarding the refresh: only one management node closes the outdated subscriptions.
+     */
+    static final String LEASE = "subscriptions-refresher";
+
     private final AtomicLong counter = new AtomicLong(0);
 
+    /**
+     * Duration of the refreshes, in milliseconds.
+     */
+    private final CallMetrics runs = new CallMetrics(CallMetrics.LATENCY_BUCKETS);
+
     @Autowired
     private ApiService apiService;
 
     @Autowired
     private SubscriptionService subscriptionService;
 
+    @Autowired
+    private ClusterCoordinator clusterCoordinator;
+
     @Override
     protected String name() {
         return "Subscriptions Refresher Service";
@@ -72,6 +88,7 @@ public class ScheduledSubscriptionsService extends AbstractService implements Ru
     protected void doStart() throws Exception {
         if (enabled) {
             super.doStart();
+            registerMetrics();
             logger.info("Subscriptions Refresher service has been initialized with cron [{}]", cronTrigger);
             scheduler.schedule(this, new CronTrigger(cronTrigger));
         } else {
@@ -81,6 +98,23 @@ public class ScheduledSubscriptionsService extends AbstractService implements Ru
 
     @Override
     public void run() {
+        Lease lease = clusterCoordinator.acquire(LEASE);
+        if (lease == null) {
+            logger.debug("Subscriptions are refreshed by another node");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        boolean error = true;
+        try {
+            refresh(lease);
+            error = false;
+        } finally {
+            runs.record(System.currentTimeMillis() - start, error);
+        }
+    }
+
+    private void refresh(Lease lease) {
         logger.debug("Refresh subscriptions #{} started at {}", counter.incrementAndGet(), Instant.now().toString());
 
         Date now = new Date();
@@ -90,16 +124,24 @@ public class ScheduledSubscriptionsService extends AbstractService implements Ru
             // TODO: this service must be optimized by providing a better way to search for subscription
             // Something like the Event Repository API
             Set<SubscriptionEntity> subscriptions = subscriptionService.findByApi(api.getId());
-            subscriptions.stream()
-                    .filter(subscriptionEntity -> subscriptionEntity.getStatus() == SubscriptionStatus.ACCEPTED)
-                    .forEach(subscription -> {
-                        if (subscription.getEndingAt() != null && subscription.getEndingAt().before(now)) {
-                            subscriptionService.close(subscription.getId());
-                        }
-                    });
+            for (SubscriptionEntity subscription : subscriptions) {
+                if (subscription.getStatus() == SubscriptionStatus.ACCEPTED
+                        && subscription.getEndingAt() != null && subscription.getEndingAt().before(now)) {
+                    // Do not close anything once another node has taken over
+                    if (!clusterCoordinator.holds(lease)) {
+                        logger.warn("Lease {} has been lost, refresh subscriptions #{} stopped", LEASE, counter.get());
+                        return;
+                    }
+                    subscriptionService.close(subscription.getId());
+                }
+            }
         }
 
 
         logger.debug("Refresh subscriptions #{} ended at {}", counter.get(), Instant.now().toString());
     }
+
+    private void registerMetrics() {
+        ParentContextBeans.register(applicationContext, "subscriptionsRuns", runs);
+    }
 }
@@ -20,6 +20,9 @@ import io.gravitee.management.model.SubscriptionEntity;
 import io.gravitee.management.model.SubscriptionStatus;
 import io.gravitee.management.service.ApiService;
 import io.gravitee.management.service.SubscriptionService;
+import io.gravitee.management.service.cluster.ClusterCoordinator;
+import io.gravitee.management.service.cluster.Lease;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -49,6 +52,17 @@ public class ScheduledSubscriptionsServiceTest {
     @Mock
     SubscriptionService subscriptionService;
 
+    @Mock
+    ClusterCoordinator clusterCoordinator;
+
+    private final Lease lease = new Lease(ScheduledSubscriptionsService.LEASE, "node", 1, Long.MAX_VALUE);
+
+    @Before
+    public void init() {
+        when(clusterCoordinator.acquire(ScheduledSubscriptionsService.LEASE)).thenReturn(lease);
+        when(clusterCoordinator.holds(lease)).thenReturn(true);
+    }
+
     @Test
     public void shouldCloseOutdatedSubscriptions() {
         ApiEntity apiEntity = mock(ApiEntity.class);
@@ -99,6 +113,32 @@ public class ScheduledSubscriptionsServiceTest {
         verify(subscriptionService, never()).close("rejected_subscription");
     }
 
+    @Test
+    public void shouldNotRefreshWhenNotLeader() {
+        when(clusterCoordinator.acquire(ScheduledSubscriptionsService.LEASE)).thenReturn(null);
+
+        service.run();
+
+        verifyZeroInteractions(apiService, subscriptionService);
+    }
+
+    @Test
+    public void shouldStopClosingSubscriptionsOnceLeaseIsLost() {
+        ApiEntity apiEntity = mock(ApiEntity.class);
+        when(apiEntity.getId()).thenReturn("API_ID");
+        when(apiService.findAll()).thenReturn(Collections.singleton(apiEntity));
+        SubscriptionEntity endDateInThePast = createSubscription(
+                "end_date_in_the_past",
+                SubscriptionStatus.ACCEPTED,
+                new Date(0));
+        when(subscriptionService.findByApi("API_ID")).thenReturn(Collections.singleton(endDateInThePast));
+        when(clusterCoordinator.holds(lease)).thenReturn(false);
+
+        service.run();
+
+        verify(subscriptionService, never()).close(anyString());
+    }
+
     private SubscriptionEntity createSubscription(String id, SubscriptionStatus status, Date endingDate) {
         SubscriptionEntity subscriptionEntity = mock(SubscriptionEntity.class);
         when(subscriptionEntity.getId()).thenReturn(id);
@@ -19,63 +19,169 @@ import io.gravitee.common.component.Lifecycle;
 import io.gravitee.common.event.EventManager;
 import io.gravitee.management.model.ApiEntity;
 import io.gravitee.management.service.event.ApiEvent;
+import io.gravitee.management.service.registry.ApiRegistry;
+import io.gravitee.management.service.registry.ApiRegistrySnapshot;
+import io.gravitee.management.services.plugins.ParentContextBeans;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
 
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collections;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
+ * Registry of the APIs deployed on this node.
+ *
+ * The registry is an immutable snapshot replaced on each change: readers never wait for the synchronization.
+ * Changes are serialized so that the events are queued in the order of the revisions, each one after the snapshot
+ * has been replaced. The events are then published outside of the lock, by one thread at a time: a change may
+ * return before its event is published when another thread is already publishing, but never out of order.
+ *
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class ApiManager {
+public class ApiManager implements ApiRegistry, InitializingBean {
 
     private final Logger logger = LoggerFactory.getLogger(ApiManager.class);
 
     @Autowired
     private EventManager eventManager;
 
-    private final Map<String, ApiEntity> apis = new HashMap<>();
+    @Autowired
+    private ApplicationContext applicationContext;
 
-    public void deploy(ApiEntity api) {
-        logger.info("Deployment of {}", api);
+    private final Object lock = new Object();
 
-            apis.put(api.getId(), api);
+    private volatile ApiRegistrySnapshot snapshot = ApiRegistrySnapshot.EMPTY;
 
-            if (api.getState() == Lifecycle.State.STARTED) {
-                eventManager.publishEvent(ApiEvent.DEPLOY, api);
-            } else {
-                logger.debug("{} is not enabled. Skip deployment.", api);
-            }
+    private final Queue<PendingEvent> pendingEvents = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean publishing = new AtomicBoolean();
+
+    @Override
+    public void afterPropertiesSet() {
+        ParentContextBeans.register(applicationContext, "apiRegistry", this);
+    }
+
+    public void deploy(ApiEntity api) {
+        deployAll(Collections.singletonList(api));
     }
 
     public void update(ApiEntity api) {
-        apis.put(api.getId(), api);
-            eventManager.publishEvent(ApiEvent.UPDATE, api);
+        updateAll(Collections.singletonList(api));
     }
 
     public void undeploy(String apiId) {
-        ApiEntity currentApi = apis.remove(apiId);
-        if (currentApi != null) {
-            logger.info("Undeployment of {}", currentApi);
+        undeployAll(Collections.singletonList(apiId));
+    }
+
+    /**
+     * Deploys the given APIs with a single copy of the registry.
+     */
+    public void deployAll(Collection<ApiEntity> apis) {
+        if (apis.isEmpty()) {
+            return;
+        }
 
-            eventManager.publishEvent(ApiEvent.UNDEPLOY, currentApi);
-            logger.info("{} has been undeployed", apiId);
+        synchronized (lock) {
+            snapshot = snapshot.withAll(apis);
+
+            for (ApiEntity api : apis) {
+                logger.info("Deployment of {}", api);
+                if (api.getState() == Lifecycle.State.STARTED) {
+                    pendingEvents.add(new PendingEvent(ApiEvent.DEPLOY, api));
+                } else {
+                    logger.debug("{} is not enabled. Skip deployment.", api);
+                }
+            }
         }
+        publishPendingEvents();
+    }
+
+    /**
+     * Updates the given APIs with a single copy of the registry.
+     */
+    public void updateAll(Collection<ApiEntity> apis) {
+        if (apis.isEmpty()) {
+            return;
+        }
+
+        synchronized (lock) {
+            snapshot = snapshot.withAll(apis);
+            apis.forEach(api -> pendingEvents.add(new PendingEvent(ApiEvent.UPDATE, api)));
+        }
+        publishPendingEvents();
+    }
+
+    /**
+     * Undeploys the given APIs, with a single copy of the registry. APIs which are not deployed are ignored.
+     */
+    public void undeployAll(Collection<String> apiIds) {
+        if (apiIds.isEmpty()) {
+            return;
+        }
+
+        synchronized (lock) {
+            ApiRegistrySnapshot current = snapshot;
+            snapshot = current.withoutAll(apiIds);
+
+            for (String apiId : apiIds) {
+                ApiEntity currentApi = current.get(apiId);
+                if (currentApi != null) {
+                    logger.info("Undeployment of {}", currentApi);
+                    pendingEvents.add(new PendingEvent(ApiEvent.UNDEPLOY, currentApi));
+                }
+            }
+        }
+        publishPendingEvents();
+    }
+
+    private void publishPendingEvents() {
+        // Re-check once the flag is released: an event queued meanwhile by another thread would be left behind
+        while (!pendingEvents.isEmpty() && publishing.compareAndSet(false, true)) {
+            try {
+                PendingEvent event;
+                while ((event = pendingEvents.poll()) != null) {
+                    eventManager.publishEvent(event.type, event.api);
+                    if (event.type == ApiEvent.UNDEPLOY) {
+                        logger.info("{} has been undeployed", event.api.getId());
+                    }
+                }
+            } finally {
+                publishing.set(false);
+            }
+        }
+    }
+
+    @Override
+    public ApiRegistrySnapshot snapshot() {
+        return snapshot;
     }
 
     public Collection<ApiEntity> apis() {
-        return apis.values();
+        return snapshot.getApis();
     }
 
     public ApiEntity get(String name) {
-        return apis.get(name);
+        return snapshot.get(name);
     }
 
     public void setEventManager(EventManager eventManager) {
         this.eventManager = eventManager;
     }
+
+    private static final class PendingEvent {
+        private final ApiEvent type;
+        private final ApiEntity api;
+
+        private PendingEvent(ApiEvent type, ApiEntity api) {
+            this.type = type;
+            this.api = api;
+        }
+    }
 }
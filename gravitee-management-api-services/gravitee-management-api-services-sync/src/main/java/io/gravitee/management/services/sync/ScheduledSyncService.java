@@ -16,10 +16,14 @@
 package io.gravitee.management.services.sync;
 
 import io.gravitee.common.service.AbstractService;
+import io.gravitee.management.metrics.CallMetrics;
+import io.gravitee.management.services.plugins.ParentContextBeans;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.support.CronTrigger;
 
@@ -30,7 +34,7 @@ import java.util.concurrent.atomic.AtomicLong;
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class ScheduledSyncService extends AbstractService implements Runnable {
+public class ScheduledSyncService extends AbstractService implements Runnable, Ordered {
 
     /**
      * Logger.
@@ -54,11 +58,17 @@ public class ScheduledSyncService extends AbstractService implements Runnable {
 
     private final AtomicLong counter = new AtomicLong(0);
 
+    /**
+     * Duration of the synchronizations, in milliseconds.
+     */
+    private final CallMetrics runs = new CallMetrics(CallMetrics.LATENCY_BUCKETS);
+
     @Override
     protected void doStart() throws Exception {
         if (! localRegistryEnabled) {
             if (enabled) {
                 super.doStart();
+                registerMetrics();
                 logger.info("Sync service has been initialized with cron [{}]", cronTrigger);
                 // Sync must start only when doStart() is invoked, that's the reason why we are not
                 // using @Scheduled annotation on doSync() method.
@@ -73,7 +83,14 @@ public class ScheduledSyncService extends AbstractService implements Runnable {
 
     @Override
     public void run() {
-        doSync();
+        long start = System.currentTimeMillis();
+        boolean error = true;
+        try {
+            doSync();
+            error = false;
+        } finally {
+            runs.record(System.currentTimeMillis() - start, error);
+        }
     }
 
     /**
@@ -88,6 +105,18 @@ public class ScheduledSyncService extends AbstractService implements Runnable {
         logger.debug("Synchronization #{} ended at {}", counter.get(), Instant.now().toString());
     }
 
+    private void registerMetrics() {
+        ParentContextBeans.register(applicationContext, "syncRuns", runs);
+    }
+
+    /**
+     * The synchronization deploys the APIs: it is started last, once the services listening to the deployments are.
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
     @Override
     protected String name() {
         return "Sync Service";
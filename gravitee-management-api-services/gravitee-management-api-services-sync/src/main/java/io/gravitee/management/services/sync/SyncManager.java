@@ -32,6 +32,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -76,14 +77,20 @@ public class SyncManager {
             });
 
             // Determine API which must be stopped and stop them
-            events.entrySet()
+            List<String> apisToUndeploy = events.entrySet()
                     .stream()
                     .filter(apiEvent -> {
                         Event event = apiEvent.getValue();
                         return event != null &&
                                 (event.getType() == EventType.STOP_API || event.getType() == EventType.UNPUBLISH_API);
                     })
-                    .forEach(apiEvent -> apiManager.undeploy(apiEvent.getKey()));
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            apiManager.undeployAll(apisToUndeploy);
+
+            // Deploy and update the APIs in bulk, each bulk replaces the registry once
+            List<ApiEntity> apisToDeploy = new ArrayList<>();
+            List<ApiEntity> apisToUpdate = new ArrayList<>();
 
             // Determine API which must be deployed
             events.entrySet()
@@ -108,10 +115,10 @@ public class SyncManager {
 
                                 // API is not yet deployed, so let's do it !
                                 if (deployedApi == null) {
-                                    apiManager.deploy(apiToDeploy);
+                                    apisToDeploy.add(apiToDeploy);
                                 } else {
                                     if (deployedApi.getDeployedAt().before(apiToDeploy.getDeployedAt())) {
-                                        apiManager.update(apiToDeploy);
+                                        apisToUpdate.add(apiToDeploy);
                                     }
                                 }
                             }
@@ -120,6 +127,9 @@ public class SyncManager {
                         }
                     });
 
+            apiManager.deployAll(apisToDeploy);
+            apiManager.updateAll(apisToUpdate);
+
             lastRefreshAt = System.currentTimeMillis();
         } catch (TechnicalException te) {
             logger.error("Unable to sync instance", te);
@@ -0,0 +1,236 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.services.sync;
+
+import io.gravitee.common.component.Lifecycle;
+import io.gravitee.common.event.Event;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.event.EventManager;
+import io.gravitee.management.model.ApiEntity;
+import io.gravitee.management.service.event.ApiEvent;
+import io.gravitee.management.service.registry.ApiRegistrySnapshot;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class ApiManagerTest {
+
+    private ApiManager apiManager;
+
+    /**
+     * Revisions of the registry seen by the event listeners, in the order of the events.
+     */
+    private final List<Long> publishedRevisions = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void init() {
+        apiManager = new ApiManager();
+        apiManager.setEventManager(new RecordingEventManager());
+    }
+
+    @Test
+    public void shouldIncrementRevisions() {
+        apiManager.deploy(api("api-1"));
+        apiManager.deploy(api("api-2"));
+        ApiRegistrySnapshot beforeUpdate = apiManager.snapshot();
+        apiManager.update(api("api-1"));
+
+        ApiRegistrySnapshot snapshot = apiManager.snapshot();
+        assertEquals(3, snapshot.getRevision());
+        assertEquals(3, snapshot.getRevision("api-1"));
+        assertEquals(2, snapshot.getRevision("api-2"));
+        assertEquals(1, beforeUpdate.getRevision("api-1"));
+
+        apiManager.undeploy("api-1");
+        apiManager.undeploy("unknown");
+
+        assertEquals(4, apiManager.snapshot().getRevision());
+        assertNull(apiManager.get("api-1"));
+        assertEquals(0, apiManager.snapshot().getRevision("api-1"));
+        assertEquals(2, beforeUpdate.size());
+    }
+
+    @Test
+    public void shouldPublishEventsOnceRegistryIsUpdated() {
+        apiManager.deploy(api("api-1"));
+        apiManager.update(api("api-1"));
+        apiManager.undeploy("api-1");
+
+        assertEquals(3, publishedRevisions.size());
+        assertEquals(1L, (long) publishedRevisions.get(0));
+        assertEquals(2L, (long) publishedRevisions.get(1));
+        assertEquals(3L, (long) publishedRevisions.get(2));
+    }
+
+    @Test
+    public void shouldDeployInBulk() {
+        apiManager.deploy(api("api-1"));
+        apiManager.deployAll(Arrays.asList(api("api-2"), api("api-3")));
+        apiManager.updateAll(Arrays.asList(api("api-1"), api("api-2")));
+
+        ApiRegistrySnapshot snapshot = apiManager.snapshot();
+        assertEquals(5, snapshot.getRevision());
+        assertEquals(4, snapshot.getRevision("api-1"));
+        assertEquals(5, snapshot.getRevision("api-2"));
+        assertEquals(3, snapshot.getRevision("api-3"));
+
+        apiManager.undeployAll(Arrays.asList("api-1", "unknown", "api-3"));
+
+        assertEquals(7, apiManager.snapshot().getRevision());
+        assertEquals(1, apiManager.snapshot().size());
+        assertEquals(7, publishedRevisions.size());
+    }
+
+    @Test
+    public void shouldPublishEventsOutsideOfTheLock() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            apiManager.setEventManager(new RecordingEventManager() {
+                @Override
+                public void publishEvent(Enum type, Object content) {
+                    super.publishEvent(type, content);
+                    if (type == ApiEvent.DEPLOY) {
+                        // A listener changing the registry from another thread must not wait for this one
+                        try {
+                            executor.submit(() -> apiManager.update(api("api-2"))).get(5, TimeUnit.SECONDS);
+                        } catch (Exception ex) {
+                            throw new IllegalStateException(ex);
+                        }
+                    }
+                }
+            });
+
+            apiManager.deploy(api("api-1"));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2, publishedRevisions.size());
+        assertEquals(2, apiManager.snapshot().getRevision());
+    }
+
+    @Test
+    public void shouldReadConsistentSnapshotsWhileSyncing() throws Exception {
+        final int apis = 50;
+        final int changes = 10_000;
+        final int readers = 4;
+
+        ExecutorService executor = Executors.newFixedThreadPool(readers + 2);
+        AtomicBoolean syncing = new AtomicBoolean(true);
+
+        try {
+            List<Future<Long>> reads = new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                reads.add(executor.submit(() -> {
+                    long count = 0;
+                    long lastRevision = 0;
+                    while (syncing.get()) {
+                        ApiRegistrySnapshot snapshot = apiManager.snapshot();
+                        assertTrue(snapshot.getRevision() >= lastRevision);
+                        lastRevision = snapshot.getRevision();
+
+                        for (ApiEntity api : snapshot.getApis()) {
+                            long apiRevision = snapshot.getRevision(api.getId());
+                            assertTrue(apiRevision > 0 && apiRevision <= lastRevision);
+                            assertSame(api, snapshot.get(api.getId()));
+                        }
+                        count++;
+                    }
+                    return count;
+                }));
+            }
+
+            // Two concurrent writers, as with the sync thread and the deploy/undeploy events
+            List<Future<?>> writes = new ArrayList<>();
+            for (int w = 0; w < 2; w++) {
+                final int writer = w;
+                writes.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < changes; i++) {
+                        String apiId = "api-" + (writer * apis + random.nextInt(apis));
+                        switch (random.nextInt(3)) {
+                            case 0:
+                                apiManager.deploy(api(apiId));
+                                break;
+                            case 1:
+                                apiManager.update(api(apiId));
+                                break;
+                            default:
+                                apiManager.undeploy(apiId);
+                        }
+                    }
+                }));
+            }
+
+            for (Future<?> write : writes) {
+                write.get(30, TimeUnit.SECONDS);
+            }
+            syncing.set(false);
+
+            for (Future<Long> read : reads) {
+                assertTrue(read.get(30, TimeUnit.SECONDS) > 0);
+            }
+        } finally {
+            syncing.set(false);
+            executor.shutdownNow();
+        }
+
+        // Events must have been published in the order of the revisions, once the registry includes their change
+        for (int i = 0; i < publishedRevisions.size(); i++) {
+            assertTrue(publishedRevisions.get(i) >= i + 1);
+            assertTrue(i == 0 || publishedRevisions.get(i) >= publishedRevisions.get(i - 1));
+        }
+        assertEquals(publishedRevisions.size(), apiManager.snapshot().getRevision());
+    }
+
+    private static ApiEntity api(String id) {
+        ApiEntity api = new ApiEntity();
+        api.setId(id);
+        api.setState(Lifecycle.State.STARTED);
+        return api;
+    }
+
+    private class RecordingEventManager implements EventManager {
+
+        @Override
+        public void publishEvent(Enum type, Object content) {
+            publishedRevisions.add(apiManager.snapshot().getRevision());
+        }
+
+        @Override
+        public void publishEvent(Event event) {
+            publishEvent(event.type(), event.content());
+        }
+
+        @Override
+        public <T extends Enum> void subscribeForEvents(EventListener<T, ?> eventListener, Class<T> events) {
+        }
+
+        @Override
+        public <T extends Enum> void subscribeForEvents(EventListener<T, ?> eventListener, T... events) {
+        }
+    }
+}
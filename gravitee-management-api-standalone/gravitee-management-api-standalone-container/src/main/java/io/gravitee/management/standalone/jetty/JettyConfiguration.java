@@ -62,6 +62,15 @@ public class JettyConfiguration {
     @Value("${jetty.accesslog.path:${gravitee.home}/logs/gravitee_accesslog_yyyy_mm_dd.log}")
     private String accessLogPath;
 
+    @Value("${jetty.compression.enabled:true}")
+    private boolean compressionEnabled;
+
+    @Value("${jetty.compression.minSize:2048}")
+    private int compressionMinSize;
+
+    @Value("${jetty.compression.mimeTypes:application/json,text/plain,text/html,application/javascript,text/css}")
+    private String[] compressionMimeTypes;
+
     public String getHttpHost() {
       return httpHost;
     }
@@ -165,4 +174,28 @@ public class JettyConfiguration {
     public void setAccessLogPath(String accessLogPath) {
         this.accessLogPath = accessLogPath;
     }
+
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    public int getCompressionMinSize() {
+        return compressionMinSize;
+    }
+
+    public void setCompressionMinSize(int compressionMinSize) {
+        this.compressionMinSize = compressionMinSize;
+    }
+
+    public String[] getCompressionMimeTypes() {
+        return compressionMimeTypes;
+    }
+
+    public void setCompressionMimeTypes(String[] compressionMimeTypes) {
+        this.compressionMimeTypes = compressionMimeTypes;
+    }
 }
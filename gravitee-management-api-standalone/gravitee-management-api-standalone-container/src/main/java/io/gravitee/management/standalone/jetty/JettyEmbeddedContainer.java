@@ -21,6 +21,7 @@ import io.gravitee.management.security.SecurityConfiguration;
 import io.gravitee.management.standalone.jetty.handler.NoContentOutputErrorHandler;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
 import org.eclipse.jetty.servlet.FilterHolder;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
@@ -47,6 +48,9 @@ public final class JettyEmbeddedContainer extends AbstractLifecycleComponent<Jet
     @Autowired
     private Server server;
 
+    @Autowired
+    private JettyConfiguration jettyConfiguration;
+
     private ApplicationContext applicationContext;
 
     @Override
@@ -63,8 +67,19 @@ public final class JettyEmbeddedContainer extends AbstractLifecycleComponent<Jet
         final ServletHolder servletHolder = new ServletHolder(ServletContainer.class);
         servletHolder.setInitParameter("javax.ws.rs.Application", GraviteeApplication.class.getName());
         servletHolder.setInitOrder(0);
+        // Long-running resources are run by the bulkheads, outside of the Jetty threads
+        servletHolder.setAsyncSupported(true);
         context.addServlet(servletHolder, "/*");
 
+        // Response compression
+        if (jettyConfiguration.isCompressionEnabled()) {
+            GzipHandler gzipHandler = new GzipHandler();
+            gzipHandler.setMinGzipSize(jettyConfiguration.getCompressionMinSize());
+            gzipHandler.setIncludedMimeTypes(jettyConfiguration.getCompressionMimeTypes());
+            gzipHandler.setIncludedMethods("GET", "POST", "PUT");
+            context.setGzipHandler(gzipHandler);
+        }
+
         // Spring configuration
         System.setProperty(AbstractEnvironment.ACTIVE_PROFILES_PROPERTY_NAME, "basic");
 
@@ -76,7 +91,9 @@ public final class JettyEmbeddedContainer extends AbstractLifecycleComponent<Jet
         context.addEventListener(new ContextLoaderListener(webApplicationContext));
 
         // Spring Security filter
-        context.addFilter(new FilterHolder(new DelegatingFilterProxy("springSecurityFilterChain")),"/*", EnumSet.allOf(DispatcherType.class));
+        FilterHolder securityFilterHolder = new FilterHolder(new DelegatingFilterProxy("springSecurityFilterChain"));
+        securityFilterHolder.setAsyncSupported(true);
+        context.addFilter(securityFilterHolder, "/*", EnumSet.allOf(DispatcherType.class));
 
         // start the server
         server.start();
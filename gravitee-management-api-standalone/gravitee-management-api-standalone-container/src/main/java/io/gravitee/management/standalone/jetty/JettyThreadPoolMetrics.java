@@ -0,0 +1,55 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.standalone.jetty;
+
+import io.gravitee.management.metrics.CounterSource;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Saturation of the Jetty thread pool: a pool running its maximum number of threads with no idle one, or with
+ * waiting jobs, can not serve new requests right away.
+ *
+ * @author GraviteeSource Team
+ */
+public class JettyThreadPoolMetrics implements CounterSource {
+
+    @Autowired
+    private Server server;
+
+    @Override
+    public Map<String, Long> getCounters() {
+        ThreadPool threadPool = server.getThreadPool();
+        if (!(threadPool instanceof QueuedThreadPool)) {
+            return Collections.emptyMap();
+        }
+
+        QueuedThreadPool queuedThreadPool = (QueuedThreadPool) threadPool;
+        Map<String, Long> counters = new LinkedHashMap<>();
+        counters.put("threads", (long) queuedThreadPool.getThreads());
+        counters.put("idleThreads", (long) queuedThreadPool.getIdleThreads());
+        counters.put("busyThreads", (long) queuedThreadPool.getBusyThreads());
+        counters.put("maxThreads", (long) queuedThreadPool.getMaxThreads());
+        counters.put("queuedJobs", (long) queuedThreadPool.getQueueSize());
+        return counters;
+    }
+}
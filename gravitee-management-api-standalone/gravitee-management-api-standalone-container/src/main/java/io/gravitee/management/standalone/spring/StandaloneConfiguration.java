@@ -22,6 +22,7 @@ import io.gravitee.management.services.spring.ServiceConfiguration;
 import io.gravitee.management.standalone.jetty.JettyConfiguration;
 import io.gravitee.management.standalone.jetty.JettyEmbeddedContainer;
 import io.gravitee.management.standalone.jetty.JettyServerFactory;
+import io.gravitee.management.standalone.jetty.JettyThreadPoolMetrics;
 import io.gravitee.management.standalone.node.ManagementNode;
 import io.vertx.core.Vertx;
 import org.springframework.context.annotation.Bean;
@@ -56,6 +57,11 @@ public class StandaloneConfiguration {
         return new JettyServerFactory();
     }
 
+    @Bean
+    public JettyThreadPoolMetrics jettyThreadPool() {
+        return new JettyThreadPoolMetrics();
+    }
+
     @Bean
     public JettyEmbeddedContainer container() {
         return new JettyEmbeddedContainer();